@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -54,7 +54,7 @@ public class CanCreateDiagramPredicate implements Predicate<VariableManager> {
         if (optionalEObject.isPresent()) {
             String preconditionExpression = this.diagramDescription.getPreconditionExpression();
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                Result preconditionResult = this.interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression);
+                Result preconditionResult = this.interpreter.evaluateExpression(variableManager.asMap(), preconditionExpression);
                 result = preconditionResult.asBoolean().orElse(false);
             } else {
                 result = true;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -188,7 +188,7 @@ public class AbstractNodeMappingConverter {
 
     private Function<VariableManager, String> getLabelIdProvider() {
         return variableManager -> {
-            Object parentId = variableManager.getVariables().get(InsideLabelDescription.OWNER_ID);
+            Object parentId = variableManager.asMap().get(InsideLabelDescription.OWNER_ID);
             return parentId + InsideLabelDescription.INSIDE_LABEL_SUFFIX;
         };
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo and others.
+ * Copyright (c) 2019, 2025 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -110,7 +110,7 @@ public class AbstractNodeMappingStyleProvider implements Function<VariableManage
     }
 
     private INodeStyle createListNodeStyle(VariableManager variableManager, FlatContainerStyleDescription flatContainerStyleDescription) {
-        ColorDescriptionConverter colorDescriptionConverter = new ColorDescriptionConverter(this.interpreter, variableManager.getVariables());
+        ColorDescriptionConverter colorDescriptionConverter = new ColorDescriptionConverter(this.interpreter, variableManager.asMap());
 
         String color = colorDescriptionConverter.convert(flatContainerStyleDescription.getBackgroundColor());
         String borderColor = colorDescriptionConverter.convert(flatContainerStyleDescription.getBorderColor());
@@ -119,7 +119,7 @@ public class AbstractNodeMappingStyleProvider implements Function<VariableManage
 
         int borderRadius = this.getBorderRadius(flatContainerStyleDescription);
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), flatContainerStyleDescription.getBorderSizeComputationExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.asMap(), flatContainerStyleDescription.getBorderSizeComputationExpression());
         int borderSize = result.asInt().getAsInt();
 
         return RectangularNodeStyle.newRectangularNodeStyle()
@@ -145,14 +145,14 @@ public class AbstractNodeMappingStyleProvider implements Function<VariableManage
     }
 
     private RectangularNodeStyle createRectangularNodeStyle(VariableManager variableManager, SquareDescription squareDescription) {
-        ColorDescriptionConverter colorProvider = new ColorDescriptionConverter(this.interpreter, variableManager.getVariables());
+        ColorDescriptionConverter colorProvider = new ColorDescriptionConverter(this.interpreter, variableManager.asMap());
 
         String color = colorProvider.convert(squareDescription.getColor());
         String borderColor = colorProvider.convert(squareDescription.getBorderColor());
 
         LineStyle borderStyle = new LineStyleConverter().getStyle(squareDescription.getBorderLineStyle());
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), squareDescription.getBorderSizeComputationExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.asMap(), squareDescription.getBorderSizeComputationExpression());
         int borderSize = result.asInt().getAsInt();
 
         return RectangularNodeStyle.newRectangularNodeStyle()
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,18 +14,17 @@ package org.eclipse.sirius.components.compatibility.diagrams;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.compatibility.api.IIdentifierProvider;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
-import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.interpreter.Result;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.VariableManager;
-import org.eclipse.sirius.diagram.description.DiagramElementMapping;
 import org.eclipse.sirius.diagram.description.EdgeMapping;
 
 /**
@@ -39,12 +38,14 @@ public class DomainBasedSourceNodesProvider implements Function<VariableManager,
 
     private final AQLInterpreter interpreter;
 
-    private final IIdentifierProvider identifierProvider;
+    private final Set<String> sourceMappingIds;
 
     public DomainBasedSourceNodesProvider(EdgeMapping edgeMapping, AQLInterpreter interpreter, IIdentifierProvider identifierProvider) {
         this.edgeMapping = Objects.requireNonNull(edgeMapping);
         this.interpreter = Objects.requireNonNull(interpreter);
-        this.identifierProvider = Objects.requireNonNull(identifierProvider);
+        this.sourceMappingIds = edgeMapping.getSourceMapping().stream()
+                .map(Objects.requireNonNull(identifierProvider)::getIdentifier)
+                .collect(Collectors.toSet());
     }
 
     @Override
@@ -57,29 +58,14 @@ public class DomainBasedSourceNodesProvider implements Function<VariableManager,
         DiagramRenderingCache cache = optionalCache.get();
         String sourceFinderExpression = this.edgeMapping.getSourceFinderExpression();
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), sourceFinderExpression);
+        Result result = this.interpreter.evaluateExpression(variableManager.asMap(), sourceFinderExpression);
         List<Object> semanticCandidates = result.asObjects().orElse(List.of());
 
         // @formatter:off
         return semanticCandidates.stream()
-                .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject).stream())
-                .filter(this.isFromCompatibleSourceMapping())
+                .flatMap(semanticObject -> cache.getElementsRepresenting(semanticObject, this.sourceMappingIds).stream())
                 .filter(Objects::nonNull)
                 .toList();
         // @formatter:on
     }
-
-    private Predicate<Element> isFromCompatibleSourceMapping() {
-        return nodeElement -> {
-            return this.edgeMapping.getSourceMapping().stream().anyMatch(srcMapping -> this.isFromMapping(nodeElement, srcMapping));
-        };
-    }
-
-    private boolean isFromMapping(Element nodeElement, DiagramElementMapping mapping) {
-        if (nodeElement.getProps() instanceof NodeElementProps) {
-            NodeElementProps props = (NodeElementProps) nodeElement.getProps();
-            return Objects.equals(this.identifierProvider.getIdentifier(mapping), props.getDescriptionId().toString());
-        }
-        return false;
-    }
 }
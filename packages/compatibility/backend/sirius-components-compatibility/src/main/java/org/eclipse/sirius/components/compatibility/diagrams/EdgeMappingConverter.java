@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -143,7 +143,7 @@ public class EdgeMappingConverter {
         };
 
         Function<VariableManager, String> labelIdProvider = variableManager -> {
-            Object parentId = variableManager.getVariables().get(LabelDescription.OWNER_ID);
+            Object parentId = variableManager.asMap().get(LabelDescription.OWNER_ID);
             return parentId + idSuffix;
         };
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -53,7 +53,7 @@ public class LabelStyleDescriptionProvider implements Function<VariableManager,
             List<ConditionalNodeStyleDescription> conditionnalStyles = nodeMapping.getConditionnalStyles();
             for (ConditionalNodeStyleDescription conditionalStyle : conditionnalStyles) {
                 String predicateExpression = conditionalStyle.getPredicateExpression();
-                Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), predicateExpression);
+                Result result = this.interpreter.evaluateExpression(variableManager.asMap(), predicateExpression);
                 boolean shouldUseStyle = result.asBoolean().orElse(Boolean.FALSE).booleanValue();
                 if (shouldUseStyle) {
                     labelStyleDescription = conditionalStyle.getStyle();
@@ -67,7 +67,7 @@ public class LabelStyleDescriptionProvider implements Function<VariableManager,
             List<ConditionalContainerStyleDescription> conditionnalStyles = containerMapping.getConditionnalStyles();
             for (ConditionalContainerStyleDescription conditionalStyle : conditionnalStyles) {
                 String predicateExpression = conditionalStyle.getPredicateExpression();
-                Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), predicateExpression);
+                Result result = this.interpreter.evaluateExpression(variableManager.asMap(), predicateExpression);
                 boolean shouldUseStyle = result.asBoolean().orElse(Boolean.FALSE).booleanValue();
                 if (shouldUseStyle) {
                     labelStyleDescription = conditionalStyle.getStyle();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,16 +14,15 @@ package org.eclipse.sirius.components.compatibility.diagrams;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.compatibility.api.IIdentifierProvider;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
-import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.VariableManager;
-import org.eclipse.sirius.diagram.description.DiagramElementMapping;
 import org.eclipse.sirius.diagram.description.EdgeMapping;
 
 /**
@@ -32,13 +31,12 @@ import org.eclipse.sirius.diagram.description.EdgeMapping;
  * @author sbegaudeau
  */
 public class RelationBasedSourceNodesProvider implements Function<VariableManager, List<Element>> {
-    private final EdgeMapping edgeMapping;
-
-    private final IIdentifierProvider identifierProvider;
+    private final Set<String> sourceMappingIds;
 
     public RelationBasedSourceNodesProvider(EdgeMapping edgeMapping, IIdentifierProvider identifierProvider) {
-        this.edgeMapping = Objects.requireNonNull(edgeMapping);
-        this.identifierProvider = Objects.requireNonNull(identifierProvider);
+        this.sourceMappingIds = Objects.requireNonNull(edgeMapping).getSourceMapping().stream()
+                .map(Objects.requireNonNull(identifierProvider)::getIdentifier)
+                .collect(Collectors.toSet());
     }
 
     @Override
@@ -53,24 +51,9 @@ public class RelationBasedSourceNodesProvider implements Function<VariableManage
         Object object = optionalObject.get();
 
         // @formatter:off
-        return cache.getElementsRepresenting(object).stream()
-                .filter(this.isFromCompatibleSourceMapping())
+        return cache.getElementsRepresenting(object, this.sourceMappingIds).stream()
                 .filter(Objects::nonNull)
                 .toList();
         // @formatter:on
     }
-
-    private Predicate<Element> isFromCompatibleSourceMapping() {
-        return nodeElement -> {
-            return this.edgeMapping.getSourceMapping().stream().anyMatch(srcMapping -> this.isFromMapping(nodeElement, srcMapping));
-        };
-    }
-
-    private boolean isFromMapping(Element nodeElement, DiagramElementMapping mapping) {
-        if (nodeElement.getProps() instanceof NodeElementProps) {
-            NodeElementProps props = (NodeElementProps) nodeElement.getProps();
-            return Objects.equals(this.identifierProvider.getIdentifier(mapping), props.getDescriptionId().toString());
-        }
-        return false;
-    }
 }
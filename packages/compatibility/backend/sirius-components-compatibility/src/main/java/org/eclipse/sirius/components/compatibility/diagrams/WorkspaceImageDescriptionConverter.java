@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -54,18 +54,18 @@ public class WorkspaceImageDescriptionConverter {
         // @formatter:off
         String workspacePath = this.eAttributeCustomizationProvider.getEAttributeCustomization(this.workspaceImageDescription, WORKSPACE_PATH)
                 .map(EAttributeCustomization::getValue)
-                .flatMap(expression -> this.interpreter.evaluateExpression(this.variableManager.getVariables(), expression).asString())
+                .flatMap(expression -> this.interpreter.evaluateExpression(this.variableManager.asMap(), expression).asString())
                 .orElse(this.workspaceImageDescription.getWorkspacePath());
         // @formatter:on
 
-        Result scalingFactorResult = this.interpreter.evaluateExpression(this.variableManager.getVariables(), this.workspaceImageDescription.getSizeComputationExpression());
+        Result scalingFactorResult = this.interpreter.evaluateExpression(this.variableManager.asMap(), this.workspaceImageDescription.getSizeComputationExpression());
         int scalingFactor = scalingFactorResult.asInt().orElse(DEFAULT_SCALING_FACTOR);
 
-        ColorDescriptionConverter colorDescriptionConverter = new ColorDescriptionConverter(this.interpreter, this.variableManager.getVariables());
+        ColorDescriptionConverter colorDescriptionConverter = new ColorDescriptionConverter(this.interpreter, this.variableManager.asMap());
         String borderColor = colorDescriptionConverter.convert(this.workspaceImageDescription.getBorderColor());
         LineStyle borderStyle = new LineStyleConverter().getStyle(this.workspaceImageDescription.getBorderLineStyle());
         int borderRadius = this.getBorderRadius(this.workspaceImageDescription);
-        Result result = this.interpreter.evaluateExpression(this.variableManager.getVariables(), this.workspaceImageDescription.getBorderSizeComputationExpression());
+        Result result = this.interpreter.evaluateExpression(this.variableManager.asMap(), this.workspaceImageDescription.getBorderSizeComputationExpression());
         int borderSize = result.asInt().getAsInt();
 
         // @formatter:off
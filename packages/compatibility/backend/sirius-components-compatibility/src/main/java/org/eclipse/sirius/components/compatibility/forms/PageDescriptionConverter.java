@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -56,7 +56,7 @@ public class PageDescriptionConverter {
         var semanticCandidatesProvider = this.semanticCandidatesProviderFactory.getSemanticCandidatesProvider(this.interpreter, domainClass, semanticCandidatesExpression, preconditionExpression);
 
         Predicate<VariableManager> canCreatePredicate = (variableManager) -> {
-            Object object = variableManager.getVariables().get(VariableManager.SELF);
+            Object object = variableManager.asMap().get(VariableManager.SELF);
             if (object != null) {
                 return !semanticCandidatesProvider.apply(variableManager).isEmpty();
             }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -39,7 +39,7 @@ public class DiagramDescriptionTargetObjectIdProviderPopulator implements IDiagr
     @Override
     public Builder populate(Builder builder, org.eclipse.sirius.diagram.description.DiagramDescription siriusDiagramDescription, AQLInterpreter interpreter) {
         Function<VariableManager, String> targetObjectIdProvider = variableManager -> {
-            Object object = variableManager.getVariables().get(VariableManager.SELF);
+            Object object = variableManager.asMap().get(VariableManager.SELF);
             return Optional.ofNullable(object).map(this.objectService::getId).orElse(null);
         };
         return builder.targetObjectIdProvider(targetObjectIdProvider);
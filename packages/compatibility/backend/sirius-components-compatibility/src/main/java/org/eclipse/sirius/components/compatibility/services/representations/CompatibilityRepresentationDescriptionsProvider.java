@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -87,7 +87,7 @@ public class CompatibilityRepresentationDescriptionsProvider implements IReprese
             variableManager.put(VariableManager.SELF, self);
             variableManager.put(Environment.ENVIRONMENT, Environment.SIRIUS_COMPONENTS);
             AQLInterpreter interpreter = this.interpreterFactory.create(siriusDiagramDescription);
-            return interpreter.evaluateExpression(variableManager.getVariables(), titleExpression).asString();
+            return interpreter.evaluateExpression(variableManager.asMap(), titleExpression).asString();
         }
         return Optional.empty();
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.api;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +38,20 @@ public interface IEditingContextEventProcessor extends IDisposablePublisher {
 
     Flux<IPayload> getOutputEvents();
 
+    /**
+     * Waits for the end of the disposal of the processor.
+     *
+     * <p>
+     * The disposal does not block its caller, since the processor has to process its pending inputs first. This
+     * method must thus not be called from the thread of an editing context.
+     * </p>
+     *
+     * @param timeout
+     *         The maximum time to wait
+     * @return <code>true</code> if the processor has been disposed, <code>false</code> if the timeout has elapsed
+     */
+    boolean awaitDisposal(Duration timeout);
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -78,6 +93,11 @@ public interface IEditingContextEventProcessor extends IDisposablePublisher {
             return Flux.empty();
         }
 
+        @Override
+        public boolean awaitDisposal(Duration timeout) {
+            return true;
+        }
+
     }
 
 }
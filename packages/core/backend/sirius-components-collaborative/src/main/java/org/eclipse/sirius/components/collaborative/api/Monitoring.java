@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -24,8 +24,19 @@ public final class Monitoring {
     public static final String TIMER_REFRESH_REPRESENTATION = "timer_refresh_representation";
     public static final String TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR = "timer_create_representation_event_processor";
     public static final String TIMER_PROCESSING_INPUT = "timer_processing_input";
+    public static final String TIMER_WAITING_INPUT = "timer_waiting_input";
+    public static final String TIMER_EXECUTING_INPUT = "timer_executing_input";
+    public static final String COALESCED_REFRESHES = "siriusweb_editingcontext_coalesced_refreshes";
+    public static final String AQL_EXPRESSION_CACHE_HITS = "siriusweb_aql_expression_cache_hits";
+    public static final String AQL_EXPRESSION_CACHE_MISSES = "siriusweb_aql_expression_cache_misses";
+    public static final String AQL_EXPRESSION_CACHE_EVICTIONS = "siriusweb_aql_expression_cache_evictions";
+    public static final String AQL_EXPRESSION_CACHE_SIZE = "siriusweb_aql_expression_cache_size";
+    public static final String DIAGRAM_LAYOUT = "siriusweb_diagram_layout";
+    public static final String PALETTE_CACHE_HITS = "siriusweb_palette_cache_hits";
+    public static final String PALETTE_CACHE_MISSES = "siriusweb_palette_cache_misses";
 
     public static final String NAME = "name";
+    public static final String CACHE = "cache";
 
     private Monitoring() {
         // Prevent instantiation
@@ -14,16 +14,21 @@ package org.eclipse.sirius.components.collaborative.editingcontext;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -65,6 +70,7 @@ import reactor.core.publisher.Sinks;
 import reactor.core.publisher.Sinks.EmitResult;
 import reactor.core.publisher.Sinks.Many;
 import reactor.core.publisher.Sinks.One;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 /**
@@ -82,6 +88,10 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     public static final String INPUT = "INPUT";
 
+    private static final String INPUT_TAG = "input";
+
+    private static final String INPUT_ID_TAG = "inputId";
+
     private static final String LOG_TIMING_FORMAT = "%1$6s";
 
     private final Logger logger = LoggerFactory.getLogger(EditingContextEventProcessor.class);
@@ -118,6 +128,20 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final MeterRegistry meterRegistry;
 
+    private final boolean asynchronousDispatch;
+
+    private final Duration refreshCoalescingWindow;
+
+    private final Scheduler refreshCoalescingScheduler;
+
+    private final List<ChangeDescription> coalescedChangeDescriptions = new ArrayList<>();
+
+    private final CountDownLatch disposalLatch = new CountDownLatch(1);
+
+    private final AtomicBoolean disposed = new AtomicBoolean();
+
+    private Disposable coalescingWindowDisposable;
+
     public EditingContextEventProcessor(EditingContextEventProcessorParameters parameters) {
         this.messageService = parameters.messageService();
         this.editingContext = parameters.editingContext();
@@ -131,72 +155,147 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         this.inputPostProcessors = parameters.inputPostProcessors();
         this.changeDescriptionDisposable = this.setupChangeDescriptionSinkConsumer();
         this.meterRegistry = parameters.meterRegistry();
+        this.asynchronousDispatch = parameters.asynchronousDispatch();
+        this.refreshCoalescingWindow = parameters.refreshCoalescingWindow();
+        this.refreshCoalescingScheduler = parameters.refreshCoalescingScheduler();
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatch")
     private Disposable setupChangeDescriptionSinkConsumer() {
         Consumer<ChangeDescription> consumer = changeDescription -> {
-            if (ChangeKind.REPRESENTATION_TO_DELETE.equals(changeDescription.getKind())) {
-                Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
-                if (representationId instanceof String) {
-                    DeleteRepresentationInput deleteRepresentationInput = new DeleteRepresentationInput(UUID.randomUUID(), (String) representationId);
-                    this.doHandle(Sinks.one(), deleteRepresentationInput);
-                }
-            } else if (ChangeKind.REPRESENTATION_TO_RENAME.equals(changeDescription.getKind())) {
-                Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
-                Object representationLabel = changeDescription.getParameters().get(REPRESENTATION_LABEL);
-                if (representationId instanceof String && representationLabel instanceof String) {
-                    RenameRepresentationInput renameRepresentationInput = new RenameRepresentationInput(UUID.randomUUID(), this.getEditingContextId(), (String) representationId,
-                            (String) representationLabel);
-                    this.doHandle(Sinks.one(), renameRepresentationInput);
-                }
-            } else if (ChangeKind.NOTHING.equals(changeDescription.getKind())) {
-                return;
+            if (this.shouldCoalesce(changeDescription)) {
+                this.coalesce(changeDescription);
+            } else {
+                this.flushCoalescedChangeDescriptions();
+                this.processChangeDescription(changeDescription);
             }
+        };
 
-            this.publishEvent(changeDescription);
-            this.disposeRepresentationIfNeeded();
+        Consumer<Throwable> errorConsumer = throwable -> this.logger.warn(throwable.getMessage(), throwable);
 
-            var refreshRepresentationSample = Timer.start(this.meterRegistry);
+        return this.changeDescriptionSink.asFlux().subscribe(consumer, errorConsumer);
+    }
 
-            RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessors.get(changeDescription.getSourceId());
-            if (representationEventProcessorEntry != null) {
-                try {
-                    IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
-
-                    long start = System.currentTimeMillis();
-                    representationEventProcessor.refresh(changeDescription);
-                    long end = System.currentTimeMillis();
-
-                    this.logger.atDebug()
-                            .setMessage("EditingContext {}: {}ms to refresh the {} with id {}")
-                            .addArgument(this.editingContext.getId())
-                            .addArgument(() -> String.format(LOG_TIMING_FORMAT, end - start))
-                            .addArgument(representationEventProcessor.getClass().getSimpleName())
-                            .addArgument(representationEventProcessor.getRepresentation().getId())
-                            .log();
-
-                    IRepresentation representation = representationEventProcessor.getRepresentation();
-                    this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
-                } catch (Exception exception) {
-                    this.logger.warn(exception.getMessage(), exception);
-                }
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void processChangeDescription(ChangeDescription changeDescription) {
+        if (ChangeKind.REPRESENTATION_TO_DELETE.equals(changeDescription.getKind())) {
+            Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
+            if (representationId instanceof String) {
+                DeleteRepresentationInput deleteRepresentationInput = new DeleteRepresentationInput(UUID.randomUUID(), (String) representationId);
+                this.doHandle(Sinks.one(), deleteRepresentationInput);
+            }
+        } else if (ChangeKind.REPRESENTATION_TO_RENAME.equals(changeDescription.getKind())) {
+            Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
+            Object representationLabel = changeDescription.getParameters().get(REPRESENTATION_LABEL);
+            if (representationId instanceof String && representationLabel instanceof String) {
+                RenameRepresentationInput renameRepresentationInput = new RenameRepresentationInput(UUID.randomUUID(), this.getEditingContextId(), (String) representationId,
+                        (String) representationLabel);
+                this.doHandle(Sinks.one(), renameRepresentationInput);
             }
-            this.refreshOtherRepresentations(changeDescription);
+        } else if (ChangeKind.NOTHING.equals(changeDescription.getKind())) {
+            return;
+        }
 
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_REFRESH_REPRESENTATION, "changeDescription", changeDescription.getSourceId());
-            refreshRepresentationSample.stop(timer);
+        this.publishEvent(changeDescription);
+        this.disposeRepresentationIfNeeded();
 
-            if (this.shouldPersistTheEditingContext(changeDescription)) {
-                this.editingContextPersistenceService.persist(changeDescription.getInput(), this.editingContext);
+        var refreshRepresentationSample = Timer.start(this.meterRegistry);
+
+        RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessors.get(changeDescription.getSourceId());
+        if (representationEventProcessorEntry != null) {
+            try {
+                IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
+
+                long start = System.currentTimeMillis();
+                representationEventProcessor.refresh(changeDescription);
+                long end = System.currentTimeMillis();
+
+                this.logger.atDebug()
+                        .setMessage("EditingContext {}: {}ms to refresh the {} with id {}")
+                        .addArgument(this.editingContext.getId())
+                        .addArgument(() -> String.format(LOG_TIMING_FORMAT, end - start))
+                        .addArgument(representationEventProcessor.getClass().getSimpleName())
+                        .addArgument(representationEventProcessor.getRepresentation().getId())
+                        .log();
+
+                IRepresentation representation = representationEventProcessor.getRepresentation();
+                this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
+            } catch (Exception exception) {
+                this.logger.warn(exception.getMessage(), exception);
             }
-            this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), this.editingContext);
+        }
+        this.refreshOtherRepresentations(changeDescription);
 
-        };
+        var timer = this.meterRegistry.timer(Monitoring.TIMER_REFRESH_REPRESENTATION, "changeDescription", changeDescription.getSourceId());
+        refreshRepresentationSample.stop(timer);
 
-        Consumer<Throwable> errorConsumer = throwable -> this.logger.warn(throwable.getMessage(), throwable);
+        if (this.shouldPersistTheEditingContext(changeDescription)) {
+            this.editingContextPersistenceService.persist(changeDescription.getInput(), this.editingContext);
+        }
+        this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), this.editingContext);
+    }
 
-        return this.changeDescriptionSink.asFlux().subscribe(consumer, errorConsumer);
+    /**
+     * Indicates if the refresh triggered by the given change description can be merged with the refresh of other
+     * changes.
+     *
+     * <p>
+     * Only the semantic changes are coalesced, all the other changes are processed right away once the pending
+     * semantic changes have been processed in order to keep their order of arrival.
+     * </p>
+     *
+     * @param changeDescription
+     *         The description of the change
+     * @return <code>true</code> if the change should be coalesced, <code>false</code> otherwise
+     */
+    private boolean shouldCoalesce(ChangeDescription changeDescription) {
+        return !this.refreshCoalescingWindow.isZero() && ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
+    }
+
+    private void coalesce(ChangeDescription changeDescription) {
+        this.coalescedChangeDescriptions.add(changeDescription);
+        if (this.coalescingWindowDisposable == null) {
+            this.coalescingWindowDisposable = Mono.delay(this.refreshCoalescingWindow, this.refreshCoalescingScheduler).subscribe(tick -> {
+                try {
+                    this.executorService.execute(this::flushCoalescedChangeDescriptions);
+                } catch (RejectedExecutionException exception) {
+                    this.logger.trace("The editing context {} has been disposed before the end of the coalescing window", this.editingContext.getId());
+                }
+            });
+        }
+    }
+
+    /**
+     * Refreshes the representations and persists the editing context once for all the semantic changes which have been
+     * coalesced.
+     *
+     * <p>
+     * Must be called from the thread of the editing context.
+     * </p>
+     */
+    private void flushCoalescedChangeDescriptions() {
+        if (this.coalescingWindowDisposable != null) {
+            this.coalescingWindowDisposable.dispose();
+            this.coalescingWindowDisposable = null;
+        }
+
+        if (!this.coalescedChangeDescriptions.isEmpty()) {
+            List<ChangeDescription> changeDescriptions = List.copyOf(this.coalescedChangeDescriptions);
+            this.coalescedChangeDescriptions.clear();
+
+            var lastChangeDescription = changeDescriptions.get(changeDescriptions.size() - 1);
+            Map<String, Object> parameters = new HashMap<>();
+            changeDescriptions.forEach(changeDescription -> parameters.putAll(changeDescription.getParameters()));
+            var changeDescription = new ChangeDescription(lastChangeDescription.getKind(), lastChangeDescription.getSourceId(), lastChangeDescription.getInput(), parameters);
+
+            this.meterRegistry.counter(Monitoring.COALESCED_REFRESHES).increment(changeDescriptions.size() - 1);
+            this.logger.atDebug()
+                    .setMessage("EditingContext {}: {} semantic changes coalesced in a single refresh")
+                    .addArgument(this.editingContext.getId())
+                    .addArgument(changeDescriptions.size())
+                    .log();
+
+            this.processChangeDescription(changeDescription);
+        }
     }
 
     private void publishEvent(ChangeDescription changeDescription) {
@@ -245,23 +344,85 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         if (this.executorService.isShutdown()) {
             this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
             handleTimer.stop(this.meterRegistry.timer(Monitoring.EVENT_HANDLER, INPUT, input.getClass().getSimpleName(),
-                    "inputId", input.id().toString()));
+                    INPUT_ID_TAG, input.id().toString()));
             return Mono.empty();
         }
 
         this.logger.trace(input.toString());
 
+        Mono<IPayload> payload = Mono.empty();
         One<IPayload> payloadSink = Sinks.one();
-        Future<?> future = this.executorService.submit(() -> this.doHandle(payloadSink, input));
+        try {
+            CompletableFuture<Void> future = this.submit(payloadSink, input);
+            if (this.asynchronousDispatch) {
+                payload = this.awaitAsynchronously(future, handleTimer, payloadSink, input);
+            } else {
+                payload = this.awaitSynchronously(future, handleTimer, payloadSink, input);
+            }
+        } catch (RejectedExecutionException exception) {
+            this.logger.warn("Handler for editing context {} has rejected the input {}", this.editingContext.getId(), input.id());
+        }
+        return payload;
+    }
+
+    private Mono<IPayload> awaitSynchronously(CompletableFuture<Void> future, Timer.Sample handleTimer, One<IPayload> payloadSink, IInput input) {
         try {
             // Block until the event has been processed
             future.get();
         } catch (InterruptedException | ExecutionException exception) {
             this.logger.warn(exception.getMessage(), exception);
         }
-        handleTimer.stop(this.meterRegistry.timer(Monitoring.TIMER_PROCESSING_INPUT, "input", input.getClass().getSimpleName(),
-                "inputId", input.id().toString()));
+        handleTimer.stop(this.meterRegistry.timer(Monitoring.TIMER_PROCESSING_INPUT, INPUT_TAG, input.getClass().getSimpleName(),
+                INPUT_ID_TAG, input.id().toString()));
+
+        return this.getPayload(payloadSink, input);
+    }
+
+    private Mono<IPayload> awaitAsynchronously(CompletableFuture<Void> future, Timer.Sample handleTimer, One<IPayload> payloadSink, IInput input) {
+        future.whenComplete((result, throwable) -> handleTimer.stop(this.meterRegistry.timer(Monitoring.TIMER_PROCESSING_INPUT, INPUT_TAG, input.getClass().getSimpleName(),
+                INPUT_ID_TAG, input.id().toString())));
+
+        // The caller is not blocked, the payload will be published once the input has been processed
+        return Mono.fromFuture(future, true)
+                .onErrorResume(throwable -> {
+                    this.logger.warn(throwable.getMessage(), throwable);
+                    return Mono.empty();
+                })
+                .then(Mono.defer(() -> this.getPayload(payloadSink, input)));
+    }
+
+    /**
+     * Submits the given input to the executor service of the editing context.
+     *
+     * <p>
+     * Since the executor service processes its tasks one at a time, the inputs are handled in their order of
+     * submission. The time spent waiting in the queue of the executor service and the time spent processing the input
+     * are recorded separately.
+     * </p>
+     *
+     * @param payloadSink
+     *         The sink to publish payload
+     * @param input
+     *         The input event
+     * @return A future completed once the input has been processed
+     */
+    private CompletableFuture<Void> submit(One<IPayload> payloadSink, IInput input) {
+        String inputType = input.getClass().getSimpleName();
+        Timer.Sample waitingSample = Timer.start(this.meterRegistry);
+
+        return CompletableFuture.runAsync(() -> {
+            waitingSample.stop(this.meterRegistry.timer(Monitoring.TIMER_WAITING_INPUT, INPUT_TAG, inputType));
+
+            Timer.Sample executingSample = Timer.start(this.meterRegistry);
+            try {
+                this.doHandle(payloadSink, input);
+            } finally {
+                executingSample.stop(this.meterRegistry.timer(Monitoring.TIMER_EXECUTING_INPUT, INPUT_TAG, inputType));
+            }
+        }, this.executorService);
+    }
 
+    private Mono<IPayload> getPayload(One<IPayload> payloadSink, IInput input) {
         var timeoutFallback = Mono.just(new ErrorPayload(input.id(), this.messageService.timeout()))
                 .doOnSuccess(payload -> this.logger.warn("Timeout fallback for the input {}", input));
         return payloadSink.asMono()
@@ -287,6 +448,8 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         this.inputPreProcessors.forEach(preProcessor -> inputAfterPreProcessing.set(preProcessor.preProcess(this.editingContext, inputAfterPreProcessing.get(), this.changeDescriptionSink)));
 
         if (inputAfterPreProcessing.get() instanceof IRepresentationInput representationInput) {
+            // The representations have to be refreshed with the pending semantic changes before they handle an input
+            this.flushCoalescedChangeDescriptions();
             this.handleRepresentationInput(payloadSink, representationInput);
         } else {
             this.handleInput(payloadSink, inputAfterPreProcessing.get());
@@ -414,7 +577,7 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         } else {
             var timer = this.meterRegistry.timer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR,
                     "editingContext", this.editingContext.getId(),
-                    "input", input.getClass().getSimpleName(),
+                    INPUT_TAG, input.getClass().getSimpleName(),
                     REPRESENTATION_ID, representationId);
             getRepresentationEventProcessorSample.stop(timer);
         }
@@ -458,25 +621,56 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     public void dispose() {
         this.logger.trace("Disposing the editing context event processor {}", this.editingContext.getId());
 
-        EmitResult changeDescriptionEmitResult = this.changeDescriptionSink.tryEmitComplete();
-        if (changeDescriptionEmitResult.isFailure()) {
-            String pattern = "An error has occurred while marking the publisher as complete: {}";
-            this.logger.warn(pattern, changeDescriptionEmitResult);
+        if (!this.executorService.isShutdown()) {
+            try {
+                // The pending inputs and semantic changes have to be processed to persist the editing context, the
+                // disposal is thus the last task of the executor service and the caller does not wait for it
+                this.executorService.execute(this::doDispose);
+            } catch (RejectedExecutionException exception) {
+                this.logger.warn("The disposal of the editing context {} has been rejected by its executor service", this.editingContext.getId());
+                this.doDispose();
+            }
+            this.executorService.shutdown();
         }
-        this.changeDescriptionDisposable.dispose();
+    }
+
+    private void doDispose() {
+        if (this.disposed.compareAndSet(false, true)) {
+            try {
+                this.flushCoalescedChangeDescriptions();
+                this.editingContextPersistenceService.flush(this.editingContext.getId());
 
-        this.executorService.shutdown();
+                EmitResult changeDescriptionEmitResult = this.changeDescriptionSink.tryEmitComplete();
+                if (changeDescriptionEmitResult.isFailure()) {
+                    String pattern = "An error has occurred while marking the publisher as complete: {}";
+                    this.logger.warn(pattern, changeDescriptionEmitResult);
+                }
+                this.changeDescriptionDisposable.dispose();
 
-        this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
-        this.representationEventProcessors.clear();
+                this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
+                this.representationEventProcessors.clear();
 
-        this.editingContext.dispose();
+                this.editingContext.dispose();
 
-        EmitResult emitResult = this.sink.tryEmitComplete();
-        if (emitResult.isFailure()) {
-            String pattern = "An error has occurred while marking the publisher as complete: {}";
-            this.logger.warn(pattern, emitResult);
+                EmitResult emitResult = this.sink.tryEmitComplete();
+                if (emitResult.isFailure()) {
+                    String pattern = "An error has occurred while marking the publisher as complete: {}";
+                    this.logger.warn(pattern, emitResult);
+                }
+            } finally {
+                this.disposalLatch.countDown();
+            }
         }
+    }
 
+    @Override
+    public boolean awaitDisposal(Duration timeout) {
+        boolean isDisposed = false;
+        try {
+            isDisposed = this.disposalLatch.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return isDisposed;
     }
 }
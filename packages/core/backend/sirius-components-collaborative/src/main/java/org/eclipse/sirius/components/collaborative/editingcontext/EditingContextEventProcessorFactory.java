@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 
@@ -27,6 +28,7 @@ import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingCo
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
@@ -58,8 +60,14 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
 
     private final MeterRegistry meterRegistry;
 
+    private final boolean asynchronousDispatch;
+
+    private final Duration refreshCoalescingWindow;
+
     public EditingContextEventProcessorFactory(ICollaborativeMessageService messageService, ApplicationEventPublisher applicationEventPublisher,
-            IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryParameters parameters) {
+            IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryParameters parameters,
+            @Value("${sirius.components.editingContext.asynchronousDispatch:false}") boolean asynchronousDispatch,
+            @Value("${sirius.components.editingContext.refreshCoalescingWindow:0ms}") Duration refreshCoalescingWindow) {
         this.messageService = Objects.requireNonNull(messageService);
         this.editingContextPersistenceService = parameters.getEditingContextPersistenceService();
         this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
@@ -70,6 +78,8 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
         this.inputPreProcessors = parameters.getInputPreProcessors();
         this.inputPostProcessors = parameters.getInputPostProcessors();
         this.meterRegistry = parameters.getMeterRegistry();
+        this.asynchronousDispatch = asynchronousDispatch;
+        this.refreshCoalescingWindow = Objects.requireNonNull(refreshCoalescingWindow);
     }
 
     @Override
@@ -86,6 +96,8 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
                 .inputPreProcessors(this.inputPreProcessors)
                 .inputPostProcessors(this.inputPostProcessors)
                 .meterRegistry(this.meterRegistry)
+                .asynchronousDispatch(this.asynchronousDispatch)
+                .refreshCoalescingWindow(this.refreshCoalescingWindow)
                 .build();
         return new EditingContextEventProcessor(parameters);
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 
@@ -28,6 +29,9 @@ import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.springframework.context.ApplicationEventPublisher;
 
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
 /**
  * Parameters of the editing context event processor.
  *
@@ -44,7 +48,10 @@ public record EditingContextEventProcessorParameters(
         IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider,
         List<IInputPreProcessor> inputPreProcessors,
         List<IInputPostProcessor> inputPostProcessors,
-        MeterRegistry meterRegistry
+        MeterRegistry meterRegistry,
+        boolean asynchronousDispatch,
+        Duration refreshCoalescingWindow,
+        Scheduler refreshCoalescingScheduler
 ) {
 
     public EditingContextEventProcessorParameters {
@@ -59,6 +66,8 @@ public record EditingContextEventProcessorParameters(
         Objects.requireNonNull(inputPreProcessors);
         Objects.requireNonNull(inputPostProcessors);
         Objects.requireNonNull(meterRegistry);
+        Objects.requireNonNull(refreshCoalescingWindow);
+        Objects.requireNonNull(refreshCoalescingScheduler);
     }
 
     public static EditingContextEventProcessorParametersBuilder newEditingContextEventProcessorParameters() {
@@ -96,6 +105,12 @@ public record EditingContextEventProcessorParameters(
 
         private MeterRegistry meterRegistry;
 
+        private boolean asynchronousDispatch;
+
+        private Duration refreshCoalescingWindow = Duration.ZERO;
+
+        private Scheduler refreshCoalescingScheduler = Schedulers.parallel();
+
         private EditingContextEventProcessorParametersBuilder() {
             // Prevent instantiation
         }
@@ -155,6 +170,21 @@ public record EditingContextEventProcessorParameters(
             return this;
         }
 
+        public EditingContextEventProcessorParametersBuilder asynchronousDispatch(boolean asynchronousDispatch) {
+            this.asynchronousDispatch = asynchronousDispatch;
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder refreshCoalescingWindow(Duration refreshCoalescingWindow) {
+            this.refreshCoalescingWindow = Objects.requireNonNull(refreshCoalescingWindow);
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder refreshCoalescingScheduler(Scheduler refreshCoalescingScheduler) {
+            this.refreshCoalescingScheduler = Objects.requireNonNull(refreshCoalescingScheduler);
+            return this;
+        }
+
         public EditingContextEventProcessorParameters build() {
             return new EditingContextEventProcessorParameters(
                     this.messageService,
@@ -167,7 +197,10 @@ public record EditingContextEventProcessorParameters(
                     this.executorServiceProvider,
                     this.inputPreProcessors,
                     this.inputPostProcessors,
-                    this.meterRegistry
+                    this.meterRegistry,
+                    this.asynchronousDispatch,
+                    this.refreshCoalescingWindow,
+                    this.refreshCoalescingScheduler
             );
         }
     }
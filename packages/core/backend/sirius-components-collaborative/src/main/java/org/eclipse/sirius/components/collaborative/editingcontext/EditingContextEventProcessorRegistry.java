@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -35,15 +37,30 @@ import org.springframework.stereotype.Service;
 import jakarta.annotation.PreDestroy;
 import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Registry of the editing context event processors.
  *
+ * <p>
+ * The registry does not rely on a global lock. An editing context event processor which has already been created is
+ * returned right away while the editing contexts of different projects can be loaded in parallel. Concurrent requests
+ * for an editing context which is being loaded will all wait for the same loading operation.
+ * </p>
+ *
+ * <p>
+ * The disposal of an editing context event processor persists its pending changes on the thread of its editing
+ * context. Until it is over, the editing context is not loaded again from the database, otherwise the new editing
+ * context could miss these changes or see them overwrite its own ones.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
 public class EditingContextEventProcessorRegistry implements IEditingContextEventProcessorRegistry {
 
+    private static final Duration DISPOSAL_TIMEOUT = Duration.ofSeconds(10);
+
     private final Logger logger = LoggerFactory.getLogger(EditingContextEventProcessorRegistry.class);
 
     private final IEditingContextEventProcessorFactory editingContextEventProcessorFactory;
@@ -54,6 +71,10 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
     private final Map<String, EditingContextEventProcessorEntry> editingContextEventProcessors = new ConcurrentHashMap<>();
 
+    private final Map<String, CompletableFuture<Optional<IEditingContextEventProcessor>>> loadingEditingContextEventProcessors = new ConcurrentHashMap<>();
+
+    private final Map<String, IEditingContextEventProcessor> disposingEditingContextEventProcessors = new ConcurrentHashMap<>();
+
     public EditingContextEventProcessorRegistry(IEditingContextEventProcessorFactory editingContextEventProcessorFactory, IEditingContextSearchService editingContextSearchService,
             @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay) {
         this.editingContextEventProcessorFactory = editingContextEventProcessorFactory;
@@ -78,50 +99,146 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
     }
 
     @Override
-    public synchronized Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
+    public Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
         Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
         if (this.editingContextSearchService.existsById(editingContextId)) {
-            optionalEditingContextEventProcessor = Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
-                    .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+            optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId);
             if (optionalEditingContextEventProcessor.isEmpty()) {
-                Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
-                if (optionalEditingContext.isPresent()) {
-                    IEditingContext editingContext = optionalEditingContext.get();
-
-                    var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
-                    Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
-                        // We will wait for the delay before trying to dispose the editing context event processor
-                        // We will check if the editing context event processor is still empty
-                        if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
-                            this.disposeEditingContextEventProcessor(editingContextId);
-                        } else {
-                            this.logger.trace("Stopping the disposal of the editing context");
-                        }
-                    });
-
-                    var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription);
-                    this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
-
-                    optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
-                }
+                optionalEditingContextEventProcessor = this.loadEditingContextEventProcessor(editingContextId);
             }
         }
 
         return optionalEditingContextEventProcessor;
     }
 
+    private Optional<IEditingContextEventProcessor> getEditingContextEventProcessor(String editingContextId) {
+        return Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
+                .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+    }
+
+    /**
+     * Loads the editing context and creates its event processor or waits for a load of the same editing context which
+     * is already in progress.
+     *
+     * @param editingContextId
+     *         The id of the editing context
+     * @return The editing context event processor if the editing context has been found
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private Optional<IEditingContextEventProcessor> loadEditingContextEventProcessor(String editingContextId) {
+        CompletableFuture<Optional<IEditingContextEventProcessor>> future = new CompletableFuture<>();
+        var loadInProgress = this.loadingEditingContextEventProcessors.putIfAbsent(editingContextId, future);
+        if (loadInProgress != null) {
+            return this.awaitEditingContextEventProcessor(editingContextId, loadInProgress);
+        }
+
+        try {
+            // The editing context event processor may have been registered since our first lookup
+            var optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId)
+                    .or(() -> this.createEditingContextEventProcessor(editingContextId));
+            future.complete(optionalEditingContextEventProcessor);
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            this.loadingEditingContextEventProcessors.remove(editingContextId, future);
+        }
+        return future.join();
+    }
+
+    private Optional<IEditingContextEventProcessor> awaitEditingContextEventProcessor(String editingContextId, CompletableFuture<Optional<IEditingContextEventProcessor>> loadInProgress) {
+        Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
+        try {
+            optionalEditingContextEventProcessor = loadInProgress.join();
+        } catch (CompletionException exception) {
+            this.logger.warn("An error has occurred while loading the editing context {}", editingContextId, exception);
+        }
+        return optionalEditingContextEventProcessor;
+    }
+
+    private Optional<IEditingContextEventProcessor> createEditingContextEventProcessor(String editingContextId) {
+        Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
+
+        // The changes of a previous editing context event processor have to be persisted before the editing context is loaded
+        Optional.ofNullable(this.disposingEditingContextEventProcessors.get(editingContextId))
+                .ifPresent(disposingEditingContextEventProcessor -> this.awaitDisposal(editingContextId, disposingEditingContextEventProcessor));
+
+        Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
+        if (optionalEditingContext.isPresent()) {
+            IEditingContext editingContext = optionalEditingContext.get();
+
+            var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
+            Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
+                // We will wait for the delay before trying to dispose the editing context event processor
+                // We will check if the editing context event processor is still empty
+                if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
+                    // The end of the disposal is awaited on another scheduler to avoid blocking the one of the delay
+                    this.startDisposal(editingContextId).ifPresent(disposingEditingContextEventProcessor -> Mono.fromRunnable(() -> this.awaitDisposal(editingContextId, disposingEditingContextEventProcessor))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .subscribe());
+                } else {
+                    this.logger.trace("Stopping the disposal of the editing context");
+                }
+            });
+
+            var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription);
+            this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
+
+            optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
+        }
+
+        return optionalEditingContextEventProcessor;
+    }
+
     @Override
     public void disposeEditingContextEventProcessor(String editingContextId) {
-        Optional.ofNullable(this.editingContextEventProcessors.remove(editingContextId)).ifPresent(EditingContextEventProcessorEntry::dispose);
+        this.startDisposal(editingContextId).ifPresent(editingContextEventProcessor -> this.awaitDisposal(editingContextId, editingContextEventProcessor));
+    }
+
+    /**
+     * Removes the editing context event processor from the registry and starts its disposal.
+     *
+     * <p>
+     * The editing context event processor is remembered as being disposed before it is removed, so that the editing
+     * context cannot be loaded again in the meantime.
+     * </p>
+     *
+     * @param editingContextId
+     *         The id of the editing context
+     * @return The editing context event processor being disposed, if there was one
+     */
+    private Optional<IEditingContextEventProcessor> startDisposal(String editingContextId) {
+        Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
+        var entry = this.editingContextEventProcessors.get(editingContextId);
+        if (entry != null) {
+            var editingContextEventProcessor = entry.getEditingContextEventProcessor();
+            this.disposingEditingContextEventProcessors.put(editingContextId, editingContextEventProcessor);
+            if (this.editingContextEventProcessors.remove(editingContextId, entry)) {
+                entry.dispose();
+                optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
+            } else {
+                this.disposingEditingContextEventProcessors.remove(editingContextId, editingContextEventProcessor);
+            }
+        }
 
         this.logger.trace("Editing context event processors count: {}", this.editingContextEventProcessors.size());
+        return optionalEditingContextEventProcessor;
+    }
+
+    private void awaitDisposal(String editingContextId, IEditingContextEventProcessor editingContextEventProcessor) {
+        if (!editingContextEventProcessor.awaitDisposal(DISPOSAL_TIMEOUT)) {
+            this.logger.warn("The editing context {} has not been disposed in time", editingContextId);
+        }
+        this.disposingEditingContextEventProcessors.remove(editingContextId, editingContextEventProcessor);
     }
 
     @PreDestroy
     public void dispose() {
         this.logger.debug("Shutting down all the editing context event processors");
 
-        this.editingContextEventProcessors.values().forEach(EditingContextEventProcessorEntry::dispose);
-        this.editingContextEventProcessors.clear();
+        List.copyOf(this.editingContextEventProcessors.keySet()).forEach(this::startDisposal);
+
+        // The pending inputs of the editing contexts have to be processed before the application shuts down
+        Map.copyOf(this.disposingEditingContextEventProcessors).forEach(this::awaitDisposal);
     }
 }
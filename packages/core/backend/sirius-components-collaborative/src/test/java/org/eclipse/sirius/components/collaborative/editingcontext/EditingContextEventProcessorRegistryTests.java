@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the editing context event processor registry.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextEventProcessorRegistryTests {
+
+    private static final String SLOW_EDITING_CONTEXT_ID = "slow";
+
+    private static final String FAST_EDITING_CONTEXT_ID = "fast";
+
+    private static final long TIMEOUT = 5;
+
+    private static final long WAITING_TIME = 200;
+
+    @Test
+    public void givenAnEditingContextBeingLoadedWhenAnotherEditingContextIsRequestedThenItIsNotBlocked() throws Exception {
+        CountDownLatch loadingStarted = new CountDownLatch(1);
+        CountDownLatch loadingAllowed = new CountDownLatch(1);
+        AtomicInteger slowLoadCount = new AtomicInteger();
+
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                if (SLOW_EDITING_CONTEXT_ID.equals(editingContextId)) {
+                    slowLoadCount.incrementAndGet();
+                    loadingStarted.countDown();
+                    try {
+                        loadingAllowed.await(TIMEOUT, TimeUnit.SECONDS);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return Optional.of(() -> editingContextId);
+            }
+        };
+
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp(), editingContextSearchService, Duration.ofSeconds(1));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        var firstSlowRequest = CompletableFuture.supplyAsync(() -> registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID), executorService);
+        assertThat(loadingStarted.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+        var secondSlowRequest = CompletableFuture.supplyAsync(() -> registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID), executorService);
+
+        // The slow editing context is still being loaded, other editing contexts are not impacted
+        assertThat(registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID)).isPresent();
+        assertThat(firstSlowRequest).isNotDone();
+
+        loadingAllowed.countDown();
+
+        var firstEditingContextEventProcessor = firstSlowRequest.get(TIMEOUT, TimeUnit.SECONDS);
+        var secondEditingContextEventProcessor = secondSlowRequest.get(TIMEOUT, TimeUnit.SECONDS);
+        assertThat(firstEditingContextEventProcessor).isPresent();
+        assertThat(secondEditingContextEventProcessor).isEqualTo(firstEditingContextEventProcessor);
+        assertThat(slowLoadCount.get()).isEqualTo(1);
+        assertThat(registry.getEditingContextEventProcessors()).hasSize(2);
+
+        executorService.shutdown();
+        registry.dispose();
+    }
+
+    @Test
+    public void givenAnEditingContextBeingDisposedWhenItIsRequestedThenItIsOnlyLoadedOnceTheDisposalIsOver() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                loadCount.incrementAndGet();
+                return Optional.of(() -> editingContextId);
+            }
+        };
+
+        CountDownLatch disposalStarted = new CountDownLatch(1);
+        CountDownLatch disposalAllowed = new CountDownLatch(1);
+        IEditingContextEventProcessor slowlyDisposedEditingContextEventProcessor = new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public boolean awaitDisposal(Duration timeout) {
+                disposalStarted.countDown();
+                boolean isDisposed = false;
+                try {
+                    isDisposed = disposalAllowed.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return isDisposed;
+            }
+        };
+
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> {
+            IEditingContextEventProcessor editingContextEventProcessor = new IEditingContextEventProcessor.NoOp();
+            if (loadCount.get() == 1) {
+                editingContextEventProcessor = slowlyDisposedEditingContextEventProcessor;
+            }
+            return editingContextEventProcessor;
+        }, editingContextSearchService, Duration.ofSeconds(1));
+        assertThat(registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID)).contains(slowlyDisposedEditingContextEventProcessor);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        var disposal = CompletableFuture.runAsync(() -> registry.disposeEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID), executorService);
+        assertThat(disposalStarted.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+        var request = CompletableFuture.supplyAsync(() -> registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID), executorService);
+
+        // The editing context is not loaded again while its previous event processor is persisting its changes
+        assertThatThrownBy(() -> request.get(WAITING_TIME, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        assertThat(disposal).isNotDone();
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        disposalAllowed.countDown();
+
+        disposal.get(TIMEOUT, TimeUnit.SECONDS);
+        var editingContextEventProcessor = request.get(TIMEOUT, TimeUnit.SECONDS);
+        assertThat(editingContextEventProcessor).isPresent().isNotEqualTo(Optional.of(slowlyDisposedEditingContextEventProcessor));
+        assertThat(loadCount.get()).isEqualTo(2);
+
+        executorService.shutdown();
+        registry.dispose();
+    }
+}
@@ -0,0 +1,391 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.IRepresentationInput;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.eclipse.sirius.components.events.ICause;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+/**
+ * Unit tests of the editing context event processor.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextEventProcessorTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static final int INPUT_COUNT = 10;
+
+    private static final String REPRESENTATION_ID = "representationId";
+
+    private static final Duration COALESCING_WINDOW = Duration.ofSeconds(1);
+
+    /**
+     * Input used by the tests.
+     *
+     * @author sbegaudeau
+     */
+    private record TestInput(UUID id, String name) implements IInput {
+    }
+
+    /**
+     * Input of a representation used by the tests.
+     *
+     * @author sbegaudeau
+     */
+    private record TestRepresentationInput(UUID id, String representationId) implements IRepresentationInput {
+    }
+
+    /**
+     * Representation event processor counting its refreshes.
+     *
+     * @author sbegaudeau
+     */
+    private static class TestRepresentationEventProcessor extends IRepresentationEventProcessor.NoOp {
+
+        private final List<ChangeDescription> refreshes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void refresh(ChangeDescription changeDescription) {
+            this.refreshes.add(changeDescription);
+        }
+
+        public List<ChangeDescription> getRefreshes() {
+            return this.refreshes;
+        }
+    }
+
+    @Test
+    public void givenAsynchronousDispatchWhenInputsAreHandledThenTheCallerIsNotBlockedAndTheOrderIsKept() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> handledInputs = new CopyOnWriteArrayList<>();
+
+        IEditingContextEventHandler handler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof TestInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                try {
+                    latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                if (input instanceof TestInput testInput) {
+                    handledInputs.add(testInput.name());
+                }
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        var meterRegistry = new SimpleMeterRegistry();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(handler, meterRegistry, true);
+
+        var firstInput = new TestInput(UUID.randomUUID(), "first");
+        var secondInput = new TestInput(UUID.randomUUID(), "second");
+        Mono<IPayload> firstPayload = editingContextEventProcessor.handle(firstInput);
+        Mono<IPayload> secondPayload = editingContextEventProcessor.handle(secondInput);
+
+        // Both calls have returned while the first input is still being processed
+        assertThat(handledInputs).isEmpty();
+        latch.countDown();
+
+        assertThat(secondPayload.block(TIMEOUT)).isInstanceOf(SuccessPayload.class).extracting(IPayload::id).isEqualTo(secondInput.id());
+        assertThat(firstPayload.block(TIMEOUT)).isInstanceOf(SuccessPayload.class).extracting(IPayload::id).isEqualTo(firstInput.id());
+        assertThat(handledInputs).containsExactly("first", "second");
+
+        assertThat(meterRegistry.timer(Monitoring.TIMER_WAITING_INPUT, "input", TestInput.class.getSimpleName()).count()).isEqualTo(2);
+        assertThat(meterRegistry.timer(Monitoring.TIMER_EXECUTING_INPUT, "input", TestInput.class.getSimpleName()).count()).isEqualTo(2);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenSynchronousDispatchWhenAnInputIsHandledThenItHasBeenProcessedWhenTheCallReturns() {
+        List<String> handledInputs = new CopyOnWriteArrayList<>();
+
+        IEditingContextEventHandler handler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof TestInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                if (input instanceof TestInput testInput) {
+                    handledInputs.add(testInput.name());
+                }
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(handler, new SimpleMeterRegistry(), false);
+
+        var input = new TestInput(UUID.randomUUID(), "single");
+        Mono<IPayload> payload = editingContextEventProcessor.handle(input);
+        assertThat(handledInputs).containsExactly("single");
+        assertThat(payload.block(TIMEOUT)).isInstanceOf(SuccessPayload.class);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenACoalescingWindowWhenSemanticChangesAreSentInABurstThenTheEditingContextIsPersistedOnce() throws InterruptedException {
+        CountDownLatch persistenceLatch = new CountDownLatch(1);
+        List<UUID> persistedInputIds = new CopyOnWriteArrayList<>();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, editingContext) -> {
+            persistedInputIds.add(cause.id());
+            persistenceLatch.countDown();
+        };
+
+        var meterRegistry = new SimpleMeterRegistry();
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        var parameters = this.newParameters(this.getSemanticChangeHandler(), editingContextPersistenceService, meterRegistry, false, COALESCING_WINDOW)
+                .refreshCoalescingScheduler(scheduler)
+                .build();
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+
+        UUID lastInputId = null;
+        for (int i = 0; i < 5; i++) {
+            var input = new TestInput(UUID.randomUUID(), "burst" + i);
+            lastInputId = input.id();
+            assertThat(editingContextEventProcessor.handle(input).block(TIMEOUT)).isInstanceOf(SuccessPayload.class);
+        }
+
+        scheduler.advanceTimeBy(COALESCING_WINDOW.minusMillis(1));
+        assertThat(persistedInputIds).isEmpty();
+
+        scheduler.advanceTimeBy(Duration.ofMillis(1));
+        assertThat(persistenceLatch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(persistedInputIds).containsExactly(lastInputId);
+        assertThat(meterRegistry.counter(Monitoring.COALESCED_REFRESHES).count()).isEqualTo(4);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenACoalescingWindowWhenARepresentationInputIsHandledThenThePendingChangesAreProcessedBefore() {
+        List<Integer> refreshCountsOnHandle = new CopyOnWriteArrayList<>();
+        TestRepresentationEventProcessor representationEventProcessor = new TestRepresentationEventProcessor() {
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IRepresentationInput representationInput) {
+                refreshCountsOnHandle.add(this.getRefreshes().size());
+                payloadSink.tryEmitValue(new SuccessPayload(representationInput.id()));
+            }
+        };
+
+        List<UUID> persistedInputIds = new CopyOnWriteArrayList<>();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, editingContext) -> persistedInputIds.add(cause.id());
+
+        var parameters = this.newParameters(this.getSemanticChangeHandler(), editingContextPersistenceService, new SimpleMeterRegistry(), false, COALESCING_WINDOW)
+                .refreshCoalescingScheduler(VirtualTimeScheduler.create())
+                .representationEventProcessorComposedFactory((context, representationId) -> Optional.of(representationEventProcessor))
+                .build();
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+
+        var semanticInput = new TestInput(UUID.randomUUID(), "semanticChange");
+        var representationInput = new TestRepresentationInput(UUID.randomUUID(), REPRESENTATION_ID);
+        editingContextEventProcessor.acquireRepresentationEventProcessor(REPRESENTATION_ID, representationInput);
+
+        editingContextEventProcessor.handle(semanticInput).block(TIMEOUT);
+        assertThat(persistedInputIds).isEmpty();
+
+        assertThat(editingContextEventProcessor.handle(representationInput).block(TIMEOUT)).isInstanceOf(SuccessPayload.class);
+        assertThat(refreshCountsOnHandle).containsExactly(1);
+        assertThat(persistedInputIds).containsExactly(semanticInput.id());
+
+        editingContextEventProcessor.dispose();
+    }
+
+    private IEditingContextEventHandler getSemanticChangeHandler() {
+        return new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof TestInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+    }
+
+    @Test
+    public void givenACoalescingWindowWhenTheProcessorIsDisposedThenThePendingChangesArePersisted() {
+        IEditingContextEventHandler handler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof TestInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        List<UUID> persistedInputIds = new CopyOnWriteArrayList<>();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, editingContext) -> persistedInputIds.add(cause.id());
+
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(handler, editingContextPersistenceService, new SimpleMeterRegistry(), false, Duration.ofMinutes(1));
+
+        var input = new TestInput(UUID.randomUUID(), "pending");
+        editingContextEventProcessor.handle(input).block(TIMEOUT);
+        assertThat(persistedInputIds).isEmpty();
+
+        editingContextEventProcessor.dispose();
+        assertThat(editingContextEventProcessor.awaitDisposal(TIMEOUT)).isTrue();
+        assertThat(persistedInputIds).containsExactly(input.id());
+    }
+
+    @Test
+    public void givenPendingInputsWhenTheProcessorIsDisposedThenThePersistenceIsFlushedAfterTheirPersistence() {
+        IEditingContextEventHandler handler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof TestInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        List<String> operations = new CopyOnWriteArrayList<>();
+        IEditingContextPersistenceService editingContextPersistenceService = new IEditingContextPersistenceService() {
+            @Override
+            public void persist(ICause cause, IEditingContext editingContext) {
+                operations.add(cause.id().toString());
+            }
+
+            @Override
+            public void flush(String editingContextId) {
+                operations.add("flush");
+            }
+        };
+
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(handler, editingContextPersistenceService, new SimpleMeterRegistry(), true, Duration.ZERO);
+
+        List<String> inputIds = new ArrayList<>();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            var input = new TestInput(UUID.randomUUID(), "pending");
+            inputIds.add(input.id().toString());
+            editingContextEventProcessor.handle(input).subscribe();
+        }
+
+        editingContextEventProcessor.dispose();
+        assertThat(editingContextEventProcessor.awaitDisposal(TIMEOUT)).isTrue();
+
+        List<String> expectedOperations = new ArrayList<>(inputIds);
+        expectedOperations.add("flush");
+        assertThat(operations).containsExactlyElementsOf(expectedOperations);
+    }
+
+    @Test
+    public void givenAnInputBeingProcessedWhenTheProcessorIsDisposedThenTheCallerIsNotBlocked() {
+        CountDownLatch latch = new CountDownLatch(1);
+        IEditingContextEventHandler handler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof TestInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                try {
+                    latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(handler, new SimpleMeterRegistry(), true);
+        editingContextEventProcessor.handle(new TestInput(UUID.randomUUID(), "blocked")).subscribe();
+
+        editingContextEventProcessor.dispose();
+        assertThat(editingContextEventProcessor.awaitDisposal(Duration.ofMillis(100))).isFalse();
+
+        latch.countDown();
+        assertThat(editingContextEventProcessor.awaitDisposal(TIMEOUT)).isTrue();
+    }
+
+    private EditingContextEventProcessor createEditingContextEventProcessor(IEditingContextEventHandler handler, SimpleMeterRegistry meterRegistry, boolean asynchronousDispatch) {
+        return this.createEditingContextEventProcessor(handler, new IEditingContextPersistenceService.NoOp(), meterRegistry, asynchronousDispatch, Duration.ZERO);
+    }
+
+    private EditingContextEventProcessor createEditingContextEventProcessor(IEditingContextEventHandler handler, IEditingContextPersistenceService editingContextPersistenceService, SimpleMeterRegistry meterRegistry,
+            boolean asynchronousDispatch, Duration refreshCoalescingWindow) {
+        var parameters = this.newParameters(handler, editingContextPersistenceService, meterRegistry, asynchronousDispatch, refreshCoalescingWindow).build();
+        return new EditingContextEventProcessor(parameters);
+    }
+
+    private EditingContextEventProcessorParameters.EditingContextEventProcessorParametersBuilder newParameters(IEditingContextEventHandler handler, IEditingContextPersistenceService editingContextPersistenceService,
+            SimpleMeterRegistry meterRegistry, boolean asynchronousDispatch, Duration refreshCoalescingWindow) {
+        IEditingContext editingContext = () -> UUID.randomUUID().toString();
+
+        return EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .messageService(new ICollaborativeMessageService.NoOp())
+                .editingContext(editingContext)
+                .editingContextPersistenceService(editingContextPersistenceService)
+                .applicationEventPublisher(event -> { })
+                .editingContextEventHandlers(List.of(handler))
+                .representationEventProcessorComposedFactory((context, representationId) -> Optional.empty())
+                .danglingRepresentationDeletionService(new IDanglingRepresentationDeletionService.NoOp())
+                .executorServiceProvider(context -> Executors.newSingleThreadExecutor())
+                .inputPreProcessors(List.of())
+                .inputPostProcessors(List.of())
+                .meterRegistry(meterRegistry)
+                .asynchronousDispatch(asynchronousDispatch)
+                .refreshCoalescingWindow(refreshCoalescingWindow);
+    }
+}
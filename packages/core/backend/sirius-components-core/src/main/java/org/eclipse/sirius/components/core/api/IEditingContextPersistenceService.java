@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,21 @@ public interface IEditingContextPersistenceService {
 
     void persist(ICause cause, IEditingContext editingContext);
 
+    /**
+     * Writes the changes of the given editing context which have been persisted but not written yet.
+     *
+     * <p>
+     * Implementations which defer the write of the changes must ensure that they have been written when this method
+     * returns. It is called before the disposal of the editing context.
+     * </p>
+     *
+     * @param editingContextId
+     *         The id of the editing context
+     */
+    default void flush(String editingContextId) {
+        // Do nothing by default since changes are written during the persistence
+    }
+
     /**
      * Empty implementation, used for mocks in unit tests.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.representations;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -27,18 +26,31 @@ import org.slf4j.LoggerFactory;
  */
 public class BaseRenderer {
 
+    /**
+     * The registry used by the renderers which do not provide their own. It is shared so that the constructors of their
+     * components are only looked up once.
+     */
+    private static final ComponentFactoryRegistry DEFAULT_COMPONENT_FACTORY_REGISTRY = new ComponentFactoryRegistry();
+
     private final IInstancePropsValidator instancePropsValidator;
 
     private final IComponentPropsValidator componentPropsValidator;
 
     private final IElementFactory elementFactory;
 
+    private final ComponentFactoryRegistry componentFactoryRegistry;
+
     private final Logger logger = LoggerFactory.getLogger(BaseRenderer.class);
 
     public BaseRenderer(IInstancePropsValidator instancePropsValidator, IComponentPropsValidator componentPropsValidator, IElementFactory elementFactory) {
+        this(instancePropsValidator, componentPropsValidator, elementFactory, DEFAULT_COMPONENT_FACTORY_REGISTRY);
+    }
+
+    public BaseRenderer(IInstancePropsValidator instancePropsValidator, IComponentPropsValidator componentPropsValidator, IElementFactory elementFactory, ComponentFactoryRegistry componentFactoryRegistry) {
         this.instancePropsValidator = Objects.requireNonNull(instancePropsValidator);
         this.componentPropsValidator = Objects.requireNonNull(componentPropsValidator);
         this.elementFactory = Objects.requireNonNull(elementFactory);
+        this.componentFactoryRegistry = Objects.requireNonNull(componentFactoryRegistry);
     }
 
     /**
@@ -184,6 +196,9 @@ public class BaseRenderer {
 
     /**
      * Used to render a component using its properties.
+     * <p>
+     * The component is created by the {@link ComponentFactoryRegistry} of the renderer.
+     * </p>
      *
      * @param type
      *            The type of the component
@@ -195,8 +210,7 @@ public class BaseRenderer {
         Object instance = null;
         if (IComponent.class.isAssignableFrom(type) && this.componentPropsValidator.validateComponentProps(type, props)) {
             try {
-                Constructor<?> constructor = type.getConstructor(props.getClass());
-                IComponent component = (IComponent) constructor.newInstance(props);
+                IComponent component = this.componentFactoryRegistry.createComponent(type, props);
                 Element renderedElement = component.render();
                 if (renderedElement != null) {
                     instance = this.renderElement(renderedElement);
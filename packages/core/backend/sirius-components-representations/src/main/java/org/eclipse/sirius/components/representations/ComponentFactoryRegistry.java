@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Used by the {@link BaseRenderer} to create the components of the elements to render.
+ *
+ * <p>
+ * The factories registered for a type of component are called directly with the props of the element. The components
+ * of the other types are created using their public constructor with the type of the props as its single parameter.
+ * This constructor is only looked up once for each type of component and of props, the registry being meant to be
+ * shared by all the renders of a kind of representation.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ComponentFactoryRegistry {
+
+    private final Map<Class<?>, ComponentFactory<?>> factories = new ConcurrentHashMap<>();
+
+    private final Map<ComponentConstructorKey, Constructor<?>> constructors = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the factory used to create the components of the given type.
+     *
+     * @param componentType
+     *            The type of the component
+     * @param propsType
+     *            The type of the props of the component
+     * @param factory
+     *            Used to create a new component from its props
+     * @param <P>
+     *            The type of the props of the component
+     * @return The registry
+     */
+    public <P extends IProps> ComponentFactoryRegistry register(Class<? extends IComponent> componentType, Class<P> propsType, Function<P, ? extends IComponent> factory) {
+        this.factories.put(componentType, new ComponentFactory<>(propsType, factory));
+        return this;
+    }
+
+    /**
+     * Creates a new component of the given type.
+     *
+     * @param componentType
+     *            The type of the component
+     * @param props
+     *            The props of the component
+     * @return The new component
+     * @throws ReflectiveOperationException
+     *             If no factory has been registered and the component cannot be created using its constructor
+     */
+    public IComponent createComponent(Class<?> componentType, IProps props) throws ReflectiveOperationException {
+        var factory = this.factories.get(componentType);
+        if (factory != null && factory.propsType().isInstance(props)) {
+            return factory.create(props);
+        }
+
+        var key = new ComponentConstructorKey(componentType, props.getClass());
+        Constructor<?> constructor = this.constructors.get(key);
+        if (constructor == null) {
+            constructor = componentType.getConstructor(props.getClass());
+            this.constructors.put(key, constructor);
+        }
+        return (IComponent) constructor.newInstance(props);
+    }
+
+    /**
+     * A factory of components registered with the type of its props.
+     *
+     * @param <P>
+     *            The type of the props of the component
+     * @author sbegaudeau
+     */
+    private record ComponentFactory<P extends IProps>(Class<P> propsType, Function<P, ? extends IComponent> factory) {
+
+        public IComponent create(IProps props) {
+            return this.factory.apply(this.propsType.cast(props));
+        }
+    }
+
+    /**
+     * The key of the constructors resolved by reflection.
+     *
+     * @author sbegaudeau
+     */
+    private record ComponentConstructorKey(Class<?> componentType, Class<?> propsType) {
+    }
+}
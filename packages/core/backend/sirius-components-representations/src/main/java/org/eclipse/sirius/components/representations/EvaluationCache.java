@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Holds the results of the evaluations performed during a single render pass.
+ *
+ * <p>
+ * An instance is put in the root {@link VariableManager} of a render pass under the name {@link #EVALUATION_CACHE} and
+ * is discarded with it. Interpreters which have opted in can then memoize the evaluation of the same expression against
+ * the same variables instead of computing it again for each conditional style, tool or candidate. Since the semantic
+ * model is not modified while a representation is being rendered, the results remain valid for the whole render pass.
+ * The cache is not thread safe, a render pass being performed by a single thread.
+ * </p>
+ *
+ * <p>
+ * The cache must be disposed at the end of the render pass since some handlers, executed later on, may still retrieve
+ * it from the variables they have captured. Once disposed, it does not memoize anything anymore.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EvaluationCache {
+
+    public static final String EVALUATION_CACHE = "evaluationCache";
+
+    private final Map<Object, Object> values = new HashMap<>();
+
+    private int hitCount;
+
+    private boolean disposed;
+
+    /**
+     * Returns the value computed for the given key during this render pass or computes it.
+     *
+     * @param key
+     *            The key identifying the evaluation, it must implement equals and hashCode
+     * @param type
+     *            The type of the value, the same key must always be used with the same type
+     * @param supplier
+     *            Used to compute the value if it has not been computed yet
+     * @param <T>
+     *            The type of the value
+     * @return The value
+     */
+    public <T> T computeIfAbsent(Object key, Class<T> type, Supplier<T> supplier) {
+        if (this.values.containsKey(key)) {
+            this.hitCount++;
+            return type.cast(this.values.get(key));
+        }
+        T value = supplier.get();
+        if (!this.disposed) {
+            this.values.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Discards the values computed and stops memoizing new ones.
+     */
+    public void dispose() {
+        this.disposed = true;
+        this.values.clear();
+    }
+
+    public int size() {
+        return this.values.size();
+    }
+
+    public int getHitCount() {
+        return this.hitCount;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.representations;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Used to manage the variables.
@@ -35,6 +41,11 @@ public class VariableManager {
      */
     private Map<String, Object> variables = new HashMap<>();
 
+    /**
+     * The read-only view of the variables of this VariableManager and its parents.
+     */
+    private final Map<String, Object> variablesView = new LayeredVariables();
+
     /**
      * The constructor.
      */
@@ -57,6 +68,11 @@ public class VariableManager {
         return previous;
     }
 
+    /**
+     * Returns a copy of the variables of this VariableManager and its parents, which can be modified.
+     *
+     * @return A new map containing all the variables
+     */
     public Map<String, Object> getVariables() {
         if (this.parent != null) {
             Map<String, Object> parentVariables = this.parent.getVariables();
@@ -66,6 +82,21 @@ public class VariableManager {
         return new HashMap<>(this.variables);
     }
 
+    /**
+     * Returns a read-only view of the variables of this VariableManager and its parents.
+     *
+     * <p>
+     * Contrary to {@link #getVariables()}, nothing is copied: the lookup of a variable walks up the chain of variable
+     * managers and the view reflects their later modifications. It should be preferred to give the variables to an
+     * interpreter or to anything else which only reads them.
+     * </p>
+     *
+     * @return An unmodifiable and layered view of the variables
+     */
+    public Map<String, Object> asMap() {
+        return this.variablesView;
+    }
+
     public <T> Optional<T> get(String name, Class<T> expectedType) {
         // @formatter:off
         return Optional.ofNullable(this.get(name))
@@ -109,4 +140,97 @@ public class VariableManager {
         }
         return stringBuilder.toString();
     }
+
+    /**
+     * A read-only view of the variables of a VariableManager and its parents.
+     *
+     * <p>
+     * A variable defined by a child VariableManager hides the one with the same name defined by its parents, even if
+     * its value is null, exactly like in the map returned by {@link VariableManager#getVariables()}. None of its
+     * operations copies the variables of the chain, even the iteration over its entries which skips the hidden ones.
+     * </p>
+     *
+     * @author sbegaudeau
+     */
+    private final class LayeredVariables extends AbstractMap<String, Object> {
+
+        private final Set<Entry<String, Object>> entries = new LayeredEntries();
+
+        @Override
+        public boolean containsKey(Object key) {
+            boolean containsKey = false;
+            VariableManager variableManager = VariableManager.this;
+            while (!containsKey && variableManager != null) {
+                containsKey = variableManager.variables.containsKey(key);
+                variableManager = variableManager.parent;
+            }
+            return containsKey;
+        }
+
+        @Override
+        public Object get(Object key) {
+            Object value = null;
+            VariableManager variableManager = VariableManager.this;
+            while (variableManager != null) {
+                if (variableManager.variables.containsKey(key)) {
+                    value = variableManager.variables.get(key);
+                    variableManager = null;
+                } else {
+                    variableManager = variableManager.parent;
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.layers().allMatch(variableManager -> variableManager.variables.isEmpty());
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return this.entries;
+        }
+
+        private Stream<VariableManager> layers() {
+            return Stream.iterate(VariableManager.this, Objects::nonNull, variableManager -> variableManager.parent);
+        }
+
+        private Stream<Entry<String, Object>> visibleEntries() {
+            return this.layers().flatMap(layer -> layer.variables.entrySet().stream()
+                    .filter(entry -> !this.isHidden(layer, entry.getKey()))
+                    .map(SimpleImmutableEntry::new));
+        }
+
+        /**
+         * Indicates if a variable of the given layer is hidden by a variable with the same name in one of its children.
+         */
+        private boolean isHidden(VariableManager layer, String name) {
+            boolean isHidden = false;
+            VariableManager variableManager = VariableManager.this;
+            while (!isHidden && variableManager != layer) {
+                isHidden = variableManager.variables.containsKey(name);
+                variableManager = variableManager.parent;
+            }
+            return isHidden;
+        }
+
+        /**
+         * The read-only entries of the layered variables.
+         *
+         * @author sbegaudeau
+         */
+        private final class LayeredEntries extends AbstractSet<Entry<String, Object>> {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return LayeredVariables.this.visibleEntries().iterator();
+            }
+
+            @Override
+            public int size() {
+                return (int) LayeredVariables.this.visibleEntries().count();
+            }
+        }
+    }
 }
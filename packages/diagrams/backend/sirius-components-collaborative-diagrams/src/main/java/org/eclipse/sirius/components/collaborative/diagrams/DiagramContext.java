@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo and others.
+ * Copyright (c) 2019, 2025 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.collaborative.diagrams.api.PaletteCache;
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.components.diagrams.ViewDeletionRequest;
@@ -37,6 +38,8 @@ public class DiagramContext implements IDiagramContext {
 
     private final List<IDiagramEvent> diagramEvents;
 
+    private final PaletteCache paletteCache = new PaletteCache();
+
     public DiagramContext(Diagram initialDiagram) {
         this.diagram = Objects.requireNonNull(initialDiagram);
         this.viewCreationRequests = new ArrayList<>();
@@ -69,6 +72,11 @@ public class DiagramContext implements IDiagramContext {
         return this.diagramEvents;
     }
 
+    @Override
+    public PaletteCache getPaletteCache() {
+        return this.paletteCache;
+    }
+
     @Override
     public void reset() {
         this.diagramEvents.clear();
@@ -14,13 +14,13 @@ package org.eclipse.sirius.components.collaborative.diagrams;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramService;
 import org.eclipse.sirius.components.core.api.Environment;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -31,12 +31,12 @@ import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.components.diagrams.ViewDeletionRequest;
 import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
 import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
-import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps.Builder;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderer;
 import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.EvaluationCache;
 import org.eclipse.sirius.components.representations.IOperationValidator;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.slf4j.Logger;
@@ -60,15 +60,17 @@ public class DiagramCreationService implements IDiagramCreationService {
 
     private final IOperationValidator operationValidator;
 
+    private final IDiagramLayoutService diagramLayoutService;
+
     private final Timer timer;
 
     private final Logger logger = LoggerFactory.getLogger(DiagramCreationService.class);
 
-    public DiagramCreationService(IRepresentationDescriptionSearchService representationDescriptionSearchService, IObjectSearchService objectSearchService,
-                                  IOperationValidator operationValidator, MeterRegistry meterRegistry) {
-        this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
-        this.objectSearchService = Objects.requireNonNull(objectSearchService);
-        this.operationValidator = Objects.requireNonNull(operationValidator);
+    public DiagramCreationService(DiagramCreationServiceParameters parameters, MeterRegistry meterRegistry) {
+        this.representationDescriptionSearchService = parameters.representationDescriptionSearchService();
+        this.objectSearchService = parameters.objectSearchService();
+        this.operationValidator = parameters.operationValidator();
+        this.diagramLayoutService = parameters.diagramLayoutService();
         this.timer = Timer.builder(Monitoring.REPRESENTATION_EVENT_PROCESSOR_REFRESH)
                 .tag(Monitoring.NAME, "diagram")
                 .register(meterRegistry);
@@ -83,7 +85,11 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .map(DiagramDescription.class::cast)
                 .toList();
 
-        return this.doRender(targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty());
+        Diagram diagram = this.doRender(targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty());
+        if (this.diagramLayoutService.isEnabled()) {
+            diagram = this.diagramLayoutService.layout(editingContext, diagram);
+        }
+        return diagram;
     }
 
     @Override
@@ -120,13 +126,15 @@ public class DiagramCreationService implements IDiagramCreationService {
         variableManager.put(Environment.ENVIRONMENT, new Environment(Environment.SIRIUS_COMPONENTS));
         variableManager.put(IDiagramContext.DIAGRAM_CONTEXT, optionalDiagramContext.orElse(null));
         variableManager.put(IDiagramService.DIAGRAM_SERVICES, new DiagramService(optionalDiagramContext.orElse(null)));
+        EvaluationCache evaluationCache = new EvaluationCache();
+        variableManager.put(EvaluationCache.EVALUATION_CACHE, evaluationCache);
 
         List<IDiagramEvent> diagramEvents = optionalDiagramContext.map(IDiagramContext::getDiagramEvents).orElse(List.of());
         Optional<Diagram> optionalPreviousDiagram = optionalDiagramContext.map(IDiagramContext::getDiagram);
         List<ViewCreationRequest> viewCreationRequests = optionalDiagramContext.map(IDiagramContext::getViewCreationRequests).orElse(List.of());
         List<ViewDeletionRequest> viewDeletionRequests = optionalDiagramContext.map(IDiagramContext::getViewDeletionRequests).orElse(List.of());
         
-        Builder builder = DiagramComponentProps.newDiagramComponentProps()
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
                 .variableManager(variableManager)
                 .diagramDescription(diagramDescription)
                 .allDiagramDescriptions(allDiagramDescriptions)
@@ -134,12 +142,16 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .viewCreationRequests(viewCreationRequests)
                 .viewDeletionRequests(viewDeletionRequests)
                 .previousDiagram(optionalPreviousDiagram)
-                .diagramEvents(diagramEvents);
-
-        DiagramComponentProps props = builder.build();
+                .diagramEvents(diagramEvents)
+                .build();
         Element element = new Element(DiagramComponent.class, props);
 
-        Diagram newDiagram = new DiagramRenderer().render(element);
+        Diagram newDiagram;
+        try {
+            newDiagram = new DiagramRenderer().render(element);
+        } finally {
+            evaluationCache.dispose();
+        }
 
         var newLayoutData = optionalPreviousDiagram.map(Diagram::getLayoutData).orElse(new DiagramLayoutData(Map.of(), Map.of(), Map.of()));
         newDiagram = Diagram.newDiagram(newDiagram)
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutService;
+import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bundles the bean dependencies that {@link DiagramCreationService} needs into a single object for convenience.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public record DiagramCreationServiceParameters(IRepresentationDescriptionSearchService representationDescriptionSearchService, IObjectSearchService objectSearchService,
+        IOperationValidator operationValidator, IDiagramLayoutService diagramLayoutService) {
+
+    public DiagramCreationServiceParameters {
+        Objects.requireNonNull(representationDescriptionSearchService);
+        Objects.requireNonNull(objectSearchService);
+        Objects.requireNonNull(operationValidator);
+        Objects.requireNonNull(diagramLayoutService);
+    }
+}
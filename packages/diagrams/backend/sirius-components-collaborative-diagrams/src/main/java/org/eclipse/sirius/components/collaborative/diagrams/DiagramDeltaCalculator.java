@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.AddedNode;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramLayoutDataPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.EdgesDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodesDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * Computes the changes between two versions of a diagram.
+ *
+ * <p>
+ * The nodes and edges are matched using their identifier. A node which is still the same instance, for example because
+ * its subtree has been reused by the render, is unchanged along with its whole subtree. Otherwise, its own properties
+ * and the order of its children are compared to the ones of its previous version.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagramDeltaCalculator {
+
+    public DiagramDeltaEventPayload calculate(UUID id, Diagram previousDiagram, Diagram newDiagram, String cause, ReferencePosition referencePosition) {
+        Map<String, IndexedNode> previousNodes = new HashMap<>();
+        this.indexNodes(null, previousDiagram.getNodes(), previousNodes);
+
+        List<AddedNode> addedNodes = new ArrayList<>();
+        List<Node> updatedNodes = new ArrayList<>();
+        Set<String> nodeIds = new HashSet<>();
+        Set<String> movedNodeIds = new HashSet<>();
+        this.compareNodes(null, newDiagram.getNodes(), previousNodes, new NodeChanges(addedNodes, updatedNodes, nodeIds, movedNodeIds));
+        List<String> removedNodeIds = previousNodes.keySet().stream()
+                .filter(nodeId -> !nodeIds.contains(nodeId) || movedNodeIds.contains(nodeId))
+                .toList();
+
+        Map<String, Edge> previousEdges = new HashMap<>();
+        previousDiagram.getEdges().forEach(edge -> previousEdges.put(edge.getId(), edge));
+
+        List<Edge> addedEdges = new ArrayList<>();
+        List<Edge> updatedEdges = new ArrayList<>();
+        Set<String> edgeIds = new HashSet<>();
+        for (Edge edge : newDiagram.getEdges()) {
+            edgeIds.add(edge.getId());
+            Edge previousEdge = previousEdges.get(edge.getId());
+            if (previousEdge == null) {
+                addedEdges.add(edge);
+            } else if (previousEdge != edge && !this.haveSameProperties(previousEdge, edge)) {
+                updatedEdges.add(edge);
+            }
+        }
+        List<String> removedEdgeIds = previousEdges.keySet().stream()
+                .filter(edgeId -> !edgeIds.contains(edgeId))
+                .toList();
+
+        var nodeLayoutData = newDiagram.getLayoutData().nodeLayoutData().entrySet().stream()
+                .filter(entry -> !Objects.equals(previousDiagram.getLayoutData().nodeLayoutData().get(entry.getKey()), entry.getValue()))
+                .map(Map.Entry::getValue)
+                .toList();
+        var edgeLayoutData = newDiagram.getLayoutData().edgeLayoutData().entrySet().stream()
+                .filter(entry -> !Objects.equals(previousDiagram.getLayoutData().edgeLayoutData().get(entry.getKey()), entry.getValue()))
+                .map(Map.Entry::getValue)
+                .toList();
+
+        return new DiagramDeltaEventPayload(id, newDiagram.getId(), cause, referencePosition,
+                new NodesDelta(addedNodes, updatedNodes, removedNodeIds),
+                new EdgesDelta(addedEdges, updatedEdges, removedEdgeIds),
+                new DiagramLayoutDataPayload(nodeLayoutData, edgeLayoutData));
+    }
+
+    private void indexNodes(String parentId, List<Node> nodes, Map<String, IndexedNode> indexedNodes) {
+        for (Node node : nodes) {
+            indexedNodes.put(node.getId(), new IndexedNode(parentId, node));
+            this.indexNodes(node.getId(), node.getBorderNodes(), indexedNodes);
+            this.indexNodes(node.getId(), node.getChildNodes(), indexedNodes);
+        }
+    }
+
+    private void compareNodes(String parentId, List<Node> nodes, Map<String, IndexedNode> previousNodes, NodeChanges nodeChanges) {
+        for (int index = 0; index < nodes.size(); index++) {
+            Node node = nodes.get(index);
+            nodeChanges.nodeIds().add(node.getId());
+
+            IndexedNode previousNode = previousNodes.get(node.getId());
+            if (previousNode == null) {
+                nodeChanges.addedNodes().add(new AddedNode(parentId, index, node));
+                this.collectNodeIds(node, nodeChanges.nodeIds());
+            } else if (!Objects.equals(previousNode.parentId(), parentId)) {
+                nodeChanges.movedNodeIds().add(node.getId());
+                nodeChanges.addedNodes().add(new AddedNode(parentId, index, node));
+                this.collectNodeIds(node, nodeChanges.nodeIds());
+            } else if (previousNode.node() == node) {
+                this.collectNodeIds(node, nodeChanges.nodeIds());
+            } else {
+                if (!this.haveSameProperties(previousNode.node(), node)) {
+                    nodeChanges.updatedNodes().add(node);
+                }
+                this.compareNodes(node.getId(), node.getBorderNodes(), previousNodes, nodeChanges);
+                this.compareNodes(node.getId(), node.getChildNodes(), previousNodes, nodeChanges);
+            }
+        }
+    }
+
+    private void collectNodeIds(Node node, Set<String> nodeIds) {
+        nodeIds.add(node.getId());
+        node.getBorderNodes().forEach(borderNode -> this.collectNodeIds(borderNode, nodeIds));
+        node.getChildNodes().forEach(childNode -> this.collectNodeIds(childNode, nodeIds));
+    }
+
+    private boolean haveSameProperties(Node previousNode, Node node) {
+        boolean isEqual = Objects.equals(previousNode.getType(), node.getType());
+        isEqual = isEqual && Objects.equals(previousNode.getTargetObjectId(), node.getTargetObjectId());
+        isEqual = isEqual && Objects.equals(previousNode.getTargetObjectKind(), node.getTargetObjectKind());
+        isEqual = isEqual && Objects.equals(previousNode.getTargetObjectLabel(), node.getTargetObjectLabel());
+        isEqual = isEqual && Objects.equals(previousNode.getDescriptionId(), node.getDescriptionId());
+        isEqual = isEqual && previousNode.isBorderNode() == node.isBorderNode();
+        isEqual = isEqual && Objects.equals(previousNode.getModifiers(), node.getModifiers());
+        isEqual = isEqual && Objects.equals(previousNode.getState(), node.getState());
+        isEqual = isEqual && Objects.equals(previousNode.getCollapsingState(), node.getCollapsingState());
+        isEqual = isEqual && Objects.equals(previousNode.getInsideLabel(), node.getInsideLabel());
+        isEqual = isEqual && Objects.equals(previousNode.getOutsideLabels(), node.getOutsideLabels());
+        isEqual = isEqual && Objects.equals(previousNode.getStyle(), node.getStyle());
+        isEqual = isEqual && Objects.equals(previousNode.getChildrenLayoutStrategy(), node.getChildrenLayoutStrategy());
+        isEqual = isEqual && Objects.equals(previousNode.getDefaultWidth(), node.getDefaultWidth());
+        isEqual = isEqual && Objects.equals(previousNode.getDefaultHeight(), node.getDefaultHeight());
+        isEqual = isEqual && previousNode.isLabelEditable() == node.isLabelEditable();
+        isEqual = isEqual && previousNode.isPinned() == node.isPinned();
+        isEqual = isEqual && this.getNodeIds(previousNode.getBorderNodes()).equals(this.getNodeIds(node.getBorderNodes()));
+        isEqual = isEqual && this.getNodeIds(previousNode.getChildNodes()).equals(this.getNodeIds(node.getChildNodes()));
+        return isEqual;
+    }
+
+    private List<String> getNodeIds(List<Node> nodes) {
+        return nodes.stream().map(Node::getId).toList();
+    }
+
+    private boolean haveSameProperties(Edge previousEdge, Edge edge) {
+        boolean isEqual = Objects.equals(previousEdge.getType(), edge.getType());
+        isEqual = isEqual && Objects.equals(previousEdge.getTargetObjectId(), edge.getTargetObjectId());
+        isEqual = isEqual && Objects.equals(previousEdge.getTargetObjectKind(), edge.getTargetObjectKind());
+        isEqual = isEqual && Objects.equals(previousEdge.getTargetObjectLabel(), edge.getTargetObjectLabel());
+        isEqual = isEqual && Objects.equals(previousEdge.getDescriptionId(), edge.getDescriptionId());
+        isEqual = isEqual && Objects.equals(previousEdge.getBeginLabel(), edge.getBeginLabel());
+        isEqual = isEqual && Objects.equals(previousEdge.getCenterLabel(), edge.getCenterLabel());
+        isEqual = isEqual && Objects.equals(previousEdge.getEndLabel(), edge.getEndLabel());
+        isEqual = isEqual && Objects.equals(previousEdge.getSourceId(), edge.getSourceId());
+        isEqual = isEqual && Objects.equals(previousEdge.getTargetId(), edge.getTargetId());
+        isEqual = isEqual && Objects.equals(previousEdge.getModifiers(), edge.getModifiers());
+        isEqual = isEqual && Objects.equals(previousEdge.getState(), edge.getState());
+        isEqual = isEqual && Objects.equals(previousEdge.getStyle(), edge.getStyle());
+        isEqual = isEqual && previousEdge.isCenterLabelEditable() == edge.isCenterLabelEditable();
+        return isEqual;
+    }
+
+    /**
+     * A node of the previous diagram with the identifier of its parent.
+     *
+     * @author sbegaudeau
+     */
+    private record IndexedNode(String parentId, Node node) {
+    }
+
+    /**
+     * The changes of the nodes found so far along with the identifiers of all the nodes of the new diagram.
+     *
+     * <p>
+     * The nodes moved to another parent are both removed from their previous parent and added to their new one.
+     * </p>
+     *
+     * @author sbegaudeau
+     */
+    private record NodeChanges(List<AddedNode> addedNodes, List<Node> updatedNodes, Set<String> nodeIds, Set<String> movedNodeIds) {
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,9 +13,14 @@
 package org.eclipse.sirius.components.collaborative.diagrams;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramViewport;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.diagrams.Diagram;
@@ -32,21 +37,40 @@ import reactor.core.publisher.Sinks.Many;
 /**
  * Service used to manage the diagram event flux.
  *
+ * <p>
+ * The incremental subscriptions receive the changes of each refresh instead of the whole diagram. They receive the
+ * whole diagram when they subscribe and each time they have missed a refresh, since the changes computed by a refresh
+ * are only valid for the diagram which has been refreshed.
+ * </p>
+ *
+ * <p>
+ * The subscriptions scoped to a viewport only receive the elements visible in their viewport. Since the visible
+ * elements depend on the viewport of each subscription, their changes are computed for each of them. The updates of
+ * their viewport are sent through the same sink as the refreshes so that both are received in order.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramEventFlux {
 
     private final Logger logger = LoggerFactory.getLogger(DiagramEventFlux.class);
 
-    private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
+    private final Many<IDiagramFluxEvent> sink = Sinks.many().multicast().directBestEffort();
+
+    private final DiagramDeltaCalculator diagramDeltaCalculator = new DiagramDeltaCalculator();
 
-    private Diagram currentDiagram;
+    private final DiagramViewportFilter diagramViewportFilter = new DiagramViewportFilter();
+
+    private final AtomicInteger incrementalSubscriptionCount = new AtomicInteger();
+
+    private volatile Diagram currentDiagram;
 
     public DiagramEventFlux(Diagram currentDiagram) {
         this.currentDiagram = Objects.requireNonNull(currentDiagram);
     }
 
     public void diagramRefreshed(UUID id, Diagram newDiagram, String cause, ReferencePosition referencePosition) {
+        Diagram previousDiagram = this.currentDiagram;
         this.currentDiagram = newDiagram;
         if (this.sink.currentSubscriberCount() > 0) {
             this.logger.atDebug()
@@ -56,7 +80,13 @@ public class DiagramEventFlux {
                     .addArgument(() -> newDiagram.getEdges().size())
                     .log();
 
-            EmitResult emitResult = this.sink.tryEmitNext(new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, referencePosition));
+            var diagramRefreshedEventPayload = new DiagramRefreshedEventPayload(id, newDiagram, cause, referencePosition);
+            Optional<DiagramDeltaEventPayload> optionalDiagramDeltaEventPayload = Optional.empty();
+            if (this.incrementalSubscriptionCount.get() > 0) {
+                optionalDiagramDeltaEventPayload = Optional.of(this.diagramDeltaCalculator.calculate(id, previousDiagram, newDiagram, cause, referencePosition));
+            }
+
+            EmitResult emitResult = this.sink.tryEmitNext(new DiagramRefresh(previousDiagram, diagramRefreshedEventPayload, optionalDiagramDeltaEventPayload));
             if (emitResult.isFailure()) {
                 String pattern = "An error has occurred while emitting a DiagramRefreshedEventPayload: {}";
                 this.logger.warn(pattern, emitResult);
@@ -64,13 +94,66 @@ public class DiagramEventFlux {
         }
     }
 
+    public void viewportUpdated(UUID subscriptionId, UUID id, String cause, DiagramViewport viewport) {
+        if (this.sink.currentSubscriberCount() > 0) {
+            EmitResult emitResult = this.sink.tryEmitNext(new ViewportUpdate(subscriptionId, id, cause, this.currentDiagram, viewport));
+            if (emitResult.isFailure()) {
+                String pattern = "An error has occurred while emitting a viewport update: {}";
+                this.logger.warn(pattern, emitResult);
+            }
+        }
+    }
+
     private int countChildNodes(Node node) {
         return node.getChildNodes().size() + node.getChildNodes().stream().map(this::countChildNodes).reduce(0, Integer::sum);
     }
 
     public Flux<IPayload> getFlux(UUID id, String cause) {
+        return this.getFlux(id, cause, false);
+    }
+
+    public Flux<IPayload> getFlux(UUID id, String cause, boolean incremental) {
+        if (incremental) {
+            return Flux.defer(() -> {
+                AtomicReference<Diagram> lastSentDiagram = new AtomicReference<>();
+                var initialRefresh = Mono.fromCallable(() -> {
+                    Diagram diagram = this.currentDiagram;
+                    lastSentDiagram.set(diagram);
+                    return new DiagramRefreshedEventPayload(id, diagram, cause, null);
+                });
+                var refreshes = this.sink.asFlux().ofType(DiagramRefresh.class).map(diagramRefresh -> this.getIncrementalPayload(diagramRefresh, lastSentDiagram));
+                return Flux.concat(initialRefresh, refreshes)
+                        .doOnSubscribe(subscription -> this.incrementalSubscriptionCount.incrementAndGet())
+                        .doFinally(signalType -> this.incrementalSubscriptionCount.decrementAndGet());
+            });
+        }
+
         var initialRefresh = Mono.fromCallable(() -> new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, null));
-        return Flux.concat(initialRefresh, this.sink.asFlux());
+        return Flux.concat(initialRefresh, this.sink.asFlux().ofType(DiagramRefresh.class).map(DiagramRefresh::diagramRefreshedEventPayload));
+    }
+
+    public Flux<IPayload> getFlux(UUID id, String cause, UUID subscriptionId, DiagramViewport viewport, boolean incremental) {
+        return Flux.defer(() -> {
+            var viewportSubscription = new ViewportSubscription(subscriptionId, viewport, incremental);
+            var initialRefresh = Mono.fromCallable(() -> viewportSubscription.getPayload(id, this.currentDiagram, cause, null));
+            var events = this.sink.asFlux()
+                    .filter(viewportSubscription::accepts)
+                    .map(viewportSubscription::getPayload);
+            return Flux.concat(initialRefresh, events);
+        });
+    }
+
+    /**
+     * Returns the changes of the given refresh if they apply to the last diagram sent to the subscription, or the
+     * whole refreshed diagram otherwise.
+     */
+    private IPayload getIncrementalPayload(DiagramRefresh diagramRefresh, AtomicReference<Diagram> lastSentDiagram) {
+        IPayload payload = diagramRefresh.diagramRefreshedEventPayload();
+        if (diagramRefresh.previousDiagram() == lastSentDiagram.get() && diagramRefresh.optionalDiagramDeltaEventPayload().isPresent()) {
+            payload = diagramRefresh.optionalDiagramDeltaEventPayload().get();
+        }
+        lastSentDiagram.set(diagramRefresh.diagramRefreshedEventPayload().diagram());
+        return payload;
     }
 
     public void dispose() {
@@ -81,4 +164,79 @@ public class DiagramEventFlux {
         }
     }
 
+    /**
+     * An event sent to the subscriptions of the diagram.
+     *
+     * @author sbegaudeau
+     */
+    private sealed interface IDiagramFluxEvent permits DiagramRefresh, ViewportUpdate {
+    }
+
+    /**
+     * A refresh of the diagram along with its changes if an incremental subscription was there to receive them.
+     *
+     * @author sbegaudeau
+     */
+    private record DiagramRefresh(Diagram previousDiagram, DiagramRefreshedEventPayload diagramRefreshedEventPayload, Optional<DiagramDeltaEventPayload> optionalDiagramDeltaEventPayload) implements IDiagramFluxEvent {
+    }
+
+    /**
+     * A new viewport for the given subscription along with the diagram to display in it.
+     *
+     * @author sbegaudeau
+     */
+    private record ViewportUpdate(UUID subscriptionId, UUID id, String cause, Diagram diagram, DiagramViewport viewport) implements IDiagramFluxEvent {
+    }
+
+    /**
+     * The state of a subscription scoped to a viewport.
+     *
+     * @author sbegaudeau
+     */
+    private final class ViewportSubscription {
+
+        private final UUID subscriptionId;
+
+        private final boolean incremental;
+
+        private volatile DiagramViewport viewport;
+
+        private volatile Diagram lastSentDiagram;
+
+        private ViewportSubscription(UUID subscriptionId, DiagramViewport viewport, boolean incremental) {
+            this.subscriptionId = subscriptionId;
+            this.viewport = Objects.requireNonNull(viewport);
+            this.incremental = incremental;
+        }
+
+        private boolean accepts(IDiagramFluxEvent diagramFluxEvent) {
+            return diagramFluxEvent instanceof DiagramRefresh || diagramFluxEvent instanceof ViewportUpdate viewportUpdate && viewportUpdate.subscriptionId().equals(this.subscriptionId);
+        }
+
+        private IPayload getPayload(IDiagramFluxEvent diagramFluxEvent) {
+            IPayload payload = null;
+            if (diagramFluxEvent instanceof ViewportUpdate viewportUpdate) {
+                this.viewport = viewportUpdate.viewport();
+                payload = this.getPayload(viewportUpdate.id(), viewportUpdate.diagram(), viewportUpdate.cause(), null);
+            } else if (diagramFluxEvent instanceof DiagramRefresh diagramRefresh) {
+                var diagramRefreshedEventPayload = diagramRefresh.diagramRefreshedEventPayload();
+                payload = this.getPayload(diagramRefreshedEventPayload.id(), diagramRefreshedEventPayload.diagram(), diagramRefreshedEventPayload.cause(), diagramRefreshedEventPayload.referencePosition());
+            }
+            return payload;
+        }
+
+        /**
+         * Returns the changes of the visible part of the diagram since the last one sent if the subscription is
+         * incremental, or the visible part of the diagram otherwise.
+         */
+        private IPayload getPayload(UUID id, Diagram diagram, String cause, ReferencePosition referencePosition) {
+            Diagram visibleDiagram = DiagramEventFlux.this.diagramViewportFilter.filter(diagram, this.viewport);
+            IPayload payload = new DiagramRefreshedEventPayload(id, visibleDiagram, cause, referencePosition);
+            if (this.incremental && this.lastSentDiagram != null) {
+                payload = DiagramEventFlux.this.diagramDeltaCalculator.calculate(id, this.lastSentDiagram, visibleDiagram, cause, referencePosition);
+            }
+            this.lastSentDiagram = visibleDiagram;
+            return payload;
+        }
+    }
 }
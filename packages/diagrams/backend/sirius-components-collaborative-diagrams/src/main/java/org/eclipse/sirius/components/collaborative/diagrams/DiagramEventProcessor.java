@@ -12,9 +12,13 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,11 +35,14 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHan
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventProcessor;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutDataPersistenceService;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.EdgeLayoutDataInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.LayoutDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeLayoutDataInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.UpdateDiagramViewportInput;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
@@ -43,6 +50,8 @@ import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchSe
 import org.eclipse.sirius.components.core.api.IRepresentationInput;
 import org.eclipse.sirius.components.core.api.SuccessPayload;
 import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
 import org.eclipse.sirius.components.diagrams.layoutdata.EdgeLayoutData;
@@ -88,6 +97,8 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     private final List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+    private final List<IDiagramLayoutDataPersistenceService> diagramLayoutDataPersistenceServices;
+
     private UUID currentRevisionId = UUID.randomUUID();
 
     private String currentRevisionCause = DiagramRefreshedEventPayload.CAUSE_REFRESH;
@@ -106,6 +117,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         this.representationSearchService = parameters.representationSearchService();
         this.diagramCreationService = parameters.diagramCreationService();
         this.diagramInputReferencePositionProviders = parameters.diagramInputReferencePositionProviders();
+        this.diagramLayoutDataPersistenceServices = parameters.diagramLayoutDataPersistenceServices();
 
         // We automatically refresh the representation before using it since things may have changed since the moment it
         // has been saved in the database. This is quite similar to the auto-refresh on loading in Sirius.
@@ -148,12 +160,21 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
                                 (oldValue, newValue) -> newValue
                         ));
 
-                var layoutData = new DiagramLayoutData(nodeLayoutData, edgeLayoutData, Map.of());
+                Set<String> diagramElementIds = new HashSet<>();
+                diagram.getNodes().forEach(node -> this.collectNodeIds(node, diagramElementIds));
+                diagram.getEdges().stream().map(Edge::getId).forEach(diagramElementIds::add);
+
+                var previousLayoutData = diagram.getLayoutData();
+                var layoutData = new DiagramLayoutData(
+                        this.getMergedEntries(previousLayoutData.nodeLayoutData(), nodeLayoutData, diagramElementIds),
+                        this.getMergedEntries(previousLayoutData.edgeLayoutData(), edgeLayoutData, diagramElementIds),
+                        Map.of()
+                );
                 var laidOutDiagram = Diagram.newDiagram(diagram)
                         .layoutData(layoutData)
                         .build();
 
-                this.representationPersistenceService.save(layoutDiagramInput, this.editingContext, laidOutDiagram);
+                this.saveLayout(layoutDiagramInput, diagram, laidOutDiagram);
                 this.diagramContext.reset();
                 this.diagramContext.update(laidOutDiagram);
                 this.diagramEventFlux.diagramRefreshed(layoutDiagramInput.id(), laidOutDiagram, DiagramRefreshedEventPayload.CAUSE_LAYOUT, null);
@@ -169,6 +190,12 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
             return;
         }
 
+        if (representationInput instanceof UpdateDiagramViewportInput updateDiagramViewportInput) {
+            this.diagramEventFlux.viewportUpdated(updateDiagramViewportInput.subscriptionId(), this.currentRevisionId, this.currentRevisionCause, updateDiagramViewportInput.viewport());
+            payloadSink.tryEmitValue(new SuccessPayload(updateDiagramViewportInput.id()));
+            return;
+        }
+
         if (representationInput instanceof IDiagramInput diagramInput) {
             Optional<IDiagramEventHandler> optionalDiagramEventHandler = this.diagramEventHandlers.stream().filter(handler -> handler.canHandle(diagramInput)).findFirst();
 
@@ -181,6 +208,59 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         }
     }
 
+    private void collectNodeIds(Node node, Set<String> nodeIds) {
+        nodeIds.add(node.getId());
+        node.getBorderNodes().forEach(borderNode -> this.collectNodeIds(borderNode, nodeIds));
+        node.getChildNodes().forEach(childNode -> this.collectNodeIds(childNode, nodeIds));
+    }
+
+    /**
+     * Keeps the previous layout data of the elements of the diagram which have not been laid out by the client, since
+     * a client whose subscription is scoped to a viewport only lays out the elements it has received.
+     */
+    private <T> Map<String, T> getMergedEntries(Map<String, T> previousEntries, Map<String, T> entries, Set<String> diagramElementIds) {
+        Map<String, T> mergedEntries = new HashMap<>();
+        previousEntries.entrySet().stream()
+                .filter(entry -> diagramElementIds.contains(entry.getKey()))
+                .forEach(entry -> mergedEntries.put(entry.getKey(), entry.getValue()));
+        mergedEntries.putAll(entries);
+        return mergedEntries;
+    }
+
+    /**
+     * Persists the layout of the diagram, only the layout data which have changed are written when possible.
+     *
+     * @param layoutDiagramInput
+     *            The layout input
+     * @param diagram
+     *            The diagram before the layout
+     * @param laidOutDiagram
+     *            The diagram after the layout
+     */
+    private void saveLayout(LayoutDiagramInput layoutDiagramInput, Diagram diagram, Diagram laidOutDiagram) {
+        var optionalDiagramLayoutDataPersistenceService = this.diagramLayoutDataPersistenceServices.stream()
+                .filter(diagramLayoutDataPersistenceService -> diagramLayoutDataPersistenceService.canHandle(this.editingContext, laidOutDiagram))
+                .findFirst();
+        if (optionalDiagramLayoutDataPersistenceService.isPresent()) {
+            var previousLayoutData = diagram.getLayoutData();
+            var layoutData = laidOutDiagram.getLayoutData();
+            var modifiedLayoutData = new DiagramLayoutData(
+                    this.getModifiedEntries(previousLayoutData.nodeLayoutData(), layoutData.nodeLayoutData()),
+                    this.getModifiedEntries(previousLayoutData.edgeLayoutData(), layoutData.edgeLayoutData()),
+                    this.getModifiedEntries(previousLayoutData.labelLayoutData(), layoutData.labelLayoutData())
+            );
+            optionalDiagramLayoutDataPersistenceService.get().save(layoutDiagramInput, this.editingContext, laidOutDiagram, modifiedLayoutData);
+        } else {
+            this.representationPersistenceService.save(layoutDiagramInput, this.editingContext, laidOutDiagram);
+        }
+    }
+
+    private <T> Map<String, T> getModifiedEntries(Map<String, T> previousEntries, Map<String, T> entries) {
+        return entries.entrySet().stream()
+                .filter(entry -> !Objects.equals(previousEntries.get(entry.getKey()), entry.getValue()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
     @Override
     public void refresh(ChangeDescription changeDescription) {
         if (this.shouldRefresh(changeDescription)) {
@@ -253,10 +333,13 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
-        return Flux.merge(
-                this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause),
-                this.subscriptionManager.getFlux(input)
-        );
+        Flux<IPayload> diagramEvents;
+        if (input instanceof DiagramEventInput diagramEventInput && diagramEventInput.viewport() != null) {
+            diagramEvents = this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause, diagramEventInput.id(), diagramEventInput.viewport(), diagramEventInput.incremental());
+        } else {
+            diagramEvents = this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause, input instanceof DiagramEventInput diagramEventInput && diagramEventInput.incremental());
+        }
+        return Flux.merge(diagramEvents, this.subscriptionManager.getFlux(input));
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -26,6 +26,7 @@ import org.eclipse.sirius.components.collaborative.api.RepresentationEventProces
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutDataPersistenceService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 import org.eclipse.sirius.components.diagrams.Diagram;
@@ -55,8 +56,11 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
 
     private final List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+    private final List<IDiagramLayoutDataPersistenceService> diagramLayoutDataPersistenceServices;
+
     public DiagramEventProcessorFactory(RepresentationEventProcessorFactoryConfiguration configuration, IDiagramCreationService diagramCreationService,
-            List<IDiagramEventHandler> diagramEventHandlers, IRepresentationPersistenceService representationPersistenceService, List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders) {
+            List<IDiagramEventHandler> diagramEventHandlers, IRepresentationPersistenceService representationPersistenceService, List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders,
+            List<IDiagramLayoutDataPersistenceService> diagramLayoutDataPersistenceServices) {
         this.representationSearchService = Objects.requireNonNull(configuration.getRepresentationSearchService());
         this.diagramCreationService = Objects.requireNonNull(diagramCreationService);
         this.diagramEventHandlers = Objects.requireNonNull(diagramEventHandlers);
@@ -65,6 +69,7 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
         this.representationDescriptionSearchService = Objects.requireNonNull(configuration.getRepresentationDescriptionSearchService());
         this.representationRefreshPolicyRegistry = Objects.requireNonNull(configuration.getRepresentationRefreshPolicyRegistry());
         this.diagramInputReferencePositionProviders = Objects.requireNonNull(diagramInputReferencePositionProviders);
+        this.diagramLayoutDataPersistenceServices = Objects.requireNonNull(diagramLayoutDataPersistenceServices);
     }
 
     @Override
@@ -90,6 +95,7 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
                     .representationPersistenceService(this.representationPersistenceService)
                     .representationSearchService(this.representationSearchService)
                     .diagramInputReferencePositionProviders(this.diagramInputReferencePositionProviders)
+                    .diagramLayoutDataPersistenceServices(this.diagramLayoutDataPersistenceServices)
                     .build();
 
             IRepresentationEventProcessor diagramEventProcessor = new DiagramEventProcessor(parameters);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,7 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutDataPersistenceService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 
@@ -41,7 +42,8 @@ public record DiagramEventProcessorParameters(
         IRepresentationRefreshPolicyRegistry representationRefreshPolicyRegistry,
         IRepresentationPersistenceService representationPersistenceService,
         IRepresentationSearchService representationSearchService,
-        List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders
+        List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders,
+        List<IDiagramLayoutDataPersistenceService> diagramLayoutDataPersistenceServices
 ) {
 
     public DiagramEventProcessorParameters {
@@ -55,6 +57,7 @@ public record DiagramEventProcessorParameters(
         Objects.requireNonNull(representationPersistenceService);
         Objects.requireNonNull(representationSearchService);
         Objects.requireNonNull(diagramInputReferencePositionProviders);
+        Objects.requireNonNull(diagramLayoutDataPersistenceServices);
     }
 
     public static Builder newDiagramEventProcessorParameters() {
@@ -90,6 +93,8 @@ public record DiagramEventProcessorParameters(
 
         private List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+        private List<IDiagramLayoutDataPersistenceService> diagramLayoutDataPersistenceServices = List.of();
+
         private Builder() {
             // Prevent instantiation
         }
@@ -144,6 +149,11 @@ public record DiagramEventProcessorParameters(
             return this;
         }
 
+        public Builder diagramLayoutDataPersistenceServices(List<IDiagramLayoutDataPersistenceService> diagramLayoutDataPersistenceServices) {
+            this.diagramLayoutDataPersistenceServices = Objects.requireNonNull(diagramLayoutDataPersistenceServices);
+            return this;
+        }
+
         public DiagramEventProcessorParameters build() {
             return new DiagramEventProcessorParameters(
                     this.editingContext,
@@ -155,7 +165,8 @@ public record DiagramEventProcessorParameters(
                     this.representationRefreshPolicyRegistry,
                     this.representationPersistenceService,
                     this.representationSearchService,
-                    this.diagramInputReferencePositionProviders
+                    this.diagramInputReferencePositionProviders,
+                    this.diagramLayoutDataPersistenceServices
             );
         }
     }
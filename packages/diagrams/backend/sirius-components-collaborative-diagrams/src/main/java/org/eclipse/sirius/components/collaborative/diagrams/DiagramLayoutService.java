@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.eclipse.sirius.components.diagrams.ArrangeLayoutDirection;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.layout.LayeredDiagramLayoutEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Lays out the diagrams on the server with a layered layout.
+ *
+ * <p>
+ * The nodes are laid out in the direction of the arrange all of their diagram description, the same options as the
+ * layered layout of the browser are used for the spacing between the nodes.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class DiagramLayoutService implements IDiagramLayoutService {
+
+    private final IRepresentationDescriptionSearchService representationDescriptionSearchService;
+
+    private final boolean enabled;
+
+    private final LayeredDiagramLayoutEngine layoutEngine = new LayeredDiagramLayoutEngine();
+
+    private final Timer timer;
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramLayoutService.class);
+
+    public DiagramLayoutService(IRepresentationDescriptionSearchService representationDescriptionSearchService,
+            @Value("${sirius.components.diagrams.serverLayout.enabled:false}") boolean enabled, MeterRegistry meterRegistry) {
+        this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
+        this.enabled = enabled;
+        this.timer = Timer.builder(Monitoring.DIAGRAM_LAYOUT)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public Diagram layout(IEditingContext editingContext, Diagram diagram) {
+        long start = System.currentTimeMillis();
+
+        var direction = this.representationDescriptionSearchService.findById(editingContext, diagram.getDescriptionId())
+                .filter(DiagramDescription.class::isInstance)
+                .map(DiagramDescription.class::cast)
+                .map(DiagramDescription::getArrangeLayoutDirection)
+                .orElse(ArrangeLayoutDirection.UNDEFINED);
+
+        var layoutData = this.layoutEngine.layout(diagram, direction);
+        Diagram laidOutDiagram = Diagram.newDiagram(diagram)
+                .layoutData(layoutData)
+                .build();
+
+        long end = System.currentTimeMillis();
+        this.timer.record(end - start, TimeUnit.MILLISECONDS);
+        this.logger.trace("diagram laid out in {}ms", end - start);
+
+        return laidOutDiagram;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,10 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
 
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramQueryService;
 import org.eclipse.sirius.components.diagrams.Diagram;
@@ -26,54 +30,94 @@ import org.springframework.stereotype.Service;
 /**
  * Used to perform queries on a diagram.
  *
+ * <p>
+ * The nodes, edges and labels of a diagram are indexed by their id the first time the diagram is queried. Since the
+ * diagrams are immutable, this index is shared by all the queries performed on the same diagram instance and it is
+ * forgotten once this instance is not used anymore.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
 public class DiagramQueryService implements IDiagramQueryService {
 
+    private final Map<Diagram, DiagramIndex> diagramIndexes = Collections.synchronizedMap(new WeakHashMap<>());
+
     @Override
     public Optional<Node> findNodeById(Diagram diagram, String nodeId) {
-        return this.findNode(node -> Objects.equals(node.getId(), nodeId), diagram.getNodes());
+        return Optional.ofNullable(this.getDiagramIndex(diagram).nodes().get(nodeId));
     }
 
     @Override
     public Optional<Node> findNodeByLabelId(Diagram diagram, String labelId) {
-        return this.findNode(node -> {
-            if (node.getInsideLabel() != null) {
-                return Objects.equals(node.getInsideLabel().getId(), labelId);
+        return Optional.ofNullable(this.getDiagramIndex(diagram).nodesByLabelId().get(labelId));
+    }
+
+    @Override
+    public Optional<Edge> findEdgeById(Diagram diagram, String edgeId) {
+        return Optional.ofNullable(this.getDiagramIndex(diagram).edges().get(edgeId));
+    }
+
+    @Override
+    public Optional<Edge> findEdgeByLabelId(Diagram diagram, String labelId) {
+        return Optional.ofNullable(this.getDiagramIndex(diagram).edgesByLabelId().get(labelId));
+    }
+
+    private DiagramIndex getDiagramIndex(Diagram diagram) {
+        var diagramIndex = this.diagramIndexes.get(diagram);
+        if (diagramIndex == null) {
+            var newDiagramIndex = new DiagramIndex(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+            this.indexNodes(newDiagramIndex, diagram.getNodes());
+            this.indexEdges(newDiagramIndex, diagram.getEdges());
+
+            diagramIndex = this.diagramIndexes.putIfAbsent(diagram, newDiagramIndex);
+            if (diagramIndex == null) {
+                diagramIndex = newDiagramIndex;
             }
-            return node.getOutsideLabels().stream().anyMatch(label -> Objects.equals(label.id(), labelId));
-        }, diagram.getNodes());
+        }
+        return diagramIndex;
     }
 
-    private Optional<Node> findNode(Predicate<Node> condition, List<Node> candidates) {
-        Optional<Node> result = Optional.empty();
-        for (Node node : candidates) {
-            if (condition.test(node)) {
-                result = Optional.of(node);
+    /**
+     * Indexes the nodes in the order in which they used to be searched, the first node found with an id or a label id
+     * is thus still the one returned.
+     */
+    private void indexNodes(DiagramIndex diagramIndex, List<Node> nodes) {
+        for (Node node : nodes) {
+            diagramIndex.nodes().putIfAbsent(node.getId(), node);
+            if (node.getInsideLabel() != null) {
+                diagramIndex.nodesByLabelId().putIfAbsent(node.getInsideLabel().getId(), node);
             } else {
-                result = this.findNode(condition, node.getBorderNodes()).or(() -> this.findNode(condition, node.getChildNodes()));
-            }
-            if (result.isPresent()) {
-                break;
+                node.getOutsideLabels().forEach(outsideLabel -> diagramIndex.nodesByLabelId().putIfAbsent(outsideLabel.id(), node));
             }
+
+            this.indexNodes(diagramIndex, node.getBorderNodes());
+            this.indexNodes(diagramIndex, node.getChildNodes());
         }
-        return result;
     }
 
-    @Override
-    public Optional<Edge> findEdgeById(Diagram diagram, String edgeId) {
-        return diagram.getEdges().stream().filter(edge -> Objects.equals(edgeId, edge.getId())).findFirst();
+    private void indexEdges(DiagramIndex diagramIndex, List<Edge> edges) {
+        for (Edge edge : edges) {
+            diagramIndex.edges().putIfAbsent(edge.getId(), edge);
+            Stream.of(edge.getBeginLabel(), edge.getCenterLabel(), edge.getEndLabel())
+                    .filter(Objects::nonNull)
+                    .forEach(label -> diagramIndex.edgesByLabelId().putIfAbsent(label.getId(), edge));
+        }
     }
 
-    @Override
-    public Optional<Edge> findEdgeByLabelId(Diagram diagram, String labelId) {
-        return diagram.getEdges().stream().filter(edge -> {
-            boolean isValid = edge.getBeginLabel() != null && Objects.equals(edge.getBeginLabel().getId(), labelId);
-            isValid = isValid || (edge.getCenterLabel() != null && Objects.equals(edge.getCenterLabel().getId(), labelId));
-            isValid = isValid || (edge.getEndLabel() != null && Objects.equals(edge.getEndLabel().getId(), labelId));
-            return isValid;
-        }).findFirst();
+    /**
+     * The elements of a diagram indexed by their id.
+     *
+     * @param nodes
+     *            The nodes by id
+     * @param nodesByLabelId
+     *            The nodes by the id of their labels
+     * @param edges
+     *            The edges by id
+     * @param edgesByLabelId
+     *            The edges by the id of their labels
+     * @author sbegaudeau
+     */
+    private record DiagramIndex(Map<String, Node> nodes, Map<String, Node> nodesByLabelId, Map<String, Edge> edges, Map<String, Edge> edgesByLabelId) {
     }
-
 }
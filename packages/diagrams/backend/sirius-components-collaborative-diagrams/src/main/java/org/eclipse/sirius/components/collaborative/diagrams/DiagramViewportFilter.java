@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramViewport;
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+
+/**
+ * Computes the part of a diagram visible in a viewport.
+ *
+ * <p>
+ * The position of a node in its layout data is relative to its parent. A node without layout data has not been laid
+ * out yet, it is thus kept along with its parent. The children of a collapsed node are never visible and the border
+ * nodes of a visible node are always kept. The nodes whose subtree is entirely visible are kept as is, so that the
+ * diagrams computed for two versions of the viewport can be compared by the {@link DiagramDeltaCalculator}.
+ * </p>
+ *
+ * <p>
+ * An edge is kept if at least its source or its target is visible. Its other end is then sent as a stub, the node
+ * without its children and border nodes, along with the stubs of its ancestors and their layout data so that the edge
+ * can be drawn to its position.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagramViewportFilter {
+
+    public Diagram filter(Diagram diagram, DiagramViewport viewport) {
+        var layoutData = diagram.getLayoutData();
+        Set<String> visibleNodeIds = new HashSet<>();
+        this.collectVisibleNodeIds(diagram.getNodes(), new Position(0, 0), new FilteringContext(viewport, layoutData.nodeLayoutData(), visibleNodeIds));
+        List<Edge> edges = diagram.getEdges().stream()
+                .filter(edge -> visibleNodeIds.contains(edge.getSourceId()) || visibleNodeIds.contains(edge.getTargetId()))
+                .toList();
+        Set<String> stubNodeIds = this.getStubNodeIds(diagram, edges, visibleNodeIds);
+        List<Node> nodes = this.filterNodes(diagram.getNodes(), visibleNodeIds, stubNodeIds);
+
+        Diagram visibleDiagram = diagram;
+        if (!nodes.equals(diagram.getNodes()) || edges.size() != diagram.getEdges().size()) {
+            Set<String> sentNodeIds = new HashSet<>(visibleNodeIds);
+            sentNodeIds.addAll(stubNodeIds);
+            Set<String> visibleEdgeIds = edges.stream().map(Edge::getId).collect(Collectors.toSet());
+            var visibleLayoutData = new DiagramLayoutData(
+                    this.filterLayoutData(layoutData.nodeLayoutData(), sentNodeIds),
+                    this.filterLayoutData(layoutData.edgeLayoutData(), visibleEdgeIds),
+                    layoutData.labelLayoutData()
+            );
+            visibleDiagram = Diagram.newDiagram(diagram)
+                    .nodes(nodes)
+                    .edges(edges)
+                    .layoutData(visibleLayoutData)
+                    .build();
+        }
+        return visibleDiagram;
+    }
+
+    private void collectVisibleNodeIds(List<Node> nodes, Position parentPosition, FilteringContext filteringContext) {
+        for (Node node : nodes) {
+            Position position = parentPosition;
+            boolean isVisible = true;
+
+            NodeLayoutData nodeLayoutData = filteringContext.nodeLayoutData().get(node.getId());
+            if (nodeLayoutData != null) {
+                position = parentPosition.translate(nodeLayoutData.position().x(), nodeLayoutData.position().y());
+                isVisible = filteringContext.viewport().intersects(position.x(), position.y(), nodeLayoutData.size().width(), nodeLayoutData.size().height());
+            }
+
+            if (isVisible) {
+                filteringContext.visibleNodeIds().add(node.getId());
+                node.getBorderNodes().forEach(borderNode -> this.collectNodeIds(borderNode, filteringContext.visibleNodeIds()));
+                if (node.getCollapsingState() != CollapsingState.COLLAPSED && filteringContext.viewport().isExpanded(node.getId())) {
+                    this.collectVisibleNodeIds(node.getChildNodes(), position, filteringContext);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the identifiers of the hidden ends of the edges along with the identifiers of their ancestors.
+     */
+    private Set<String> getStubNodeIds(Diagram diagram, List<Edge> edges, Set<String> visibleNodeIds) {
+        Set<String> stubNodeIds = new HashSet<>();
+        List<String> hiddenEndIds = edges.stream()
+                .flatMap(edge -> List.of(edge.getSourceId(), edge.getTargetId()).stream())
+                .filter(nodeId -> !visibleNodeIds.contains(nodeId))
+                .toList();
+        if (!hiddenEndIds.isEmpty()) {
+            Map<String, String> parentIds = new HashMap<>();
+            diagram.getNodes().forEach(node -> this.collectParentIds(node, parentIds));
+            for (String hiddenEndId : hiddenEndIds) {
+                String nodeId = hiddenEndId;
+                while (nodeId != null && stubNodeIds.add(nodeId)) {
+                    nodeId = parentIds.get(nodeId);
+                }
+            }
+        }
+        return stubNodeIds;
+    }
+
+    private void collectParentIds(Node node, Map<String, String> parentIds) {
+        node.getBorderNodes().forEach(borderNode -> parentIds.put(borderNode.getId(), node.getId()));
+        node.getChildNodes().forEach(childNode -> parentIds.put(childNode.getId(), node.getId()));
+        node.getBorderNodes().forEach(borderNode -> this.collectParentIds(borderNode, parentIds));
+        node.getChildNodes().forEach(childNode -> this.collectParentIds(childNode, parentIds));
+    }
+
+    private List<Node> filterNodes(List<Node> nodes, Set<String> visibleNodeIds, Set<String> stubNodeIds) {
+        List<Node> visibleNodes = new ArrayList<>();
+        for (Node node : nodes) {
+            if (visibleNodeIds.contains(node.getId())) {
+                visibleNodes.add(this.filterChildNodes(node, visibleNodeIds, stubNodeIds));
+            } else if (stubNodeIds.contains(node.getId())) {
+                visibleNodes.add(Node.newNode(node)
+                        .borderNodes(this.filterNodes(node.getBorderNodes(), visibleNodeIds, stubNodeIds))
+                        .childNodes(this.filterNodes(node.getChildNodes(), visibleNodeIds, stubNodeIds))
+                        .build());
+            }
+        }
+        return visibleNodes;
+    }
+
+    private Node filterChildNodes(Node node, Set<String> visibleNodeIds, Set<String> stubNodeIds) {
+        List<Node> childNodes = this.filterNodes(node.getChildNodes(), visibleNodeIds, stubNodeIds);
+
+        Node visibleNode = node;
+        if (!childNodes.equals(node.getChildNodes())) {
+            visibleNode = Node.newNode(node)
+                    .childNodes(childNodes)
+                    .build();
+        }
+        return visibleNode;
+    }
+
+    private void collectNodeIds(Node node, Set<String> nodeIds) {
+        nodeIds.add(node.getId());
+        node.getBorderNodes().forEach(borderNode -> this.collectNodeIds(borderNode, nodeIds));
+        node.getChildNodes().forEach(childNode -> this.collectNodeIds(childNode, nodeIds));
+    }
+
+    private <T> Map<String, T> filterLayoutData(Map<String, T> layoutData, Set<String> visibleIds) {
+        return layoutData.entrySet().stream()
+                .filter(entry -> visibleIds.contains(entry.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * The viewport and the layout data used to filter the nodes along with the identifiers of the visible nodes found
+     * so far.
+     *
+     * @author sbegaudeau
+     */
+    private record FilteringContext(DiagramViewport viewport, Map<String, NodeLayoutData> nodeLayoutData, Set<String> visibleNodeIds) {
+    }
+}
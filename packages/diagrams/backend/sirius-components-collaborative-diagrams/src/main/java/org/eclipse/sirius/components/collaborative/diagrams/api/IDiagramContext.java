@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo and others.
+ * Copyright (c) 2019, 2025 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -43,6 +43,13 @@ public interface IDiagramContext {
 
     List<IDiagramEvent> getDiagramEvents();
 
+    /**
+     * Returns the palettes computed for the elements of the diagram.
+     *
+     * @return The palette cache of the diagram
+     */
+    PaletteCache getPaletteCache();
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -77,5 +84,10 @@ public interface IDiagramContext {
         public List<IDiagramEvent> getDiagramEvents() {
             return List.of();
         }
+
+        @Override
+        public PaletteCache getPaletteCache() {
+            return new PaletteCache();
+        }
     }
 }
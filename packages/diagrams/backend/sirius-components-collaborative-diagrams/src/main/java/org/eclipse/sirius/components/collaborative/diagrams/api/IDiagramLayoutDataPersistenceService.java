@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.api;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.events.ICause;
+
+/**
+ * Used to persist the layout data of a diagram without writing its whole content.
+ *
+ * <p>
+ * When no implementation can handle a diagram, the whole diagram is saved after each layout.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IDiagramLayoutDataPersistenceService {
+
+    boolean canHandle(IEditingContext editingContext, Diagram diagram);
+
+    /**
+     * Persists the layout data of the diagram which have changed.
+     *
+     * @param cause
+     *            The cause of the layout
+     * @param editingContext
+     *            The editing context
+     * @param diagram
+     *            The laid out diagram
+     * @param modifiedLayoutData
+     *            The layout data of the elements whose layout has changed
+     */
+    void save(ICause cause, IEditingContext editingContext, Diagram diagram, DiagramLayoutData modifiedLayoutData);
+}
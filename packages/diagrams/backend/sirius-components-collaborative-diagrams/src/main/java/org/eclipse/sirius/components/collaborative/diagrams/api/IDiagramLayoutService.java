@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.api;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+
+/**
+ * Used to compute the layout of the diagrams on the server instead of the browser.
+ *
+ * @author sbegaudeau
+ */
+public interface IDiagramLayoutService {
+
+    /**
+     * Indicates if the diagrams should be laid out on the server.
+     *
+     * @return <code>true</code> if the diagrams should be laid out by this service, <code>false</code> if the layout
+     *         should still be computed by the browser
+     */
+    boolean isEnabled();
+
+    /**
+     * Computes the layout of all the elements of the given diagram which are neither pinned nor border nodes.
+     *
+     * @param editingContext
+     *            The editing context
+     * @param diagram
+     *            The diagram to lay out
+     * @return The diagram with its new layout data
+     */
+    Diagram layout(IEditingContext editingContext, Diagram diagram);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author sbegaudeau
+     */
+    class NoOp implements IDiagramLayoutService {
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public Diagram layout(IEditingContext editingContext, Diagram diagram) {
+            return diagram;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams.api;
 
+import java.util.Optional;
+
 import org.eclipse.sirius.components.collaborative.diagrams.dto.Palette;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
@@ -27,4 +29,34 @@ public interface IPaletteProvider {
     boolean canHandle(DiagramDescription diagramDescription);
 
     Palette handle(Object targetElement, Object diagramElement, Object diagramElementDescription, DiagramDescription diagramDescription, IEditingContext editingContext);
+
+    /**
+     * Computes the structure of the palette of the diagram elements of the given description.
+     *
+     * <p>
+     * The structure can be reused for all the diagram elements of this description, it should thus not depend on a
+     * specific diagram element or target object. Providers which do not split the structure of their palettes from the
+     * evaluation of the preconditions of their tools return an empty optional.
+     * </p>
+     *
+     * @param diagramElementDescription
+     *            The description of the diagram element or the description of the diagram itself
+     * @param diagramDescription
+     *            The description of the diagram
+     * @param editingContext
+     *            The editing context
+     * @return The structure of the palette or an empty optional
+     */
+    default Optional<IPaletteStructure> getPaletteStructure(Object diagramElementDescription, DiagramDescription diagramDescription, IEditingContext editingContext) {
+        return Optional.empty();
+    }
+
+    /**
+     * Computes the palette of a diagram element from the structure of the palettes of its description, the
+     * preconditions of the tools are evaluated for this diagram element and its target object.
+     */
+    default Palette handle(IPaletteStructure paletteStructure, Object targetElement, Object diagramElement, Object diagramElementDescription, DiagramDescription diagramDescription,
+            IEditingContext editingContext) {
+        return this.handle(targetElement, diagramElement, diagramElementDescription, diagramDescription, editingContext);
+    }
 }
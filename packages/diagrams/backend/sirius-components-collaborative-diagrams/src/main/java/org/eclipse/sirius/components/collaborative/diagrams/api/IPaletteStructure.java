@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.api;
+
+/**
+ * The structure of the palette of the diagram elements of a description.
+ *
+ * <p>
+ * It holds the tools which may appear in the palette before the evaluation of their preconditions. It only depends on
+ * the descriptions and can thus be reused to compute the palette of all the diagram elements of this description.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IPaletteStructure {
+}
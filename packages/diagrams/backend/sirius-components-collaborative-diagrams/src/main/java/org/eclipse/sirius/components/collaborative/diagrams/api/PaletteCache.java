@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the structure of the palettes of the elements of a diagram to reuse it for each palette requested.
+ *
+ * <p>
+ * Only the structure of the palettes is cached, it is computed once for all the diagram elements of a description. The
+ * preconditions of the tools are evaluated again for each palette requested since they may depend on the target object
+ * of the diagram element, its content or anything else. Only the structures used the most recently are kept.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class PaletteCache {
+
+    public static final int MAX_SIZE = 256;
+
+    private final Map<PaletteKey, IPaletteStructure> paletteStructures = new LinkedHashMap<>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PaletteKey, IPaletteStructure> eldest) {
+            return this.size() > MAX_SIZE;
+        }
+    };
+
+    public synchronized Optional<IPaletteStructure> get(PaletteKey paletteKey) {
+        return Optional.ofNullable(this.paletteStructures.get(paletteKey));
+    }
+
+    public synchronized void put(PaletteKey paletteKey, IPaletteStructure paletteStructure) {
+        this.paletteStructures.put(paletteKey, paletteStructure);
+    }
+
+    public synchronized void clear() {
+        this.paletteStructures.clear();
+    }
+
+    public synchronized int size() {
+        return this.paletteStructures.size();
+    }
+
+    /**
+     * The key of the structure of a palette.
+     *
+     * <p>
+     * The descriptions are compared with their <code>equals</code> method, which is the identity for the descriptions
+     * which do not override it. A description created again is thus considered as a new one.
+     * </p>
+     *
+     * @param diagramDescription
+     *            The description of the diagram
+     * @param diagramElementDescription
+     *            The description of the diagram element or the description of the diagram itself
+     * @author sbegaudeau
+     */
+    public record PaletteKey(Object diagramDescription, Object diagramElementDescription) {
+    }
+}
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * A node added by the refresh of a diagram.
+ *
+ * @param parentId
+ *            The identifier of the parent node or null for the nodes added to the diagram itself
+ * @param index
+ *            The index of the node among the child nodes or the border nodes of its parent
+ * @param node
+ *            The node added with its subtree
+ * @author sbegaudeau
+ */
+public record AddedNode(String parentId, int index, Node node) {
+
+    public AddedNode {
+        Objects.requireNonNull(node);
+    }
+}
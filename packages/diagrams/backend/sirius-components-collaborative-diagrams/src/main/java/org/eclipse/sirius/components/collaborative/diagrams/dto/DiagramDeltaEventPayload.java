@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * Payload used to send the changes of a refreshed diagram to the subscriptions which have opted in for them.
+ *
+ * <p>
+ * It describes the changes between the diagram previously sent to the subscription and the refreshed diagram. The
+ * layout data only contains the layout of the elements which have been added or whose layout has been updated.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record DiagramDeltaEventPayload(UUID id, String diagramId, String cause, ReferencePosition referencePosition, NodesDelta nodes, EdgesDelta edges,
+        DiagramLayoutDataPayload layoutData) implements IPayload {
+
+    public DiagramDeltaEventPayload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(diagramId);
+        Objects.requireNonNull(cause);
+        Objects.requireNonNull(nodes);
+        Objects.requireNonNull(edges);
+        Objects.requireNonNull(layoutData);
+    }
+}
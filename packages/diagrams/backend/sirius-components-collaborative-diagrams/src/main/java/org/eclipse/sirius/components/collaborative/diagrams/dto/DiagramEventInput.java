@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,7 +19,21 @@ import org.eclipse.sirius.components.core.api.IInput;
 /**
  * The input of the diagram event subscription.
  *
+ * <p>
+ * An incremental subscription receives a {@link DiagramDeltaEventPayload} with the changes of each refresh instead of
+ * the whole diagram, once it has received the diagram itself. A subscription with a viewport only receives the
+ * elements of the diagram which are visible in it.
+ * </p>
+ *
  * @author sbegaudeau
  */
-public record DiagramEventInput(UUID id, String editingContextId, String diagramId) implements IInput {
+public record DiagramEventInput(UUID id, String editingContextId, String diagramId, boolean incremental, DiagramViewport viewport) implements IInput {
+
+    public DiagramEventInput(UUID id, String editingContextId, String diagramId) {
+        this(id, editingContextId, diagramId, false);
+    }
+
+    public DiagramEventInput(UUID id, String editingContextId, String diagramId, boolean incremental) {
+        this(id, editingContextId, diagramId, incremental, null);
+    }
 }
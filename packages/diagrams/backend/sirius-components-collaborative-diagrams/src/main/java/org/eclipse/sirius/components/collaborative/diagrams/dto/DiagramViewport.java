@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.List;
+
+/**
+ * The part of a diagram displayed by a client.
+ *
+ * <p>
+ * Only the nodes intersecting the given area are sent to a subscription scoped to this viewport. The children of a
+ * container are sent only if it is expanded and, when expanded node identifiers are given, if it is one of them.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record DiagramViewport(double x, double y, double width, double height, List<String> expandedNodeIds) {
+
+    public boolean intersects(double nodeX, double nodeY, double nodeWidth, double nodeHeight) {
+        return nodeX <= this.x + this.width && this.x <= nodeX + nodeWidth && nodeY <= this.y + this.height && this.y <= nodeY + nodeHeight;
+    }
+
+    public boolean isExpanded(String nodeId) {
+        return this.expandedNodeIds == null || this.expandedNodeIds.contains(nodeId);
+    }
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Edge;
+
+/**
+ * The edges added, updated and removed by the refresh of a diagram.
+ *
+ * @author sbegaudeau
+ */
+public record EdgesDelta(List<Edge> addedEdges, List<Edge> updatedEdges, List<String> removedEdgeIds) {
+
+    public EdgesDelta {
+        Objects.requireNonNull(addedEdges);
+        Objects.requireNonNull(updatedEdges);
+        Objects.requireNonNull(removedEdgeIds);
+    }
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * The nodes added, updated and removed by the refresh of a diagram.
+ *
+ * <p>
+ * The nodes added are sent with their whole subtree. The nodes updated are sent for their own properties, the
+ * identifiers of their child nodes and border nodes give the new order of their children. The nodes removed, along with
+ * their subtree, have to be removed before the nodes are added since a node moved to another parent is both removed
+ * and added.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record NodesDelta(List<AddedNode> addedNodes, List<Node> updatedNodes, List<String> removedNodeIds) {
+
+    public NodesDelta {
+        Objects.requireNonNull(addedNodes);
+        Objects.requireNonNull(updatedNodes);
+        Objects.requireNonNull(removedNodeIds);
+    }
+}
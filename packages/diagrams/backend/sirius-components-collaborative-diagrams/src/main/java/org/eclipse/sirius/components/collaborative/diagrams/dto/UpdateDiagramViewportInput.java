@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
+
+/**
+ * Input used to move the viewport of a diagram subscription.
+ *
+ * @author sbegaudeau
+ */
+public record UpdateDiagramViewportInput(UUID id, String editingContextId, String representationId, UUID subscriptionId, DiagramViewport viewport) implements IDiagramInput {
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 THALES GLOBAL SERVICES.
+ * Copyright (c) 2021, 2025 THALES GLOBAL SERVICES.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import org.eclipse.sirius.components.collaborative.diagrams.DiagramChangeKind;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutService;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ArrangeAllInput;
 import org.eclipse.sirius.components.collaborative.diagrams.messages.ICollaborativeDiagramMessageService;
 import org.eclipse.sirius.components.core.api.ErrorPayload;
@@ -38,6 +39,11 @@ import reactor.core.publisher.Sinks.One;
 /**
  * Handle the arrange all events.
  *
+ * <p>
+ * When the diagrams are laid out on the server, the new layout is computed right away and sent with the refreshed
+ * diagram, otherwise an event is added to the diagram to let the browser compute it.
+ * </p>
+ *
  * @author wpiers
  */
 @Service
@@ -45,10 +51,13 @@ public class ArrangeAllEventHandler implements IDiagramEventHandler {
 
     private final ICollaborativeDiagramMessageService messageService;
 
+    private final IDiagramLayoutService diagramLayoutService;
+
     private final Counter counter;
 
-    public ArrangeAllEventHandler(ICollaborativeDiagramMessageService messageService, MeterRegistry meterRegistry) {
+    public ArrangeAllEventHandler(ICollaborativeDiagramMessageService messageService, IDiagramLayoutService diagramLayoutService, MeterRegistry meterRegistry) {
         this.messageService = Objects.requireNonNull(messageService);
+        this.diagramLayoutService = Objects.requireNonNull(diagramLayoutService);
 
         // @formatter:off
         this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
@@ -71,7 +80,11 @@ public class ArrangeAllEventHandler implements IDiagramEventHandler {
         ChangeDescription changeDescription = new ChangeDescription(ChangeKind.NOTHING, diagramInput.representationId(), diagramInput);
 
         if (diagramInput instanceof ArrangeAllInput) {
-            diagramContext.getDiagramEvents().add(new ArrangeAllEvent());
+            if (this.diagramLayoutService.isEnabled()) {
+                diagramContext.update(this.diagramLayoutService.layout(editingContext, diagramContext.getDiagram()));
+            } else {
+                diagramContext.getDiagramEvents().add(new ArrangeAllEvent());
+            }
             payload = new SuccessPayload(diagramInput.id());
             changeDescription = new ChangeDescription(DiagramChangeKind.DIAGRAM_LAYOUT_CHANGE, diagramInput.representationId(), diagramInput);
         }
@@ -25,6 +25,9 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHan
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramQueryService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IPaletteProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IPaletteStructure;
+import org.eclipse.sirius.components.collaborative.diagrams.api.PaletteCache;
+import org.eclipse.sirius.components.collaborative.diagrams.api.PaletteCache.PaletteKey;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.GetPaletteInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.GetPaletteSuccessPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.Palette;
@@ -38,6 +41,7 @@ import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.Edge;
 import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.Counter;
@@ -48,6 +52,11 @@ import reactor.core.publisher.Sinks.One;
 /**
  * Handler used to get the tool sections.
  *
+ * <p>
+ * When the palette cache is enabled, the structure of the palettes of each description of diagram element is kept in
+ * the {@link PaletteCache} of the diagram. The preconditions of the tools are still evaluated for each palette requested.
+ * </p>
+ *
  * @author arichard
  */
 @Service
@@ -65,21 +74,31 @@ public class GetPaletteEventHandler implements IDiagramEventHandler {
 
     private final ICollaborativeMessageService messageService;
 
+    private final boolean paletteCacheEnabled;
+
     private final Counter counter;
 
-    public GetPaletteEventHandler(IRepresentationDescriptionSearchService representationDescriptionSearchService, IDiagramQueryService diagramQueryService,
-            IDiagramDescriptionService diagramDescriptionService, IObjectSearchService objectSearchService, List<IPaletteProvider> toolSectionsProviders, ICollaborativeMessageService messageService,
-            MeterRegistry meterRegistry) {
-        this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
-        this.diagramQueryService = Objects.requireNonNull(diagramQueryService);
-        this.diagramDescriptionService = Objects.requireNonNull(diagramDescriptionService);
-        this.objectSearchService = Objects.requireNonNull(objectSearchService);
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    public GetPaletteEventHandler(GetPaletteEventHandlerParameters parameters, List<IPaletteProvider> toolSectionsProviders, ICollaborativeMessageService messageService,
+            @Value("${sirius.components.diagrams.paletteCache.enabled:false}") boolean paletteCacheEnabled, MeterRegistry meterRegistry) {
+        this.representationDescriptionSearchService = parameters.representationDescriptionSearchService();
+        this.diagramQueryService = parameters.diagramQueryService();
+        this.diagramDescriptionService = parameters.diagramDescriptionService();
+        this.objectSearchService = parameters.objectSearchService();
         this.toolSectionsProviders = Objects.requireNonNull(toolSectionsProviders);
         this.messageService = Objects.requireNonNull(messageService);
+        this.paletteCacheEnabled = paletteCacheEnabled;
 
         this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
                 .tag(Monitoring.NAME, this.getClass().getSimpleName())
                 .register(meterRegistry);
+        this.hitCounter = Counter.builder(Monitoring.PALETTE_CACHE_HITS)
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(Monitoring.PALETTE_CACHE_MISSES)
+                .register(meterRegistry);
     }
 
     @Override
@@ -113,8 +132,21 @@ public class GetPaletteEventHandler implements IDiagramEventHandler {
 
                 if (optionalToolSectionsProvider.isPresent() && optionalTargetElement.isPresent() && optionalDiagramElementDescription.isPresent()) {
                     IPaletteProvider toolSectionsProvider = optionalToolSectionsProvider.get();
-                    palette = toolSectionsProvider.handle(optionalTargetElement.get(), optionalDiagramElement.orElse(null), optionalDiagramElementDescription.get(),
-                            diagramDescription, editingContext);
+                    Object targetElement = optionalTargetElement.get();
+                    Object diagramElement = optionalDiagramElement.orElse(null);
+                    Object diagramElementDescription = optionalDiagramElementDescription.get();
+
+                    Optional<IPaletteStructure> optionalPaletteStructure = Optional.empty();
+                    if (this.paletteCacheEnabled) {
+                        var paletteKey = new PaletteKey(diagramDescription, diagramElementDescription);
+                        optionalPaletteStructure = this.getPaletteStructure(diagramContext.getPaletteCache(), paletteKey, toolSectionsProvider, diagramDescription, editingContext);
+                    }
+
+                    if (optionalPaletteStructure.isPresent()) {
+                        palette = toolSectionsProvider.handle(optionalPaletteStructure.get(), targetElement, diagramElement, diagramElementDescription, diagramDescription, editingContext);
+                    } else {
+                        palette = toolSectionsProvider.handle(targetElement, diagramElement, diagramElementDescription, diagramDescription, editingContext);
+                    }
                 }
             }
         }
@@ -125,6 +157,19 @@ public class GetPaletteEventHandler implements IDiagramEventHandler {
         changeDescriptionSink.tryEmitNext(changeDescription);
     }
 
+    private Optional<IPaletteStructure> getPaletteStructure(PaletteCache paletteCache, PaletteKey paletteKey, IPaletteProvider paletteProvider, DiagramDescription diagramDescription,
+            IEditingContext editingContext) {
+        var optionalPaletteStructure = paletteCache.get(paletteKey);
+        if (optionalPaletteStructure.isPresent()) {
+            this.hitCounter.increment();
+        } else {
+            this.missCounter.increment();
+            optionalPaletteStructure = paletteProvider.getPaletteStructure(paletteKey.diagramElementDescription(), diagramDescription, editingContext);
+            optionalPaletteStructure.ifPresent(paletteStructure -> paletteCache.put(paletteKey, paletteStructure));
+        }
+        return optionalPaletteStructure;
+    }
+
     private Optional<Object> findDiagramElement(Diagram diagram, String diagramElementId) {
         Object diagramElement = null;
         if (diagram.getId().equals(diagramElementId)) {
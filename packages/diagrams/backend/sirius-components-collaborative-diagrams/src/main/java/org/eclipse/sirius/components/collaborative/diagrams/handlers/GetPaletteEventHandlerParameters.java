@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.handlers;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramDescriptionService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramQueryService;
+import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bundles the bean dependencies that {@link GetPaletteEventHandler} needs into a single object for convenience.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public record GetPaletteEventHandlerParameters(IRepresentationDescriptionSearchService representationDescriptionSearchService, IDiagramQueryService diagramQueryService,
+        IDiagramDescriptionService diagramDescriptionService, IObjectSearchService objectSearchService) {
+
+    public GetPaletteEventHandlerParameters {
+        Objects.requireNonNull(representationDescriptionSearchService);
+        Objects.requireNonNull(diagramQueryService);
+        Objects.requireNonNull(diagramDescriptionService);
+        Objects.requireNonNull(objectSearchService);
+    }
+}
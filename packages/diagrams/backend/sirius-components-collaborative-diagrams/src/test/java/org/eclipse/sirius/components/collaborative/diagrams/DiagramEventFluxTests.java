@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.AddedNode;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramViewport;
+import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.InsideLabel;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+
+/**
+ * Tests of the diagram event flux and of the changes sent to the incremental subscriptions.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramEventFluxTests {
+
+    private static final String DIAGRAM_ID = "diagramId";
+
+    private static final String NODE_ID = "nodeId";
+
+    private static final String CHILD_NODE_ID = "childNodeId";
+
+    private static final String OTHER_NODE_ID = "otherNodeId";
+
+    private static final String EDGE_ID = "edgeId";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    public void givenTwoDiagramsWhenTheirDeltaIsCalculatedThenOnlyTheChangesAreReturned() {
+        TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+        Node childNode = testDiagramBuilder.getNode(CHILD_NODE_ID, true);
+        Node node = Node.newNode(testDiagramBuilder.getNode(NODE_ID, true))
+                .childNodes(List.of(childNode))
+                .build();
+        Node otherNode = testDiagramBuilder.getNode(OTHER_NODE_ID, true);
+        Diagram previousDiagram = Diagram.newDiagram(testDiagramBuilder.getDiagram(DIAGRAM_ID))
+                .nodes(List.of(node, otherNode))
+                .edges(List.of(testDiagramBuilder.getEdge(EDGE_ID, NODE_ID, OTHER_NODE_ID)))
+                .build();
+
+        Node renamedChildNode = Node.newNode(childNode)
+                .insideLabel(InsideLabel.newInsideLabel(childNode.getInsideLabel()).text("renamed").build())
+                .build();
+        Node newNode = Node.newNode(node)
+                .childNodes(List.of(renamedChildNode))
+                .build();
+        Node addedNode = testDiagramBuilder.getNode("addedNodeId", true);
+        var addedNodeLayoutData = new NodeLayoutData(addedNode.getId(), new Position(10, 10), new Size(100, 50), false);
+        Diagram newDiagram = Diagram.newDiagram(previousDiagram)
+                .nodes(List.of(newNode, addedNode))
+                .edges(List.of())
+                .layoutData(new DiagramLayoutData(Map.of(addedNode.getId(), addedNodeLayoutData), Map.of(), Map.of()))
+                .build();
+
+        var delta = new DiagramDeltaCalculator().calculate(UUID.randomUUID(), previousDiagram, newDiagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, null);
+
+        assertThat(delta.diagramId()).isEqualTo(DIAGRAM_ID);
+        assertThat(delta.nodes().addedNodes()).containsExactly(new AddedNode(null, 1, addedNode));
+        assertThat(delta.nodes().updatedNodes()).containsExactly(renamedChildNode);
+        assertThat(delta.nodes().removedNodeIds()).containsExactly(OTHER_NODE_ID);
+        assertThat(delta.edges().addedEdges()).isEmpty();
+        assertThat(delta.edges().updatedEdges()).isEmpty();
+        assertThat(delta.edges().removedEdgeIds()).containsExactly(EDGE_ID);
+        assertThat(delta.layoutData().nodeLayoutData()).containsExactly(addedNodeLayoutData);
+    }
+
+    @Test
+    public void givenAnIncrementalSubscriptionWhenTheDiagramIsRefreshedThenItReceivesTheChangesAfterTheWholeDiagram() {
+        TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+        Diagram initialDiagram = testDiagramBuilder.getDiagram(DIAGRAM_ID);
+        Diagram refreshedDiagram = Diagram.newDiagram(initialDiagram)
+                .nodes(List.of(testDiagramBuilder.getNode(NODE_ID, true)))
+                .build();
+
+        DiagramEventFlux diagramEventFlux = new DiagramEventFlux(initialDiagram);
+        Runnable refresh = () -> diagramEventFlux.diagramRefreshed(UUID.randomUUID(), refreshedDiagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, null);
+
+        StepVerifier.create(diagramEventFlux.getFlux(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH, true))
+                .expectNextMatches(payload -> payload instanceof DiagramRefreshedEventPayload diagramRefreshedEventPayload && diagramRefreshedEventPayload.diagram() == initialDiagram)
+                .then(refresh)
+                .expectNextMatches(payload -> payload instanceof DiagramDeltaEventPayload diagramDeltaEventPayload
+                        && diagramDeltaEventPayload.nodes().addedNodes().size() == 1)
+                .thenCancel()
+                .verify(TIMEOUT);
+
+        StepVerifier.create(diagramEventFlux.getFlux(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH))
+                .expectNextMatches(DiagramRefreshedEventPayload.class::isInstance)
+                .then(refresh)
+                .expectNextMatches(DiagramRefreshedEventPayload.class::isInstance)
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    public void givenASubscriptionScopedToAViewportWhenTheViewportMovesThenItReceivesTheNodesWhichHaveBecomeVisible() {
+        TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+        var nodeLayoutData = Map.of(
+                NODE_ID, new NodeLayoutData(NODE_ID, new Position(0, 0), new Size(100, 50), false),
+                OTHER_NODE_ID, new NodeLayoutData(OTHER_NODE_ID, new Position(1000, 0), new Size(100, 50), false)
+        );
+        Diagram diagram = Diagram.newDiagram(testDiagramBuilder.getDiagram(DIAGRAM_ID))
+                .nodes(List.of(testDiagramBuilder.getNode(NODE_ID, true), testDiagramBuilder.getNode(OTHER_NODE_ID, true)))
+                .layoutData(new DiagramLayoutData(nodeLayoutData, Map.of(), Map.of()))
+                .build();
+
+        DiagramEventFlux diagramEventFlux = new DiagramEventFlux(diagram);
+        UUID subscriptionId = UUID.randomUUID();
+        Runnable moveViewport = () -> diagramEventFlux.viewportUpdated(subscriptionId, UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_LAYOUT, new DiagramViewport(0, 0, 2000, 500, null));
+        Runnable moveOtherViewport = () -> diagramEventFlux.viewportUpdated(UUID.randomUUID(), UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_LAYOUT, new DiagramViewport(0, 0, 0, 0, null));
+
+        var flux = diagramEventFlux.getFlux(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH, subscriptionId, new DiagramViewport(0, 0, 500, 500, null), true);
+        StepVerifier.create(flux)
+                .expectNextMatches(payload -> payload instanceof DiagramRefreshedEventPayload diagramRefreshedEventPayload
+                        && diagramRefreshedEventPayload.diagram().getNodes().size() == 1)
+                .then(moveOtherViewport)
+                .then(moveViewport)
+                .expectNextMatches(payload -> payload instanceof DiagramDeltaEventPayload diagramDeltaEventPayload
+                        && diagramDeltaEventPayload.nodes().addedNodes().size() == 1
+                        && diagramDeltaEventPayload.nodes().addedNodes().get(0).node().getId().equals(OTHER_NODE_ID))
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
@@ -23,8 +29,12 @@ import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPol
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutDataPersistenceService;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramLayoutDataInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.LayoutDiagramInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeLayoutDataInput;
 import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
 import org.eclipse.sirius.components.collaborative.representations.SubscriptionManager;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -34,8 +44,15 @@ import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchSe
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.InsideLabel;
 import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.components.representations.IRepresentation;
 import org.junit.jupiter.api.Test;
 
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 /**
@@ -146,18 +163,98 @@ public class DiagramEventProcessorTests {
                 .verify();
     }
 
+    @Test
+    public void givenALayoutDataPersistenceServiceWhenTheDiagramIsLaidOutThenOnlyItsModifiedLayoutDataAreSaved() {
+        AtomicInteger representationSaveCount = new AtomicInteger();
+        IRepresentationPersistenceService representationPersistenceService = new IRepresentationPersistenceService.NoOp() {
+            @Override
+            public void save(ICause cause, IEditingContext editingContext, IRepresentation representation) {
+                representationSaveCount.incrementAndGet();
+            }
+        };
+
+        List<DiagramLayoutData> savedLayoutData = new ArrayList<>();
+        IDiagramLayoutDataPersistenceService diagramLayoutDataPersistenceService = new IDiagramLayoutDataPersistenceService() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, Diagram diagram) {
+                return true;
+            }
+
+            @Override
+            public void save(ICause cause, IEditingContext editingContext, Diagram diagram, DiagramLayoutData modifiedLayoutData) {
+                savedLayoutData.add(modifiedLayoutData);
+            }
+        };
+
+        DiagramEventProcessor diagramEventProcessor = this.createDiagramEventProcessor(representationPersistenceService, List.of(diagramLayoutDataPersistenceService));
+        assertThat(representationSaveCount.get()).isEqualTo(1);
+
+        var nodeLayoutDataInput = new NodeLayoutDataInput(INITIAL_TEST_NODE.getId(), new Position(10, 20), new Size(100, 50), false);
+        var input = new LayoutDiagramInput(UUID.randomUUID(), UUID.randomUUID().toString(), DIAGRAM_ID, LayoutDiagramInput.CAUSE_LAYOUT, new DiagramLayoutDataInput(List.of(nodeLayoutDataInput), List.of()));
+        diagramEventProcessor.handle(Sinks.one(), Sinks.many().unicast().onBackpressureBuffer(), input);
+
+        assertThat(representationSaveCount.get()).isEqualTo(1);
+        assertThat(savedLayoutData).hasSize(1);
+        assertThat(savedLayoutData.get(0).nodeLayoutData()).containsOnlyKeys(INITIAL_TEST_NODE.getId());
+        assertThat(savedLayoutData.get(0).edgeLayoutData()).isEmpty();
+    }
+
+    @Test
+    public void givenAClientDisplayingTheWholeDiagramWhenTheDiagramIsLaidOutThenItsLayoutDataReplaceTheLayoutDataOfTheDiagram() {
+        var previousLayoutData = new DiagramLayoutData(Map.of(
+                INITIAL_TEST_NODE.getId(), new NodeLayoutData(INITIAL_TEST_NODE.getId(), new Position(0, 0), new Size(10, 10), false),
+                "removedNodeId", new NodeLayoutData("removedNodeId", new Position(0, 0), new Size(10, 10), false)
+        ), Map.of(), Map.of());
+        var diagram = Diagram.newDiagram(INITIAL_TEST_DIAGRAM)
+                .layoutData(previousLayoutData)
+                .build();
+
+        AtomicReference<Diagram> currentDiagram = new AtomicReference<>(diagram);
+        IDiagramContext statefulDiagramContext = new IDiagramContext.NoOp() {
+            @Override
+            public Diagram getDiagram() {
+                return currentDiagram.get();
+            }
+
+            @Override
+            public void update(Diagram updatedDiagram) {
+                currentDiagram.set(updatedDiagram);
+            }
+        };
+        DiagramEventProcessor diagramEventProcessor = this.createDiagramEventProcessor(new MockDiagramCreationService(diagram), statefulDiagramContext, new IRepresentationPersistenceService.NoOp(), List.of());
+
+        var nodeLayoutDataInput = new NodeLayoutDataInput(INITIAL_TEST_NODE.getId(), new Position(10, 20), new Size(100, 50), false);
+        var input = new LayoutDiagramInput(UUID.randomUUID(), UUID.randomUUID().toString(), DIAGRAM_ID, LayoutDiagramInput.CAUSE_LAYOUT, new DiagramLayoutDataInput(List.of(nodeLayoutDataInput), List.of()));
+        diagramEventProcessor.handle(Sinks.one(), Sinks.many().unicast().onBackpressureBuffer(), input);
+
+        var nodeLayoutData = currentDiagram.get().getLayoutData().nodeLayoutData();
+        assertThat(nodeLayoutData).containsOnlyKeys(INITIAL_TEST_NODE.getId());
+        assertThat(nodeLayoutData.get(INITIAL_TEST_NODE.getId()).position()).isEqualTo(new Position(10, 20));
+        assertThat(nodeLayoutData.get(INITIAL_TEST_NODE.getId()).size()).isEqualTo(new Size(100, 50));
+    }
+
     private DiagramEventProcessor createDiagramEventProcessor() {
+        return this.createDiagramEventProcessor(new IRepresentationPersistenceService.NoOp(), List.of());
+    }
+
+    private DiagramEventProcessor createDiagramEventProcessor(IRepresentationPersistenceService representationPersistenceService, List<IDiagramLayoutDataPersistenceService> diagramLayoutDataPersistenceServices) {
+        return this.createDiagramEventProcessor(this.diagramCreationService, this.diagramContext, representationPersistenceService, diagramLayoutDataPersistenceServices);
+    }
+
+    private DiagramEventProcessor createDiagramEventProcessor(IDiagramCreationService creationService, IDiagramContext context, IRepresentationPersistenceService representationPersistenceService,
+            List<IDiagramLayoutDataPersistenceService> diagramLayoutDataPersistenceServices) {
         var parameters = DiagramEventProcessorParameters.newDiagramEventProcessorParameters()
                 .editingContext(new IEditingContext.NoOp())
-                .diagramContext(this.diagramContext)
+                .diagramContext(context)
                 .diagramEventHandlers(List.of())
                 .subscriptionManager(new SubscriptionManager())
-                .diagramCreationService(this.diagramCreationService)
+                .diagramCreationService(creationService)
                 .representationDescriptionSearchService(new IRepresentationDescriptionSearchService.NoOp())
                 .representationRefreshPolicyRegistry(new IRepresentationRefreshPolicyRegistry.NoOp())
                 .representationSearchService(new IRepresentationSearchService.NoOp())
-                .representationPersistenceService(new IRepresentationPersistenceService.NoOp())
+                .representationPersistenceService(representationPersistenceService)
                 .diagramInputReferencePositionProviders(List.of())
+                .diagramLayoutDataPersistenceServices(diagramLayoutDataPersistenceServices)
                 .build();
         return new DiagramEventProcessor(parameters);
     }
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Label;
+import org.eclipse.sirius.components.diagrams.LabelOverflowStrategy;
+import org.eclipse.sirius.components.diagrams.LabelStyle;
+import org.eclipse.sirius.components.diagrams.LabelTextAlign;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.OutsideLabel;
+import org.eclipse.sirius.components.diagrams.OutsideLabelLocation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the diagram query service.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramQueryServiceTests {
+
+    private static final String NODE_ID = "nodeId";
+
+    private static final String CHILD_NODE_ID = "childNodeId";
+
+    private static final String BORDER_NODE_ID = "borderNodeId";
+
+    private static final String EDGE_ID = "edgeId";
+
+    private static final String OUTSIDE_LABEL_ID = "outsideLabelId";
+
+    private static final String CENTER_LABEL_ID = "centerLabelId";
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    @Test
+    public void givenADiagramWhenItsElementsAreSearchedThenTheNestedNodesEdgesAndLabelsAreFound() {
+        Diagram diagram = this.getDiagram();
+        Node node = diagram.getNodes().get(0);
+        Node childNode = node.getChildNodes().get(0);
+        Node borderNode = childNode.getBorderNodes().get(0);
+        Edge edge = diagram.getEdges().get(0);
+
+        var diagramQueryService = new DiagramQueryService();
+
+        assertThat(diagramQueryService.findNodeById(diagram, NODE_ID)).containsSame(node);
+        assertThat(diagramQueryService.findNodeById(diagram, CHILD_NODE_ID)).containsSame(childNode);
+        assertThat(diagramQueryService.findNodeById(diagram, BORDER_NODE_ID)).containsSame(borderNode);
+        assertThat(diagramQueryService.findNodeById(diagram, EDGE_ID)).isEmpty();
+        assertThat(diagramQueryService.findNodeByLabelId(diagram, node.getInsideLabel().getId())).containsSame(node);
+        assertThat(diagramQueryService.findNodeByLabelId(diagram, OUTSIDE_LABEL_ID)).containsSame(borderNode);
+        assertThat(diagramQueryService.findEdgeById(diagram, EDGE_ID)).containsSame(edge);
+        assertThat(diagramQueryService.findEdgeById(diagram, NODE_ID)).isEmpty();
+        assertThat(diagramQueryService.findEdgeByLabelId(diagram, CENTER_LABEL_ID)).containsSame(edge);
+    }
+
+    @Test
+    public void givenANewDiagramInstanceWhenItsElementsAreSearchedThenTheElementsOfThisInstanceAreFound() {
+        Diagram diagram = this.getDiagram();
+        var diagramQueryService = new DiagramQueryService();
+        assertThat(diagramQueryService.findNodeById(diagram, NODE_ID)).isPresent();
+
+        Node newNode = this.testDiagramBuilder.getNode(NODE_ID, true);
+        Diagram newDiagram = Diagram.newDiagram(diagram)
+                .nodes(List.of(newNode))
+                .edges(List.of())
+                .build();
+
+        assertThat(diagramQueryService.findNodeById(newDiagram, NODE_ID)).containsSame(newNode);
+        assertThat(diagramQueryService.findNodeById(newDiagram, CHILD_NODE_ID)).isEmpty();
+        assertThat(diagramQueryService.findEdgeById(newDiagram, EDGE_ID)).isEmpty();
+        assertThat(diagramQueryService.findNodeById(diagram, CHILD_NODE_ID)).isPresent();
+    }
+
+    private Diagram getDiagram() {
+        LabelStyle labelStyle = LabelStyle.newLabelStyle()
+                .color("#000000")
+                .fontSize(16)
+                .iconURL(List.of())
+                .background("transparent")
+                .borderColor("black")
+                .borderSize(0)
+                .borderStyle(LineStyle.Solid)
+                .build();
+        var outsideLabel = new OutsideLabel(OUTSIDE_LABEL_ID, "text", OutsideLabelLocation.BOTTOM_MIDDLE, labelStyle, LabelOverflowStrategy.NONE, LabelTextAlign.CENTER);
+        Node borderNode = this.testDiagramBuilder.getNodeWithOutsideLabels(BORDER_NODE_ID, false, List.of(outsideLabel));
+        Node childNode = Node.newNode(this.testDiagramBuilder.getNode(CHILD_NODE_ID, true))
+                .borderNodes(List.of(borderNode))
+                .build();
+        Node node = Node.newNode(this.testDiagramBuilder.getNode(NODE_ID, true))
+                .childNodes(List.of(childNode))
+                .build();
+
+        Label centerLabel = Label.newLabel(CENTER_LABEL_ID)
+                .type("labelType")
+                .text("text")
+                .style(labelStyle)
+                .build();
+        Edge edge = Edge.newEdge(this.testDiagramBuilder.getEdge(EDGE_ID, NODE_ID, BORDER_NODE_ID))
+                .centerLabel(centerLabel)
+                .build();
+
+        return Diagram.newDiagram(this.testDiagramBuilder.getDiagram("diagramId"))
+                .nodes(List.of(node))
+                .edges(List.of(edge))
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramViewport;
+import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the computation of the part of a diagram visible in a viewport.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramViewportFilterTests {
+
+    private static final String CONTAINER_ID = "containerId";
+
+    private static final String VISIBLE_CHILD_ID = "visibleChildId";
+
+    private static final String HIDDEN_CHILD_ID = "hiddenChildId";
+
+    private static final String FAR_NODE_ID = "farNodeId";
+
+    private static final String FAR_CHILD_ID = "farChildId";
+
+    private static final String BORDER_NODE_ID = "borderNodeId";
+
+    private static final String VISIBLE_EDGE_ID = "visibleEdgeId";
+
+    private static final String HIDDEN_EDGE_ID = "hiddenEdgeId";
+
+    private static final String BORDER_EDGE_ID = "borderEdgeId";
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    @Test
+    public void givenAViewportWhenTheDiagramIsFilteredThenTheVisibleElementsAndTheEdgesReachingThemAreKept() {
+        Diagram diagram = this.getDiagram(CollapsingState.EXPANDED);
+
+        Diagram visibleDiagram = new DiagramViewportFilter().filter(diagram, new DiagramViewport(0, 0, 200, 200, null));
+
+        assertThat(visibleDiagram.getNodes()).extracting(Node::getId).containsExactly(CONTAINER_ID, FAR_NODE_ID);
+        Node container = visibleDiagram.getNodes().get(0);
+        assertThat(container.getChildNodes()).extracting(Node::getId).containsExactly(VISIBLE_CHILD_ID, HIDDEN_CHILD_ID);
+        assertThat(container.getBorderNodes()).extracting(Node::getId).containsExactly(BORDER_NODE_ID);
+        assertThat(container.getChildNodes().get(0)).isSameAs(diagram.getNodes().get(0).getChildNodes().get(0));
+        assertThat(visibleDiagram.getEdges()).extracting(Edge::getId).containsExactly(VISIBLE_EDGE_ID, HIDDEN_EDGE_ID, BORDER_EDGE_ID);
+    }
+
+    @Test
+    public void givenAnEdgeWithOneVisibleEndWhenTheDiagramIsFilteredThenItsOtherEndIsKeptAsAStub() {
+        Diagram diagram = this.getDiagram(CollapsingState.EXPANDED);
+
+        Diagram visibleDiagram = new DiagramViewportFilter().filter(diagram, new DiagramViewport(0, 0, 200, 200, null));
+
+        Node farNode = visibleDiagram.getNodes().get(1);
+        assertThat(farNode.getId()).isEqualTo(FAR_NODE_ID);
+        assertThat(farNode.getChildNodes()).isEmpty();
+        assertThat(visibleDiagram.getLayoutData().nodeLayoutData()).containsOnlyKeys(CONTAINER_ID, VISIBLE_CHILD_ID, HIDDEN_CHILD_ID, FAR_NODE_ID);
+    }
+
+    @Test
+    public void givenAnEdgeWithoutVisibleEndWhenTheDiagramIsFilteredThenItIsRemoved() {
+        Diagram diagram = this.getDiagram(CollapsingState.EXPANDED);
+
+        Diagram visibleDiagram = new DiagramViewportFilter().filter(diagram, new DiagramViewport(500, 0, 100, 100, null));
+
+        assertThat(visibleDiagram.getNodes()).isEmpty();
+        assertThat(visibleDiagram.getEdges()).isEmpty();
+        assertThat(visibleDiagram.getLayoutData().nodeLayoutData()).isEmpty();
+    }
+
+    @Test
+    public void givenAViewportWithExpandedNodesWhenTheDiagramIsFilteredThenTheChildrenOfTheOtherNodesAreOnlyKeptAsEndsOfEdges() {
+        Diagram diagram = this.getDiagram(CollapsingState.EXPANDED);
+
+        Diagram visibleDiagram = new DiagramViewportFilter().filter(diagram, new DiagramViewport(0, 0, 2000, 2000, List.of()));
+
+        assertThat(visibleDiagram.getNodes()).extracting(Node::getId).containsExactly(CONTAINER_ID, FAR_NODE_ID);
+        assertThat(visibleDiagram.getNodes().get(0).getChildNodes()).extracting(Node::getId).containsExactly(VISIBLE_CHILD_ID);
+        assertThat(visibleDiagram.getNodes().get(1).getChildNodes()).isEmpty();
+        assertThat(visibleDiagram.getEdges()).extracting(Edge::getId).containsExactly(VISIBLE_EDGE_ID, BORDER_EDGE_ID);
+    }
+
+    @Test
+    public void givenACollapsedNodeWhenTheDiagramIsFilteredThenItsChildrenAreOnlyKeptAsEndsOfEdges() {
+        Diagram diagram = this.getDiagram(CollapsingState.COLLAPSED);
+
+        Diagram visibleDiagram = new DiagramViewportFilter().filter(diagram, new DiagramViewport(0, 0, 2000, 2000, null));
+
+        assertThat(visibleDiagram.getNodes().get(0).getChildNodes()).extracting(Node::getId).containsExactly(VISIBLE_CHILD_ID);
+    }
+
+    @Test
+    public void givenAViewportContainingTheWholeDiagramWhenTheDiagramIsFilteredThenItIsKeptAsIs() {
+        Diagram diagram = this.getDiagram(CollapsingState.EXPANDED);
+
+        Diagram visibleDiagram = new DiagramViewportFilter().filter(diagram, new DiagramViewport(-100, -100, 2000, 2000, null));
+
+        assertThat(visibleDiagram).isSameAs(diagram);
+    }
+
+    private Diagram getDiagram(CollapsingState collapsingState) {
+        Node container = Node.newNode(this.testDiagramBuilder.getNode(CONTAINER_ID, true))
+                .collapsingState(collapsingState)
+                .borderNodes(List.of(this.testDiagramBuilder.getNode(BORDER_NODE_ID, false)))
+                .childNodes(List.of(
+                        this.testDiagramBuilder.getNode(VISIBLE_CHILD_ID, true),
+                        this.testDiagramBuilder.getNode(HIDDEN_CHILD_ID, true)
+                ))
+                .build();
+        Node farNode = Node.newNode(this.testDiagramBuilder.getNode(FAR_NODE_ID, true))
+                .childNodes(List.of(this.testDiagramBuilder.getNode(FAR_CHILD_ID, true)))
+                .build();
+
+        var nodeLayoutData = Map.of(
+                CONTAINER_ID, this.getNodeLayoutData(CONTAINER_ID, 0, 0, 400),
+                VISIBLE_CHILD_ID, this.getNodeLayoutData(VISIBLE_CHILD_ID, 10, 10, 50),
+                HIDDEN_CHILD_ID, this.getNodeLayoutData(HIDDEN_CHILD_ID, 300, 300, 50),
+                FAR_NODE_ID, this.getNodeLayoutData(FAR_NODE_ID, 1000, 1000, 100),
+                FAR_CHILD_ID, this.getNodeLayoutData(FAR_CHILD_ID, 10, 10, 50)
+        );
+
+        return Diagram.newDiagram(this.testDiagramBuilder.getDiagram("diagramId"))
+                .nodes(List.of(container, farNode))
+                .edges(List.of(
+                        this.testDiagramBuilder.getEdge(VISIBLE_EDGE_ID, VISIBLE_CHILD_ID, BORDER_NODE_ID),
+                        this.testDiagramBuilder.getEdge(HIDDEN_EDGE_ID, VISIBLE_CHILD_ID, HIDDEN_CHILD_ID),
+                        this.testDiagramBuilder.getEdge(BORDER_EDGE_ID, BORDER_NODE_ID, FAR_NODE_ID)
+                ))
+                .layoutData(new DiagramLayoutData(nodeLayoutData, Map.of(), Map.of()))
+                .build();
+    }
+
+    private NodeLayoutData getNodeLayoutData(String id, double x, double y, double size) {
+        return new NodeLayoutData(id, new Position(x, y), new Size(size, size), false);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,17 +14,22 @@ package org.eclipse.sirius.components.collaborative.diagrams.handlers;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.diagrams.DiagramChangeKind;
 import org.eclipse.sirius.components.collaborative.diagrams.DiagramContext;
+import org.eclipse.sirius.components.collaborative.diagrams.DiagramLayoutService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutService;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ArrangeAllInput;
 import org.eclipse.sirius.components.collaborative.diagrams.messages.ICollaborativeDiagramMessageService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.events.ArrangeAllEvent;
 import org.junit.jupiter.api.Test;
 
@@ -39,9 +44,14 @@ import reactor.core.publisher.Sinks.One;
  * @author sbegaudeau
  */
 public class ArrangeAllEventHandlerTests {
+
+    private static final String SOURCE_NODE_ID = "sourceNodeId";
+
+    private static final String TARGET_NODE_ID = "targetNodeId";
+
     @Test
     public void testArrangeAll() {
-        var handler = new ArrangeAllEventHandler(new ICollaborativeDiagramMessageService.NoOp(), new SimpleMeterRegistry());
+        var handler = new ArrangeAllEventHandler(new ICollaborativeDiagramMessageService.NoOp(), new IDiagramLayoutService.NoOp(), new SimpleMeterRegistry());
         var input = new ArrangeAllInput(UUID.randomUUID(), "editingContextId", "representationId");
 
         assertThat(handler.canHandle(input)).isTrue();
@@ -61,4 +71,32 @@ public class ArrangeAllEventHandlerTests {
         assertThat(diagramContext.getDiagramEvents()).hasSize(1);
         assertThat(diagramContext.getDiagramEvents().get(0)).isInstanceOf(ArrangeAllEvent.class);
     }
+
+    @Test
+    public void testArrangeAllOnTheServer() {
+        var diagramLayoutService = new DiagramLayoutService(new IRepresentationDescriptionSearchService.NoOp(), true, new SimpleMeterRegistry());
+        var handler = new ArrangeAllEventHandler(new ICollaborativeDiagramMessageService.NoOp(), diagramLayoutService, new SimpleMeterRegistry());
+        var input = new ArrangeAllInput(UUID.randomUUID(), "editingContextId", "representationId");
+
+        TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+        Diagram diagram = Diagram.newDiagram(testDiagramBuilder.getDiagram(UUID.randomUUID().toString()))
+                .nodes(List.of(testDiagramBuilder.getNode(SOURCE_NODE_ID, true), testDiagramBuilder.getNode(TARGET_NODE_ID, true)))
+                .edges(List.of(testDiagramBuilder.getEdge("edgeId", SOURCE_NODE_ID, TARGET_NODE_ID)))
+                .build();
+
+        One<IPayload> payloadSink = Sinks.one();
+        Many<ChangeDescription> changeDescriptionSink = Sinks.many().unicast().onBackpressureBuffer();
+        IDiagramContext diagramContext = new DiagramContext(diagram);
+
+        handler.handle(payloadSink, changeDescriptionSink, new IEditingContext.NoOp(), diagramContext, input);
+
+        ChangeDescription changeDescription = changeDescriptionSink.asFlux().blockFirst();
+        assertThat(changeDescription.getKind()).isEqualTo(DiagramChangeKind.DIAGRAM_LAYOUT_CHANGE);
+        assertThat(payloadSink.asMono().block()).isInstanceOf(SuccessPayload.class);
+
+        assertThat(diagramContext.getDiagramEvents()).isEmpty();
+        var nodeLayoutData = diagramContext.getDiagram().getLayoutData().nodeLayoutData();
+        assertThat(nodeLayoutData).containsKeys(SOURCE_NODE_ID, TARGET_NODE_ID);
+        assertThat(nodeLayoutData.get(SOURCE_NODE_ID).position().x()).isLessThan(nodeLayoutData.get(TARGET_NODE_ID).position().x());
+    }
 }
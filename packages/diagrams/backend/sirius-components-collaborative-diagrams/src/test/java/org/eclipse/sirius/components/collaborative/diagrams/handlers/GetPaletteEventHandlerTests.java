@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.diagrams.DiagramContext;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramDescriptionService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramQueryService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IPaletteProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IPaletteStructure;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.GetPaletteInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.GetPaletteSuccessPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.IPaletteEntry;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.Palette;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.PaletteDivider;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Tests of the palette cache used by {@link GetPaletteEventHandler}.
+ *
+ * @author sbegaudeau
+ */
+public class GetPaletteEventHandlerTests {
+
+    private static final String DIAGRAM_ID = "diagramId";
+
+    private static final String TOOL_ID = "toolId";
+
+    private final Object target = new Object();
+
+    private final AtomicBoolean toolPrecondition = new AtomicBoolean(true);
+
+    private final AtomicInteger paletteStructureCount = new AtomicInteger();
+
+    private final AtomicInteger preconditionEvaluationCount = new AtomicInteger();
+
+    @Test
+    public void givenTheSameDiagramElementWhenThePaletteIsRequestedAgainThenOnlyItsStructureIsReturnedFromTheCache() {
+        Diagram diagram = new TestDiagramBuilder().getDiagram(DIAGRAM_ID);
+        DiagramDescription diagramDescription = new TestDiagramDescriptionBuilder().getDiagramDescription(diagram.getDescriptionId(), List.of(), List.of(), List.of());
+        IDiagramContext diagramContext = new DiagramContext(diagram);
+        var handler = this.getHandler(diagramDescription, new TestPaletteProvider(), true);
+
+        assertThat(this.getPalette(handler, diagramContext).paletteEntries()).extracting(IPaletteEntry::id).containsExactly(TOOL_ID);
+
+        this.toolPrecondition.set(false);
+        assertThat(this.getPalette(handler, diagramContext).paletteEntries()).isEmpty();
+
+        assertThat(this.paletteStructureCount.get()).isEqualTo(1);
+        assertThat(this.preconditionEvaluationCount.get()).isEqualTo(2);
+        assertThat(diagramContext.getPaletteCache().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenADisabledPaletteCacheWhenThePaletteIsRequestedAgainThenItsStructureIsComputedAgain() {
+        Diagram diagram = new TestDiagramBuilder().getDiagram(DIAGRAM_ID);
+        DiagramDescription diagramDescription = new TestDiagramDescriptionBuilder().getDiagramDescription(diagram.getDescriptionId(), List.of(), List.of(), List.of());
+        IDiagramContext diagramContext = new DiagramContext(diagram);
+        var handler = this.getHandler(diagramDescription, new TestPaletteProvider(), false);
+
+        this.getPalette(handler, diagramContext);
+        this.getPalette(handler, diagramContext);
+
+        assertThat(this.paletteStructureCount.get()).isEqualTo(2);
+        assertThat(this.preconditionEvaluationCount.get()).isEqualTo(2);
+        assertThat(diagramContext.getPaletteCache().size()).isZero();
+    }
+
+    @Test
+    public void givenAPaletteProviderWithoutStructureWhenThePaletteIsRequestedThenItIsComputedWithoutTheCache() {
+        Diagram diagram = new TestDiagramBuilder().getDiagram(DIAGRAM_ID);
+        DiagramDescription diagramDescription = new TestDiagramDescriptionBuilder().getDiagramDescription(diagram.getDescriptionId(), List.of(), List.of(), List.of());
+        IDiagramContext diagramContext = new DiagramContext(diagram);
+        AtomicInteger paletteCount = new AtomicInteger();
+        IPaletteProvider paletteProvider = new IPaletteProvider() {
+            @Override
+            public boolean canHandle(DiagramDescription diagramDescription) {
+                return true;
+            }
+
+            @Override
+            public Palette handle(Object targetElement, Object diagramElement, Object diagramElementDescription, DiagramDescription diagramDescription, IEditingContext editingContext) {
+                paletteCount.incrementAndGet();
+                return GetPaletteEventHandlerTests.this.getPalette(List.of());
+            }
+        };
+        var handler = this.getHandler(diagramDescription, paletteProvider, true);
+
+        this.getPalette(handler, diagramContext);
+        this.getPalette(handler, diagramContext);
+
+        assertThat(paletteCount.get()).isEqualTo(2);
+        assertThat(diagramContext.getPaletteCache().size()).isZero();
+    }
+
+    private Palette getPalette(GetPaletteEventHandler handler, IDiagramContext diagramContext) {
+        var input = new GetPaletteInput(UUID.randomUUID(), "editingContextId", DIAGRAM_ID, DIAGRAM_ID);
+        assertThat(handler.canHandle(input)).isTrue();
+
+        One<IPayload> payloadSink = Sinks.one();
+        Many<ChangeDescription> changeDescriptionSink = Sinks.many().unicast().onBackpressureBuffer();
+        handler.handle(payloadSink, changeDescriptionSink, new IEditingContext.NoOp(), diagramContext, input);
+
+        IPayload payload = payloadSink.asMono().block();
+        assertThat(payload).isInstanceOf(GetPaletteSuccessPayload.class);
+        return ((GetPaletteSuccessPayload) payload).palette();
+    }
+
+    private Palette getPalette(List<IPaletteEntry> paletteEntries) {
+        return Palette.newPalette(UUID.randomUUID().toString())
+                .quickAccessTools(List.of())
+                .paletteEntries(paletteEntries)
+                .build();
+    }
+
+    private GetPaletteEventHandler getHandler(DiagramDescription diagramDescription, IPaletteProvider paletteProvider, boolean paletteCacheEnabled) {
+        IRepresentationDescriptionSearchService representationDescriptionSearchService = new IRepresentationDescriptionSearchService.NoOp() {
+            @Override
+            public Optional<IRepresentationDescription> findById(IEditingContext editingContext, String representationDescriptionId) {
+                return Optional.of(diagramDescription);
+            }
+        };
+        IObjectSearchService objectSearchService = new IObjectSearchService.NoOp() {
+            @Override
+            public Optional<Object> getObject(IEditingContext editingContext, String objectId) {
+                return Optional.of(GetPaletteEventHandlerTests.this.target);
+            }
+        };
+
+        var parameters = new GetPaletteEventHandlerParameters(representationDescriptionSearchService, new IDiagramQueryService.NoOp(), new IDiagramDescriptionService.NoOp(), objectSearchService);
+        return new GetPaletteEventHandler(parameters, List.of(paletteProvider), new ICollaborativeMessageService.NoOp(), paletteCacheEnabled, new SimpleMeterRegistry());
+    }
+
+    /**
+     * The structure of the palette of the test, with a single tool.
+     *
+     * @author sbegaudeau
+     */
+    private record TestPaletteStructure(String toolId) implements IPaletteStructure {
+    }
+
+    /**
+     * Used to count the computations of the structure of the palette and the evaluations of the precondition of its
+     * tool.
+     *
+     * @author sbegaudeau
+     */
+    private final class TestPaletteProvider implements IPaletteProvider {
+
+        @Override
+        public boolean canHandle(DiagramDescription diagramDescription) {
+            return true;
+        }
+
+        @Override
+        public Optional<IPaletteStructure> getPaletteStructure(Object diagramElementDescription, DiagramDescription diagramDescription, IEditingContext editingContext) {
+            GetPaletteEventHandlerTests.this.paletteStructureCount.incrementAndGet();
+            return Optional.of(new TestPaletteStructure(TOOL_ID));
+        }
+
+        @Override
+        public Palette handle(Object targetElement, Object diagramElement, Object diagramElementDescription, DiagramDescription diagramDescription, IEditingContext editingContext) {
+            return this.getPaletteStructure(diagramElementDescription, diagramDescription, editingContext)
+                    .map(paletteStructure -> this.handle(paletteStructure, targetElement, diagramElement, diagramElementDescription, diagramDescription, editingContext))
+                    .orElse(null);
+        }
+
+        @Override
+        public Palette handle(IPaletteStructure paletteStructure, Object targetElement, Object diagramElement, Object diagramElementDescription, DiagramDescription diagramDescription,
+                IEditingContext editingContext) {
+            GetPaletteEventHandlerTests.this.preconditionEvaluationCount.incrementAndGet();
+            List<IPaletteEntry> paletteEntries = List.of();
+            if (paletteStructure instanceof TestPaletteStructure testPaletteStructure && GetPaletteEventHandlerTests.this.toolPrecondition.get()) {
+                paletteEntries = List.of(new PaletteDivider(testPaletteStructure.toolId()));
+            }
+            return GetPaletteEventHandlerTests.this.getPalette(paletteEntries);
+        }
+    }
+}
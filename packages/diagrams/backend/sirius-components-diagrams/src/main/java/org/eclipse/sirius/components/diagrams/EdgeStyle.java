@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -62,6 +62,24 @@ public final class EdgeStyle {
         return new Builder();
     }
 
+    @Override
+    public boolean equals(Object object) {
+        if (object instanceof EdgeStyle edgeStyle) {
+            boolean isEqual = this.size == edgeStyle.size;
+            isEqual = isEqual && Objects.equals(this.lineStyle, edgeStyle.lineStyle);
+            isEqual = isEqual && Objects.equals(this.sourceArrow, edgeStyle.sourceArrow);
+            isEqual = isEqual && Objects.equals(this.targetArrow, edgeStyle.targetArrow);
+            isEqual = isEqual && Objects.equals(this.color, edgeStyle.color);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.size, this.lineStyle, this.sourceArrow, this.targetArrow, this.color);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'size: {1}, lineStyle: {2}, sourceArrow: {3}, targetArrow: {4}, color: {5}'}'";
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,12 @@ package org.eclipse.sirius.components.diagrams;
 /**
  * Interface implemented by all the node styles.
  *
+ * <p>
+ * The node styles must implement {@link Object#equals(Object)} and {@link Object#hashCode()} with a value based
+ * equality. The incremental diagram subscriptions compare the styles of the nodes of two renders to detect the updated
+ * nodes, a style relying on the identity of its instances would make every node be sent again after each refresh.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public interface INodeStyle {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -61,6 +61,23 @@ public final class Label {
         return new Builder(label);
     }
 
+    @Override
+    public boolean equals(Object object) {
+        if (object instanceof Label label) {
+            boolean isEqual = Objects.equals(this.id, label.id);
+            isEqual = isEqual && Objects.equals(this.type, label.type);
+            isEqual = isEqual && Objects.equals(this.text, label.text);
+            isEqual = isEqual && Objects.equals(this.style, label.style);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id, this.type, this.text, this.style);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'id: {1}, type: {2}, text: {3}'}'";
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -111,6 +111,32 @@ public final class LabelStyle {
         return this.maxWidth;
     }
 
+    @Override
+    public boolean equals(Object object) {
+        if (object instanceof LabelStyle labelStyle) {
+            boolean isEqual = Objects.equals(this.color, labelStyle.color);
+            isEqual = isEqual && this.fontSize == labelStyle.fontSize;
+            isEqual = isEqual && this.bold == labelStyle.bold;
+            isEqual = isEqual && this.italic == labelStyle.italic;
+            isEqual = isEqual && this.underline == labelStyle.underline;
+            isEqual = isEqual && this.strikeThrough == labelStyle.strikeThrough;
+            isEqual = isEqual && Objects.equals(this.iconURL, labelStyle.iconURL);
+            isEqual = isEqual && Objects.equals(this.background, labelStyle.background);
+            isEqual = isEqual && Objects.equals(this.borderColor, labelStyle.borderColor);
+            isEqual = isEqual && this.borderSize == labelStyle.borderSize;
+            isEqual = isEqual && this.borderRadius == labelStyle.borderRadius;
+            isEqual = isEqual && Objects.equals(this.borderStyle, labelStyle.borderStyle);
+            isEqual = isEqual && Objects.equals(this.maxWidth, labelStyle.maxWidth);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.color, this.fontSize, this.bold, this.italic, this.underline, this.strikeThrough, this.iconURL, this.background, this.borderColor, this.borderSize, this.borderRadius, this.borderStyle, this.maxWidth);
+    }
+
     /**
      * The builder used to create the label style.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -63,6 +63,24 @@ public final class RectangularNodeStyle implements INodeStyle {
         return this.borderStyle;
     }
 
+    @Override
+    public boolean equals(Object object) {
+        if (object instanceof RectangularNodeStyle rectangularNodeStyle) {
+            boolean isEqual = Objects.equals(this.background, rectangularNodeStyle.background);
+            isEqual = isEqual && Objects.equals(this.borderColor, rectangularNodeStyle.borderColor);
+            isEqual = isEqual && this.borderSize == rectangularNodeStyle.borderSize;
+            isEqual = isEqual && this.borderRadius == rectangularNodeStyle.borderRadius;
+            isEqual = isEqual && Objects.equals(this.borderStyle, rectangularNodeStyle.borderStyle);
+            return isEqual;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.background, this.borderColor, this.borderSize, this.borderRadius, this.borderStyle);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'color: {1}, border: '{' background: {2}, size: {3}, radius: {4}, style: {5} '}''}'";
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,7 +13,6 @@
 package org.eclipse.sirius.components.diagrams.components;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -76,8 +75,7 @@ public class EdgeComponent implements IComponent {
                 && this.hasNodeCandidates(edgeDescription.getTargetNodeDescriptions(), cache);
 
         if (hasCandidates) {
-            VariableManager semanticElementsVariableManager = new VariableManager();
-            variableManager.getVariables().forEach(semanticElementsVariableManager::put);
+            VariableManager semanticElementsVariableManager = variableManager.createChild();
             semanticElementsVariableManager.put(DiagramDescription.CACHE, cache);
 
             Map<String, Integer> edgeIdPrefixToCount = new HashMap<>();
@@ -106,18 +104,20 @@ public class EdgeComponent implements IComponent {
         if (!sourceNodes.isEmpty()) {
 
             for (Element sourceNode : sourceNodes) {
+                Object semanticSource = cache.getNodeToObject().get(sourceNode);
+
                 var targetNodeVariableManager = edgeVariableManager.createChild();
-                targetNodeVariableManager.put(EdgeDescription.SEMANTIC_EDGE_SOURCE, this.props.getCache().getNodeToObject().get(sourceNode));
+                targetNodeVariableManager.put(EdgeDescription.SEMANTIC_EDGE_SOURCE, semanticSource);
                 targetNodeVariableManager.put(EdgeDescription.GRAPHICAL_EDGE_SOURCE, sourceNode);
                 List<Element> targetNodes = edgeDescription.getTargetNodesProvider().apply(targetNodeVariableManager);
                 for (Element targetNode : targetNodes) {
                     var edgeInstanceVariableManager = edgeVariableManager.createChild();
-                    edgeInstanceVariableManager.put(EdgeDescription.SEMANTIC_EDGE_SOURCE, this.props.getCache().getNodeToObject().get(sourceNode));
-                    edgeInstanceVariableManager.put(EdgeDescription.SEMANTIC_EDGE_TARGET, this.props.getCache().getNodeToObject().get(targetNode));
+                    edgeInstanceVariableManager.put(EdgeDescription.SEMANTIC_EDGE_SOURCE, semanticSource);
+                    edgeInstanceVariableManager.put(EdgeDescription.SEMANTIC_EDGE_TARGET, cache.getNodeToObject().get(targetNode));
                     edgeInstanceVariableManager.put(EdgeDescription.GRAPHICAL_EDGE_SOURCE, sourceNode);
                     edgeInstanceVariableManager.put(EdgeDescription.GRAPHICAL_EDGE_TARGET, targetNode);
 
-                    this.props.getOperationValidator().validate("Edge#precondition", edgeInstanceVariableManager.getVariables());
+                    this.props.getOperationValidator().validate("Edge#precondition", edgeInstanceVariableManager.asMap());
                     var shouldRender = edgeDescription.getShouldRenderPredicate().test(edgeInstanceVariableManager);
                     if (shouldRender) {
                         this.doRenderEdge(edgeInstanceVariableManager, edgeDescription, sourceNode, targetNode, diagramEvents, edgeIdPrefixToCount, lastPreviousRenderedEdgeIds)
@@ -450,10 +450,7 @@ public class EdgeComponent implements IComponent {
         return nodeDescriptions.stream()
                 .map(NodeDescription::getId)
                 .map(cache.getNodeDescriptionIdToNodes()::get)
-                .filter(Objects::nonNull)
-                .flatMap(Collection::stream)
-                .findAny()
-                .isPresent();
+                .anyMatch(nodes -> nodes != null && !nodes.isEmpty());
     }
 
     private String getId(Element nodeElement) {
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.layout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.diagrams.ArrangeLayoutDirection;
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.ListLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.ViewModifier;
+import org.eclipse.sirius.components.diagrams.layout.LayeredGraphLayout.GraphEdge;
+import org.eclipse.sirius.components.diagrams.layout.LayeredGraphLayout.GraphLayout;
+import org.eclipse.sirius.components.diagrams.layout.LayeredGraphLayout.GraphNode;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.EdgeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
+
+/**
+ * Computes the layout data of a whole diagram without any client.
+ *
+ * <p>
+ * The children of each node are laid out before the node itself in order to know its size. The children of the nodes
+ * with a free form layout are laid out by a {@link LayeredGraphLayout}, using the edges between their descendants, and
+ * the children of the nodes with a list layout are stacked. Only the edges between two nodes of the same parent are
+ * routed, the bending points of the other edges are left to the client. The pinned nodes, the border nodes already laid
+ * out and the hidden nodes keep their layout data.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class LayeredDiagramLayoutEngine {
+
+    public static final double DEFAULT_WIDTH = 150;
+
+    public static final double DEFAULT_HEIGHT = 70;
+
+    public static final double BORDER_NODE_SIZE = 24;
+
+    public static final double BORDER_NODE_OFFSET = 5;
+
+    public static final double PADDING = 20;
+
+    public static final double LABEL_HEIGHT = 40;
+
+    private static final String ROOT = "";
+
+    public DiagramLayoutData layout(Diagram diagram, ArrangeLayoutDirection direction) {
+        var layout = new DiagramLayout(diagram, new LayeredGraphLayout(direction));
+        return layout.compute();
+    }
+
+    /**
+     * The layout of a diagram being computed.
+     *
+     * @author sbegaudeau
+     */
+    private final class DiagramLayout {
+
+        private final Diagram diagram;
+
+        private final LayeredGraphLayout graphLayout;
+
+        private final Map<String, Node> nodes = new HashMap<>();
+
+        private final Map<String, String> parentIds = new HashMap<>();
+
+        private final Map<String, List<GraphEdge>> containerEdges = new HashMap<>();
+
+        private final Map<String, String> edgeContainerIds = new LinkedHashMap<>();
+
+        private final Map<String, Position> positions = new LinkedHashMap<>();
+
+        private final Map<String, Size> sizes = new HashMap<>();
+
+        private final Map<String, Position> contentOffsets = new HashMap<>();
+
+        private final Map<String, Map<String, List<Position>>> containerBendingPoints = new HashMap<>();
+
+        private DiagramLayout(Diagram diagram, LayeredGraphLayout graphLayout) {
+            this.diagram = diagram;
+            this.graphLayout = graphLayout;
+        }
+
+        private DiagramLayoutData compute() {
+            List<Node> rootNodes = this.getVisibleNodes(this.diagram.getNodes());
+            this.indexNodes(ROOT, rootNodes);
+            this.diagram.getEdges().stream()
+                    .filter(edge -> edge.getState() != ViewModifier.Hidden)
+                    .forEach(this::liftEdge);
+
+            this.contentOffsets.put(ROOT, new Position(0, 0));
+            this.layoutChildren(ROOT, rootNodes);
+
+            var previousLayoutData = this.diagram.getLayoutData();
+            Map<String, NodeLayoutData> nodeLayoutData = new HashMap<>(previousLayoutData.nodeLayoutData());
+            this.positions.forEach((nodeId, position) -> {
+                Node node = this.nodes.get(nodeId);
+                NodeLayoutData previousNodeLayoutData = previousLayoutData.nodeLayoutData().get(nodeId);
+                if (previousNodeLayoutData == null || !this.keepsLayoutData(node)) {
+                    nodeLayoutData.put(nodeId, new NodeLayoutData(nodeId, position, this.sizes.get(nodeId), false));
+                }
+            });
+
+            Map<String, Position> absolutePositions = new HashMap<>();
+            Map<String, EdgeLayoutData> edgeLayoutData = new HashMap<>();
+            this.edgeContainerIds.forEach((edgeId, containerId) -> {
+                Position origin = this.getAbsolutePosition(containerId, nodeLayoutData, absolutePositions);
+                Position contentOffset = this.contentOffsets.get(containerId);
+                List<Position> bendingPoints = this.containerBendingPoints.getOrDefault(containerId, Map.of()).get(edgeId);
+                if (bendingPoints != null) {
+                    var absoluteBendingPoints = bendingPoints.stream()
+                            .map(point -> point.translate(origin.x() + contentOffset.x(), origin.y() + contentOffset.y()))
+                            .toList();
+                    edgeLayoutData.put(edgeId, new EdgeLayoutData(edgeId, absoluteBendingPoints));
+                }
+            });
+
+            return new DiagramLayoutData(nodeLayoutData, edgeLayoutData, previousLayoutData.labelLayoutData());
+        }
+
+        private boolean keepsLayoutData(Node node) {
+            return node.isPinned() || node.isBorderNode();
+        }
+
+        private void indexNodes(String parentId, List<Node> visibleNodes) {
+            for (Node node : visibleNodes) {
+                this.nodes.put(node.getId(), node);
+                this.parentIds.put(node.getId(), parentId);
+                this.indexNodes(node.getId(), this.getVisibleNodes(node.getBorderNodes()));
+                this.indexNodes(node.getId(), this.getVisibleNodes(node.getChildNodes()));
+            }
+        }
+
+        private List<Node> getVisibleNodes(List<Node> candidates) {
+            return candidates.stream()
+                    .filter(node -> node.getState() != ViewModifier.Hidden)
+                    .toList();
+        }
+
+        /**
+         * Connects the children of the deepest common ancestor of the source and the target of the edge. The border
+         * nodes are replaced by their parent.
+         */
+        private void liftEdge(Edge edge) {
+            Optional<String> optionalSourceId = this.getLaidOutNodeId(edge.getSourceId());
+            Optional<String> optionalTargetId = this.getLaidOutNodeId(edge.getTargetId());
+            if (optionalSourceId.isPresent() && optionalTargetId.isPresent()) {
+                Map<String, String> sourceAncestors = new HashMap<>();
+                String sourceAncestorId = optionalSourceId.get();
+                while (sourceAncestorId != null && !ROOT.equals(sourceAncestorId)) {
+                    sourceAncestors.put(this.parentIds.get(sourceAncestorId), sourceAncestorId);
+                    sourceAncestorId = this.parentIds.get(sourceAncestorId);
+                }
+
+                String targetAncestorId = optionalTargetId.get();
+                String containerId = this.parentIds.get(targetAncestorId);
+                while (!sourceAncestors.containsKey(containerId)) {
+                    targetAncestorId = containerId;
+                    containerId = this.parentIds.get(targetAncestorId);
+                }
+
+                String sourceChildId = sourceAncestors.get(containerId);
+                if (!sourceChildId.equals(targetAncestorId)) {
+                    this.containerEdges.computeIfAbsent(containerId, key -> new ArrayList<>()).add(new GraphEdge(edge.getId(), sourceChildId, targetAncestorId));
+
+                    boolean isDirect = sourceChildId.equals(edge.getSourceId()) && targetAncestorId.equals(edge.getTargetId());
+                    if (isDirect && !this.nodes.get(sourceChildId).isPinned() && !this.nodes.get(targetAncestorId).isPinned()) {
+                        this.edgeContainerIds.put(edge.getId(), containerId);
+                    }
+                }
+            }
+        }
+
+        private Optional<String> getLaidOutNodeId(String nodeId) {
+            return Optional.ofNullable(this.nodes.get(nodeId))
+                    .map(node -> {
+                        if (node.isBorderNode()) {
+                            return this.parentIds.get(node.getId());
+                        }
+                        return node.getId();
+                    });
+        }
+
+        private GraphLayout layoutChildren(String containerId, List<Node> children) {
+            List<GraphNode> graphNodes = new ArrayList<>();
+            for (Node child : children) {
+                Size size = this.layoutNode(child);
+                graphNodes.add(new GraphNode(child.getId(), size.width(), size.height()));
+            }
+
+            GraphLayout layout = this.graphLayout.layout(graphNodes, this.containerEdges.getOrDefault(containerId, List.of()));
+            Position contentOffset = this.contentOffsets.get(containerId);
+            layout.positions().forEach((nodeId, position) -> this.positions.put(nodeId, position.translate(contentOffset.x(), contentOffset.y())));
+            this.containerBendingPoints.put(containerId, layout.bendingPoints());
+            return layout;
+        }
+
+        private Size layoutNode(Node node) {
+            List<Node> children = List.of();
+            if (node.getCollapsingState() != CollapsingState.COLLAPSED) {
+                children = this.getVisibleNodes(node.getChildNodes());
+            }
+
+            double labelHeight = 0;
+            if (node.getInsideLabel() != null) {
+                labelHeight = LABEL_HEIGHT;
+            }
+
+            Size size = this.getDefaultSize(node);
+            if (!children.isEmpty() && node.getChildrenLayoutStrategy() instanceof ListLayoutStrategy listLayoutStrategy) {
+                size = this.stackChildren(node, children, listLayoutStrategy, labelHeight);
+            } else if (!children.isEmpty()) {
+                this.contentOffsets.put(node.getId(), new Position(PADDING, labelHeight + PADDING));
+                GraphLayout layout = this.layoutChildren(node.getId(), children);
+                size = new Size(Math.max(size.width(), layout.width() + 2 * PADDING), Math.max(size.height(), layout.height() + labelHeight + 2 * PADDING));
+            }
+            this.sizes.put(node.getId(), size);
+
+            this.placeBorderNodes(node, size);
+            return size;
+        }
+
+        private Size stackChildren(Node node, List<Node> children, ListLayoutStrategy listLayoutStrategy, double labelHeight) {
+            double width = this.getDefaultSize(node).width();
+            for (Node child : children) {
+                width = Math.max(width, this.layoutNode(child).width());
+            }
+
+            double y = labelHeight + listLayoutStrategy.getTopGap();
+            for (Node child : children) {
+                Size childSize = new Size(width, this.sizes.get(child.getId()).height());
+                this.sizes.put(child.getId(), childSize);
+                this.positions.put(child.getId(), new Position(0, y));
+                y = y + childSize.height();
+            }
+            return new Size(width, Math.max(this.getDefaultSize(node).height(), y + listLayoutStrategy.getBottomGap()));
+        }
+
+        private void placeBorderNodes(Node node, Size size) {
+            double y = PADDING;
+            for (Node borderNode : this.getVisibleNodes(node.getBorderNodes())) {
+                Size borderNodeSize = new Size(this.getDefaultWidth(borderNode, BORDER_NODE_SIZE), this.getDefaultHeight(borderNode, BORDER_NODE_SIZE));
+                this.sizes.put(borderNode.getId(), borderNodeSize);
+                this.positions.put(borderNode.getId(), new Position(size.width() - BORDER_NODE_OFFSET, y));
+                y = y + borderNodeSize.height() + LayeredGraphLayout.EDGE_SPACING;
+            }
+        }
+
+        private Size getDefaultSize(Node node) {
+            return new Size(this.getDefaultWidth(node, DEFAULT_WIDTH), this.getDefaultHeight(node, DEFAULT_HEIGHT));
+        }
+
+        private double getDefaultWidth(Node node, double defaultWidth) {
+            return Optional.ofNullable(node.getDefaultWidth()).map(Integer::doubleValue).orElse(defaultWidth);
+        }
+
+        private double getDefaultHeight(Node node, double defaultHeight) {
+            return Optional.ofNullable(node.getDefaultHeight()).map(Integer::doubleValue).orElse(defaultHeight);
+        }
+
+        private Position getAbsolutePosition(String nodeId, Map<String, NodeLayoutData> nodeLayoutData, Map<String, Position> absolutePositions) {
+            Position absolutePosition = absolutePositions.get(nodeId);
+            if (absolutePosition == null && ROOT.equals(nodeId)) {
+                absolutePosition = new Position(0, 0);
+            } else if (absolutePosition == null) {
+                Position parentPosition = this.getAbsolutePosition(this.parentIds.get(nodeId), nodeLayoutData, absolutePositions);
+                absolutePosition = nodeLayoutData.get(nodeId).position().translate(parentPosition.x(), parentPosition.y());
+                absolutePositions.put(nodeId, absolutePosition);
+            }
+            return absolutePosition;
+        }
+    }
+}
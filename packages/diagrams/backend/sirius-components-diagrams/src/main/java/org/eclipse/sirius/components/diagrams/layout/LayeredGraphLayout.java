@@ -0,0 +1,581 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.layout;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.ArrangeLayoutDirection;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+
+/**
+ * Computes a layered layout of a graph of nodes.
+ *
+ * <p>
+ * The layout follows the usual steps of a Sugiyama layout: the cycles are broken by reversing the back edges found by
+ * a depth first search, the nodes are assigned to layers using the longest path from the sources, the edges spanning
+ * several layers are split with dummy nodes, the nodes of each layer are ordered by barycenter to reduce the crossings
+ * and they are finally placed as close as possible to their predecessors. The edges are routed orthogonally between
+ * the layers along their dummy nodes. The nodes without any edge are packed in a grid after the layered nodes.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class LayeredGraphLayout {
+
+    public static final double NODE_SPACING = 80;
+
+    public static final double LAYER_SPACING = 80;
+
+    public static final double EDGE_SPACING = 20;
+
+    public static final double COMPONENT_SPACING = 60;
+
+    private static final int ORDERING_SWEEPS = 4;
+
+    private static final double EPSILON = 0.5;
+
+    private final boolean horizontal;
+
+    private final boolean reversed;
+
+    public LayeredGraphLayout(ArrangeLayoutDirection direction) {
+        this.horizontal = direction != ArrangeLayoutDirection.DOWN && direction != ArrangeLayoutDirection.UP;
+        this.reversed = direction == ArrangeLayoutDirection.LEFT || direction == ArrangeLayoutDirection.UP;
+    }
+
+    public GraphLayout layout(List<GraphNode> nodes, List<GraphEdge> edges) {
+        Map<String, Integer> nodeIndexes = new HashMap<>();
+        for (int index = 0; index < nodes.size(); index++) {
+            nodeIndexes.put(nodes.get(index).id(), index);
+        }
+
+        List<GraphEdge> layeredEdges = new ArrayList<>();
+        boolean[] connected = new boolean[nodes.size()];
+        for (GraphEdge edge : edges) {
+            Integer sourceIndex = nodeIndexes.get(edge.sourceId());
+            Integer targetIndex = nodeIndexes.get(edge.targetId());
+            if (sourceIndex != null && targetIndex != null && !sourceIndex.equals(targetIndex)) {
+                layeredEdges.add(edge);
+                connected[sourceIndex] = true;
+                connected[targetIndex] = true;
+            }
+        }
+
+        var layeredGraph = new LayeredGraph(nodes, nodeIndexes, connected, layeredEdges);
+        layeredGraph.breakCycles();
+        layeredGraph.assignLayers();
+        layeredGraph.createDummyNodes();
+        layeredGraph.orderLayers();
+        layeredGraph.placeNodes();
+
+        Map<String, Position> positions = new LinkedHashMap<>();
+        Map<String, List<Position>> bendingPoints = new LinkedHashMap<>();
+        double[] extent = layeredGraph.export(positions, bendingPoints);
+        extent = this.packUnconnectedNodes(nodes, connected, positions, extent);
+
+        return new GraphLayout(positions, bendingPoints, extent[0], extent[1]);
+    }
+
+    private double[] packUnconnectedNodes(List<GraphNode> nodes, boolean[] connected, Map<String, Position> positions, double[] extent) {
+        List<GraphNode> unconnectedNodes = new ArrayList<>();
+        for (int index = 0; index < nodes.size(); index++) {
+            if (!connected[index]) {
+                unconnectedNodes.add(nodes.get(index));
+            }
+        }
+        if (unconnectedNodes.isEmpty()) {
+            return extent;
+        }
+
+        double startX = 0;
+        double startY = 0;
+        if (!positions.isEmpty() && this.horizontal) {
+            startX = extent[0] + COMPONENT_SPACING;
+        } else if (!positions.isEmpty()) {
+            startY = extent[1] + COMPONENT_SPACING;
+        }
+
+        int columns = (int) Math.ceil(Math.sqrt(unconnectedNodes.size()));
+        double width = extent[0];
+        double height = extent[1];
+        double x = startX;
+        double y = startY;
+        double rowHeight = 0;
+        for (int index = 0; index < unconnectedNodes.size(); index++) {
+            if (index > 0 && index % columns == 0) {
+                x = startX;
+                y = y + rowHeight + NODE_SPACING;
+                rowHeight = 0;
+            }
+            GraphNode node = unconnectedNodes.get(index);
+            positions.put(node.id(), new Position(x, y));
+            width = Math.max(width, x + node.width());
+            height = Math.max(height, y + node.height());
+            rowHeight = Math.max(rowHeight, node.height());
+            x = x + node.width() + NODE_SPACING;
+        }
+        return new double[] { width, height };
+    }
+
+    /**
+     * The state of the layout of the connected nodes.
+     *
+     * <p>
+     * The vertices are the connected nodes followed by the dummy nodes. The coordinates are computed along the layer
+     * axis, which goes through the layers, and along the order axis, which goes through the vertices of a layer.
+     * </p>
+     *
+     * @author sbegaudeau
+     */
+    private final class LayeredGraph {
+
+        private final List<GraphNode> nodes;
+
+        private final Map<String, Integer> nodeIndexes;
+
+        private final boolean[] connected;
+
+        private final List<GraphEdge> edges;
+
+        private final boolean[] reversedEdges;
+
+        private int[] layers;
+
+        private int layerCount;
+
+        private int vertexCount;
+
+        private double[] layerExtents;
+
+        private double[] orderExtents;
+
+        private int[][] chains;
+
+        private List<List<Integer>> upperNeighbors;
+
+        private List<List<Integer>> lowerNeighbors;
+
+        private List<List<Integer>> layerVertices;
+
+        private int[] orders;
+
+        private double[] orderCoordinates;
+
+        private double[] layerCoordinates;
+
+        private double[] barycenters;
+
+        private double[] layerStarts;
+
+        private LayeredGraph(List<GraphNode> nodes, Map<String, Integer> nodeIndexes, boolean[] connected, List<GraphEdge> edges) {
+            this.nodes = nodes;
+            this.nodeIndexes = nodeIndexes;
+            this.connected = connected;
+            this.edges = edges;
+            this.reversedEdges = new boolean[edges.size()];
+        }
+
+        private int source(int edgeIndex) {
+            GraphEdge edge = this.edges.get(edgeIndex);
+            if (this.reversedEdges[edgeIndex]) {
+                return this.nodeIndexes.get(edge.targetId());
+            }
+            return this.nodeIndexes.get(edge.sourceId());
+        }
+
+        private int target(int edgeIndex) {
+            GraphEdge edge = this.edges.get(edgeIndex);
+            if (this.reversedEdges[edgeIndex]) {
+                return this.nodeIndexes.get(edge.sourceId());
+            }
+            return this.nodeIndexes.get(edge.targetId());
+        }
+
+        /**
+         * Reverses the edges going back to a node being visited by an iterative depth first search.
+         */
+        private void breakCycles() {
+            List<List<Integer>> outgoingEdges = this.newAdjacency(this.nodes.size());
+            for (int edgeIndex = 0; edgeIndex < this.edges.size(); edgeIndex++) {
+                outgoingEdges.get(this.source(edgeIndex)).add(edgeIndex);
+            }
+
+            // 0 for the nodes not visited yet, 1 for the nodes being visited and 2 for the visited nodes
+            int[] states = new int[this.nodes.size()];
+            int[] nextEdges = new int[this.nodes.size()];
+            Deque<Integer> stack = new ArrayDeque<>();
+            for (int root = 0; root < this.nodes.size(); root++) {
+                if (states[root] == 0 && this.connected[root]) {
+                    states[root] = 1;
+                    stack.push(root);
+                    while (!stack.isEmpty()) {
+                        int node = stack.peek();
+                        List<Integer> nodeEdges = outgoingEdges.get(node);
+                        if (nextEdges[node] < nodeEdges.size()) {
+                            int edgeIndex = nodeEdges.get(nextEdges[node]);
+                            nextEdges[node]++;
+                            int target = this.target(edgeIndex);
+                            if (states[target] == 1) {
+                                this.reversedEdges[edgeIndex] = true;
+                            } else if (states[target] == 0) {
+                                states[target] = 1;
+                                stack.push(target);
+                            }
+                        } else {
+                            states[node] = 2;
+                            stack.pop();
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Assigns each node to the layer following the longest path from the sources, the sources are then moved just
+         * before their closest successor to shorten their edges.
+         */
+        private void assignLayers() {
+            List<List<Integer>> successors = this.newAdjacency(this.nodes.size());
+            int[] inDegrees = new int[this.nodes.size()];
+            for (int edgeIndex = 0; edgeIndex < this.edges.size(); edgeIndex++) {
+                successors.get(this.source(edgeIndex)).add(this.target(edgeIndex));
+                inDegrees[this.target(edgeIndex)]++;
+            }
+
+            this.layers = new int[this.nodes.size()];
+            int[] remainingInDegrees = Arrays.copyOf(inDegrees, inDegrees.length);
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int node = 0; node < this.nodes.size(); node++) {
+                if (this.connected[node] && remainingInDegrees[node] == 0) {
+                    queue.add(node);
+                }
+            }
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (int successor : successors.get(node)) {
+                    this.layers[successor] = Math.max(this.layers[successor], this.layers[node] + 1);
+                    remainingInDegrees[successor]--;
+                    if (remainingInDegrees[successor] == 0) {
+                        queue.add(successor);
+                    }
+                }
+            }
+
+            for (int node = 0; node < this.nodes.size(); node++) {
+                if (this.connected[node] && inDegrees[node] == 0) {
+                    int closestSuccessorLayer = successors.get(node).stream()
+                            .mapToInt(successor -> this.layers[successor])
+                            .min()
+                            .orElse(this.layers[node] + 1);
+                    this.layers[node] = closestSuccessorLayer - 1;
+                }
+            }
+
+            this.layerCount = 0;
+            for (int node = 0; node < this.nodes.size(); node++) {
+                if (this.connected[node]) {
+                    this.layerCount = Math.max(this.layerCount, this.layers[node] + 1);
+                }
+            }
+        }
+
+        /**
+         * Splits the edges spanning several layers with a dummy node in each intermediate layer.
+         */
+        private void createDummyNodes() {
+            int dummyCount = 0;
+            for (int edgeIndex = 0; edgeIndex < this.edges.size(); edgeIndex++) {
+                dummyCount = dummyCount + this.layers[this.target(edgeIndex)] - this.layers[this.source(edgeIndex)] - 1;
+            }
+
+            this.vertexCount = this.nodes.size() + dummyCount;
+            this.layers = Arrays.copyOf(this.layers, this.vertexCount);
+            this.layerExtents = new double[this.vertexCount];
+            this.orderExtents = new double[this.vertexCount];
+            for (int node = 0; node < this.nodes.size(); node++) {
+                GraphNode graphNode = this.nodes.get(node);
+                if (LayeredGraphLayout.this.horizontal) {
+                    this.layerExtents[node] = graphNode.width();
+                    this.orderExtents[node] = graphNode.height();
+                } else {
+                    this.layerExtents[node] = graphNode.height();
+                    this.orderExtents[node] = graphNode.width();
+                }
+            }
+
+            this.upperNeighbors = this.newAdjacency(this.vertexCount);
+            this.lowerNeighbors = this.newAdjacency(this.vertexCount);
+            this.chains = new int[this.edges.size()][];
+
+            int nextDummy = this.nodes.size();
+            for (int edgeIndex = 0; edgeIndex < this.edges.size(); edgeIndex++) {
+                int source = this.source(edgeIndex);
+                int target = this.target(edgeIndex);
+                int span = this.layers[target] - this.layers[source];
+
+                int[] chain = new int[span + 1];
+                chain[0] = source;
+                for (int step = 1; step < span; step++) {
+                    this.layers[nextDummy] = this.layers[source] + step;
+                    chain[step] = nextDummy;
+                    nextDummy++;
+                }
+                chain[span] = target;
+
+                for (int step = 0; step < span; step++) {
+                    this.lowerNeighbors.get(chain[step]).add(chain[step + 1]);
+                    this.upperNeighbors.get(chain[step + 1]).add(chain[step]);
+                }
+                this.chains[edgeIndex] = chain;
+            }
+        }
+
+        /**
+         * Orders the vertices of each layer by the barycenter of their neighbors in the previous layer, sweeping the
+         * layers alternatively downward and upward.
+         */
+        private void orderLayers() {
+            this.layerVertices = new ArrayList<>();
+            for (int layer = 0; layer < this.layerCount; layer++) {
+                this.layerVertices.add(new ArrayList<>());
+            }
+            for (int vertex = 0; vertex < this.vertexCount; vertex++) {
+                if (vertex >= this.nodes.size() || this.connected[vertex]) {
+                    this.layerVertices.get(this.layers[vertex]).add(vertex);
+                }
+            }
+
+            this.orders = new int[this.vertexCount];
+            this.barycenters = new double[this.vertexCount];
+            this.layerVertices.forEach(this::updateOrders);
+
+            for (int sweep = 0; sweep < ORDERING_SWEEPS; sweep++) {
+                if (sweep % 2 == 0) {
+                    for (int layer = 1; layer < this.layerCount; layer++) {
+                        this.sortByBarycenter(this.layerVertices.get(layer), this.upperNeighbors);
+                    }
+                } else {
+                    for (int layer = this.layerCount - 2; layer >= 0; layer--) {
+                        this.sortByBarycenter(this.layerVertices.get(layer), this.lowerNeighbors);
+                    }
+                }
+            }
+        }
+
+        private void sortByBarycenter(List<Integer> vertices, List<List<Integer>> neighbors) {
+            double[] vertexBarycenters = this.barycenters;
+            for (int vertex : vertices) {
+                List<Integer> vertexNeighbors = neighbors.get(vertex);
+                if (vertexNeighbors.isEmpty()) {
+                    vertexBarycenters[vertex] = this.orders[vertex];
+                } else {
+                    double sum = 0;
+                    for (int neighbor : vertexNeighbors) {
+                        sum = sum + this.orders[neighbor];
+                    }
+                    vertexBarycenters[vertex] = sum / vertexNeighbors.size();
+                }
+            }
+            vertices.sort(Comparator.comparingDouble(vertex -> vertexBarycenters[vertex]));
+            this.updateOrders(vertices);
+        }
+
+        private void updateOrders(List<Integer> vertices) {
+            for (int order = 0; order < vertices.size(); order++) {
+                this.orders[vertices.get(order)] = order;
+            }
+        }
+
+        /**
+         * Places the layers one after the other and the vertices of each layer as close as possible to the center of
+         * their neighbors in the previous layer, without overlapping the previous vertex of the layer.
+         */
+        private void placeNodes() {
+            double[] layerSizes = new double[this.layerCount];
+            for (int vertex = 0; vertex < this.vertexCount; vertex++) {
+                if (vertex >= this.nodes.size() || this.connected[vertex]) {
+                    layerSizes[this.layers[vertex]] = Math.max(layerSizes[this.layers[vertex]], this.layerExtents[vertex]);
+                }
+            }
+
+            this.layerStarts = new double[this.layerCount];
+            for (int layer = 1; layer < this.layerCount; layer++) {
+                this.layerStarts[layer] = this.layerStarts[layer - 1] + layerSizes[layer - 1] + LAYER_SPACING;
+            }
+
+            this.orderCoordinates = new double[this.vertexCount];
+            this.layerCoordinates = new double[this.vertexCount];
+            for (int layer = 0; layer < this.layerCount; layer++) {
+                int previousVertex = -1;
+                for (int vertex : this.layerVertices.get(layer)) {
+                    double start = this.getPreferredStart(vertex);
+                    if (previousVertex >= 0) {
+                        double minimalStart = this.orderCoordinates[previousVertex] + this.orderExtents[previousVertex] + this.getSpacing(previousVertex, vertex);
+                        start = Math.max(start, minimalStart);
+                    } else if (Double.isInfinite(start)) {
+                        start = 0;
+                    }
+                    this.orderCoordinates[vertex] = start;
+                    this.layerCoordinates[vertex] = this.layerStarts[layer] + (layerSizes[layer] - this.layerExtents[vertex]) / 2;
+                    previousVertex = vertex;
+                }
+            }
+        }
+
+        private double getPreferredStart(int vertex) {
+            List<Integer> neighbors = this.upperNeighbors.get(vertex);
+            if (neighbors.isEmpty()) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            double sum = 0;
+            for (int neighbor : neighbors) {
+                sum = sum + this.orderCoordinates[neighbor] + this.orderExtents[neighbor] / 2;
+            }
+            return sum / neighbors.size() - this.orderExtents[vertex] / 2;
+        }
+
+        private double getSpacing(int previousVertex, int vertex) {
+            if (previousVertex < this.nodes.size() && vertex < this.nodes.size()) {
+                return NODE_SPACING;
+            }
+            return EDGE_SPACING;
+        }
+
+        /**
+         * Exports the positions of the connected nodes and the bending points of the edges.
+         *
+         * @return The width and the height of the layered nodes
+         */
+        private double[] export(Map<String, Position> positions, Map<String, List<Position>> bendingPoints) {
+            double minimalOrder = Double.POSITIVE_INFINITY;
+            double orderSize = 0;
+            for (List<Integer> vertices : this.layerVertices) {
+                for (int vertex : vertices) {
+                    minimalOrder = Math.min(minimalOrder, this.orderCoordinates[vertex]);
+                }
+            }
+            for (List<Integer> vertices : this.layerVertices) {
+                for (int vertex : vertices) {
+                    this.orderCoordinates[vertex] = this.orderCoordinates[vertex] - minimalOrder;
+                    orderSize = Math.max(orderSize, this.orderCoordinates[vertex] + this.orderExtents[vertex]);
+                }
+            }
+
+            double layerSize = 0;
+            for (int vertex = 0; vertex < this.vertexCount; vertex++) {
+                if (vertex >= this.nodes.size() || this.connected[vertex]) {
+                    layerSize = Math.max(layerSize, this.layerCoordinates[vertex] + this.layerExtents[vertex]);
+                }
+            }
+
+            for (int node = 0; node < this.nodes.size(); node++) {
+                if (this.connected[node]) {
+                    double layerCoordinate = this.mirror(this.layerCoordinates[node], this.layerExtents[node], layerSize);
+                    positions.put(this.nodes.get(node).id(), this.toPosition(layerCoordinate, this.orderCoordinates[node]));
+                }
+            }
+
+            for (int edgeIndex = 0; edgeIndex < this.edges.size(); edgeIndex++) {
+                int[] chain = this.chains[edgeIndex];
+                List<Position> points = new ArrayList<>();
+                for (int step = 0; step < chain.length - 1; step++) {
+                    int layer = this.layers[chain[step]];
+                    double betweenLayers = this.mirror(this.layerStarts[layer + 1] - LAYER_SPACING / 2, 0, layerSize);
+                    double start = this.orderCoordinates[chain[step]] + this.orderExtents[chain[step]] / 2;
+                    double end = this.orderCoordinates[chain[step + 1]] + this.orderExtents[chain[step + 1]] / 2;
+                    if (Math.abs(start - end) > EPSILON) {
+                        points.add(this.toPosition(betweenLayers, start));
+                        points.add(this.toPosition(betweenLayers, end));
+                    }
+                }
+                if (this.reversedEdges[edgeIndex]) {
+                    Collections.reverse(points);
+                }
+                bendingPoints.put(this.edges.get(edgeIndex).id(), points);
+            }
+
+            if (LayeredGraphLayout.this.horizontal) {
+                return new double[] { layerSize, orderSize };
+            }
+            return new double[] { orderSize, layerSize };
+        }
+
+        private double mirror(double layerCoordinate, double layerExtent, double layerSize) {
+            if (LayeredGraphLayout.this.reversed) {
+                return layerSize - layerCoordinate - layerExtent;
+            }
+            return layerCoordinate;
+        }
+
+        private Position toPosition(double layerCoordinate, double orderCoordinate) {
+            if (LayeredGraphLayout.this.horizontal) {
+                return new Position(layerCoordinate, orderCoordinate);
+            }
+            return new Position(orderCoordinate, layerCoordinate);
+        }
+
+        private List<List<Integer>> newAdjacency(int size) {
+            List<List<Integer>> adjacency = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                adjacency.add(new ArrayList<>());
+            }
+            return adjacency;
+        }
+    }
+
+    /**
+     * A node of the graph to lay out.
+     *
+     * @author sbegaudeau
+     */
+    public record GraphNode(String id, double width, double height) {
+        public GraphNode {
+            Objects.requireNonNull(id);
+        }
+    }
+
+    /**
+     * An edge of the graph to lay out.
+     *
+     * @author sbegaudeau
+     */
+    public record GraphEdge(String id, String sourceId, String targetId) {
+        public GraphEdge {
+            Objects.requireNonNull(id);
+            Objects.requireNonNull(sourceId);
+            Objects.requireNonNull(targetId);
+        }
+    }
+
+    /**
+     * The position of the top left corner of each node, the bending points of each edge and the size of the graph.
+     *
+     * @author sbegaudeau
+     */
+    public record GraphLayout(Map<String, Position> positions, Map<String, List<Position>> bendingPoints, double width, double height) {
+        public GraphLayout {
+            Objects.requireNonNull(positions);
+            Objects.requireNonNull(bendingPoints);
+        }
+    }
+}
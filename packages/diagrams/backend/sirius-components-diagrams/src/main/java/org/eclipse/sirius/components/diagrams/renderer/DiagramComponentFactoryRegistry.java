@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.components.EdgeComponent;
+import org.eclipse.sirius.components.diagrams.components.EdgeComponentProps;
+import org.eclipse.sirius.components.diagrams.components.InsideLabelComponent;
+import org.eclipse.sirius.components.diagrams.components.InsideLabelComponentProps;
+import org.eclipse.sirius.components.diagrams.components.LabelComponent;
+import org.eclipse.sirius.components.diagrams.components.LabelComponentProps;
+import org.eclipse.sirius.components.diagrams.components.NodeChildrenComponent;
+import org.eclipse.sirius.components.diagrams.components.NodeChildrenComponentProps;
+import org.eclipse.sirius.components.diagrams.components.NodeComponent;
+import org.eclipse.sirius.components.diagrams.components.NodeComponentProps;
+import org.eclipse.sirius.components.diagrams.components.OutsideLabelComponent;
+import org.eclipse.sirius.components.diagrams.components.OutsideLabelComponentProps;
+import org.eclipse.sirius.components.representations.ComponentFactoryRegistry;
+
+/**
+ * The factories of the components of the diagrams, used to avoid creating them by reflection during each render.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramComponentFactoryRegistry extends ComponentFactoryRegistry {
+
+    public DiagramComponentFactoryRegistry() {
+        this.register(DiagramComponent.class, DiagramComponentProps.class, DiagramComponent::new)
+                .register(NodeComponent.class, NodeComponentProps.class, NodeComponent::new)
+                .register(NodeChildrenComponent.class, NodeChildrenComponentProps.class, NodeChildrenComponent::new)
+                .register(EdgeComponent.class, EdgeComponentProps.class, EdgeComponent::new)
+                .register(LabelComponent.class, LabelComponentProps.class, LabelComponent::new)
+                .register(InsideLabelComponent.class, InsideLabelComponentProps.class, InsideLabelComponent::new)
+                .register(OutsideLabelComponent.class, OutsideLabelComponentProps.class, OutsideLabelComponent::new);
+    }
+}
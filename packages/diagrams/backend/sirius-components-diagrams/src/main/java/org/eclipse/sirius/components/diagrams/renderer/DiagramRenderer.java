@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -31,10 +31,15 @@ import org.eclipse.sirius.components.representations.Element;
  */
 public class DiagramRenderer {
 
+    /**
+     * Shared by all the renders to create their components without reflection.
+     */
+    private static final DiagramComponentFactoryRegistry COMPONENT_FACTORY_REGISTRY = new DiagramComponentFactoryRegistry();
+
     private final BaseRenderer baseRenderer;
 
     public DiagramRenderer() {
-        this.baseRenderer = new BaseRenderer(new DiagramInstancePropsValidator(), new DiagramComponentPropsValidator(), new DiagramElementFactory());
+        this.baseRenderer = new BaseRenderer(new DiagramInstancePropsValidator(), new DiagramComponentPropsValidator(), new DiagramElementFactory(), COMPONENT_FACTORY_REGISTRY);
     }
 
     public Diagram render(Element element) {
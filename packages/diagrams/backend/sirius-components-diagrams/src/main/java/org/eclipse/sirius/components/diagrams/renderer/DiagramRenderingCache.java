@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,8 +13,10 @@
 package org.eclipse.sirius.components.diagrams.renderer;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -77,6 +79,50 @@ public class DiagramRenderingCache {
         return this.objectToNodes.getOrDefault(semanticObject, Collections.emptyList());
     }
 
+    /**
+     * Returns the nodes representing the given semantic object created by one of the given node descriptions.
+     *
+     * <p>
+     * Only the nodes of the semantic object are considered, it is used to resolve the source and target nodes of the
+     * edges without scanning the whole diagram. The node descriptions should be given as a set.
+     * </p>
+     *
+     * @param semanticObject
+     *            The semantic object
+     * @param nodeDescriptionIds
+     *            The ids of the node descriptions
+     * @return The nodes representing the semantic object
+     */
+    public List<Element> getElementsRepresenting(Object semanticObject, Collection<String> nodeDescriptionIds) {
+        List<Element> elements = this.objectToNodes.getOrDefault(semanticObject, Collections.emptyList());
+        if (elements.isEmpty()) {
+            return elements;
+        }
+        return elements.stream()
+                .filter(element -> element.getProps() instanceof NodeElementProps nodeElementProps && nodeDescriptionIds.contains(nodeElementProps.getDescriptionId()))
+                .toList();
+    }
+
+    /**
+     * Returns the semantic objects of the nodes created by the given node descriptions, once for each node.
+     *
+     * @param nodeDescriptionIds
+     *            The ids of the node descriptions
+     * @return The semantic objects of the nodes
+     */
+    public List<Object> getSemanticElements(Collection<String> nodeDescriptionIds) {
+        List<Object> semanticElements = new ArrayList<>();
+        for (String nodeDescriptionId : new LinkedHashSet<>(nodeDescriptionIds)) {
+            for (Element nodeElement : this.nodeDescriptionIdToNodes.getOrDefault(nodeDescriptionId, Collections.emptyList())) {
+                Object semanticElement = this.nodeToObject.get(nodeElement);
+                if (semanticElement != null) {
+                    semanticElements.add(semanticElement);
+                }
+            }
+        }
+        return semanticElements;
+    }
+
     public Optional<Element> getParent(String nodeId) {
         // @formatter:off
         return Optional.ofNullable(this.nodeIdToNode.get(nodeId))
@@ -116,5 +162,4 @@ public class DiagramRenderingCache {
 
         return descendants;
     }
-
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.sirius.components.diagrams.ArrangeLayoutDirection;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the layout of diagrams with 1 000, 5 000 and 10 000 nodes, some of them containing child nodes, connected
+ * by tree edges and by edges spanning several layers.
+ *
+ * <p>
+ * Its assertions depend on the duration of the layouts, it is thus excluded from the default build and only run with
+ * the profile <code>benchmark</code>.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Tag("benchmark")
+public class LayeredDiagramLayoutEngineBenchmarkTests {
+
+    private static final int SMALL_NODE_COUNT = 1_000;
+
+    private static final int MEDIUM_NODE_COUNT = 5_000;
+
+    private static final int LARGE_NODE_COUNT = 10_000;
+
+    private static final int CONTAINER_INTERVAL = 50;
+
+    private static final String NODE_PREFIX = "node";
+
+    private static final Duration MAX_LARGE_LAYOUT_DURATION = Duration.ofSeconds(20);
+
+    private final LayoutTestData layoutTestData = new LayoutTestData();
+
+    @Test
+    public void testLayoutOfLargeDiagramsScalesWithTheirSize() {
+        Diagram smallDiagram = this.getDiagram(SMALL_NODE_COUNT);
+        Diagram mediumDiagram = this.getDiagram(MEDIUM_NODE_COUNT);
+        Diagram largeDiagram = this.getDiagram(LARGE_NODE_COUNT);
+        this.layout(smallDiagram);
+
+        long start = System.nanoTime();
+        DiagramLayoutData smallLayoutData = this.layout(smallDiagram);
+        long smallDuration = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        DiagramLayoutData mediumLayoutData = this.layout(mediumDiagram);
+        long mediumDuration = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        DiagramLayoutData largeLayoutData = this.layout(largeDiagram);
+        long largeDuration = System.nanoTime() - start;
+
+        assertThat(smallLayoutData.nodeLayoutData()).hasSize(this.getLaidOutNodeCount(SMALL_NODE_COUNT));
+        assertThat(mediumLayoutData.nodeLayoutData()).hasSize(this.getLaidOutNodeCount(MEDIUM_NODE_COUNT));
+        assertThat(largeLayoutData.nodeLayoutData()).hasSize(this.getLaidOutNodeCount(LARGE_NODE_COUNT));
+        assertThat(largeLayoutData.edgeLayoutData()).hasSize(largeDiagram.getEdges().size());
+        assertThat(smallDuration).isLessThan(mediumDuration);
+        assertThat(Duration.ofNanos(largeDuration)).isLessThan(MAX_LARGE_LAYOUT_DURATION);
+    }
+
+    private DiagramLayoutData layout(Diagram diagram) {
+        return new LayeredDiagramLayoutEngine().layout(diagram, ArrangeLayoutDirection.DOWN);
+    }
+
+    private int getLaidOutNodeCount(int nodeCount) {
+        int containerCount = (nodeCount + CONTAINER_INTERVAL - 1) / CONTAINER_INTERVAL;
+        return nodeCount + containerCount * 2;
+    }
+
+    private Diagram getDiagram(int nodeCount) {
+        List<Node> nodes = new ArrayList<>(nodeCount);
+        List<Edge> edges = new ArrayList<>();
+        for (int index = 0; index < nodeCount; index++) {
+            String nodeId = NODE_PREFIX + index;
+            List<Node> childNodes = List.of();
+            if (index % CONTAINER_INTERVAL == 0) {
+                childNodes = List.of(this.layoutTestData.getNode(nodeId + "-first", List.of()), this.layoutTestData.getNode(nodeId + "-second", List.of()));
+                edges.add(this.layoutTestData.getEdge(nodeId + "-child", nodeId + "-first", nodeId + "-second"));
+            }
+            nodes.add(this.layoutTestData.getNode(nodeId, childNodes));
+
+            if (index > 0) {
+                edges.add(this.layoutTestData.getEdge(nodeId + "-tree", NODE_PREFIX + (index - 1) / 2, nodeId));
+            }
+            if (index * 4 + 3 < nodeCount) {
+                edges.add(this.layoutTestData.getEdge(nodeId + "-span", nodeId, NODE_PREFIX + (index * 4 + 3)));
+            }
+        }
+        return this.layoutTestData.getDiagram(nodes, edges);
+    }
+}
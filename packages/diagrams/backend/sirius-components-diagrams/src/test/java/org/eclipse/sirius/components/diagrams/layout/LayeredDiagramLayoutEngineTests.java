@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.sirius.components.diagrams.ArrangeLayoutDirection;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.ListLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the layered layout of the diagrams computed on the server.
+ *
+ * @author sbegaudeau
+ */
+public class LayeredDiagramLayoutEngineTests {
+
+    private static final String FIRST_NODE_ID = "first";
+
+    private static final String SECOND_NODE_ID = "second";
+
+    private static final String THIRD_NODE_ID = "third";
+
+    private static final String CONTAINER_ID = "container";
+
+    private static final String FIRST_EDGE_ID = "firstEdge";
+
+    private static final String SECOND_EDGE_ID = "secondEdge";
+
+    private final LayoutTestData layoutTestData = new LayoutTestData();
+
+    @Test
+    public void givenAChainOfNodesWhenItIsLaidOutDownwardsThenTheNodesAreLaidOutInSuccessiveLayers() {
+        Diagram diagram = this.layoutTestData.getDiagram(
+                List.of(this.layoutTestData.getNode(THIRD_NODE_ID, List.of()), this.layoutTestData.getNode(FIRST_NODE_ID, List.of()), this.layoutTestData.getNode(SECOND_NODE_ID, List.of())),
+                List.of(this.layoutTestData.getEdge(FIRST_EDGE_ID, FIRST_NODE_ID, SECOND_NODE_ID), this.layoutTestData.getEdge(SECOND_EDGE_ID, SECOND_NODE_ID, THIRD_NODE_ID)));
+
+        DiagramLayoutData layoutData = new LayeredDiagramLayoutEngine().layout(diagram, ArrangeLayoutDirection.DOWN);
+
+        Position first = layoutData.nodeLayoutData().get(FIRST_NODE_ID).position();
+        Position second = layoutData.nodeLayoutData().get(SECOND_NODE_ID).position();
+        Position third = layoutData.nodeLayoutData().get(THIRD_NODE_ID).position();
+        assertThat(first.y()).isLessThan(second.y());
+        assertThat(second.y()).isLessThan(third.y());
+        assertThat(second.y() - first.y()).isGreaterThanOrEqualTo(LayeredDiagramLayoutEngine.DEFAULT_HEIGHT + LayeredGraphLayout.LAYER_SPACING);
+        assertThat(layoutData.edgeLayoutData()).containsOnlyKeys(FIRST_EDGE_ID, SECOND_EDGE_ID);
+        assertThat(layoutData.edgeLayoutData().get(FIRST_EDGE_ID).bendingPoints())
+                .allSatisfy(point -> assertThat(point.y()).isBetween(first.y() + LayeredDiagramLayoutEngine.DEFAULT_HEIGHT, second.y()));
+    }
+
+    @Test
+    public void givenAnEdgeFromAChildNodeWhenTheDiagramIsLaidOutThenItsContainerIsPlacedBeforeTheTargetOfTheEdge() {
+        Node container = this.layoutTestData.getNode(CONTAINER_ID, List.of(this.layoutTestData.getNode(FIRST_NODE_ID, List.of()), this.layoutTestData.getNode(SECOND_NODE_ID, List.of())));
+        Diagram diagram = this.layoutTestData.getDiagram(
+                List.of(this.layoutTestData.getNode(THIRD_NODE_ID, List.of()), container),
+                List.of(this.layoutTestData.getEdge(FIRST_EDGE_ID, FIRST_NODE_ID, SECOND_NODE_ID), this.layoutTestData.getEdge(SECOND_EDGE_ID, SECOND_NODE_ID, THIRD_NODE_ID)));
+
+        DiagramLayoutData layoutData = new LayeredDiagramLayoutEngine().layout(diagram, ArrangeLayoutDirection.RIGHT);
+
+        NodeLayoutData containerLayoutData = layoutData.nodeLayoutData().get(CONTAINER_ID);
+        NodeLayoutData firstLayoutData = layoutData.nodeLayoutData().get(FIRST_NODE_ID);
+        NodeLayoutData secondLayoutData = layoutData.nodeLayoutData().get(SECOND_NODE_ID);
+        assertThat(containerLayoutData.position().x() + containerLayoutData.size().width()).isLessThan(layoutData.nodeLayoutData().get(THIRD_NODE_ID).position().x());
+        assertThat(firstLayoutData.position().x()).isLessThan(secondLayoutData.position().x());
+        assertThat(List.of(firstLayoutData, secondLayoutData)).allSatisfy(childLayoutData -> {
+            assertThat(childLayoutData.position().x()).isGreaterThanOrEqualTo(0);
+            assertThat(childLayoutData.position().y()).isGreaterThanOrEqualTo(LayeredDiagramLayoutEngine.PADDING);
+            assertThat(childLayoutData.position().x() + childLayoutData.size().width()).isLessThanOrEqualTo(containerLayoutData.size().width());
+            assertThat(childLayoutData.position().y() + childLayoutData.size().height()).isLessThanOrEqualTo(containerLayoutData.size().height());
+        });
+        assertThat(layoutData.edgeLayoutData().get(FIRST_EDGE_ID).bendingPoints())
+                .allSatisfy(point -> assertThat(point.x()).isGreaterThan(containerLayoutData.position().x()));
+    }
+
+    @Test
+    public void givenAListNodeWhenTheDiagramIsLaidOutThenItsChildrenAreStackedWithTheSameWidth() {
+        var listLayoutStrategy = ListLayoutStrategy.newListLayoutStrategy()
+                .topGap(5)
+                .bottomGap(5)
+                .build();
+        Node container = this.layoutTestData.getNode(CONTAINER_ID, listLayoutStrategy, List.of(this.layoutTestData.getNode(FIRST_NODE_ID, List.of()), this.layoutTestData.getNode(SECOND_NODE_ID, List.of())));
+        Diagram diagram = this.layoutTestData.getDiagram(List.of(container), List.of());
+
+        DiagramLayoutData layoutData = new LayeredDiagramLayoutEngine().layout(diagram, ArrangeLayoutDirection.RIGHT);
+
+        NodeLayoutData containerLayoutData = layoutData.nodeLayoutData().get(CONTAINER_ID);
+        NodeLayoutData firstLayoutData = layoutData.nodeLayoutData().get(FIRST_NODE_ID);
+        NodeLayoutData secondLayoutData = layoutData.nodeLayoutData().get(SECOND_NODE_ID);
+        assertThat(firstLayoutData.position()).isEqualTo(new Position(0, 5));
+        assertThat(secondLayoutData.position()).isEqualTo(new Position(0, firstLayoutData.position().y() + firstLayoutData.size().height()));
+        assertThat(firstLayoutData.size().width()).isEqualTo(containerLayoutData.size().width());
+        assertThat(secondLayoutData.size().width()).isEqualTo(containerLayoutData.size().width());
+        assertThat(containerLayoutData.size().height()).isEqualTo(secondLayoutData.position().y() + secondLayoutData.size().height() + 5);
+    }
+
+    @Test
+    public void givenACycleAndUnconnectedNodesWhenTheDiagramIsLaidOutThenNoNodesOverlap() {
+        List<Node> nodes = new ArrayList<>();
+        for (int index = 0; index < 6; index++) {
+            nodes.add(this.layoutTestData.getNode("node" + index, List.of()));
+        }
+        Diagram diagram = this.layoutTestData.getDiagram(nodes, List.of(
+                this.layoutTestData.getEdge(FIRST_EDGE_ID, "node0", "node1"),
+                this.layoutTestData.getEdge(SECOND_EDGE_ID, "node1", "node2"),
+                this.layoutTestData.getEdge("thirdEdge", "node2", "node0")));
+
+        DiagramLayoutData layoutData = new LayeredDiagramLayoutEngine().layout(diagram, ArrangeLayoutDirection.LEFT);
+
+        List<NodeLayoutData> nodeLayoutData = nodes.stream()
+                .map(node -> layoutData.nodeLayoutData().get(node.getId()))
+                .toList();
+        assertThat(nodeLayoutData).doesNotContainNull();
+        for (int index = 0; index < nodeLayoutData.size(); index++) {
+            for (int otherIndex = index + 1; otherIndex < nodeLayoutData.size(); otherIndex++) {
+                assertThat(this.overlap(nodeLayoutData.get(index), nodeLayoutData.get(otherIndex))).isFalse();
+            }
+        }
+        assertThat(layoutData.edgeLayoutData()).hasSize(3);
+    }
+
+    @Test
+    public void givenAPinnedNodeWhenTheDiagramIsLaidOutThenItKeepsItsPosition() {
+        Node pinnedNode = Node.newNode(this.layoutTestData.getNode(FIRST_NODE_ID, List.of()))
+                .pinned(true)
+                .build();
+        var pinnedNodeLayoutData = new NodeLayoutData(FIRST_NODE_ID, new Position(-300, 450), new Size(200, 100), false);
+        Diagram diagram = Diagram.newDiagram(this.layoutTestData.getDiagram(List.of(pinnedNode, this.layoutTestData.getNode(SECOND_NODE_ID, List.of())),
+                        List.of(this.layoutTestData.getEdge(FIRST_EDGE_ID, FIRST_NODE_ID, SECOND_NODE_ID))))
+                .layoutData(new DiagramLayoutData(Map.of(FIRST_NODE_ID, pinnedNodeLayoutData), Map.of(), Map.of()))
+                .build();
+
+        DiagramLayoutData layoutData = new LayeredDiagramLayoutEngine().layout(diagram, ArrangeLayoutDirection.RIGHT);
+
+        assertThat(layoutData.nodeLayoutData().get(FIRST_NODE_ID)).isEqualTo(pinnedNodeLayoutData);
+        assertThat(layoutData.nodeLayoutData()).containsKey(SECOND_NODE_ID);
+        assertThat(layoutData.edgeLayoutData()).doesNotContainKey(FIRST_EDGE_ID);
+    }
+
+    private boolean overlap(NodeLayoutData nodeLayoutData, NodeLayoutData otherNodeLayoutData) {
+        boolean horizontalOverlap = nodeLayoutData.position().x() < otherNodeLayoutData.position().x() + otherNodeLayoutData.size().width()
+                && otherNodeLayoutData.position().x() < nodeLayoutData.position().x() + nodeLayoutData.size().width();
+        boolean verticalOverlap = nodeLayoutData.position().y() < otherNodeLayoutData.position().y() + otherNodeLayoutData.size().height()
+                && otherNodeLayoutData.position().y() < nodeLayoutData.position().y() + nodeLayoutData.size().height();
+        return horizontalOverlap && verticalOverlap;
+    }
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.layout;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.sirius.components.diagrams.ArrowStyle;
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.ILayoutStrategy;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.ViewModifier;
+
+/**
+ * Creates the nodes and edges of the diagrams laid out by the tests.
+ *
+ * @author sbegaudeau
+ */
+public class LayoutTestData {
+
+    private static final String BLACK = "black";
+
+    public Diagram getDiagram(List<Node> nodes, List<Edge> edges) {
+        return Diagram.newDiagram("diagramId")
+                .targetObjectId("diagramTargetObjectId")
+                .descriptionId("diagramDescriptionId")
+                .nodes(nodes)
+                .edges(edges)
+                .build();
+    }
+
+    public Node getNode(String id, List<Node> childNodes) {
+        return this.getNode(id, new FreeFormLayoutStrategy(), childNodes);
+    }
+
+    public Node getNode(String id, ILayoutStrategy childrenLayoutStrategy, List<Node> childNodes) {
+        return Node.newNode(id)
+                .type("node:rectangle")
+                .targetObjectId(id)
+                .targetObjectKind("")
+                .targetObjectLabel("")
+                .descriptionId("nodeDescriptionId")
+                .style(RectangularNodeStyle.newRectangularNodeStyle()
+                        .background("white")
+                        .borderColor(BLACK)
+                        .borderSize(1)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .childrenLayoutStrategy(childrenLayoutStrategy)
+                .borderNodes(List.of())
+                .childNodes(childNodes)
+                .modifiers(Set.of())
+                .state(ViewModifier.Normal)
+                .collapsingState(CollapsingState.EXPANDED)
+                .build();
+    }
+
+    public Edge getEdge(String id, String sourceId, String targetId) {
+        return Edge.newEdge(id)
+                .type("edge:straight")
+                .targetObjectId(id)
+                .targetObjectKind("")
+                .targetObjectLabel("")
+                .descriptionId("edgeDescriptionId")
+                .sourceId(sourceId)
+                .targetId(targetId)
+                .modifiers(Set.of())
+                .state(ViewModifier.Normal)
+                .style(EdgeStyle.newEdgeStyle()
+                        .size(1)
+                        .lineStyle(LineStyle.Solid)
+                        .sourceArrow(ArrowStyle.None)
+                        .targetArrow(ArrowStyle.InputArrow)
+                        .color(BLACK)
+                        .build())
+                .build();
+    }
+}
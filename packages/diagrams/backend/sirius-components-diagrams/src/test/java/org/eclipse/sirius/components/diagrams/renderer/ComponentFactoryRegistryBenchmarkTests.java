@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.HeaderSeparatorDisplayMode;
+import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
+import org.eclipse.sirius.components.diagrams.LabelOverflowStrategy;
+import org.eclipse.sirius.components.diagrams.LabelTextAlign;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.representations.BaseRenderer;
+import org.eclipse.sirius.components.representations.ComponentFactoryRegistry;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.IComponent;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.IProps;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the creation of the components of a diagram with 10 000 nodes using the registered factories and using the
+ * reflection for each component.
+ *
+ * <p>
+ * Its assertion depends on the memory allocated by the current thread, it is only run with the profile
+ * <code>benchmark</code>.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Tag("benchmark")
+public class ComponentFactoryRegistryBenchmarkTests {
+
+    private static final int NODE_COUNT = 10_000;
+
+    private static final int WARMUP_ITERATIONS = 3;
+
+    private static final String BLACK = "black";
+
+    @Test
+    public void testComponentFactoriesAllocateLessThanReflection() {
+        var threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        var allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled());
+
+        Element element = this.getDiagramElement();
+        ComponentFactoryRegistry reflectiveRegistry = new ReflectiveComponentFactoryRegistry();
+        ComponentFactoryRegistry diagramRegistry = new DiagramComponentFactoryRegistry();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            this.render(element, reflectiveRegistry);
+            this.render(element, diagramRegistry);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long start = allocationMXBean.getThreadAllocatedBytes(threadId);
+        Diagram reflectiveDiagram = this.render(element, reflectiveRegistry);
+        long reflectiveAllocatedBytes = allocationMXBean.getThreadAllocatedBytes(threadId) - start;
+
+        start = allocationMXBean.getThreadAllocatedBytes(threadId);
+        Diagram diagram = this.render(element, diagramRegistry);
+        long allocatedBytes = allocationMXBean.getThreadAllocatedBytes(threadId) - start;
+
+        assertThat(reflectiveDiagram.getNodes()).hasSize(NODE_COUNT);
+        assertThat(diagram.getNodes()).hasSize(NODE_COUNT);
+        assertThat(allocatedBytes).isLessThan(reflectiveAllocatedBytes);
+    }
+
+    private Diagram render(Element element, ComponentFactoryRegistry componentFactoryRegistry) {
+        var baseRenderer = new BaseRenderer(new DiagramInstancePropsValidator(), new DiagramComponentPropsValidator(), new DiagramElementFactory(), componentFactoryRegistry);
+        return (Diagram) baseRenderer.renderElement(element);
+    }
+
+    private Element getDiagramElement() {
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .italicProvider(variableManager -> false)
+                .boldProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .colorProvider(variableManager -> BLACK)
+                .fontSizeProvider(variableManager -> 14)
+                .iconURLProvider(variableManager -> List.of())
+                .backgroundProvider(variableManager -> "transparent")
+                .borderColorProvider(variableManager -> BLACK)
+                .borderRadiusProvider(variableManager -> 0)
+                .borderSizeProvider(variableManager -> 0)
+                .borderStyleProvider(variableManager -> LineStyle.Solid)
+                .maxWidthProvider(variableManager -> null)
+                .build();
+
+        InsideLabelDescription insideLabelDescription = InsideLabelDescription.newInsideLabelDescription("insideLabelDescriptionId")
+                .idProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .textProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .styleDescriptionProvider(variableManager -> labelStyleDescription)
+                .isHeaderProvider(variableManager -> false)
+                .headerSeparatorDisplayModeProvider(variableManager -> HeaderSeparatorDisplayMode.NEVER)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .overflowStrategy(LabelOverflowStrategy.NONE)
+                .textAlign(LabelTextAlign.CENTER)
+                .build();
+
+        List<Object> semanticElements = IntStream.range(0, NODE_COUNT).mapToObj(index -> "object" + index).map(Object.class::cast).toList();
+        NodeDescription nodeDescription = NodeDescription.newNodeDescription(UUID.randomUUID().toString())
+                .typeProvider(variableManager -> "node:rectangular")
+                .semanticElementsProvider(variableManager -> semanticElements)
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .insideLabelDescription(insideLabelDescription)
+                .styleProvider(variableManager -> RectangularNodeStyle.newRectangularNodeStyle()
+                        .background("white")
+                        .borderColor(BLACK)
+                        .borderSize(1)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .borderNodeDescriptions(new ArrayList<>())
+                .childNodeDescriptions(new ArrayList<>())
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+
+        DiagramDescription diagramDescription = DiagramDescription.newDiagramDescription(UUID.randomUUID().toString())
+                .label("")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId")
+                .labelProvider(variableManager -> "Diagram")
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(new ArrayList<>())
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .iconURLsProvider(variableManager -> List.of())
+                .build();
+
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(new VariableManager())
+                .diagramDescription(diagramDescription)
+                .allDiagramDescriptions(List.of(diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(Optional.empty())
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .build();
+        return new Element(DiagramComponent.class, props);
+    }
+
+    /**
+     * Creates each component by looking up its constructor, like the renderer used to do.
+     *
+     * @author sbegaudeau
+     */
+    private static final class ReflectiveComponentFactoryRegistry extends ComponentFactoryRegistry {
+
+        @Override
+        public IComponent createComponent(Class<?> componentType, IProps props) throws ReflectiveOperationException {
+            return (IComponent) componentType.getConstructor(props.getClass()).newInstance(props);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.diagrams.ArrowStyle;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.HeaderSeparatorDisplayMode;
+import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
+import org.eclipse.sirius.components.diagrams.LabelOverflowStrategy;
+import org.eclipse.sirius.components.diagrams.LabelTextAlign;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the resolution of the source and target nodes of the edges of a diagram with 5 000 nodes and 20 000 edges
+ * using the indexes of the rendering cache and by scanning all the nodes of the cache.
+ *
+ * <p>
+ * Its assertion depends on the duration of the renderings, it is only run with the profile <code>benchmark</code>.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Tag("benchmark")
+public class EdgeResolutionBenchmarkTests {
+
+    private static final int NODE_COUNT = 5_000;
+
+    private static final int EDGE_COUNT = 20_000;
+
+    private static final String BLACK = "black";
+
+    private final String nodeDescriptionId = UUID.randomUUID().toString();
+
+    @Test
+    public void testIndexedEdgeResolutionIsFasterThanScanningTheCache() {
+        BiFunction<DiagramRenderingCache, Object, List<Element>> indexedResolution = (cache, semanticElement) -> cache.getElementsRepresenting(semanticElement, Set.of(this.nodeDescriptionId));
+        BiFunction<DiagramRenderingCache, Object, List<Element>> scanningResolution = (cache, semanticElement) -> {
+            List<Element> nodes = new ArrayList<>();
+            for (Map.Entry<Element, Object> entry : cache.getNodeToObject().entrySet()) {
+                if (entry.getKey().getProps() instanceof NodeElementProps props && props.getDescriptionId().equals(this.nodeDescriptionId) && entry.getValue().equals(semanticElement)) {
+                    nodes.add(entry.getKey());
+                }
+            }
+            return nodes;
+        };
+
+        Element indexedElement = this.getDiagramElement(indexedResolution);
+        Element scanningElement = this.getDiagramElement(scanningResolution);
+        this.render(indexedElement);
+
+        long start = System.nanoTime();
+        Diagram scanningDiagram = this.render(scanningElement);
+        long scanningDuration = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        Diagram diagram = this.render(indexedElement);
+        long indexedDuration = System.nanoTime() - start;
+
+        assertThat(scanningDiagram.getNodes()).hasSize(NODE_COUNT);
+        assertThat(scanningDiagram.getEdges()).hasSize(EDGE_COUNT);
+        assertThat(diagram.getNodes()).hasSize(NODE_COUNT);
+        assertThat(diagram.getEdges()).hasSize(EDGE_COUNT);
+        assertThat(indexedDuration).isLessThan(scanningDuration);
+    }
+
+    private Diagram render(Element element) {
+        return new DiagramRenderer().render(element);
+    }
+
+    private Element getDiagramElement(BiFunction<DiagramRenderingCache, Object, List<Element>> nodesResolution) {
+        List<Object> nodeSemanticElements = IntStream.range(0, NODE_COUNT).mapToObj(index -> "node" + index).map(Object.class::cast).toList();
+        List<Object> edgeSemanticElements = IntStream.range(0, EDGE_COUNT)
+                .mapToObj(index -> new TestEdge(nodeSemanticElements.get(index % NODE_COUNT), nodeSemanticElements.get((index * 7 + 1) % NODE_COUNT)))
+                .map(Object.class::cast)
+                .toList();
+
+        NodeDescription nodeDescription = this.getNodeDescription(nodeSemanticElements);
+
+        EdgeDescription edgeDescription = EdgeDescription.newEdgeDescription(UUID.randomUUID().toString())
+                .semanticElementsProvider(variableManager -> edgeSemanticElements)
+                .sourceNodesProvider(variableManager -> this.resolve(variableManager, nodesResolution, TestEdge::source))
+                .targetNodesProvider(variableManager -> this.resolve(variableManager, nodesResolution, TestEdge::target))
+                .sourceNodeDescriptions(List.of(nodeDescription))
+                .targetNodeDescriptions(List.of(nodeDescription))
+                .targetObjectIdProvider(variableManager -> "")
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .styleProvider(variableManager -> EdgeStyle.newEdgeStyle()
+                        .size(1)
+                        .lineStyle(LineStyle.Solid)
+                        .sourceArrow(ArrowStyle.None)
+                        .targetArrow(ArrowStyle.InputArrow)
+                        .color(BLACK)
+                        .build())
+                .deleteHandler(variableManager -> new Failure(""))
+                .labelEditHandler((variableManager, edgeLabelKind, newLabel) -> new Failure(""))
+                .build();
+
+        DiagramDescription diagramDescription = DiagramDescription.newDiagramDescription(UUID.randomUUID().toString())
+                .label("")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId")
+                .labelProvider(variableManager -> "Diagram")
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(List.of(edgeDescription))
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .iconURLsProvider(variableManager -> List.of())
+                .build();
+
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(new VariableManager())
+                .diagramDescription(diagramDescription)
+                .allDiagramDescriptions(List.of(diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(Optional.empty())
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .build();
+        return new Element(DiagramComponent.class, props);
+    }
+
+    private List<Element> resolve(VariableManager variableManager, BiFunction<DiagramRenderingCache, Object, List<Element>> nodesResolution,
+            Function<TestEdge, Object> semanticElementProvider) {
+        var optionalCache = variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class);
+        var optionalEdge = variableManager.get(VariableManager.SELF, TestEdge.class);
+        if (optionalCache.isEmpty() || optionalEdge.isEmpty()) {
+            return List.of();
+        }
+        return nodesResolution.apply(optionalCache.get(), semanticElementProvider.apply(optionalEdge.get())).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private NodeDescription getNodeDescription(List<Object> semanticElements) {
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .italicProvider(variableManager -> false)
+                .boldProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .colorProvider(variableManager -> BLACK)
+                .fontSizeProvider(variableManager -> 14)
+                .iconURLProvider(variableManager -> List.of())
+                .backgroundProvider(variableManager -> "transparent")
+                .borderColorProvider(variableManager -> BLACK)
+                .borderRadiusProvider(variableManager -> 0)
+                .borderSizeProvider(variableManager -> 0)
+                .borderStyleProvider(variableManager -> LineStyle.Solid)
+                .maxWidthProvider(variableManager -> null)
+                .build();
+
+        InsideLabelDescription insideLabelDescription = InsideLabelDescription.newInsideLabelDescription("insideLabelDescriptionId")
+                .idProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .textProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .styleDescriptionProvider(variableManager -> labelStyleDescription)
+                .isHeaderProvider(variableManager -> false)
+                .headerSeparatorDisplayModeProvider(variableManager -> HeaderSeparatorDisplayMode.NEVER)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .overflowStrategy(LabelOverflowStrategy.NONE)
+                .textAlign(LabelTextAlign.CENTER)
+                .build();
+
+        return NodeDescription.newNodeDescription(this.nodeDescriptionId)
+                .typeProvider(variableManager -> "node:rectangular")
+                .semanticElementsProvider(variableManager -> semanticElements)
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .insideLabelDescription(insideLabelDescription)
+                .styleProvider(variableManager -> RectangularNodeStyle.newRectangularNodeStyle()
+                        .background("white")
+                        .borderColor(BLACK)
+                        .borderSize(1)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .borderNodeDescriptions(new ArrayList<>())
+                .childNodeDescriptions(new ArrayList<>())
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+    }
+
+    /**
+     * The semantic element of an edge between two semantic elements.
+     *
+     * @author sbegaudeau
+     */
+    private record TestEdge(Object source, Object target) {
+    }
+}
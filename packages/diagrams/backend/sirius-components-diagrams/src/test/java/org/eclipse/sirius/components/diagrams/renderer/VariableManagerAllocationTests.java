@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the memory allocated to give the variables of the render of a large diagram to the interpreter.
+ *
+ * <p>
+ * The measure itself is a benchmark, it is excluded from the default build and run with the profile
+ * <code>benchmark</code>.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class VariableManagerAllocationTests {
+
+    private static final String EDITING_CONTEXT = "editingContext";
+
+    private static final int NODE_COUNT = 2000;
+
+    private static final int NODE_DEPTH = 4;
+
+    private static final int EVALUATIONS_PER_ELEMENT = 10;
+
+    @Test
+    public void testLayeredVariablesMatchCopiedVariables() {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, "diagram");
+        variableManager.put(EDITING_CONTEXT, EDITING_CONTEXT);
+        variableManager.put(DiagramDescription.LABEL, "label");
+
+        VariableManager childVariableManager = variableManager.createChild();
+        childVariableManager.put(VariableManager.SELF, "childNode");
+        childVariableManager.put(DiagramDescription.LABEL, null);
+
+        Map<String, Object> variables = childVariableManager.asMap();
+        assertThat(variables).isEqualTo(childVariableManager.getVariables());
+        assertThat(variables.get(VariableManager.SELF)).isEqualTo("childNode");
+        assertThat(variables.get(EDITING_CONTEXT)).isEqualTo(EDITING_CONTEXT);
+        assertThat(variables.containsKey(DiagramDescription.LABEL)).isTrue();
+        assertThat(variables.get(DiagramDescription.LABEL)).isNull();
+        assertThat(variables.containsKey(EdgeDescription.SEMANTIC_EDGE_SOURCE)).isFalse();
+        assertThat(variables).hasSize(3);
+        assertThat(variables.entrySet()).extracting(Map.Entry::getKey).containsExactlyInAnyOrder(VariableManager.SELF, EDITING_CONTEXT, DiagramDescription.LABEL);
+        assertThat(variables.isEmpty()).isFalse();
+        assertThat(new VariableManager().createChild().asMap()).isEmpty();
+
+        childVariableManager.put(EdgeDescription.SEMANTIC_EDGE_SOURCE, "source");
+        assertThat(variables.get(EdgeDescription.SEMANTIC_EDGE_SOURCE)).isEqualTo("source");
+        assertThat(variables).hasSize(4);
+        assertThatThrownBy(() -> variables.put(VariableManager.SELF, "other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> variables.entrySet().iterator().next().setValue("other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> variables.entrySet().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testLayeredVariablesAllocateLessThanCopiedVariables() {
+        var threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        var allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled());
+
+        List<VariableManager> elementVariableManagers = this.createElementVariableManagers();
+        long threadId = Thread.currentThread().getId();
+
+        // Warm up both code paths before measuring them
+        this.evaluateAll(elementVariableManagers, VariableManager::getVariables);
+        this.evaluateAll(elementVariableManagers, VariableManager::asMap);
+
+        long start = allocationMXBean.getThreadAllocatedBytes(threadId);
+        int copiedLookups = this.evaluateAll(elementVariableManagers, VariableManager::getVariables);
+        long copiedAllocatedBytes = allocationMXBean.getThreadAllocatedBytes(threadId) - start;
+
+        start = allocationMXBean.getThreadAllocatedBytes(threadId);
+        int layeredLookups = this.evaluateAll(elementVariableManagers, VariableManager::asMap);
+        long layeredAllocatedBytes = allocationMXBean.getThreadAllocatedBytes(threadId) - start;
+
+        assertThat(layeredLookups).isEqualTo(copiedLookups);
+        assertThat(layeredAllocatedBytes).isLessThan(copiedAllocatedBytes / 10);
+    }
+
+    /**
+     * Creates the variable managers of the nodes of a large diagram, each node being nested in its parent like during
+     * an actual render.
+     */
+    private List<VariableManager> createElementVariableManagers() {
+        VariableManager diagramVariableManager = new VariableManager();
+        diagramVariableManager.put(VariableManager.SELF, new Object());
+        diagramVariableManager.put(EDITING_CONTEXT, new Object());
+        diagramVariableManager.put("environment", new Object());
+        diagramVariableManager.put("diagramContext", new Object());
+        diagramVariableManager.put("diagramServices", new Object());
+        diagramVariableManager.put(DiagramDescription.CACHE, new Object());
+
+        List<VariableManager> elementVariableManagers = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            VariableManager variableManager = diagramVariableManager;
+            for (int depth = 0; depth < NODE_DEPTH; depth++) {
+                variableManager = variableManager.createChild();
+                variableManager.put(VariableManager.SELF, new Object());
+                String elementId = "node" + i + "-" + depth;
+                variableManager.put("parentElementId", elementId);
+                variableManager.put("previousParentElementId", elementId);
+                elementVariableManagers.add(variableManager);
+            }
+        }
+        return elementVariableManagers;
+    }
+
+    private int evaluateAll(List<VariableManager> elementVariableManagers, Function<VariableManager, Map<String, Object>> variablesProvider) {
+        int lookups = 0;
+        for (VariableManager variableManager : elementVariableManagers) {
+            for (int i = 0; i < EVALUATIONS_PER_ELEMENT; i++) {
+                Map<String, Object> variables = variablesProvider.apply(variableManager);
+                if (variables.get(VariableManager.SELF) != null && variables.get(EDITING_CONTEXT) != null) {
+                    lookups++;
+                }
+            }
+        }
+        return lookups;
+    }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.configuration;
+
+import java.util.function.Supplier;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.interpreter.AQLExpressionCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.google.common.cache.CacheStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration of the cache of the AQL expressions shared by the interpreters.
+ *
+ * @author sbegaudeau
+ */
+@Configuration
+public class AQLExpressionCacheConfiguration {
+
+    private static final String PARSED_EXPRESSIONS = "parsedExpressions";
+
+    private static final String CONVERTED_EXPRESSIONS = "convertedExpressions";
+
+    @Bean
+    public AQLExpressionCache aqlExpressionCache(MeterRegistry meterRegistry, @Value("${sirius.components.interpreter.expressionCacheSize:10000}") long maximumSize) {
+        var expressionCache = new AQLExpressionCache(maximumSize);
+
+        this.registerMetrics(meterRegistry, PARSED_EXPRESSIONS, expressionCache::getParsedExpressionsStats, expressionCache::getParsedExpressionsSize);
+        this.registerMetrics(meterRegistry, CONVERTED_EXPRESSIONS, expressionCache::getConvertedExpressionsStats, expressionCache::getConvertedExpressionsSize);
+        return expressionCache;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry, String cacheName, Supplier<CacheStats> stats, Supplier<Long> size) {
+        FunctionCounter.builder(Monitoring.AQL_EXPRESSION_CACHE_HITS, stats, cacheStats -> cacheStats.get().hitCount())
+                .tag(Monitoring.CACHE, cacheName)
+                .register(meterRegistry);
+        FunctionCounter.builder(Monitoring.AQL_EXPRESSION_CACHE_MISSES, stats, cacheStats -> cacheStats.get().missCount())
+                .tag(Monitoring.CACHE, cacheName)
+                .register(meterRegistry);
+        FunctionCounter.builder(Monitoring.AQL_EXPRESSION_CACHE_EVICTIONS, stats, cacheStats -> cacheStats.get().evictionCount())
+                .tag(Monitoring.CACHE, cacheName)
+                .register(meterRegistry);
+        Gauge.builder(Monitoring.AQL_EXPRESSION_CACHE_SIZE, size, cacheSize -> cacheSize.get())
+                .tag(Monitoring.CACHE, cacheName)
+                .register(meterRegistry);
+    }
+}
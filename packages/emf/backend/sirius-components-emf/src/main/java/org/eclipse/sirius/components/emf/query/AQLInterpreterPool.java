@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.query;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.query.api.IAQLInterpreterPool;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to reuse the AQL interpreters created for an editing context.
+ *
+ * <p>
+ * Building an interpreter requires the registration of all its Java services and EPackages and it starts with an empty
+ * cache of parsed expressions. The interpreters of an EMF based editing context are thus kept in an adapter of its
+ * resource set and reused by the following queries, they are released with this resource set.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class AQLInterpreterPool implements IAQLInterpreterPool {
+
+    @Override
+    public <T> T withInterpreter(IEditingContext editingContext, List<Class<?>> serviceClasses, List<EPackage> ePackages, Supplier<AQLInterpreter> interpreterFactory, Function<AQLInterpreter, T> function) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            return this.getPoolAdapter(emfEditingContext).withInterpreter(serviceClasses, ePackages, interpreterFactory, function);
+        }
+        return function.apply(interpreterFactory.get());
+    }
+
+    private AQLInterpreterPoolAdapter getPoolAdapter(IEMFEditingContext emfEditingContext) {
+        var resourceSet = emfEditingContext.getDomain().getResourceSet();
+        synchronized (resourceSet) {
+            if (EcoreUtil.getExistingAdapter(resourceSet, AQLInterpreterPoolAdapter.class) instanceof AQLInterpreterPoolAdapter poolAdapter) {
+                return poolAdapter;
+            }
+            var poolAdapter = new AQLInterpreterPoolAdapter();
+            resourceSet.eAdapters().add(poolAdapter);
+            return poolAdapter;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.query;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+
+/**
+ * Adapter installed on the resource set of an editing context to keep its AQL interpreters.
+ *
+ * <p>
+ * The interpreters are identified by the classes of their Java services and by their EPackages, which are compared by
+ * identity. An interpreter is only used by one caller at a time: it is taken out of the pool while it is used and given
+ * back afterward, concurrent callers thus receive a new interpreter. The pool keeps at most one idle interpreter for
+ * each key and evicts the least recently used ones beyond {@link #MAX_INTERPRETERS}.
+ * </p>
+ *
+ * <p>
+ * The interpreters are released with the resource set of the editing context, the implementations of the editing
+ * context can also release them as soon as they are disposed.
+ * </p>
+ *
+ * @author agent
+ */
+public class AQLInterpreterPoolAdapter extends AdapterImpl {
+
+    private static final int MAX_INTERPRETERS = 16;
+
+    private final Map<AQLInterpreterKey, AQLInterpreter> idleInterpreters = new LinkedHashMap<>();
+
+    public <T> T withInterpreter(List<Class<?>> serviceClasses, List<EPackage> ePackages, Supplier<AQLInterpreter> interpreterFactory, Function<AQLInterpreter, T> function) {
+        var key = new AQLInterpreterKey(Set.copyOf(serviceClasses), Set.copyOf(ePackages));
+        var interpreter = Optional.ofNullable(this.take(key)).orElseGet(interpreterFactory);
+        try {
+            return function.apply(interpreter);
+        } finally {
+            this.giveBack(key, interpreter);
+        }
+    }
+
+    public synchronized void clear() {
+        this.idleInterpreters.clear();
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == AQLInterpreterPoolAdapter.class;
+    }
+
+    private synchronized AQLInterpreter take(AQLInterpreterKey key) {
+        return this.idleInterpreters.remove(key);
+    }
+
+    private synchronized void giveBack(AQLInterpreterKey key, AQLInterpreter interpreter) {
+        this.idleInterpreters.putIfAbsent(key, interpreter);
+        if (this.idleInterpreters.size() > MAX_INTERPRETERS) {
+            var iterator = this.idleInterpreters.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * The key of a pooled interpreter.
+     *
+     * @author agent
+     */
+    private record AQLInterpreterKey(Set<Class<?>> serviceClasses, Set<EPackage> ePackages) {
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -22,12 +22,14 @@ import java.util.stream.StreamSupport;
 
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.interpreter.ICrossReferenceIndex;
 
 /**
  * An utility class providing various query services.
@@ -43,6 +45,20 @@ public final class EditingContextServices {
                .toList();
     }
 
+    public Collection<EObject> allInstances(IEditingContext editingContext, EClass eClass) {
+        var optionalResourceSet = this.getResourceset(editingContext);
+        return optionalResourceSet
+                .flatMap(resourceSet -> resourceSet.eAdapters().stream()
+                        .filter(ICrossReferenceIndex.class::isInstance)
+                        .map(ICrossReferenceIndex.class::cast)
+                        .findFirst())
+                .map(crossReferenceIndex -> (Collection<EObject>) crossReferenceIndex.getInstances(eClass))
+                .orElseGet(() -> optionalResourceSet.stream()
+                        .flatMap(this::collectAllContent)
+                        .filter(eClass::isInstance)
+                        .toList());
+    }
+
     public Collection<EObject> contents(IEditingContext editingContext) {
         return this.getResourceset(editingContext)
                 .stream()
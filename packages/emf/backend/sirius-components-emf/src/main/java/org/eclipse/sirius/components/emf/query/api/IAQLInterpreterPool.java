@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.query.api;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+
+/**
+ * Used to reuse the AQL interpreters created for an editing context.
+ *
+ * @author agent
+ */
+public interface IAQLInterpreterPool {
+
+    /**
+     * Applies the given function to an interpreter of the editing context with the given services and EPackages.
+     *
+     * <p>
+     * The interpreter is only used by the function while it runs. It must not be kept afterward since it is given back
+     * to the pool and may then be used by another caller.
+     * </p>
+     *
+     * @param editingContext
+     *            The editing context
+     * @param serviceClasses
+     *            The classes of the Java services available in the interpreter
+     * @param ePackages
+     *            The EPackages registered in the interpreter
+     * @param interpreterFactory
+     *            Used to create the interpreter if none can be reused
+     * @param function
+     *            The function using the interpreter
+     * @param <T>
+     *            The type of the result of the function
+     * @return The result of the function
+     */
+    <T> T withInterpreter(IEditingContext editingContext, List<Class<?>> serviceClasses, List<EPackage> ePackages, Supplier<AQLInterpreter> interpreterFactory, Function<AQLInterpreter, T> function);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,24 +14,86 @@ package org.eclipse.sirius.components.emf.services;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.interpreter.ICrossReferenceIndex;
 
 /**
  * A {@link ECrossReferenceAdapter}@ that is able to clean dangling references when an object is deleted or when a
  * resource is removed from the ResourceSet.
  *
+ * <p>
+ * It also keeps an index of the objects of each EClass, updated from the same notifications, to retrieve all the
+ * instances of an EClass without walking the content of the resource set. The instances are returned in a stable
+ * order, grouped by EClass, in the order in which they have been added to the resource set. The objects loaded in the
+ * resource set before the installation of this adapter are thus in the order of their containment.
+ * </p>
+ *
  * @author lfasani
  */
-public class EditingContextCrossReferenceAdapter extends ECrossReferenceAdapter {
+public class EditingContextCrossReferenceAdapter extends ECrossReferenceAdapter implements ICrossReferenceIndex {
+
+    private final Map<EClass, Set<EObject>> instances = new LinkedHashMap<>();
+
+    @Override
+    public List<EObject> getInstances(EClass eClass) {
+        boolean allObjects = EcorePackage.Literals.EOBJECT == eClass;
+
+        List<EObject> result = new ArrayList<>();
+        this.instances.forEach((instancesEClass, eObjects) -> {
+            if (allObjects || eClass.isSuperTypeOf(instancesEClass)) {
+                eObjects.stream()
+                        .filter(eObject -> !eObject.eIsProxy() && eObject.eResource() != null)
+                        .forEach(result::add);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        super.setTarget(target);
+        this.index(target);
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        this.unindex(target);
+    }
+
+    private void index(EObject eObject) {
+        this.instances.computeIfAbsent(eObject.eClass(), eClass -> new LinkedHashSet<>()).add(eObject);
+    }
+
+    private void unindex(EObject eObject) {
+        var eObjects = this.instances.get(eObject.eClass());
+        if (eObjects != null) {
+            eObjects.remove(eObject);
+        }
+    }
+
+    private void indexContainedObject(Object object) {
+        if (object instanceof EObject eObject) {
+            this.index(eObject);
+            eObject.eAllContents().forEachRemaining(this::index);
+        }
+    }
 
     @Override
     protected void handleContainment(Notification notification) {
@@ -47,6 +109,28 @@ public class EditingContextCrossReferenceAdapter extends ECrossReferenceAdapter
             }
         } else {
             super.handleContainment(notification);
+            this.handleAddedObjects(notification);
+        }
+    }
+
+    /**
+     * Indexes the objects added, the objects moved from another container are not set as target again.
+     *
+     * @param notification
+     *            The containment notification
+     */
+    private void handleAddedObjects(Notification notification) {
+        int eventType = notification.getEventType();
+        if (eventType == Notification.SET || eventType == Notification.UNSET) {
+            if (notification.getOldValue() instanceof EObject oldValue && oldValue.eResource() == null) {
+                this.unindex(oldValue);
+                oldValue.eAllContents().forEachRemaining(this::unindex);
+            }
+            this.indexContainedObject(notification.getNewValue());
+        } else if (eventType == Notification.ADD) {
+            this.indexContainedObject(notification.getNewValue());
+        } else if (eventType == Notification.ADD_MANY) {
+            ((Collection<?>) notification.getNewValue()).forEach(this::indexContainedObject);
         }
     }
 
@@ -61,11 +145,13 @@ public class EditingContextCrossReferenceAdapter extends ECrossReferenceAdapter
     private void handleRemoveEObject(EObject eObject) {
         // Remove all inverse references
         this.clearReferencesTo(eObject);
+        this.unindex(eObject);
         TreeIterator<Object> allProperContents = EcoreUtil.getAllProperContents(eObject, false);
         while (allProperContents.hasNext()) {
             Object object = allProperContents.next();
             if (object instanceof EObject) {
                 this.clearReferencesTo((EObject) object);
+                this.unindex((EObject) object);
             }
         }
 
@@ -80,6 +166,7 @@ public class EditingContextCrossReferenceAdapter extends ECrossReferenceAdapter
             Object object = allProperContents.next();
             if (object instanceof EObject) {
                 this.clearReferencesTo((EObject) object);
+                this.unindex((EObject) object);
             }
         }
 
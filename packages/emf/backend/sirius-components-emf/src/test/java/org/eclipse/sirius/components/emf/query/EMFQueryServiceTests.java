@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,11 +16,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
@@ -28,6 +32,7 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.xmi.XMIResource;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
@@ -45,6 +50,7 @@ import org.eclipse.sirius.components.emf.services.EditingDomainFactory;
 import org.eclipse.sirius.components.emf.services.IDAdapter;
 import org.eclipse.sirius.components.emf.services.IEditingContextEPackageService;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -64,7 +70,7 @@ public class EMFQueryServiceTests {
                 return List.of(EcorePackage.eINSTANCE);
             }
         };
-        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of());
+        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of(), new AQLInterpreterPool());
 
         QueryBasedObjectsInput input = new QueryBasedObjectsInput(UUID.randomUUID(), "aql:editingContext.allContents()", Map.of());
         IPayload payload = queryService.execute(editingContext, input);
@@ -83,7 +89,7 @@ public class EMFQueryServiceTests {
                 return List.of(EcorePackage.eINSTANCE);
             }
         };
-        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of());
+        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of(), new AQLInterpreterPool());
 
         QueryBasedIntInput input = new QueryBasedIntInput(UUID.randomUUID(), "aql:editingContext.contents()->size()", Map.of());
         IPayload payload = queryService.execute(editingContext, input);
@@ -102,7 +108,7 @@ public class EMFQueryServiceTests {
             }
         };
 
-        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of());
+        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of(), new AQLInterpreterPool());
 
         EObject eObjectToRetrieve = editingContext.getDomain().getResourceSet()
                 .getResources().get(0)
@@ -126,6 +132,73 @@ public class EMFQueryServiceTests {
         assertTrue(payload instanceof ErrorPayload);
     }
 
+    @Test
+    public void testAQLInterpreterReusedUntilTheEditingContextIsDisposed() {
+        var editingContext = this.createEditingContext();
+        var aqlInterpreterPool = new AQLInterpreterPool();
+        List<EPackage> ePackages = List.of(EcorePackage.eINSTANCE);
+        List<Class<?>> serviceClasses = List.of(EditingContextServices.class);
+
+        AtomicInteger interpreterCount = new AtomicInteger();
+        Supplier<AQLInterpreter> interpreterFactory = () -> {
+            interpreterCount.incrementAndGet();
+            return new AQLInterpreter(serviceClasses, ePackages);
+        };
+
+        Function<AQLInterpreter, AQLInterpreter> identity = interpreter -> interpreter;
+        var interpreter = aqlInterpreterPool.withInterpreter(editingContext, serviceClasses, ePackages, interpreterFactory, identity);
+        assertThat(aqlInterpreterPool.withInterpreter(editingContext, serviceClasses, ePackages, interpreterFactory, identity)).isSameAs(interpreter);
+        assertThat(aqlInterpreterPool.withInterpreter(editingContext, List.of(), ePackages, interpreterFactory, identity)).isNotSameAs(interpreter);
+        assertThat(interpreterCount.get()).isEqualTo(2);
+
+        editingContext.dispose();
+        assertThat(aqlInterpreterPool.withInterpreter(editingContext, serviceClasses, ePackages, interpreterFactory, identity)).isNotSameAs(interpreter);
+        assertThat(interpreterCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testAQLInterpreterNotSharedBetweenConcurrentCallers() {
+        var editingContext = this.createEditingContext();
+        var aqlInterpreterPool = new AQLInterpreterPool();
+        List<EPackage> ePackages = List.of(EcorePackage.eINSTANCE);
+        List<Class<?>> serviceClasses = List.of(EditingContextServices.class);
+        Supplier<AQLInterpreter> interpreterFactory = () -> new AQLInterpreter(serviceClasses, ePackages);
+
+        var interpreters = aqlInterpreterPool.withInterpreter(editingContext, serviceClasses, ePackages, interpreterFactory,
+                outerInterpreter -> aqlInterpreterPool.withInterpreter(editingContext, serviceClasses, ePackages, interpreterFactory, innerInterpreter -> List.of(outerInterpreter, innerInterpreter)));
+        assertThat(interpreters.get(0)).isNotSameAs(interpreters.get(1));
+
+        var reusedInterpreter = aqlInterpreterPool.withInterpreter(editingContext, serviceClasses, ePackages, interpreterFactory, interpreter -> interpreter);
+        assertThat(interpreters).contains(reusedInterpreter);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedAQLInterpreterEvicted() {
+        var editingContext = this.createEditingContext();
+        var aqlInterpreterPool = new AQLInterpreterPool();
+        List<Class<?>> serviceClasses = List.of(EditingContextServices.class);
+        Function<AQLInterpreter, AQLInterpreter> identity = interpreter -> interpreter;
+
+        List<List<EPackage>> ePackagesList = new ArrayList<>();
+        for (int i = 0; i < 17; i++) {
+            EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+            ePackagesList.add(List.of(ePackage));
+        }
+
+        List<AQLInterpreter> interpreters = new ArrayList<>();
+        for (var ePackages : ePackagesList) {
+            interpreters.add(aqlInterpreterPool.withInterpreter(editingContext, serviceClasses, ePackages, () -> new AQLInterpreter(serviceClasses, ePackages), identity));
+        }
+
+        var firstEPackages = ePackagesList.get(0);
+        var secondEPackages = ePackagesList.get(1);
+        assertThat(aqlInterpreterPool.withInterpreter(editingContext, serviceClasses, firstEPackages, () -> new AQLInterpreter(serviceClasses, firstEPackages), identity)).isNotSameAs(interpreters.get(0));
+        assertThat(aqlInterpreterPool.withInterpreter(editingContext, serviceClasses, secondEPackages, () -> new AQLInterpreter(serviceClasses, secondEPackages), identity)).isNotSameAs(interpreters.get(1));
+
+        var lastEPackages = ePackagesList.get(16);
+        assertThat(aqlInterpreterPool.withInterpreter(editingContext, serviceClasses, lastEPackages, () -> new AQLInterpreter(serviceClasses, lastEPackages), identity)).isSameAs(interpreters.get(16));
+    }
+
     private IEMFEditingContext createEditingContext() {
         Resource resource = this.createResourceWith4Elements();
         Resource resource2 = this.createResourceWith4Elements();
@@ -142,6 +215,14 @@ public class EMFQueryServiceTests {
             public AdapterFactoryEditingDomain getDomain() {
                 return editingDomain;
             }
+
+            @Override
+            public void dispose() {
+                if (EcoreUtil.getExistingAdapter(editingDomain.getResourceSet(), AQLInterpreterPoolAdapter.class) instanceof AQLInterpreterPoolAdapter poolAdapter) {
+                    poolAdapter.clear();
+                }
+                IEMFEditingContext.super.dispose();
+            }
         };
     }
 
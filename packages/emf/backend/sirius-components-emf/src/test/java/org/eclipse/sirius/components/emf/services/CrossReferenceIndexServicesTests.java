@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the service allInstances of the interpreter, with and without the index of the cross reference adapter.
+ *
+ * @author sbegaudeau
+ */
+public class CrossReferenceIndexServicesTests {
+
+    private static final String SELF = "self";
+
+    private static final String ALL_ECLASSES = "aql:self.allInstances(ecore::EClass)";
+
+    private static final String ALL_EPACKAGES = "aql:self.allInstances(ecore::EPackage)";
+
+    private static final String ALL_EOBJECTS = "aql:self.allInstances(ecore::EObject)";
+
+    private final AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+
+    @Test
+    public void testAllInstancesWithTheIndexInContainmentOrder() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        EPackage ePackageRoot = this.createModel(resourceSet);
+
+        List<Object> searchedEClasses = this.evaluate(ePackageRoot, ALL_ECLASSES);
+        List<Object> searchedEPackages = this.evaluate(ePackageRoot, ALL_EPACKAGES);
+        List<Object> searchedEObjects = this.evaluate(ePackageRoot, ALL_EOBJECTS);
+
+        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+
+        assertThat(this.evaluate(ePackageRoot, ALL_ECLASSES)).hasSize(3).containsExactlyElementsOf(searchedEClasses);
+        assertThat(this.evaluate(ePackageRoot, ALL_EPACKAGES)).hasSize(4).containsExactlyElementsOf(searchedEPackages);
+        assertThat(this.evaluate(ePackageRoot, ALL_EOBJECTS)).hasSize(7).containsExactlyInAnyOrderElementsOf(searchedEObjects);
+        assertThat(this.evaluate(ePackageRoot, ALL_EOBJECTS)).containsExactlyElementsOf(this.evaluate(ePackageRoot, ALL_EOBJECTS));
+    }
+
+    @Test
+    public void testAllInstancesWithTheIndexAfterModifications() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        EPackage ePackageRoot = this.createModel(resourceSet);
+        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+
+        EPackage ePackageA = ePackageRoot.getESubpackages().get(0);
+        EPackage ePackageB = ePackageRoot.getESubpackages().get(1);
+        EPackage ePackageC = ePackageA.getESubpackages().get(0);
+
+        EClass eClassB2 = EcoreFactory.eINSTANCE.createEClass();
+        eClassB2.setName("eClassB2");
+        ePackageB.getEClassifiers().add(eClassB2);
+        ePackageB.getESubpackages().add(ePackageC);
+        ePackageA.getEClassifiers().clear();
+
+        List<Object> indexedEClasses = this.evaluate(ePackageRoot, ALL_ECLASSES);
+        List<Object> indexedEObjects = this.evaluate(ePackageRoot, ALL_EOBJECTS);
+
+        // Without the index, the instances are searched in the whole resource set
+        resourceSet.eAdapters().clear();
+        assertThat(indexedEClasses).containsExactlyInAnyOrderElementsOf(this.evaluate(ePackageRoot, ALL_ECLASSES));
+        assertThat(indexedEObjects).containsExactlyInAnyOrderElementsOf(this.evaluate(ePackageRoot, ALL_EOBJECTS));
+        assertThat(indexedEClasses).extracting("name").containsExactly("eClassC1", "eClassB1", "eClassB2");
+    }
+
+    private List<Object> evaluate(EPackage self, String expression) {
+        return this.interpreter.evaluateExpression(Map.of(SELF, self), expression).asObjects().orElseThrow();
+    }
+
+    private EPackage createModel(ResourceSet resourceSet) {
+        Resource resource = new JSONResourceFactory().createResourceFromPath(UUID.randomUUID().toString());
+        resourceSet.getResources().add(resource);
+
+        EPackage ePackageRoot = this.createEPackage("ePackageRoot");
+        resource.getContents().add(ePackageRoot);
+
+        EPackage ePackageA = this.createEPackage("ePackageA");
+        ePackageRoot.getESubpackages().add(ePackageA);
+        ePackageA.getEClassifiers().add(this.createEClass("eClassA1"));
+
+        EPackage ePackageC = this.createEPackage("ePackageC");
+        ePackageA.getESubpackages().add(ePackageC);
+        ePackageC.getEClassifiers().add(this.createEClass("eClassC1"));
+
+        EPackage ePackageB = this.createEPackage("ePackageB");
+        ePackageRoot.getESubpackages().add(ePackageB);
+        ePackageB.getEClassifiers().add(this.createEClass("eClassB1"));
+
+        return ePackageRoot;
+    }
+
+    private EPackage createEPackage(String name) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name);
+        return ePackage;
+    }
+
+    private EClass createEClass(String name) {
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName(name);
+        return eClass;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,7 @@ import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
@@ -134,6 +135,35 @@ public class EditingContextCrossReferenceAdapterTest {
         assertEquals(ePackageC, eClassC1.getEPackage());
     }
 
+    @Test
+    public void testInstancesIndex() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = this.createModelForMove(resourceSet);
+
+        EditingContextCrossReferenceAdapter editingContextCrossReferenceAdapter = new EditingContextCrossReferenceAdapter();
+        resourceSet.eAdapters().add(editingContextCrossReferenceAdapter);
+
+        assertThat(editingContextCrossReferenceAdapter.getInstances(EcorePackage.Literals.EPACKAGE)).hasSize(4);
+        assertThat(editingContextCrossReferenceAdapter.getInstances(EcorePackage.Literals.ECLASSIFIER)).hasSize(2);
+        assertThat(editingContextCrossReferenceAdapter.getInstances(EcorePackage.Literals.EOBJECT)).hasSize(7);
+
+        EPackage ePackageRoot = (EPackage) resource.getContents().get(0);
+        EPackage ePackageA = ePackageRoot.getESubpackages().get(0);
+        EPackage ePackageB = ePackageRoot.getESubpackages().get(1);
+        EPackage ePackageC = ePackageA.getESubpackages().get(0);
+
+        EClass eClassB1 = EcoreFactory.eINSTANCE.createEClass();
+        ePackageB.getEClassifiers().add(eClassB1);
+        assertThat(editingContextCrossReferenceAdapter.getInstances(EcorePackage.Literals.ECLASS)).hasSize(3).contains(eClassB1);
+
+        ePackageB.getESubpackages().add(ePackageC);
+        assertThat(editingContextCrossReferenceAdapter.getInstances(EcorePackage.Literals.EPACKAGE)).hasSize(4).contains(ePackageC);
+
+        ePackageRoot.getESubpackages().remove(ePackageB);
+        assertThat(editingContextCrossReferenceAdapter.getInstances(EcorePackage.Literals.EPACKAGE)).hasSize(2).doesNotContain(ePackageB, ePackageC);
+        assertThat(editingContextCrossReferenceAdapter.getInstances(EcorePackage.Literals.ECLASS)).hasSize(1);
+    }
+
     /**
      * Check that the CrossReferenceAdapter and the proxies are correctly cleaned.
      */
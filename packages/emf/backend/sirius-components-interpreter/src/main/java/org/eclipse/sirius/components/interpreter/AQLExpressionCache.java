@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.acceleo.query.parser.AstResult;
+import org.eclipse.emf.ecore.EPackage;
+
+/**
+ * The cache of the AQL expressions which can be shared by several interpreters.
+ *
+ * <p>
+ * The parsed expressions are identified by their text and by the signature of the query environment used to parse
+ * them, since the types referenced in an expression are resolved against its EPackages. This signature only contains
+ * the nsURI of the EPackages along with a version identifying each instance of an EPackage, it does not keep them
+ * alive. The parsed expressions referencing the types of an EPackage keep it until they are evicted. The conversion
+ * of the expressions written with the Sirius specific prefixes is memoized too. Both caches are bounded to the same
+ * maximum size and keep their statistics to be monitored.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class AQLExpressionCache {
+
+    /**
+     * The default maximum number of entries of each cache.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Cache<ParsedExpressionKey, AstResult> parsedExpressions;
+
+    private final Cache<String, String> convertedExpressions;
+
+    private final Map<EPackage, Long> ePackageVersions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final AtomicLong lastEPackageVersion = new AtomicLong();
+
+    public AQLExpressionCache(long maximumSize) {
+        this.parsedExpressions = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.convertedExpressions = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    /**
+     * Computes the signature of a query environment, used to share the parsed expressions between the interpreters
+     * with the same services and EPackages.
+     *
+     * @param serviceClasses
+     *            The classes of the services registered in the query environment
+     * @param ePackages
+     *            The EPackages registered in the query environment
+     * @return The signature of the query environment
+     */
+    public Object getQueryEnvironmentSignature(Collection<Class<?>> serviceClasses, Collection<EPackage> ePackages) {
+        Set<EPackageVersion> versions = ePackages.stream()
+                .map(ePackage -> new EPackageVersion(ePackage.getNsURI(), this.ePackageVersions.computeIfAbsent(ePackage, key -> this.lastEPackageVersion.incrementAndGet())))
+                .collect(Collectors.toUnmodifiableSet());
+        return new QueryEnvironmentSignature(Set.copyOf(serviceClasses), versions);
+    }
+
+    public AstResult getParsedExpression(Object queryEnvironmentSignature, String expression, Function<String, AstResult> parser) throws ExecutionException {
+        return this.parsedExpressions.get(new ParsedExpressionKey(queryEnvironmentSignature, expression), () -> parser.apply(expression));
+    }
+
+    public String getConvertedExpression(String expressionBody, Function<String, String> converter) {
+        try {
+            return this.convertedExpressions.get(expressionBody, () -> converter.apply(expressionBody));
+        } catch (ExecutionException exception) {
+            return converter.apply(expressionBody);
+        }
+    }
+
+    public CacheStats getParsedExpressionsStats() {
+        return this.parsedExpressions.stats();
+    }
+
+    public long getParsedExpressionsSize() {
+        return this.parsedExpressions.size();
+    }
+
+    public CacheStats getConvertedExpressionsStats() {
+        return this.convertedExpressions.stats();
+    }
+
+    public long getConvertedExpressionsSize() {
+        return this.convertedExpressions.size();
+    }
+
+    /**
+     * An EPackage registered in a query environment.
+     *
+     * @author sbegaudeau
+     */
+    private record EPackageVersion(String nsURI, long version) {
+    }
+
+    /**
+     * The classes of the services and the EPackages registered in a query environment.
+     *
+     * @author sbegaudeau
+     */
+    private record QueryEnvironmentSignature(Set<Class<?>> serviceClasses, Set<EPackageVersion> ePackages) {
+    }
+
+    /**
+     * The key of a parsed expression.
+     *
+     * @author sbegaudeau
+     */
+    private record ParsedExpressionKey(Object queryEnvironmentSignature, String expression) {
+    }
+}
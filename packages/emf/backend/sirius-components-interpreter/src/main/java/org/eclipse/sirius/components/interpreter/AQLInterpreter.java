@@ -12,16 +12,24 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.interpreter;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+
+import org.eclipse.acceleo.query.ast.Call;
+import org.eclipse.acceleo.query.ast.VarRef;
 import org.eclipse.acceleo.query.parser.AstResult;
 import org.eclipse.acceleo.query.runtime.EvaluationResult;
 import org.eclipse.acceleo.query.runtime.ICompletionResult;
@@ -38,9 +46,11 @@ import org.eclipse.acceleo.query.validation.type.EClassifierType;
 import org.eclipse.acceleo.query.validation.type.IType;
 import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.impl.EStringToStringMapEntryImpl;
+import org.eclipse.sirius.components.representations.EvaluationCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,18 +66,54 @@ public class AQLInterpreter {
      */
     private static final String AQL_PREFIX = "aql:";
 
+    /**
+     * The maximum number of expressions kept by the interpreters which do not share their cache of expressions.
+     */
+    private static final long EXPRESSION_CACHE_SIZE = 500;
+
     private final Logger logger = LoggerFactory.getLogger(AQLInterpreter.class);
 
     /**
-     * The cache of the expressions parsed.
+     * The cache of the expressions parsed, which may be shared with other interpreters.
+     */
+    private final AQLExpressionCache expressionCache;
+
+    /**
+     * Used to convert the expressions written with the Sirius specific prefixes.
+     */
+    private final ExpressionConverter expressionConverter = new ExpressionConverter();
+
+    /**
+     * Used to parse the expressions.
+     */
+    private IQueryBuilderEngine queryBuilderEngine;
+
+    /**
+     * Identifies the EPackages and the services of the query environment in the cache of the expressions.
      */
-    private LoadingCache<String, AstResult> parsedExpressions;
+    private Object queryEnvironmentSignature;
 
     /**
      * The query environment.
      */
     private IQueryEnvironment queryEnvironment;
 
+    /**
+     * Indicates if the evaluations can be memoized in the {@link EvaluationCache} of the current render pass.
+     */
+    private final boolean evaluationCacheEnabled;
+
+    /**
+     * The names of the Java services which are not annotated with {@link Pure}, the expressions calling them are never
+     * memoized.
+     */
+    private final Set<String> impureServiceNames;
+
+    /**
+     * The variables read by the expressions memoized and whether they can be memoized.
+     */
+    private final Map<String, ExpressionFootprint> expressionFootprints = new ConcurrentHashMap<>();
+
     /**
      * The constructor.
      *
@@ -93,9 +139,50 @@ public class AQLInterpreter {
      *            to classes, such as {@code <semanticMM>::<AClass>}, can be interpreted.
      */
     public AQLInterpreter(List<Class<?>> classes, List<Object> instances, List<EPackage> ePackages) {
+        this(classes, instances, ePackages, false);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param classes
+     *            classes for java service that can called by AQLInterpreter
+     * @param instances
+     *            instances for java service that can called by AQLInterpreter
+     * @param ePackages
+     *            Additional meta-models. A typical use case will be to register semantic meta-models so that reference
+     *            to classes, such as {@code <semanticMM>::<AClass>}, can be interpreted.
+     * @param evaluationCacheEnabled
+     *            Indicates if the result of the expressions which only call {@link Pure} Java services can be
+     *            memoized in the {@link EvaluationCache} found in the variables, if any
+     */
+    public AQLInterpreter(List<Class<?>> classes, List<Object> instances, List<EPackage> ePackages, boolean evaluationCacheEnabled) {
+        this(classes, instances, ePackages, evaluationCacheEnabled, new AQLExpressionCache(EXPRESSION_CACHE_SIZE));
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param classes
+     *            classes for java service that can called by AQLInterpreter
+     * @param instances
+     *            instances for java service that can called by AQLInterpreter
+     * @param ePackages
+     *            Additional meta-models. A typical use case will be to register semantic meta-models so that reference
+     *            to classes, such as {@code <semanticMM>::<AClass>}, can be interpreted.
+     * @param evaluationCacheEnabled
+     *            Indicates if the result of the expressions which only call {@link Pure} Java services can be
+     *            memoized in the {@link EvaluationCache} found in the variables, if any
+     * @param expressionCache
+     *            The cache of the expressions, shared with other interpreters
+     */
+    public AQLInterpreter(List<Class<?>> classes, List<Object> instances, List<EPackage> ePackages, boolean evaluationCacheEnabled, AQLExpressionCache expressionCache) {
+        this.evaluationCacheEnabled = evaluationCacheEnabled;
+        this.expressionCache = Objects.requireNonNull(expressionCache);
         this.queryEnvironment = Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider());
         this.queryEnvironment.registerEPackage(EcorePackage.eINSTANCE);
         this.queryEnvironment.registerCustomClassMapping(EcorePackage.eINSTANCE.getEStringToStringMapEntry(), EStringToStringMapEntryImpl.class);
+        ServiceUtils.registerServices(this.queryEnvironment, ServiceUtils.getServices(this.queryEnvironment, CrossReferenceIndexServices.class));
 
         for (Class<?> aClass : classes) {
             var services = ServiceUtils.getServices(this.queryEnvironment, aClass);
@@ -106,7 +193,15 @@ public class AQLInterpreter {
             ServiceUtils.registerServices(this.queryEnvironment, services);
         }
 
-        ePackages.stream().filter(this::isValidEPackage).forEach(this.queryEnvironment::registerEPackage);
+        List<EPackage> validEPackages = ePackages.stream().filter(this::isValidEPackage).toList();
+        validEPackages.forEach(this.queryEnvironment::registerEPackage);
+
+        Set<Class<?>> serviceClasses = new LinkedHashSet<>(classes);
+        instances.forEach(instance -> serviceClasses.add(instance.getClass()));
+        this.queryEnvironmentSignature = this.expressionCache.getQueryEnvironmentSignature(serviceClasses, validEPackages);
+        Set<Class<?>> allServiceClasses = new LinkedHashSet<>(serviceClasses);
+        allServiceClasses.add(CrossReferenceIndexServices.class);
+        this.impureServiceNames = this.getImpureServiceNames(allServiceClasses);
 
         this.initExpressionsCache();
     }
@@ -115,52 +210,135 @@ public class AQLInterpreter {
         return ePackage != null && ePackage.getName() != null && ePackage.getNsURI() != null;
     }
 
+    private Set<String> getImpureServiceNames(Collection<Class<?>> serviceClasses) {
+        Set<String> serviceNames = new HashSet<>();
+        for (Class<?> serviceClass : serviceClasses) {
+            boolean isPureClass = serviceClass.isAnnotationPresent(Pure.class);
+            for (Method method : serviceClass.getMethods()) {
+                boolean isPureMethod = isPureClass || method.isAnnotationPresent(Pure.class);
+                if (!isPureMethod && method.getDeclaringClass() != Object.class) {
+                    serviceNames.add(method.getName());
+                }
+            }
+        }
+        return Set.copyOf(serviceNames);
+    }
+
     /**
-     * Initializes the cache of the expressions.
+     * Initializes the parser of the expressions.
      */
     private void initExpressionsCache() {
-        IQueryBuilderEngine builder = QueryParsing.newBuilder(this.queryEnvironment);
-        int maxCacheSize = 500;
-        this.parsedExpressions = CacheBuilder.newBuilder().maximumSize(maxCacheSize).build(CacheLoader.from(builder::build));
+        this.queryBuilderEngine = QueryParsing.newBuilder(this.queryEnvironment);
     }
 
     public Result evaluateExpression(Map<String, Object> variables, String expressionBody) {
-        String expression = new ExpressionConverter().convertExpression(expressionBody);
+        String expression = this.expressionCache.getConvertedExpression(Optional.ofNullable(expressionBody).orElse(""), this.expressionConverter::convertExpression);
         if (expression.startsWith(AQL_PREFIX)) {
             expression = expression.substring(AQL_PREFIX.length());
         }
 
+        Result result = new Result(Optional.empty(), Status.ERROR);
         try {
-            long start = System.currentTimeMillis();
-
-            AstResult build = this.parsedExpressions.get(expression);
-            IQueryEvaluationEngine evaluationEngine = QueryEvaluation.newEngine(this.queryEnvironment);
-            EvaluationResult evalResult = evaluationEngine.eval(build, variables);
+            AstResult build = this.expressionCache.getParsedExpression(this.queryEnvironmentSignature, expression, this.queryBuilderEngine::build);
 
-            BasicDiagnostic diagnostic = new BasicDiagnostic();
-            if (Diagnostic.OK != build.getDiagnostic().getSeverity()) {
-                diagnostic.merge(build.getDiagnostic());
-            }
-            if (Diagnostic.OK != evalResult.getDiagnostic().getSeverity()) {
-                diagnostic.merge(evalResult.getDiagnostic());
+            String parsedExpression = expression;
+            var optionalEvaluationCache = this.getEvaluationCache(variables)
+                    .filter(evaluationCache -> this.getExpressionFootprint(parsedExpression, build).pure());
+            if (optionalEvaluationCache.isPresent()) {
+                var variableValues = this.getExpressionFootprint(parsedExpression, build).variableNames().stream()
+                        .map(variables::get)
+                        .toList();
+                var evaluationKey = new EvaluationKey(this, parsedExpression, variableValues);
+                result = optionalEvaluationCache.get().computeIfAbsent(evaluationKey, Result.class, () -> this.freeze(this.evaluate(variables, expressionBody, build)));
+            } else {
+                result = this.evaluate(variables, expressionBody, build);
             }
+        } catch (ExecutionException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return result;
+    }
+
+    private Result evaluate(Map<String, Object> variables, String expressionBody, AstResult build) {
+        long start = System.currentTimeMillis();
+
+        IQueryEvaluationEngine evaluationEngine = QueryEvaluation.newEngine(this.queryEnvironment);
+        EvaluationResult evalResult = evaluationEngine.eval(build, variables);
+
+        BasicDiagnostic diagnostic = new BasicDiagnostic();
+        if (Diagnostic.OK != build.getDiagnostic().getSeverity()) {
+            diagnostic.merge(build.getDiagnostic());
+        }
+        if (Diagnostic.OK != evalResult.getDiagnostic().getSeverity()) {
+            diagnostic.merge(evalResult.getDiagnostic());
+        }
+
+        this.log(expressionBody, diagnostic);
 
-            this.log(expressionBody, diagnostic);
+        long end = System.currentTimeMillis();
+        if (end - start > 200) {
+            this.logger.atDebug()
+                    .setMessage("{}ms to execute the expression {}")
+                    .addArgument(end - start)
+                    .addArgument(expressionBody)
+                    .log();
+        }
+
+        return new Result(Optional.ofNullable(evalResult.getResult()), Status.getStatus(diagnostic.getSeverity()));
+    }
 
-            long end = System.currentTimeMillis();
-            if (end - start > 200) {
-                this.logger.atDebug()
-                        .setMessage("{}ms to execute the expression {}")
-                        .addArgument(end - start)
-                        .addArgument(expressionBody)
-                        .log();
+    /**
+     * Copies the collection returned by a memoized evaluation in an unmodifiable collection, since it is shared by all
+     * the evaluations of the same expression during the render pass.
+     */
+    private Result freeze(Result result) {
+        Result frozenResult = result;
+        var optionalValue = result.asObject();
+        if (optionalValue.isPresent() && optionalValue.get() instanceof Collection<?> collection) {
+            Collection<Object> frozenValue;
+            if (collection instanceof Set<?>) {
+                frozenValue = Collections.unmodifiableSet(new LinkedHashSet<>(collection));
+            } else {
+                frozenValue = Collections.unmodifiableList(new ArrayList<>(collection));
             }
+            frozenResult = new Result(Optional.of(frozenValue), result.getStatus());
+        }
+        return frozenResult;
+    }
 
-            return new Result(Optional.ofNullable(evalResult.getResult()), Status.getStatus(diagnostic.getSeverity()));
-        } catch (ExecutionException exception) {
-            this.logger.warn(exception.getMessage(), exception);
+    private Optional<EvaluationCache> getEvaluationCache(Map<String, Object> variables) {
+        if (this.evaluationCacheEnabled) {
+            return Optional.ofNullable(variables.get(EvaluationCache.EVALUATION_CACHE))
+                    .filter(EvaluationCache.class::isInstance)
+                    .map(EvaluationCache.class::cast);
         }
-        return new Result(Optional.empty(), Status.ERROR);
+        return Optional.empty();
+    }
+
+    private ExpressionFootprint getExpressionFootprint(String expression, AstResult build) {
+        return this.expressionFootprints.computeIfAbsent(expression, key -> this.computeExpressionFootprint(build));
+    }
+
+    /**
+     * Computes the variables read by the given expression, including the ones declared by its lambdas, and whether it
+     * calls a Java service which is not pure.
+     */
+    private ExpressionFootprint computeExpressionFootprint(AstResult build) {
+        Set<String> variableNames = new TreeSet<>();
+        boolean pure = true;
+        if (build.getAst() != null) {
+            List<EObject> astNodes = new ArrayList<>();
+            astNodes.add(build.getAst());
+            build.getAst().eAllContents().forEachRemaining(astNodes::add);
+            for (EObject astNode : astNodes) {
+                if (astNode instanceof VarRef varRef && varRef.getVariableName() != null) {
+                    variableNames.add(varRef.getVariableName());
+                } else if (astNode instanceof Call call && this.impureServiceNames.contains(call.getServiceName())) {
+                    pure = false;
+                }
+            }
+        }
+        return new ExpressionFootprint(List.copyOf(variableNames), pure);
     }
 
     private void log(String expression, Diagnostic diagnostic) {
@@ -186,4 +364,58 @@ public class AQLInterpreter {
 
         return engine.getCompletion(expression, offset, variableTypes);
     }
+
+    /**
+     * The variables read by an expression, sorted by name, and whether it can be memoized.
+     *
+     * @author sbegaudeau
+     */
+    private record ExpressionFootprint(List<String> variableNames, boolean pure) {
+    }
+
+    /**
+     * Identifies the evaluation of an expression in an {@link EvaluationCache}.
+     *
+     * <p>
+     * The values of the variables are compared by identity, except for strings, numbers, booleans and enumerations,
+     * in order to avoid the computation of the structural equality of large objects such as the previous diagram.
+     * </p>
+     *
+     * @author sbegaudeau
+     */
+    private record EvaluationKey(AQLInterpreter interpreter, String expression, List<Object> variableValues) {
+
+        @Override
+        public boolean equals(Object object) {
+            boolean isEqual = object instanceof EvaluationKey evaluationKey
+                    && this.interpreter == evaluationKey.interpreter
+                    && this.expression.equals(evaluationKey.expression)
+                    && this.variableValues.size() == evaluationKey.variableValues.size();
+            for (int i = 0; isEqual && i < this.variableValues.size(); i++) {
+                isEqual = this.isSame(this.variableValues.get(i), ((EvaluationKey) object).variableValues.get(i));
+            }
+            return isEqual;
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = Objects.hash(System.identityHashCode(this.interpreter), this.expression);
+            for (Object variableValue : this.variableValues) {
+                int valueHashCode = System.identityHashCode(variableValue);
+                if (this.isValue(variableValue)) {
+                    valueHashCode = variableValue.hashCode();
+                }
+                hashCode = 31 * hashCode + valueHashCode;
+            }
+            return hashCode;
+        }
+
+        private boolean isSame(Object value, Object otherValue) {
+            return value == otherValue || this.isValue(value) && value.equals(otherValue);
+        }
+
+        private boolean isValue(Object value) {
+            return value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Enum<?>;
+        }
+    }
 }
@@ -35,7 +35,7 @@ public class BooleanValueProvider implements Function<VariableManager, Boolean>
     @Override
     public Boolean apply(VariableManager variableManager) {
         if (this.expression != null && !this.expression.isBlank()) {
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.expression);
+            Result result = this.interpreter.evaluateExpression(variableManager.asMap(), this.expression);
             return result.asBoolean().orElse(Boolean.FALSE);
         }
         return Boolean.FALSE;
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Services available in all the interpreters to find the instances of an EClass.
+ *
+ * @author sbegaudeau
+ */
+public class CrossReferenceIndexServices {
+
+    /**
+     * Returns the instances of the given EClass found in the resource set of the given object.
+     *
+     * <p>
+     * The instances are retrieved from the {@link ICrossReferenceIndex} installed on the object if any, they are
+     * searched in the whole resource set otherwise.
+     * </p>
+     *
+     * @param self
+     *            An object of the resource set
+     * @param eClass
+     *            The EClass
+     * @return The instances of the EClass
+     */
+    @Pure
+    public List<EObject> allInstances(EObject self, EClass eClass) {
+        return this.getCrossReferenceIndex(self)
+                .map(crossReferenceIndex -> crossReferenceIndex.getInstances(eClass))
+                .orElseGet(() -> this.searchInstances(self, eClass));
+    }
+
+    private Optional<ICrossReferenceIndex> getCrossReferenceIndex(EObject self) {
+        return self.eAdapters().stream()
+                .filter(ICrossReferenceIndex.class::isInstance)
+                .map(ICrossReferenceIndex.class::cast)
+                .findFirst();
+    }
+
+    private List<EObject> searchInstances(EObject self, EClass eClass) {
+        TreeIterator<? extends Notifier> iterator;
+        var resource = self.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            iterator = resource.getResourceSet().getAllContents();
+        } else if (resource != null) {
+            iterator = resource.getAllContents();
+        } else {
+            iterator = EcoreUtil.getRootContainer(self).eAllContents();
+        }
+
+        List<EObject> instances = new ArrayList<>();
+        iterator.forEachRemaining(notifier -> {
+            if (notifier instanceof EObject eObject && eClass.isInstance(eObject)) {
+                instances.add(eObject);
+            }
+        });
+        return instances;
+    }
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+
+/**
+ * An index of the cross references and of the instances of each EClass maintained incrementally.
+ *
+ * <p>
+ * It is installed as an adapter on the objects it indexes, which lets the interpreter find it from any of them.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface ICrossReferenceIndex {
+
+    Collection<Setting> getInverseReferences(EObject eObject);
+
+    List<EObject> getInstances(EClass eClass);
+}
@@ -35,7 +35,7 @@ public class IntValueProvider implements Function<VariableManager, Integer> {
 
     @Override
     public Integer apply(VariableManager variableManager) {
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.expression);
+        Result result = this.interpreter.evaluateExpression(variableManager.asMap(), this.expression);
         return result.asInt()
                 .orElse(0);
     }
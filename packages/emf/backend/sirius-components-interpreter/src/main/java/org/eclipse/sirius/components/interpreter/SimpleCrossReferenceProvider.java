@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -21,26 +21,27 @@ import org.eclipse.emf.ecore.EStructuralFeature.Setting;
 import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 
 /**
- * {@link CrossReferenceProvider} implementation which simply looks for an existing {@link ECrossReferenceAdapter}
- * already attached to the source {@link EObject}. Returns an empty set of references without any error if no
- * {@link ECrossReferenceAdapter} is found.
+ * {@link CrossReferenceProvider} implementation which simply looks for an existing {@link ICrossReferenceIndex} or
+ * {@link ECrossReferenceAdapter} already attached to the source {@link EObject}. Returns an empty set of references
+ * without any error if none is found.
  *
  * @author pcdavid
  */
 public class SimpleCrossReferenceProvider implements CrossReferenceProvider {
     @Override
     public Collection<Setting> getInverseReferences(EObject self) {
+        Collection<Setting> inverseReferences = Collections.emptySet();
         if (self != null) {
-            // @formatter:off
-            var xref = self.eAdapters().stream()
-                           .filter(ECrossReferenceAdapter.class::isInstance)
-                           .map(ECrossReferenceAdapter.class::cast)
-                           .findFirst();
-            // @formatter:on
-            if (xref.isPresent()) {
-                return xref.get().getInverseReferences(self);
+            var iterator = self.eAdapters().iterator();
+            while (iterator.hasNext() && inverseReferences.isEmpty()) {
+                var adapter = iterator.next();
+                if (adapter instanceof ICrossReferenceIndex crossReferenceIndex) {
+                    inverseReferences = crossReferenceIndex.getInverseReferences(self);
+                } else if (adapter instanceof ECrossReferenceAdapter crossReferenceAdapter) {
+                    inverseReferences = crossReferenceAdapter.getInverseReferences(self);
+                }
             }
         }
-        return Collections.emptySet();
+        return inverseReferences;
     }
 }
@@ -35,7 +35,7 @@ public class StringValueProvider implements Function<VariableManager, String> {
 
     @Override
     public String apply(VariableManager variableManager) {
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.expression);
+        Result result = this.interpreter.evaluateExpression(variableManager.asMap(), this.expression);
         return result.asString()
                 .orElse("");
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,14 +13,18 @@
 package org.eclipse.sirius.components.interpreter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.representations.EvaluationCache;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -32,6 +36,81 @@ public class AQLInterpreterTests {
 
     private static final String SELF = "self";
 
+    private static final String COUNT_INVOCATION = "aql:self.countInvocation()";
+
+    private static final String COUNT_IMPURE_INVOCATION = "aql:self.countImpureInvocation()";
+
+    @Test
+    public void testParsedExpressionSharedBetweenInterpreters() {
+        String expression = "aql:self.name.toUpper() + 'testParsedExpressionSharedBetweenInterpreters'";
+        AQLExpressionCache expressionCache = new AQLExpressionCache(AQLExpressionCache.DEFAULT_MAXIMUM_SIZE);
+
+        new AQLInterpreter(List.of(), List.of(), List.of(EcorePackage.eINSTANCE), false, expressionCache).evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE.getEModelElement()), expression);
+        Result result = new AQLInterpreter(List.of(), List.of(), List.of(EcorePackage.eINSTANCE), false, expressionCache).evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE.getEModelElement()), expression);
+
+        assertThat(result.asString()).isPresent().hasValue("EMODELELEMENTtestParsedExpressionSharedBetweenInterpreters");
+        assertThat(expressionCache.getParsedExpressionsStats().hitCount()).isEqualTo(1);
+        assertThat(expressionCache.getParsedExpressionsSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void testParsedExpressionNotSharedBetweenVersionsOfAnEPackage() {
+        String expression = "aql:self.oclIsKindOf(test::Type)";
+        AQLExpressionCache expressionCache = new AQLExpressionCache(AQLExpressionCache.DEFAULT_MAXIMUM_SIZE);
+        EPackage firstVersion = this.createEPackage();
+        EPackage secondVersion = this.createEPackage();
+
+        Result firstResult = new AQLInterpreter(List.of(), List.of(), List.of(firstVersion), false, expressionCache).evaluateExpression(Map.of(SELF, firstVersion.getEClassifiers().get(0)), expression);
+        Result secondResult = new AQLInterpreter(List.of(), List.of(), List.of(secondVersion), false, expressionCache).evaluateExpression(Map.of(SELF, EcoreUtil.create((EClass) secondVersion.getEClassifiers().get(0))), expression);
+        new AQLInterpreter(List.of(), List.of(), List.of(secondVersion), false, expressionCache).evaluateExpression(Map.of(SELF, secondVersion), expression);
+
+        assertThat(firstResult.asBoolean()).hasValue(false);
+        assertThat(secondResult.asBoolean()).hasValue(true);
+        assertThat(expressionCache.getParsedExpressionsSize()).isEqualTo(2);
+        assertThat(expressionCache.getParsedExpressionsStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPureExpressionMemoizedDuringRenderPass() {
+        TestServices testServices = new TestServices();
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(testServices), List.of(EcorePackage.eINSTANCE), true);
+        EvaluationCache evaluationCache = new EvaluationCache();
+        Map<String, Object> variables = Map.of(SELF, EcorePackage.eINSTANCE, EvaluationCache.EVALUATION_CACHE, evaluationCache);
+
+        interpreter.evaluateExpression(variables, COUNT_INVOCATION);
+        Result result = interpreter.evaluateExpression(variables, COUNT_INVOCATION);
+        assertThat(result.asInt()).hasValue(1);
+
+        interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE.getEClass(), EvaluationCache.EVALUATION_CACHE, evaluationCache), COUNT_INVOCATION);
+        assertThat(testServices.getInvocationCount()).isEqualTo(2);
+
+        interpreter.evaluateExpression(variables, COUNT_IMPURE_INVOCATION);
+        interpreter.evaluateExpression(variables, COUNT_IMPURE_INVOCATION);
+        assertThat(testServices.getInvocationCount()).isEqualTo(4);
+
+        evaluationCache.dispose();
+        interpreter.evaluateExpression(variables, COUNT_INVOCATION);
+        assertThat(testServices.getInvocationCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void testMemoizedCollectionIsFrozen() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(), List.of(EcorePackage.eINSTANCE), true);
+        EPackage ePackage = this.createEPackage();
+        EvaluationCache evaluationCache = new EvaluationCache();
+        Map<String, Object> variables = Map.of(SELF, ePackage, EvaluationCache.EVALUATION_CACHE, evaluationCache);
+
+        Optional<Object> firstValue = interpreter.evaluateExpression(variables, "aql:self.eClassifiers").asObject();
+        Optional<Object> secondValue = interpreter.evaluateExpression(variables, "aql:self.eClassifiers").asObject();
+        assertThat(secondValue).containsSame(firstValue.get());
+        assertThat(firstValue.get()).isNotSameAs(ePackage.getEClassifiers());
+
+        List<?> eClassifiers = (List<?>) firstValue.get();
+        assertThat(eClassifiers).hasSize(1);
+        assertThatThrownBy(() -> eClassifiers.clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(ePackage.getEClassifiers()).hasSize(1);
+    }
+
     @Test
     public void testNameFeatureExpression() {
         AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
@@ -124,4 +203,15 @@ public class AQLInterpreterTests {
         assertThat(result.asString()).contains("instance");
     }
 
+
+    private EPackage createEPackage() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("test");
+        ePackage.setNsPrefix("test");
+        ePackage.setNsURI("https://www.eclipse.org/sirius/test");
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName("Type");
+        ePackage.getEClassifiers().add(eClass);
+        return ePackage;
+    }
 }
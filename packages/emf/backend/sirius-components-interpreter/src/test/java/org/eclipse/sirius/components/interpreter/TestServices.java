@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,8 @@ import org.eclipse.emf.ecore.EObject;
 public class TestServices {
     private final String creationMessage;
 
+    private int invocationCount;
+
     public TestServices() {
         this.creationMessage = "none";
     }
@@ -34,4 +36,19 @@ public class TestServices {
         return this.creationMessage;
     }
 
+    @Pure
+    public int countInvocation(EObject self) {
+        this.invocationCount++;
+        return this.invocationCount;
+    }
+
+    public int countImpureInvocation(EObject self) {
+        this.invocationCount++;
+        return this.invocationCount;
+    }
+
+    public int getInvocationCount() {
+        return this.invocationCount;
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -49,6 +49,7 @@ import org.eclipse.sirius.components.forms.description.TableWidgetDescription;
 import org.eclipse.sirius.components.forms.renderer.FormRenderer;
 import org.eclipse.sirius.components.forms.renderer.IWidgetDescriptor;
 import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.EvaluationCache;
 import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -256,9 +257,18 @@ public class FormEventProcessor implements IFormEventProcessor {
         }
         this.variableManager.put(VariableManager.SELF, self);
 
-        FormComponentProps formComponentProps = new FormComponentProps(this.variableManager, this.formCreationParameters.getFormDescription(), this.widgetDescriptors);
+        VariableManager renderVariableManager = this.variableManager.createChild();
+        EvaluationCache evaluationCache = new EvaluationCache();
+        renderVariableManager.put(EvaluationCache.EVALUATION_CACHE, evaluationCache);
+
+        FormComponentProps formComponentProps = new FormComponentProps(renderVariableManager, this.formCreationParameters.getFormDescription(), this.widgetDescriptors);
         Element element = new Element(FormComponent.class, formComponentProps);
-        Form form = new FormRenderer(this.widgetDescriptors).render(element);
+        Form form;
+        try {
+            form = new FormRenderer(this.widgetDescriptors).render(element);
+        } finally {
+            evaluationCache.dispose();
+        }
 
         form = this.formPostProcessor.postProcess(form, this.variableManager);
 
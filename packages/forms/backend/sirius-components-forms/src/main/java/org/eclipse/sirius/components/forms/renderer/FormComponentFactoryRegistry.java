@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.forms.renderer;
+
+import org.eclipse.sirius.components.forms.components.ButtonComponent;
+import org.eclipse.sirius.components.forms.components.ButtonComponentProps;
+import org.eclipse.sirius.components.forms.components.ChartWidgetComponent;
+import org.eclipse.sirius.components.forms.components.ChartWidgetComponentProps;
+import org.eclipse.sirius.components.forms.components.CheckboxComponent;
+import org.eclipse.sirius.components.forms.components.CheckboxComponentProps;
+import org.eclipse.sirius.components.forms.components.DateTimeComponent;
+import org.eclipse.sirius.components.forms.components.DateTimeComponentProps;
+import org.eclipse.sirius.components.forms.components.FlexboxContainerComponent;
+import org.eclipse.sirius.components.forms.components.FlexboxContainerComponentProps;
+import org.eclipse.sirius.components.forms.components.ForComponent;
+import org.eclipse.sirius.components.forms.components.ForComponentProps;
+import org.eclipse.sirius.components.forms.components.FormComponent;
+import org.eclipse.sirius.components.forms.components.FormComponentProps;
+import org.eclipse.sirius.components.forms.components.GroupComponent;
+import org.eclipse.sirius.components.forms.components.GroupComponentProps;
+import org.eclipse.sirius.components.forms.components.IfComponent;
+import org.eclipse.sirius.components.forms.components.IfComponentProps;
+import org.eclipse.sirius.components.forms.components.ImageComponent;
+import org.eclipse.sirius.components.forms.components.ImageComponentProps;
+import org.eclipse.sirius.components.forms.components.LabelWidgetComponent;
+import org.eclipse.sirius.components.forms.components.LabelWidgetComponentProps;
+import org.eclipse.sirius.components.forms.components.LinkComponent;
+import org.eclipse.sirius.components.forms.components.LinkComponentProps;
+import org.eclipse.sirius.components.forms.components.ListComponent;
+import org.eclipse.sirius.components.forms.components.ListComponentProps;
+import org.eclipse.sirius.components.forms.components.MultiSelectComponent;
+import org.eclipse.sirius.components.forms.components.MultiSelectComponentProps;
+import org.eclipse.sirius.components.forms.components.PageComponent;
+import org.eclipse.sirius.components.forms.components.PageComponentProps;
+import org.eclipse.sirius.components.forms.components.RadioComponent;
+import org.eclipse.sirius.components.forms.components.RadioComponentProps;
+import org.eclipse.sirius.components.forms.components.RichTextComponent;
+import org.eclipse.sirius.components.forms.components.RichTextComponentProps;
+import org.eclipse.sirius.components.forms.components.SelectComponent;
+import org.eclipse.sirius.components.forms.components.SelectComponentProps;
+import org.eclipse.sirius.components.forms.components.SliderComponent;
+import org.eclipse.sirius.components.forms.components.SliderComponentProps;
+import org.eclipse.sirius.components.forms.components.SplitButtonComponent;
+import org.eclipse.sirius.components.forms.components.SplitButtonComponentProps;
+import org.eclipse.sirius.components.forms.components.TableWidgetComponent;
+import org.eclipse.sirius.components.forms.components.TableWidgetComponentProps;
+import org.eclipse.sirius.components.forms.components.TextareaComponent;
+import org.eclipse.sirius.components.forms.components.TextareaComponentProps;
+import org.eclipse.sirius.components.forms.components.TextfieldComponent;
+import org.eclipse.sirius.components.forms.components.TextfieldComponentProps;
+import org.eclipse.sirius.components.forms.components.ToolbarActionComponent;
+import org.eclipse.sirius.components.forms.components.ToolbarActionComponentProps;
+import org.eclipse.sirius.components.forms.components.TreeComponent;
+import org.eclipse.sirius.components.forms.components.TreeComponentProps;
+import org.eclipse.sirius.components.forms.components.WidgetComponent;
+import org.eclipse.sirius.components.forms.components.WidgetComponentProps;
+import org.eclipse.sirius.components.representations.ComponentFactoryRegistry;
+
+/**
+ * The factories of the components of the forms, used to avoid creating them by reflection during each render.
+ *
+ * @author sbegaudeau
+ */
+public class FormComponentFactoryRegistry extends ComponentFactoryRegistry {
+
+    public FormComponentFactoryRegistry() {
+        this.register(FormComponent.class, FormComponentProps.class, FormComponent::new)
+                .register(PageComponent.class, PageComponentProps.class, PageComponent::new)
+                .register(GroupComponent.class, GroupComponentProps.class, GroupComponent::new)
+                .register(ForComponent.class, ForComponentProps.class, ForComponent::new)
+                .register(IfComponent.class, IfComponentProps.class, IfComponent::new)
+                .register(FlexboxContainerComponent.class, FlexboxContainerComponentProps.class, FlexboxContainerComponent::new)
+                .register(WidgetComponent.class, WidgetComponentProps.class, WidgetComponent::new)
+                .register(ToolbarActionComponent.class, ToolbarActionComponentProps.class, ToolbarActionComponent::new)
+                .register(ButtonComponent.class, ButtonComponentProps.class, ButtonComponent::new)
+                .register(ChartWidgetComponent.class, ChartWidgetComponentProps.class, ChartWidgetComponent::new)
+                .register(CheckboxComponent.class, CheckboxComponentProps.class, CheckboxComponent::new)
+                .register(DateTimeComponent.class, DateTimeComponentProps.class, DateTimeComponent::new)
+                .register(ImageComponent.class, ImageComponentProps.class, ImageComponent::new)
+                .register(LabelWidgetComponent.class, LabelWidgetComponentProps.class, LabelWidgetComponent::new)
+                .register(LinkComponent.class, LinkComponentProps.class, LinkComponent::new)
+                .register(ListComponent.class, ListComponentProps.class, ListComponent::new)
+                .register(MultiSelectComponent.class, MultiSelectComponentProps.class, MultiSelectComponent::new)
+                .register(RadioComponent.class, RadioComponentProps.class, RadioComponent::new)
+                .register(RichTextComponent.class, RichTextComponentProps.class, RichTextComponent::new)
+                .register(SelectComponent.class, SelectComponentProps.class, SelectComponent::new)
+                .register(SliderComponent.class, SliderComponentProps.class, SliderComponent::new)
+                .register(SplitButtonComponent.class, SplitButtonComponentProps.class, SplitButtonComponent::new)
+                .register(TableWidgetComponent.class, TableWidgetComponentProps.class, TableWidgetComponent::new)
+                .register(TextareaComponent.class, TextareaComponentProps.class, TextareaComponent::new)
+                .register(TextfieldComponent.class, TextfieldComponentProps.class, TextfieldComponent::new)
+                .register(TreeComponent.class, TreeComponentProps.class, TreeComponent::new);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -32,10 +32,15 @@ import org.eclipse.sirius.components.representations.Element;
  */
 public class FormRenderer {
 
+    /**
+     * Shared by all the renders to create their components without reflection.
+     */
+    private static final FormComponentFactoryRegistry COMPONENT_FACTORY_REGISTRY = new FormComponentFactoryRegistry();
+
     private final BaseRenderer baseRenderer;
 
     public FormRenderer(List<IWidgetDescriptor> widgetDescriptors) {
-        this.baseRenderer = new BaseRenderer(new FormInstancePropsValidator(widgetDescriptors), new FormComponentPropsValidator(widgetDescriptors), new FormElementFactory(widgetDescriptors));
+        this.baseRenderer = new BaseRenderer(new FormInstancePropsValidator(widgetDescriptors), new FormComponentPropsValidator(widgetDescriptors), new FormElementFactory(widgetDescriptors), COMPONENT_FACTORY_REGISTRY);
     }
 
     public Form render(Element element) {
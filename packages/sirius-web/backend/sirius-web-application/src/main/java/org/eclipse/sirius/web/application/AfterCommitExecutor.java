@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Used to run some code once the current transaction has been committed.
+ *
+ * <p>
+ * The code is not run if the transaction is rolled back. It is run immediately if there is no transaction.
+ * </p>
+ *
+ * @author agent
+ */
+public class AfterCommitExecutor implements Executor {
+
+    @Override
+    public void execute(Runnable command) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    command.run();
+                }
+            });
+        } else {
+            command.run();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.diagram.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutDataPersistenceService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.diagram.services.api.IDiagramLayoutDataWriteQueue;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationLayoutData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to persist the modified layout data of the diagrams as one row per element instead of rewriting their content.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class DiagramLayoutDataPersistenceService implements IDiagramLayoutDataPersistenceService {
+
+    public static final String NODE_KIND = "node";
+
+    public static final String EDGE_KIND = "edge";
+
+    public static final String LABEL_KIND = "label";
+
+    private final IDiagramLayoutDataWriteQueue diagramLayoutDataWriteQueue;
+
+    private final ObjectMapper objectMapper;
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramLayoutDataPersistenceService.class);
+
+    public DiagramLayoutDataPersistenceService(IDiagramLayoutDataWriteQueue diagramLayoutDataWriteQueue, ObjectMapper objectMapper) {
+        this.diagramLayoutDataWriteQueue = Objects.requireNonNull(diagramLayoutDataWriteQueue);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, Diagram diagram) {
+        return new UUIDParser().parse(diagram.getId()).isPresent();
+    }
+
+    @Override
+    public void save(ICause cause, IEditingContext editingContext, Diagram diagram, DiagramLayoutData modifiedLayoutData) {
+        var optionalRepresentationId = new UUIDParser().parse(diagram.getId());
+        if (optionalRepresentationId.isPresent()) {
+            var representationId = optionalRepresentationId.get();
+            var now = Instant.now();
+
+            List<RepresentationLayoutData> representationLayoutData = new ArrayList<>();
+            modifiedLayoutData.nodeLayoutData().forEach((id, layoutData) -> this.toRepresentationLayoutData(representationId, id, NODE_KIND, layoutData, now).ifPresent(representationLayoutData::add));
+            modifiedLayoutData.edgeLayoutData().forEach((id, layoutData) -> this.toRepresentationLayoutData(representationId, id, EDGE_KIND, layoutData, now).ifPresent(representationLayoutData::add));
+            modifiedLayoutData.labelLayoutData().forEach((id, layoutData) -> this.toRepresentationLayoutData(representationId, id, LABEL_KIND, layoutData, now).ifPresent(representationLayoutData::add));
+
+            if (!representationLayoutData.isEmpty()) {
+                this.diagramLayoutDataWriteQueue.enqueue(representationId, representationLayoutData);
+            }
+        }
+    }
+
+    private Optional<RepresentationLayoutData> toRepresentationLayoutData(UUID representationId, String elementId, String kind, Object layoutData, Instant lastModifiedOn) {
+        Optional<RepresentationLayoutData> optionalRepresentationLayoutData = Optional.empty();
+        try {
+            String content = this.objectMapper.writeValueAsString(layoutData);
+            optionalRepresentationLayoutData = Optional.of(new RepresentationLayoutData(representationId, elementId, kind, content, lastModifiedOn));
+        } catch (JsonProcessingException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return optionalRepresentationLayoutData;
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.diagram.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.EdgeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.LabelLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.web.application.diagram.services.api.IDiagramLayoutDataSearchService;
+import org.eclipse.sirius.web.application.diagram.services.api.IDiagramLayoutDataWriteQueue;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationLayoutData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationLayoutDataSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to find the layout data of the diagrams persisted apart from their content.
+ *
+ * <p>
+ * The layout data waiting to be written are flushed first in order to always find the latest layout data of the
+ * diagram.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class DiagramLayoutDataSearchService implements IDiagramLayoutDataSearchService {
+
+    private final IRepresentationLayoutDataSearchService representationLayoutDataSearchService;
+
+    private final IDiagramLayoutDataWriteQueue diagramLayoutDataWriteQueue;
+
+    private final ObjectMapper objectMapper;
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramLayoutDataSearchService.class);
+
+    public DiagramLayoutDataSearchService(IRepresentationLayoutDataSearchService representationLayoutDataSearchService, IDiagramLayoutDataWriteQueue diagramLayoutDataWriteQueue, ObjectMapper objectMapper) {
+        this.representationLayoutDataSearchService = Objects.requireNonNull(representationLayoutDataSearchService);
+        this.diagramLayoutDataWriteQueue = Objects.requireNonNull(diagramLayoutDataWriteQueue);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    @Override
+    public Optional<DiagramLayoutData> findByRepresentationId(UUID representationId) {
+        this.diagramLayoutDataWriteQueue.flush(representationId);
+
+        var representationLayoutData = this.representationLayoutDataSearchService.findAllByRepresentationId(representationId);
+        if (representationLayoutData.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, NodeLayoutData> nodeLayoutData = new HashMap<>();
+        Map<String, EdgeLayoutData> edgeLayoutData = new HashMap<>();
+        Map<String, LabelLayoutData> labelLayoutData = new HashMap<>();
+        for (RepresentationLayoutData layoutData : representationLayoutData) {
+            switch (layoutData.kind()) {
+                case DiagramLayoutDataPersistenceService.NODE_KIND -> this.read(layoutData, NodeLayoutData.class).ifPresent(node -> nodeLayoutData.put(layoutData.elementId(), node));
+                case DiagramLayoutDataPersistenceService.EDGE_KIND -> this.read(layoutData, EdgeLayoutData.class).ifPresent(edge -> edgeLayoutData.put(layoutData.elementId(), edge));
+                case DiagramLayoutDataPersistenceService.LABEL_KIND -> this.read(layoutData, LabelLayoutData.class).ifPresent(label -> labelLayoutData.put(layoutData.elementId(), label));
+                default -> this.logger.warn("Unsupported kind of layout data {}", layoutData.kind());
+            }
+        }
+        return Optional.of(new DiagramLayoutData(nodeLayoutData, edgeLayoutData, labelLayoutData));
+    }
+
+    private <T> Optional<T> read(RepresentationLayoutData representationLayoutData, Class<T> layoutDataClass) {
+        Optional<T> optionalLayoutData = Optional.empty();
+        try {
+            optionalLayoutData = Optional.of(this.objectMapper.readValue(representationLayoutData.content(), layoutDataClass));
+        } catch (JsonProcessingException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return optionalLayoutData;
+    }
+}
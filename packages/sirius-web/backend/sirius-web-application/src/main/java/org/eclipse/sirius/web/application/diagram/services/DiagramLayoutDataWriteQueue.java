@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.diagram.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.web.application.diagram.services.api.IDiagramLayoutDataWriteQueue;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationLayoutData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationLayoutDataUpdateService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Used to write the layout data of the diagrams at a bounded interval.
+ *
+ * <p>
+ * The layout data of a diagram are queued by element and written at the interval by a background thread. Only the
+ * latest layout data of an element waiting to be written is kept, a burst of layouts moving the same element thus ends
+ * up in a single row update. The layout data are written immediately if the interval is zero.
+ * </p>
+ *
+ * <p>
+ * A flush writes the pending layout data of a diagram on the calling thread, in its own transaction, instead of
+ * waiting for the background thread to be done with the other diagrams. The writes of a given diagram are serialized
+ * by a lock shared with a few other diagrams, a flush thus also waits for the write of this diagram in progress, if
+ * any. A failed write is retried with the next flushes until the maximum number of attempts is reached, the layout
+ * data are then abandoned.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class DiagramLayoutDataWriteQueue implements IDiagramLayoutDataWriteQueue {
+
+    private static final String FLUSH_LAG_TIMER_NAME = "siriusweb_diagram_layout_data_flush_lag";
+
+    private static final String COALESCED_ENTRIES_COUNTER_NAME = "siriusweb_diagram_layout_data_coalesced_entries";
+
+    private static final String WRITTEN_ENTRIES_COUNTER_NAME = "siriusweb_diagram_layout_data_written_entries";
+
+    private static final String PENDING_DIAGRAMS_GAUGE_NAME = "siriusweb_diagram_layout_data_pending_diagrams";
+
+    private static final String ABANDONED_ENTRIES_COUNTER_NAME = "siriusweb_diagram_layout_data_abandoned_entries";
+
+    private static final int WRITE_LOCK_COUNT = 64;
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final IRepresentationLayoutDataUpdateService representationLayoutDataUpdateService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration interval;
+
+    private final int maxAttempts;
+
+    private final Object[] writeLocks = new Object[WRITE_LOCK_COUNT];
+
+    private final Map<UUID, PendingLayoutData> pendingLayoutData = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService executorService;
+
+    private final Timer flushLagTimer;
+
+    private final Counter coalescedEntriesCounter;
+
+    private final Counter writtenEntriesCounter;
+
+    private final Counter abandonedEntriesCounter;
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramLayoutDataWriteQueue.class);
+
+    public DiagramLayoutDataWriteQueue(IRepresentationLayoutDataUpdateService representationLayoutDataUpdateService, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${sirius.components.diagrams.layoutData.writeInterval:500ms}") Duration interval, @Value("${sirius.components.diagrams.layoutData.writeMaxAttempts:5}") int maxAttempts) {
+        this.representationLayoutDataUpdateService = Objects.requireNonNull(representationLayoutDataUpdateService);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.interval = Objects.requireNonNull(interval);
+        this.maxAttempts = maxAttempts;
+        for (int i = 0; i < WRITE_LOCK_COUNT; i++) {
+            this.writeLocks[i] = new Object();
+        }
+
+        this.flushLagTimer = Timer.builder(FLUSH_LAG_TIMER_NAME).register(meterRegistry);
+        this.coalescedEntriesCounter = Counter.builder(COALESCED_ENTRIES_COUNTER_NAME).register(meterRegistry);
+        this.writtenEntriesCounter = Counter.builder(WRITTEN_ENTRIES_COUNTER_NAME).register(meterRegistry);
+        this.abandonedEntriesCounter = Counter.builder(ABANDONED_ENTRIES_COUNTER_NAME).register(meterRegistry);
+        Gauge.builder(PENDING_DIAGRAMS_GAUGE_NAME, this.pendingLayoutData, Map::size).register(meterRegistry);
+
+        this.executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "Diagram layout data writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!this.interval.isZero()) {
+            this.executorService.scheduleWithFixedDelay(this::writeAll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void enqueue(UUID representationId, List<RepresentationLayoutData> representationLayoutData) {
+        Map<String, RepresentationLayoutData> entries = new LinkedHashMap<>();
+        representationLayoutData.forEach(layoutData -> entries.put(this.getKey(layoutData), layoutData));
+
+        this.pendingLayoutData.merge(representationId, new PendingLayoutData(entries, Instant.now(), 0), this::coalesce);
+        if (this.interval.isZero()) {
+            this.flush(representationId);
+        }
+    }
+
+    @Override
+    public void flush(UUID representationId) {
+        // The lock is always acquired since the layout data of the diagram may have been dequeued by a write in progress
+        this.write(representationId);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.executorService.shutdown();
+        try {
+            if (this.executorService.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                // The remaining layout data are written by the current thread once the background thread has terminated
+                this.writeAll();
+            } else {
+                this.logger.warn("The diagram layout data writer did not terminate, the layout data of {} diagrams have not been written", this.pendingLayoutData.size());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    private String getKey(RepresentationLayoutData representationLayoutData) {
+        return representationLayoutData.kind() + ":" + representationLayoutData.elementId();
+    }
+
+    private PendingLayoutData coalesce(PendingLayoutData previousLayoutData, PendingLayoutData layoutData) {
+        Map<String, RepresentationLayoutData> entries = new LinkedHashMap<>(previousLayoutData.entries());
+        layoutData.entries().forEach((key, entry) -> {
+            if (entries.put(key, entry) != null) {
+                this.coalescedEntriesCounter.increment();
+            }
+        });
+        return new PendingLayoutData(entries, previousLayoutData.queuedOn(), previousLayoutData.failedAttempts());
+    }
+
+    private void writeAll() {
+        List.copyOf(this.pendingLayoutData.keySet()).forEach(this::write);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void write(UUID representationId) {
+        synchronized (this.getWriteLock(representationId)) {
+            var layoutData = this.pendingLayoutData.remove(representationId);
+            if (layoutData != null) {
+                try {
+                    this.transactionTemplate.executeWithoutResult(status -> this.representationLayoutDataUpdateService.upsertAll(List.copyOf(layoutData.entries().values())));
+                    this.flushLagTimer.record(Duration.between(layoutData.queuedOn(), Instant.now()));
+                    this.writtenEntriesCounter.increment(layoutData.entries().size());
+                } catch (RuntimeException exception) {
+                    this.retryOrAbandon(representationId, layoutData, exception);
+                }
+            }
+        }
+    }
+
+    private Object getWriteLock(UUID representationId) {
+        return this.writeLocks[Math.floorMod(representationId.hashCode(), WRITE_LOCK_COUNT)];
+    }
+
+    private void retryOrAbandon(UUID representationId, PendingLayoutData layoutData, RuntimeException exception) {
+        var failedAttempts = layoutData.failedAttempts() + 1;
+        if (failedAttempts < this.maxAttempts) {
+            this.logger.warn(exception.getMessage(), exception);
+
+            // The layout data are queued again, before the ones which have been queued in the meantime, to be retried later
+            var failedLayoutData = new PendingLayoutData(layoutData.entries(), layoutData.queuedOn(), failedAttempts);
+            this.pendingLayoutData.merge(representationId, failedLayoutData, (newLayoutData, previousLayoutData) -> this.coalesce(previousLayoutData, newLayoutData));
+        } else {
+            this.logger.error("The layout data of the diagram {} have been abandoned after {} attempts", representationId, failedAttempts, exception);
+            this.abandonedEntriesCounter.increment(layoutData.entries().size());
+        }
+    }
+
+    /**
+     * The layout data of a diagram waiting to be written, by kind and identifier of element.
+     *
+     * @author sbegaudeau
+     */
+    private record PendingLayoutData(Map<String, RepresentationLayoutData> entries, Instant queuedOn, int failedAttempts) {
+    }
+}
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.diagram.services.api;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+
+/**
+ * Used to find the layout data of the diagrams persisted apart from their content.
+ *
+ * @author sbegaudeau
+ */
+public interface IDiagramLayoutDataSearchService {
+
+    Optional<DiagramLayoutData> findByRepresentationId(UUID representationId);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,7 +19,9 @@ import java.util.Objects;
 
 import org.eclipse.emf.ecore.change.ChangeDescription;
 import org.eclipse.emf.ecore.change.util.ChangeRecorder;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.sirius.components.emf.query.AQLInterpreterPoolAdapter;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.view.View;
@@ -77,4 +79,13 @@ public class EditingContext implements IEMFEditingContext {
         return inputId2change;
     }
 
+    @Override
+    public void dispose() {
+        var resourceSet = this.editingDomain.getResourceSet();
+        if (EcoreUtil.getExistingAdapter(resourceSet, AQLInterpreterPoolAdapter.class) instanceof AQLInterpreterPoolAdapter poolAdapter) {
+            poolAdapter.clear();
+        }
+        IEMFEditingContext.super.dispose();
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,7 +19,11 @@ import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
 /**
  * The data retrieved from the serialization of a document.
  *
+ * <p>
+ * The size is the number of bytes produced by the serialization.
+ * </p>
+ *
  * @author sbegaudeau
  */
-public record DocumentData(Document document, List<EPackageEntry> ePackageEntries) {
+public record DocumentData(Document document, List<EPackageEntry> ePackageEntries, int size) {
 }
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+
+/**
+ * An EMF adapter used to remember what has been persisted for a resource during the last save of the editing context.
+ *
+ * <p>
+ * It lets the persistence of the editing context skip the serialization of the resources which have not been modified
+ * since then while keeping track of the domains they are using. It can be invalidated from any thread if the write of
+ * the document has failed in the end, the resource will then be serialized again by the next save.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DocumentPersistenceAdapter extends AdapterImpl {
+
+    private final String name;
+
+    private final List<String> domainUris;
+
+    private final AtomicBoolean valid = new AtomicBoolean(true);
+
+    public DocumentPersistenceAdapter(String name, List<String> domainUris) {
+        this.name = Objects.requireNonNull(name);
+        this.domainUris = Objects.requireNonNull(domainUris);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public List<String> getDomainUris() {
+        return this.domainUris;
+    }
+
+    public boolean isValid() {
+        return this.valid.get();
+    }
+
+    public void invalidate() {
+        this.valid.set(false);
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == DocumentPersistenceAdapter.class;
+    }
+}
@@ -12,22 +12,35 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext.services;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.AfterCommitExecutor;
 import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextMigrationParticipantPredicate;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextPersistenceFilter;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceToDocumentService;
+import org.eclipse.sirius.web.application.editingcontext.services.api.ISemanticDataWriteBehindQueue;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
@@ -37,6 +50,8 @@ import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 
@@ -50,24 +65,39 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
 
     private static final String TIMER_NAME = "siriusweb_editingcontext_save";
 
+    private static final String SERIALIZED_BYTES_SUMMARY_NAME = "siriusweb_editingcontext_save_serialized_bytes";
+
+    private static final String SKIPPED_DOCUMENTS_COUNTER_NAME = "siriusweb_editingcontext_save_skipped_documents";
+
     private final ISemanticDataUpdateService semanticDataUpdateService;
 
     private final IResourceToDocumentService resourceToDocumentService;
 
+    private final ISemanticDataWriteBehindQueue semanticDataWriteBehindQueue;
+
     private final List<IEditingContextPersistenceFilter> persistenceFilters;
 
     private final List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates;
 
     private final Timer timer;
 
+    private final DistributionSummary serializedBytesSummary;
+
+    private final Counter skippedDocumentsCounter;
+
     private final Logger logger = LoggerFactory.getLogger(EditingContextPersistenceService.class);
 
-    public EditingContextPersistenceService(ISemanticDataUpdateService semanticDataUpdateService, IResourceToDocumentService resourceToDocumentService, List<IEditingContextPersistenceFilter> persistenceFilters, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates, MeterRegistry meterRegistry) {
+    public EditingContextPersistenceService(ISemanticDataUpdateService semanticDataUpdateService, IResourceToDocumentService resourceToDocumentService, ISemanticDataWriteBehindQueue semanticDataWriteBehindQueue, List<IEditingContextPersistenceFilter> persistenceFilters, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates, MeterRegistry meterRegistry) {
         this.semanticDataUpdateService = Objects.requireNonNull(semanticDataUpdateService);
         this.resourceToDocumentService = Objects.requireNonNull(resourceToDocumentService);
+        this.semanticDataWriteBehindQueue = Objects.requireNonNull(semanticDataWriteBehindQueue);
         this.persistenceFilters = Objects.requireNonNull(persistenceFilters);
         this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
         this.timer = Timer.builder(TIMER_NAME).register(meterRegistry);
+        this.serializedBytesSummary = DistributionSummary.builder(SERIALIZED_BYTES_SUMMARY_NAME)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.skippedDocumentsCounter = Counter.builder(SKIPPED_DOCUMENTS_COUNTER_NAME).register(meterRegistry);
     }
 
     @Override
@@ -82,22 +112,62 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
                     .ifPresent(semanticDataUUID -> {
                         AggregateReference<SemanticData, UUID> semanticDataId = AggregateReference.to(semanticDataUUID);
 
-                        var documentData = emfEditingContext.getDomain().getResourceSet().getResources().stream()
+                        var resources = emfEditingContext.getDomain().getResourceSet().getResources().stream()
                                 .filter(resource -> IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
                                 .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource)))
-                                .map(resource -> this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants))
-                                .flatMap(Optional::stream)
-                                .collect(Collectors.toSet());
+                                .toList();
+
+                        Set<Resource> dirtyResources = resources.stream()
+                                .filter(resource -> applyMigrationParticipants || this.isDirty(resource))
+                                .collect(Collectors.toCollection(HashSet::new));
+                        if (dirtyResources.size() > 1) {
+                            // Objects may have been moved from one document to another, which changes the serialization of the references to them in the other documents
+                            dirtyResources.addAll(this.getReferencingResources(emfEditingContext.getDomain().getResourceSet(), resources, dirtyResources));
+                        }
 
+                        var documentIds = new LinkedHashSet<UUID>();
                         var documents = new LinkedHashSet<Document>();
                         var domainUris = new LinkedHashSet<String>();
+                        var persistedDocuments = new LinkedHashMap<Resource, DocumentData>();
+                        int serializedBytes = 0;
+
+                        for (var resource : resources) {
+                            if (dirtyResources.contains(resource)) {
+                                var optionalDocumentData = this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants);
+                                if (optionalDocumentData.isPresent()) {
+                                    var documentData = optionalDocumentData.get();
+                                    var documentDomainUris = documentData.ePackageEntries().stream().map(EPackageEntry::nsURI).toList();
+
+                                    documentIds.add(documentData.document().getId());
+                                    documents.add(documentData.document());
+                                    domainUris.addAll(documentDomainUris);
+                                    serializedBytes += documentData.size();
 
-                        documentData.forEach(data -> {
-                            documents.add(data.document());
-                            domainUris.addAll(data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList());
-                        });
+                                    persistedDocuments.put(resource, documentData);
+                                }
+                            } else {
+                                this.getDocumentId(resource).ifPresent(documentIds::add);
+                                this.getDocumentPersistenceAdapter(resource)
+                                        .map(DocumentPersistenceAdapter::getDomainUris)
+                                        .ifPresent(domainUris::addAll);
+                            }
+                        }
 
-                        this.semanticDataUpdateService.updateDocuments(cause, semanticDataId, documents, domainUris);
+                        this.serializedBytesSummary.record(serializedBytes);
+                        this.skippedDocumentsCounter.increment(resources.size() - dirtyResources.size());
+
+                        if (this.semanticDataWriteBehindQueue.isEnabled()) {
+                            var documentPersistenceAdapters = this.markAsPersisted(persistedDocuments);
+                            this.semanticDataWriteBehindQueue.enqueue(cause, semanticDataId, documentIds, documents, domainUris)
+                                    .exceptionally(throwable -> {
+                                        documentPersistenceAdapters.forEach(DocumentPersistenceAdapter::invalidate);
+                                        return null;
+                                    });
+                        } else {
+                            this.semanticDataUpdateService.updateDocuments(cause, semanticDataId, documentIds, documents, domainUris);
+                            // The resources must not be considered as persisted if the transaction is rolled back
+                            new AfterCommitExecutor().execute(() -> this.markAsPersisted(persistedDocuments));
+                        }
                     });
         }
 
@@ -110,4 +180,99 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
                 .addArgument(() -> String.format("%1$6s", end - start))
                 .log();
     }
+
+    @Override
+    public void flush(String editingContextId) {
+        new UUIDParser().parse(editingContextId).ifPresent(this.semanticDataWriteBehindQueue::flush);
+    }
+
+    /**
+     * Indicates if the given resource may have changed since the last time it has been persisted.
+     *
+     * <p>
+     * A resource is considered as dirty if it has never been persisted by this service, if its content has been modified
+     * since then, if it has been renamed or if its identifier cannot be retrieved from its URI.
+     * </p>
+     *
+     * @param resource
+     *         The resource
+     * @return <code>true</code> if the resource has to be serialized again, <code>false</code> otherwise
+     */
+    private boolean isDirty(Resource resource) {
+        var name = resource.eAdapters().stream()
+                .filter(ResourceMetadataAdapter.class::isInstance)
+                .map(ResourceMetadataAdapter.class::cast)
+                .findFirst()
+                .map(ResourceMetadataAdapter::getName)
+                .orElse("");
+
+        boolean isUnchanged = resource.isTrackingModification() && !resource.isModified() && this.getDocumentId(resource).isPresent() && this.getDocumentPersistenceAdapter(resource)
+                .filter(DocumentPersistenceAdapter::isValid)
+                .map(DocumentPersistenceAdapter::getName)
+                .filter(name::equals)
+                .isPresent();
+        return !isUnchanged;
+    }
+
+    /**
+     * Returns the resources, among the given candidates, referencing an object of the given resources.
+     *
+     * <p>
+     * The inverse references are retrieved from the cross reference adapter of the resource set. Without such an adapter,
+     * all the candidates are returned.
+     * </p>
+     *
+     * @param resourceSet
+     *         The resource set
+     * @param candidates
+     *         The resources which may reference the objects
+     * @param referencedResources
+     *         The resources containing the referenced objects
+     * @return The resources referencing an object of the given resources
+     */
+    private Set<Resource> getReferencingResources(ResourceSet resourceSet, List<Resource> candidates, Set<Resource> referencedResources) {
+        var crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(resourceSet);
+        if (crossReferenceAdapter == null) {
+            return new HashSet<>(candidates);
+        }
+
+        Set<Resource> candidateResources = new HashSet<>(candidates);
+        Set<Resource> referencingResources = new HashSet<>();
+        for (var referencedResource : referencedResources) {
+            referencedResource.getAllContents().forEachRemaining(eObject -> crossReferenceAdapter.getInverseReferences(eObject, false).stream()
+                    .map(EStructuralFeature.Setting::getEObject)
+                    .map(EObject::eResource)
+                    .filter(candidateResources::contains)
+                    .forEach(referencingResources::add));
+        }
+        return referencingResources;
+    }
+
+    private List<DocumentPersistenceAdapter> markAsPersisted(Map<Resource, DocumentData> persistedDocuments) {
+        List<DocumentPersistenceAdapter> documentPersistenceAdapters = new ArrayList<>();
+        persistedDocuments.forEach((resource, documentData) -> {
+            var domainUris = documentData.ePackageEntries().stream().map(EPackageEntry::nsURI).toList();
+            var documentPersistenceAdapter = new DocumentPersistenceAdapter(documentData.document().getName(), domainUris);
+
+            resource.eAdapters().removeIf(DocumentPersistenceAdapter.class::isInstance);
+            resource.eAdapters().add(documentPersistenceAdapter);
+
+            resource.setTrackingModification(true);
+            resource.setModified(false);
+
+            documentPersistenceAdapters.add(documentPersistenceAdapter);
+        });
+        return documentPersistenceAdapters;
+    }
+
+    private Optional<DocumentPersistenceAdapter> getDocumentPersistenceAdapter(Resource resource) {
+        return resource.eAdapters().stream()
+                .filter(DocumentPersistenceAdapter.class::isInstance)
+                .map(DocumentPersistenceAdapter.class::cast)
+                .findFirst();
+    }
+
+    private Optional<UUID> getDocumentId(Resource resource) {
+        return new UUIDParser().parse(resource.getURI().path().substring(1));
+    }
 }
@@ -28,6 +28,7 @@ import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextLoader;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingDomainFactory;
+import org.eclipse.sirius.web.application.editingcontext.services.api.ISemanticDataWriteBehindQueue;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.slf4j.Logger;
@@ -56,12 +57,15 @@ public class EditingContextSearchService implements IEditingContextSearchService
 
     private final IEditingContextLoader editingContextLoader;
 
+    private final ISemanticDataWriteBehindQueue semanticDataWriteBehindQueue;
+
     private final Timer timer;
 
-    public EditingContextSearchService(ISemanticDataSearchService semanticDataSearchService, IEditingDomainFactory editingDomainFactory, IEditingContextLoader editingContextLoader, MeterRegistry meterRegistry) {
+    public EditingContextSearchService(ISemanticDataSearchService semanticDataSearchService, IEditingDomainFactory editingDomainFactory, IEditingContextLoader editingContextLoader, ISemanticDataWriteBehindQueue semanticDataWriteBehindQueue, MeterRegistry meterRegistry) {
         this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
         this.editingDomainFactory = Objects.requireNonNull(editingDomainFactory);
         this.editingContextLoader = Objects.requireNonNull(editingContextLoader);
+        this.semanticDataWriteBehindQueue = Objects.requireNonNull(semanticDataWriteBehindQueue);
         this.timer = Timer.builder(TIMER_NAME).register(meterRegistry);
     }
 
@@ -76,7 +80,12 @@ public class EditingContextSearchService implements IEditingContextSearchService
     @Override
     @Transactional(readOnly = true)
     public Optional<IEditingContext> findById(String editingContextId) {
-        return new UUIDParser().parse(editingContextId)
+        var optionalSemanticDataId = new UUIDParser().parse(editingContextId);
+
+        // The editing context may be loaded to be exported or published while some of its changes are still waiting to be written
+        optionalSemanticDataId.ifPresent(this.semanticDataWriteBehindQueue::flush);
+
+        return optionalSemanticDataId
                 .flatMap(this.semanticDataSearchService::findById)
                 .map(semanticData -> this.toEditingContext(semanticData));
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -88,7 +88,7 @@ public class ResourceToDocumentService implements IResourceToDocumentService {
                     .name(name)
                     .content(content)
                     .build();
-            var documentData = new DocumentData(document, serializationListener.getePackageEntries());
+            var documentData = new DocumentData(document, serializationListener.getePackageEntries(), outputStream.size());
             optionalDocumentData = Optional.of(documentData);
         } catch (IllegalArgumentException | IOException exception) {
             this.logger.warn(exception.getMessage(), exception);
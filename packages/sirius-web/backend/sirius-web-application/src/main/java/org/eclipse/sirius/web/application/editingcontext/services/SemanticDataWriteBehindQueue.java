@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.editingcontext.services.api.ISemanticDataWriteBehindQueue;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Used to write the documents of the semantic data in the background.
+ *
+ * <p>
+ * The updates of the semantic data are queued and written at a bounded interval by a single thread, which keeps the
+ * writes of a given semantic data in order. Consecutive updates of the same semantic data waiting to be written are
+ * collapsed into one write, only the latest content of each document is kept. The write-behind is disabled if the
+ * interval is zero.
+ * </p>
+ *
+ * <p>
+ * Each update comes with a future completed once it has been written. Callers should only consider their documents as
+ * persisted once it is completed successfully. A failed write is retried with the next flushes until the maximum number
+ * of attempts is reached, the update is then abandoned and its future is completed exceptionally.
+ * </p>
+ *
+ * <p>
+ * Anyone reading the documents of the semantic data from the database should flush the pending updates first.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class SemanticDataWriteBehindQueue implements ISemanticDataWriteBehindQueue {
+
+    private static final String FLUSH_LAG_TIMER_NAME = "siriusweb_editingcontext_write_behind_flush_lag";
+
+    private static final String COLLAPSED_DOCUMENTS_COUNTER_NAME = "siriusweb_editingcontext_write_behind_collapsed_documents";
+
+    private static final String PENDING_UPDATES_GAUGE_NAME = "siriusweb_editingcontext_write_behind_pending_updates";
+
+    private static final String ABANDONED_UPDATES_COUNTER_NAME = "siriusweb_editingcontext_write_behind_abandoned_updates";
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ISemanticDataUpdateService semanticDataUpdateService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration interval;
+
+    private final int maxAttempts;
+
+    private final Map<UUID, PendingSemanticDataUpdate> pendingUpdates = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService executorService;
+
+    private final Timer flushLagTimer;
+
+    private final Counter collapsedDocumentsCounter;
+
+    private final Counter abandonedUpdatesCounter;
+
+    private final Logger logger = LoggerFactory.getLogger(SemanticDataWriteBehindQueue.class);
+
+    public SemanticDataWriteBehindQueue(ISemanticDataUpdateService semanticDataUpdateService, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${sirius.components.editingContext.writeBehindInterval:0ms}") Duration interval, @Value("${sirius.components.editingContext.writeBehindMaxAttempts:5}") int maxAttempts) {
+        this.semanticDataUpdateService = Objects.requireNonNull(semanticDataUpdateService);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.interval = Objects.requireNonNull(interval);
+        this.maxAttempts = maxAttempts;
+
+        this.flushLagTimer = Timer.builder(FLUSH_LAG_TIMER_NAME).register(meterRegistry);
+        this.collapsedDocumentsCounter = Counter.builder(COLLAPSED_DOCUMENTS_COUNTER_NAME).register(meterRegistry);
+        this.abandonedUpdatesCounter = Counter.builder(ABANDONED_UPDATES_COUNTER_NAME).register(meterRegistry);
+        Gauge.builder(PENDING_UPDATES_GAUGE_NAME, this.pendingUpdates, Map::size).register(meterRegistry);
+
+        this.executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "Semantic data write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (this.isEnabled()) {
+            this.executorService.scheduleWithFixedDelay(this::writeAll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !this.interval.isZero();
+    }
+
+    @Override
+    public CompletableFuture<Void> enqueue(ICause cause, AggregateReference<SemanticData, UUID> semanticData, Set<UUID> documentIds, Set<Document> modifiedDocuments, Set<String> domainUris) {
+        Map<UUID, Document> documents = new LinkedHashMap<>();
+        modifiedDocuments.forEach(document -> documents.put(document.getId(), document));
+
+        var write = new CompletableFuture<Void>();
+        var update = new PendingSemanticDataUpdate(cause, new LinkedHashSet<>(documentIds), documents, new LinkedHashSet<>(domainUris), Instant.now(), List.of(write), 0);
+        this.pendingUpdates.merge(semanticData.getId(), update, this::collapse);
+        return write;
+    }
+
+    @Override
+    public void flush(UUID semanticDataId) {
+        if (this.pendingUpdates.containsKey(semanticDataId)) {
+            this.flush(List.of(semanticDataId));
+        }
+    }
+
+    @Override
+    public void flushByDomains(Collection<String> domainUris) {
+        var semanticDataIds = this.pendingUpdates.entrySet().stream()
+                .filter(entry -> entry.getValue().domainUris().stream().anyMatch(domainUris::contains))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        if (!semanticDataIds.isEmpty()) {
+            this.flush(semanticDataIds);
+        }
+    }
+
+    private void flush(List<UUID> semanticDataIds) {
+        try {
+            this.executorService.submit(() -> semanticDataIds.forEach(this::write)).get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            this.logger.warn(exception.getMessage(), exception);
+        } catch (ExecutionException | RejectedExecutionException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.executorService.shutdown();
+        try {
+            if (this.executorService.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                // The remaining updates are written by the current thread once no flush can run concurrently
+                this.writeAll();
+            } else {
+                this.logger.warn("The semantic data write-behind did not terminate, {} updates have not been written", this.pendingUpdates.size());
+                var exception = new IllegalStateException("The semantic data write-behind did not terminate");
+                this.pendingUpdates.values().forEach(update -> update.writes().forEach(write -> write.completeExceptionally(exception)));
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    private PendingSemanticDataUpdate collapse(PendingSemanticDataUpdate previousUpdate, PendingSemanticDataUpdate update) {
+        Map<UUID, Document> documents = new LinkedHashMap<>(previousUpdate.documents());
+        update.documents().forEach((documentId, document) -> {
+            if (documents.put(documentId, document) != null) {
+                this.collapsedDocumentsCounter.increment();
+            }
+        });
+        List<CompletableFuture<Void>> writes = new ArrayList<>(previousUpdate.writes());
+        writes.addAll(update.writes());
+        return new PendingSemanticDataUpdate(update.cause(), update.documentIds(), documents, update.domainUris(), previousUpdate.queuedOn(), writes, previousUpdate.failedAttempts());
+    }
+
+    private void writeAll() {
+        List.copyOf(this.pendingUpdates.keySet()).forEach(this::write);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void write(UUID semanticDataId) {
+        var update = this.pendingUpdates.remove(semanticDataId);
+        if (update != null) {
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> this.semanticDataUpdateService.updateDocuments(update.cause(), AggregateReference.to(semanticDataId),
+                        update.documentIds(), new LinkedHashSet<>(update.documents().values()), update.domainUris()));
+                this.flushLagTimer.record(Duration.between(update.queuedOn(), Instant.now()));
+                update.writes().forEach(write -> write.complete(null));
+            } catch (RuntimeException exception) {
+                this.retryOrAbandon(semanticDataId, update, exception);
+            }
+        }
+    }
+
+    private void retryOrAbandon(UUID semanticDataId, PendingSemanticDataUpdate update, RuntimeException exception) {
+        var failedAttempts = update.failedAttempts() + 1;
+        if (failedAttempts < this.maxAttempts) {
+            this.logger.warn(exception.getMessage(), exception);
+
+            // The update is queued again, before the ones which have been queued in the meantime, to be retried later
+            var failedUpdate = new PendingSemanticDataUpdate(update.cause(), update.documentIds(), update.documents(), update.domainUris(), update.queuedOn(), update.writes(), failedAttempts);
+            this.pendingUpdates.merge(semanticDataId, failedUpdate, (newUpdate, previousUpdate) -> this.collapse(previousUpdate, newUpdate));
+        } else {
+            this.logger.error("The update of the semantic data {} has been abandoned after {} attempts", semanticDataId, failedAttempts, exception);
+            this.abandonedUpdatesCounter.increment();
+            update.writes().forEach(write -> write.completeExceptionally(exception));
+        }
+    }
+
+    /**
+     * An update of the semantic data waiting to be written.
+     *
+     * @author sbegaudeau
+     */
+    private record PendingSemanticDataUpdate(ICause cause, Set<UUID> documentIds, Map<UUID, Document> documents, Set<String> domainUris, Instant queuedOn,
+            List<CompletableFuture<Void>> writes, int failedAttempts) {
+    }
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services.api;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Used to defer the write of the documents of the semantic data.
+ *
+ * @author sbegaudeau
+ */
+public interface ISemanticDataWriteBehindQueue {
+
+    boolean isEnabled();
+
+    /**
+     * Queues an update of the documents of the given semantic data.
+     *
+     * @return A future completed once the update has been written or completed exceptionally if it will never be
+     */
+    CompletableFuture<Void> enqueue(ICause cause, AggregateReference<SemanticData, UUID> semanticData, Set<UUID> documentIds, Set<Document> modifiedDocuments, Set<String> domainUris);
+
+    void flush(UUID semanticDataId);
+
+    /**
+     * Writes the pending updates of the semantic data using some of the given domains.
+     *
+     * @param domainUris
+     *         The URIs of the domains
+     */
+    void flushByDomains(Collection<String> domainUris);
+}
@@ -83,6 +83,7 @@ public class TemplateBasedProjectInitializer implements ITemplateBasedProjectIni
 
             var optionalRepresentationMetadata = initializer.handle(input, input.templateId(), editingContext);
             this.editingContextPersistenceService.persist(input, editingContext);
+            this.editingContextPersistenceService.flush(editingContext.getId());
 
             return new CreateProjectFromTemplateSuccessPayload(input.id(), this.projectMapper.toDTO(project), optionalRepresentationMetadata.orElse(null));
         }
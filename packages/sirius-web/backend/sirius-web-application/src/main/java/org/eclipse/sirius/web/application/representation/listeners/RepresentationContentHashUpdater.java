@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.listeners;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentHashService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationContentCreatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationContentUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataDeletedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Used to keep the hash of the content of the representations up to date once their changes have been committed.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class RepresentationContentHashUpdater {
+
+    private final IRepresentationContentHashService representationContentHashService;
+
+    public RepresentationContentHashUpdater(IRepresentationContentHashService representationContentHashService) {
+        this.representationContentHashService = Objects.requireNonNull(representationContentHashService);
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationContentCreatedEvent(RepresentationContentCreatedEvent event) {
+        var representationContent = event.representationContent();
+        this.representationContentHashService.hash(representationContent.getContent())
+                .ifPresent(hash -> this.representationContentHashService.update(representationContent.getId(), hash));
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationContentUpdatedEvent(RepresentationContentUpdatedEvent event) {
+        var representationContent = event.representationContent();
+        this.representationContentHashService.hash(representationContent.getContent())
+                .ifPresent(hash -> this.representationContentHashService.update(representationContent.getId(), hash));
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationMetadataDeletedEvent(RepresentationMetadataDeletedEvent event) {
+        this.representationContentHashService.remove(event.representationMetadata().getId());
+    }
+}
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.listeners;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.application.diagram.services.api.IDiagramLayoutDataWriteQueue;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationContentUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationLayoutDataUpdateService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Used to delete the layout data persisted apart from the content of a representation once its whole content has been
+ * written again.
+ *
+ * <p>
+ * The new content already contains the latest layout data, the layout data waiting to be written are flushed first so
+ * that none of them can be written after their deletion. The deletion is part of the transaction updating the content.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class RepresentationLayoutDataCompactor {
+
+    private final IDiagramLayoutDataWriteQueue diagramLayoutDataWriteQueue;
+
+    private final IRepresentationLayoutDataUpdateService representationLayoutDataUpdateService;
+
+    public RepresentationLayoutDataCompactor(IDiagramLayoutDataWriteQueue diagramLayoutDataWriteQueue, IRepresentationLayoutDataUpdateService representationLayoutDataUpdateService) {
+        this.diagramLayoutDataWriteQueue = Objects.requireNonNull(diagramLayoutDataWriteQueue);
+        this.representationLayoutDataUpdateService = Objects.requireNonNull(representationLayoutDataUpdateService);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRepresentationContentUpdatedEvent(RepresentationContentUpdatedEvent event) {
+        var representationId = event.representationContent().getId();
+        this.diagramLayoutDataWriteQueue.flush(representationId);
+        this.representationLayoutDataUpdateService.deleteAllByRepresentationId(representationId);
+    }
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentHashService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to remember the hash of the content of the representations which has been written in the database.
+ *
+ * <p>
+ * Only a SHA-256 hash of the content is kept in memory for each representation and only for the representations
+ * written the most recently, up to the configured maximum size. A representation without any hash is always considered
+ * as modified, forgetting a hash or failing to compute it thus only costs an additional write.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class RepresentationContentHashService implements IRepresentationContentHashService {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationContentHashService.class);
+
+    private final Map<UUID, String> hashes;
+
+    public RepresentationContentHashService(@Value("${sirius.web.representation.contentHashCacheSize:10000}") int maximumSize) {
+        this.hashes = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, String> eldest) {
+                return this.size() > maximumSize;
+            }
+        };
+    }
+
+    @Override
+    public Optional<String> hash(byte[] content) {
+        Optional<String> hash = Optional.empty();
+        try {
+            var digest = MessageDigest.getInstance(ALGORITHM).digest(content);
+            hash = Optional.of(HexFormat.of().formatHex(digest));
+        } catch (NoSuchAlgorithmException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return hash;
+    }
+
+    @Override
+    public Optional<String> hash(String content) {
+        return this.hash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public synchronized boolean isWritten(UUID representationId, String hash) {
+        return hash.equals(this.hashes.get(representationId));
+    }
+
+    @Override
+    public synchronized void update(UUID representationId, String hash) {
+        this.hashes.put(representationId, hash);
+    }
+
+    @Override
+    public synchronized void remove(UUID representationId) {
+        this.hashes.remove(representationId);
+    }
+
+    public synchronized int size() {
+        return this.hashes.size();
+    }
+}
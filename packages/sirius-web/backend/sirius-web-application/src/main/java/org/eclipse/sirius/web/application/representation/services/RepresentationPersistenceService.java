@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,9 +15,11 @@ package org.eclipse.sirius.web.application.representation.services;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.representations.migration.IRepresentationMigrationParticipant;
@@ -25,7 +27,9 @@ import org.eclipse.sirius.components.collaborative.representations.migration.Rep
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.web.application.AfterCommitExecutor;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentHashService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentCreationService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentUpdateService;
@@ -34,6 +38,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Used to persist representations.
  *
@@ -44,24 +51,33 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
 
     private static final String NONE = "none";
 
+    private static final String SKIPPED_SAVES_COUNTER_NAME = "siriusweb_representation_save_skipped";
+
     private final IRepresentationContentSearchService representationContentSearchService;
 
     private final IRepresentationContentCreationService representationContentCreationService;
 
     private final IRepresentationContentUpdateService representationContentUpdateService;
 
+    private final IRepresentationContentHashService representationContentHashService;
+
     private final ObjectMapper objectMapper;
 
     private final Logger logger = LoggerFactory.getLogger(RepresentationPersistenceService.class);
 
     private final List<IRepresentationMigrationParticipant> migrationParticipants;
 
-    public RepresentationPersistenceService(IRepresentationContentSearchService representationContentSearchService, IRepresentationContentCreationService representationContentCreationService, IRepresentationContentUpdateService representationContentUpdateService, ObjectMapper objectMapper, List<IRepresentationMigrationParticipant> migrationParticipants) {
+    private final Counter skippedSavesCounter;
+
+    public RepresentationPersistenceService(IRepresentationContentSearchService representationContentSearchService, IRepresentationContentCreationService representationContentCreationService, IRepresentationContentUpdateService representationContentUpdateService,
+            IRepresentationContentHashService representationContentHashService, ObjectMapper objectMapper, List<IRepresentationMigrationParticipant> migrationParticipants, MeterRegistry meterRegistry) {
         this.representationContentSearchService = Objects.requireNonNull(representationContentSearchService);
         this.representationContentCreationService = Objects.requireNonNull(representationContentCreationService);
         this.representationContentUpdateService = Objects.requireNonNull(representationContentUpdateService);
+        this.representationContentHashService = Objects.requireNonNull(representationContentHashService);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.migrationParticipants = migrationParticipants;
+        this.skippedSavesCounter = Counter.builder(SKIPPED_SAVES_COUNTER_NAME).register(meterRegistry);
     }
 
     @Override
@@ -71,24 +87,34 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
         if (optionalRepresentationId.isPresent()) {
             var representationId = optionalRepresentationId.get();
 
-            String content = this.toString(representation);
-
-            var exists = this.representationContentSearchService.existsById(representationId);
+            // The representation is serialized only once, its bytes are hashed and only decoded if they have to be written
+            byte[] bytes = this.toBytes(representation);
+            Optional<String> optionalHash = this.representationContentHashService.hash(bytes);
 
-            if (exists) {
-                var migrationData = this.getLastMigrationData(representation.getKind());
-                this.representationContentUpdateService.updateContentByRepresentationIdWithMigrationData(cause, representationId, content, migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+            if (optionalHash.filter(hash -> this.representationContentHashService.isWritten(representationId, hash)).isPresent()) {
+                // The representation has not changed since its last write
+                this.skippedSavesCounter.increment();
             } else {
-                var migrationData = this.getInitialMigrationData(representation.getKind());
-                this.representationContentCreationService.create(cause, representationId, content, migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+                String content = new String(bytes, StandardCharsets.UTF_8);
+                var exists = this.representationContentSearchService.existsById(representationId);
+
+                if (exists) {
+                    var migrationData = this.getLastMigrationData(representation.getKind());
+                    this.representationContentUpdateService.updateContentByRepresentationIdWithMigrationData(cause, representationId, content, migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+                } else {
+                    var migrationData = this.getInitialMigrationData(representation.getKind());
+                    this.representationContentCreationService.create(cause, representationId, content, migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+                }
+                // An update with the same content does not send any event, the hash is thus only remembered once the content is committed
+                optionalHash.ifPresent(hash -> new AfterCommitExecutor().execute(() -> this.representationContentHashService.update(representationId, hash)));
             }
         }
     }
 
-    private String toString(IRepresentation representation) {
-        String content = "";
+    private byte[] toBytes(IRepresentation representation) {
+        byte[] content = new byte[0];
         try {
-            content = this.objectMapper.writeValueAsString(representation);
+            content = this.objectMapper.writeValueAsBytes(representation);
         } catch (JsonProcessingException exception) {
             this.logger.warn(exception.getMessage(), exception);
         }
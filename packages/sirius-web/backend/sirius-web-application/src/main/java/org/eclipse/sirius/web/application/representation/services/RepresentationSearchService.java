@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,15 +15,23 @@ package org.eclipse.sirius.web.application.representation.services;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.EdgeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.LabelLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.diagram.services.api.IDiagramLayoutDataSearchService;
 import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentMigrationService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
@@ -47,14 +55,18 @@ public class RepresentationSearchService implements IRepresentationSearchService
 
     private final IRepresentationContentMigrationService representationContentMigrationService;
 
+    private final IDiagramLayoutDataSearchService diagramLayoutDataSearchService;
+
     private final ObjectMapper objectMapper;
 
     private final Logger logger = LoggerFactory.getLogger(RepresentationSearchService.class);
 
-    public RepresentationSearchService(IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationContentSearchService representationContentSearchService, IRepresentationContentMigrationService representationContentMigrationService, ObjectMapper objectMapper) {
+    public RepresentationSearchService(IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationContentSearchService representationContentSearchService, IRepresentationContentMigrationService representationContentMigrationService,
+            IDiagramLayoutDataSearchService diagramLayoutDataSearchService, ObjectMapper objectMapper) {
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
         this.representationContentSearchService = Objects.requireNonNull(representationContentSearchService);
         this.representationContentMigrationService = Objects.requireNonNull(representationContentMigrationService);
+        this.diagramLayoutDataSearchService = Objects.requireNonNull(diagramLayoutDataSearchService);
         this.objectMapper = Objects.requireNonNull(objectMapper);
     }
 
@@ -70,7 +82,38 @@ public class RepresentationSearchService implements IRepresentationSearchService
     private Optional<IRepresentation> getRepresentation(RepresentationMetadata representationMetadata) {
         return this.representationContentSearchService.findContentById(representationMetadata.getId())
                 .map(representationContent -> this.migratedContent(representationMetadata, representationContent))
-                .flatMap(this::toRepresentation);
+                .flatMap(this::toRepresentation)
+                .map(representation -> this.withPersistedLayoutData(representationMetadata, representation));
+    }
+
+    /**
+     * Applies the layout data of the diagrams which have been persisted since the last write of their content.
+     *
+     * @param representationMetadata
+     *         The metadata of the representation
+     * @param representation
+     *         The representation
+     * @return The representation with its latest layout data
+     */
+    private IRepresentation withPersistedLayoutData(RepresentationMetadata representationMetadata, IRepresentation representation) {
+        if (representation instanceof Diagram diagram) {
+            var optionalLayoutData = this.diagramLayoutDataSearchService.findByRepresentationId(representationMetadata.getId());
+            if (optionalLayoutData.isPresent()) {
+                var layoutData = optionalLayoutData.get();
+
+                Map<String, NodeLayoutData> nodeLayoutData = new HashMap<>(diagram.getLayoutData().nodeLayoutData());
+                nodeLayoutData.putAll(layoutData.nodeLayoutData());
+                Map<String, EdgeLayoutData> edgeLayoutData = new HashMap<>(diagram.getLayoutData().edgeLayoutData());
+                edgeLayoutData.putAll(layoutData.edgeLayoutData());
+                Map<String, LabelLayoutData> labelLayoutData = new HashMap<>(diagram.getLayoutData().labelLayoutData());
+                labelLayoutData.putAll(layoutData.labelLayoutData());
+
+                return Diagram.newDiagram(diagram)
+                        .layoutData(new DiagramLayoutData(nodeLayoutData, edgeLayoutData, labelLayoutData))
+                        .build();
+            }
+        }
+        return representation;
     }
 
     @Override
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services.api;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Used to remember the hash of the content of the representations which has been written in the database.
+ *
+ * @author sbegaudeau
+ */
+public interface IRepresentationContentHashService {
+
+    Optional<String> hash(byte[] content);
+
+    Optional<String> hash(String content);
+
+    boolean isWritten(UUID representationId, String hash);
+
+    void update(UUID representationId, String hash);
+
+    void remove(UUID representationId);
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.listeners;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.domain.DomainPackage;
+import org.eclipse.sirius.components.view.ViewPackage;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioDefinitionCache;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.events.ProjectDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataDomain;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Used to invalidate the studio definitions cached once the update or the deletion of a semantic data containing them
+ * has been committed.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class StudioDefinitionCacheInvalidator {
+
+    private static final List<String> STUDIO_DOMAIN_URIS = List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI);
+
+    private final IStudioDefinitionCache studioDefinitionCache;
+
+    private final ISemanticDataSearchService semanticDataSearchService;
+
+    public StudioDefinitionCacheInvalidator(IStudioDefinitionCache studioDefinitionCache, ISemanticDataSearchService semanticDataSearchService) {
+        this.studioDefinitionCache = Objects.requireNonNull(studioDefinitionCache);
+        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
+    }
+
+    @TransactionalEventListener
+    public void onSemanticDataUpdatedEvent(SemanticDataUpdatedEvent event) {
+        var semanticData = event.semanticData();
+        var isStudio = semanticData.getDomains().stream()
+                .map(SemanticDataDomain::uri)
+                .anyMatch(STUDIO_DOMAIN_URIS::contains);
+        if (isStudio) {
+            this.studioDefinitionCache.invalidate(semanticData.getId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeletedEvent(ProjectDeletedEvent event) {
+        // The semantic data of the project are gone, only the studios which still exist are kept
+        this.studioDefinitionCache.retainAll(this.semanticDataSearchService.findAllVersionsByDomains(STUDIO_DOMAIN_URIS));
+    }
+}
@@ -14,11 +14,15 @@ package org.eclipse.sirius.web.application.studio.services;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
+import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.domain.Domain;
@@ -36,8 +40,10 @@ import org.eclipse.sirius.components.view.tree.TreePackage;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextMigrationParticipantPredicate;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
+import org.eclipse.sirius.web.application.editingcontext.services.api.ISemanticDataWriteBehindQueue;
 import org.eclipse.sirius.web.application.studio.services.api.IDomainProvider;
 import org.eclipse.sirius.web.application.studio.services.api.IStudioColorPalettesLoader;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioDefinitionCache;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.springframework.stereotype.Service;
@@ -61,64 +67,102 @@ public class EditingContextInitializer implements IEditingContextProcessor {
 
     private final List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates;
 
-    public EditingContextInitializer(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IDomainProvider> domainProviders, IStudioColorPalettesLoader studioColorPalettesLoader, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates) {
+    private final IStudioDefinitionCache studioDefinitionCache;
+
+    private final ISemanticDataWriteBehindQueue semanticDataWriteBehindQueue;
+
+    public EditingContextInitializer(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IDomainProvider> domainProviders, IStudioColorPalettesLoader studioColorPalettesLoader, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates, IStudioDefinitionCache studioDefinitionCache, ISemanticDataWriteBehindQueue semanticDataWriteBehindQueue) {
         this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
         this.resourceLoader = Objects.requireNonNull(resourceLoader);
         this.domainProviders = Objects.requireNonNull(domainProviders);
         this.studioColorPalettesLoader = Objects.requireNonNull(studioColorPalettesLoader);
         this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
+        this.studioDefinitionCache = Objects.requireNonNull(studioDefinitionCache);
+        this.semanticDataWriteBehindQueue = Objects.requireNonNull(semanticDataWriteBehindQueue);
     }
 
     @Override
     @Transactional(readOnly = true)
     public void preProcess(IEditingContext editingContext) {
         if (editingContext instanceof EditingContext siriusWebEditingContext) {
-            List<Domain> domains = new ArrayList<>();
-
-            this.domainProviders.stream()
+            List<Domain> providedDomains = this.domainProviders.stream()
                     .map(domainProvider -> domainProvider.getDomains(siriusWebEditingContext))
                     .flatMap(Collection::stream)
-                    .forEach(domains::add);
+                    .toList();
 
             List<View> views = new ArrayList<>();
-
-            var allSemanticData = this.semanticDataSearchService.findAllByDomains(List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI));
-            for (var semanticData : allSemanticData) {
-                ResourceSet resourceSet = new ResourceSetImpl();
-
-                resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(TreePackage.eNS_URI, TreePackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(TablePackage.eNS_URI, TablePackage.eINSTANCE);
-                this.studioColorPalettesLoader.loadStudioColorPalettes(resourceSet);
-
-                semanticData.getDocuments().forEach(document -> this.toResource(semanticData.getId().toString(), resourceSet, document));
-                resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
-
-                var treeIterator = resourceSet.getAllContents();
-                while (treeIterator.hasNext()) {
-                    var next = treeIterator.next();
-                    if (next instanceof View view) {
-                        views.add(view);
-                        treeIterator.prune();
-                    } else if (next instanceof Domain domain) {
-                        domains.add(domain);
-                        treeIterator.prune();
-                    }
-                }
+            List<Domain> domains = new ArrayList<>(providedDomains);
+
+            // The studios modified recently may still have changes waiting to be written
+            var studioDomainUris = List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI);
+            this.semanticDataWriteBehindQueue.flushByDomains(studioDomainUris);
+
+            var semanticDataVersions = this.semanticDataSearchService.findAllVersionsByDomains(studioDomainUris).stream()
+                    .sorted(Comparator.comparing(semanticDataVersion -> semanticDataVersion.id().toString()))
+                    .toList();
+            this.studioDefinitionCache.retainAll(semanticDataVersions);
+            for (var semanticDataVersion : semanticDataVersions) {
+                var studioDefinitions = this.studioDefinitionCache.getStudioDefinitions(semanticDataVersion, () -> this.loadStudioDefinitions(semanticDataVersion.id()));
+                views.addAll(studioDefinitions.views());
+                domains.addAll(studioDefinitions.domains());
             }
 
             siriusWebEditingContext.getViews().addAll(views);
 
+            List<EPackage> ePackages;
+            if (providedDomains.isEmpty()) {
+                ePackages = this.studioDefinitionCache.getEPackages(semanticDataVersions, () -> new DomainConverter().convert(domains).toList());
+            } else {
+                // The domains provided are specific to this editing context and cannot be shared
+                ePackages = new DomainConverter().convert(domains).toList();
+            }
+
             var resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
-            new DomainConverter().convert(domains).forEach(ePackage -> resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage));
+            ePackages.forEach(ePackage -> resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage));
         }
     }
 
+    private StudioDefinitions loadStudioDefinitions(UUID semanticDataId) {
+        List<View> views = new ArrayList<>();
+        List<Domain> domains = new ArrayList<>();
+
+        this.semanticDataSearchService.findById(semanticDataId).ifPresent(semanticData -> {
+            ResourceSet resourceSet = new ResourceSetImpl();
+
+            resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(TreePackage.eNS_URI, TreePackage.eINSTANCE);
+            resourceSet.getPackageRegistry().put(TablePackage.eNS_URI, TablePackage.eINSTANCE);
+            this.studioColorPalettesLoader.loadStudioColorPalettes(resourceSet);
+
+            semanticData.getDocuments().forEach(document -> this.toResource(semanticData.getId().toString(), resourceSet, document));
+            resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+
+            // The views and domains are shared between the editing contexts, nothing should be modified lazily afterward.
+            // Their resource set is never part of the editing domain of an editing context, the commands of the
+            // editing contexts, their undo and their persistence can thus not modify them
+            EcoreUtil.resolveAll(resourceSet);
+
+            var treeIterator = resourceSet.getAllContents();
+            while (treeIterator.hasNext()) {
+                var next = treeIterator.next();
+                if (next instanceof View view) {
+                    views.add(view);
+                    treeIterator.prune();
+                } else if (next instanceof Domain domain) {
+                    domains.add(domain);
+                    treeIterator.prune();
+                }
+            }
+        });
+
+        return new StudioDefinitions(views, domains);
+    }
+
     private void toResource(String editingContextId, ResourceSet resourceSet, Document document) {
         boolean useMigrationParticipants = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContextId));
         this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(), useMigrationParticipants);
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioDefinitionCache;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Used to share the views, domains and the elements computed from them between all the editing contexts.
+ *
+ * <p>
+ * The views and domains are kept for each version of the semantic data which contains them. The EPackages and the
+ * representation descriptions computed from them are kept as long as the same instances are used to compute them, they
+ * are all forgotten as soon as one of the semantic data is updated. Each cache only keeps its entries used the most
+ * recently and the values are computed outside of any lock, two editing contexts may thus compute the same value
+ * concurrently but only the first one is kept.
+ * </p>
+ *
+ * <p>
+ * The views and domains are shared as is, they are never modified by the editing contexts using them, see
+ * {@link StudioDefinitions}.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class StudioDefinitionCache implements IStudioDefinitionCache {
+
+    public static final int MAX_STUDIO_DEFINITIONS = 256;
+
+    public static final int MAX_COMPUTED_ENTRIES = 100;
+
+    private static final String HITS_COUNTER_NAME = "siriusweb_studio_cache_hits";
+
+    private static final String MISSES_COUNTER_NAME = "siriusweb_studio_cache_misses";
+
+    private static final String CACHE_TAG = "cache";
+
+    private final Map<SemanticDataVersion, StudioDefinitions> studioDefinitions = this.createLeastRecentlyUsedMap(MAX_STUDIO_DEFINITIONS);
+
+    private final Map<List<SemanticDataVersion>, List<EPackage>> ePackages = this.createLeastRecentlyUsedMap(MAX_COMPUTED_ENTRIES);
+
+    private final Map<RepresentationDescriptionsKey, List<IRepresentationDescription>> representationDescriptions = this.createLeastRecentlyUsedMap(MAX_COMPUTED_ENTRIES);
+
+    private final CacheCounters studioDefinitionsCounters;
+
+    private final CacheCounters ePackagesCounters;
+
+    private final CacheCounters representationDescriptionsCounters;
+
+    public StudioDefinitionCache(MeterRegistry meterRegistry) {
+        this.studioDefinitionsCounters = this.createCounters(meterRegistry, "definitions");
+        this.ePackagesCounters = this.createCounters(meterRegistry, "ePackages");
+        this.representationDescriptionsCounters = this.createCounters(meterRegistry, "representationDescriptions");
+    }
+
+    private <K, V> Map<K, V> createLeastRecentlyUsedMap(int maximumSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return this.size() > maximumSize;
+            }
+        };
+    }
+
+    private CacheCounters createCounters(MeterRegistry meterRegistry, String cacheName) {
+        var hits = Counter.builder(HITS_COUNTER_NAME).tag(CACHE_TAG, cacheName).register(meterRegistry);
+        var misses = Counter.builder(MISSES_COUNTER_NAME).tag(CACHE_TAG, cacheName).register(meterRegistry);
+        return new CacheCounters(hits, misses);
+    }
+
+    @Override
+    public StudioDefinitions getStudioDefinitions(SemanticDataVersion semanticDataVersion, Supplier<StudioDefinitions> loader) {
+        return this.getOrCompute(this.studioDefinitions, semanticDataVersion, loader, this.studioDefinitionsCounters);
+    }
+
+    @Override
+    public List<EPackage> getEPackages(List<SemanticDataVersion> semanticDataVersions, Supplier<List<EPackage>> converter) {
+        return this.getOrCompute(this.ePackages, List.copyOf(semanticDataVersions), converter, this.ePackagesCounters);
+    }
+
+    @Override
+    public List<IRepresentationDescription> getRepresentationDescriptions(List<View> views, List<EPackage> visibleEPackages, Supplier<List<IRepresentationDescription>> converter) {
+        var key = new RepresentationDescriptionsKey(List.copyOf(views), List.copyOf(visibleEPackages));
+        return this.getOrCompute(this.representationDescriptions, key, converter, this.representationDescriptionsCounters);
+    }
+
+    private <K, V> V getOrCompute(Map<K, V> cache, K key, Supplier<V> computation, CacheCounters counters) {
+        V value;
+        synchronized (this) {
+            value = cache.get(key);
+        }
+
+        if (value != null) {
+            counters.hits().increment();
+        } else {
+            counters.misses().increment();
+
+            // The computation may take some time and read the database, it must not block the other editing contexts
+            var computedValue = computation.get();
+            synchronized (this) {
+                value = cache.putIfAbsent(key, computedValue);
+                if (value == null) {
+                    value = computedValue;
+                }
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized void invalidate(UUID semanticDataId) {
+        this.studioDefinitions.keySet().removeIf(version -> version.id().equals(semanticDataId));
+        this.ePackages.clear();
+        this.representationDescriptions.clear();
+    }
+
+    @Override
+    public synchronized void retainAll(Collection<SemanticDataVersion> semanticDataVersions) {
+        var versions = Set.copyOf(semanticDataVersions);
+        boolean hasRemovedVersions = this.studioDefinitions.keySet().removeIf(version -> !versions.contains(version));
+        if (hasRemovedVersions) {
+            this.ePackages.clear();
+            this.representationDescriptions.clear();
+        }
+    }
+
+    public synchronized int size() {
+        return this.studioDefinitions.size();
+    }
+
+    /**
+     * The key of the representation descriptions, the views and EPackages are compared by identity.
+     *
+     * @author sbegaudeau
+     */
+    private record RepresentationDescriptionsKey(List<View> views, List<EPackage> ePackages) {
+    }
+
+    /**
+     * The counters of the hits and misses of a cache.
+     *
+     * @author sbegaudeau
+     */
+    private record CacheCounters(Counter hits, Counter misses) {
+    }
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.view.View;
+
+/**
+ * The views and domains loaded from the documents of a semantic data.
+ *
+ * <p>
+ * They may be shared by several editing contexts and must thus be considered as read-only. They are loaded in their own
+ * resource set, which does not belong to the editing domain of any editing context, and they are only given to the
+ * editing contexts through their list of views and the EPackages converted from the domains. They are thus only read
+ * to compute the representation descriptions and the EPackages, and never reached by the commands of the editing
+ * contexts.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record StudioDefinitions(List<View> views, List<Domain> domains) {
+    public StudioDefinitions {
+        views = List.copyOf(Objects.requireNonNull(views));
+        domains = List.copyOf(Objects.requireNonNull(domains));
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,8 +19,11 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.view.View;
 import org.eclipse.sirius.components.view.emf.IViewConverter;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioDefinitionCache;
 import org.springframework.stereotype.Service;
 
 /**
@@ -33,19 +36,28 @@ public class ViewBasedRepresentationDescriptionConverter implements IEditingCont
 
     private final IViewConverter viewConverter;
 
-    public ViewBasedRepresentationDescriptionConverter(IViewConverter viewConverter) {
+    private final IStudioDefinitionCache studioDefinitionCache;
+
+    public ViewBasedRepresentationDescriptionConverter(IViewConverter viewConverter, IStudioDefinitionCache studioDefinitionCache) {
         this.viewConverter = viewConverter;
+        this.studioDefinitionCache = Objects.requireNonNull(studioDefinitionCache);
     }
     @Override
     public void postProcess(IEditingContext editingContext) {
         if (editingContext instanceof EditingContext siriusWebEditingContext) {
             List<EPackage> accessibleEPackages = this.getAccessibleEPackages(siriusWebEditingContext.getDomain());
-            this.viewConverter.convert(siriusWebEditingContext.getViews(), accessibleEPackages).stream()
-                    .filter(Objects::nonNull)
+            List<View> views = List.copyOf(siriusWebEditingContext.getViews());
+            this.studioDefinitionCache.getRepresentationDescriptions(views, accessibleEPackages, () -> this.convert(views, accessibleEPackages))
                     .forEach(representationDescription -> siriusWebEditingContext.getRepresentationDescriptions().put(representationDescription.getId(), representationDescription));
         }
     }
 
+    private List<IRepresentationDescription> convert(List<View> views, List<EPackage> accessibleEPackages) {
+        return this.viewConverter.convert(views, accessibleEPackages).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     private List<EPackage> getAccessibleEPackages(EditingDomain editingDomain) {
         var packageRegistry = editingDomain.getResourceSet().getPackageRegistry();
 
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.web.application.studio.services.StudioDefinitions;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
+
+/**
+ * Used to share the views, domains and the elements computed from them between all the editing contexts.
+ *
+ * @author sbegaudeau
+ */
+public interface IStudioDefinitionCache {
+
+    StudioDefinitions getStudioDefinitions(SemanticDataVersion semanticDataVersion, Supplier<StudioDefinitions> loader);
+
+    List<EPackage> getEPackages(List<SemanticDataVersion> semanticDataVersions, Supplier<List<EPackage>> converter);
+
+    List<IRepresentationDescription> getRepresentationDescriptions(List<View> views, List<EPackage> ePackages, Supplier<List<IRepresentationDescription>> converter);
+
+    void invalidate(UUID semanticDataId);
+
+    /**
+     * Forgets the studio definitions of the versions of the semantic data which are not among the given ones anymore,
+     * either because the semantic data has been modified or deleted.
+     *
+     * @param semanticDataVersions
+     *         The current versions of the semantic data containing studio definitions
+     */
+    void retainAll(Collection<SemanticDataVersion> semanticDataVersions);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.LayoutDiagramInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.UpdateDiagramViewportInput;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
@@ -33,7 +34,7 @@ import reactor.core.publisher.Sinks;
 public class UndoRedoRecorder implements IInputPreProcessor, IInputPostProcessor {
 
     private boolean canHandle(IInput input)  {
-        return !(input instanceof UndoInput || input instanceof RedoInput || input instanceof LayoutDiagramInput);
+        return !(input instanceof UndoInput || input instanceof RedoInput || input instanceof LayoutDiagramInput || input instanceof UpdateDiagramViewportInput);
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -139,17 +139,17 @@ public class ExplorerDescriptionProvider implements IEditingContextRepresentatio
     }
 
     private String getTreeItemId(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         return this.explorerServices.getTreeItemId(self);
     }
 
     private String getKind(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         return this.explorerServices.getKind(self);
     }
 
     private StyledString getLabel(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         String label = "";
         if (self instanceof RepresentationMetadata || self instanceof Resource) {
             label = this.explorerServices.getLabel(self);
@@ -166,22 +166,22 @@ public class ExplorerDescriptionProvider implements IEditingContextRepresentatio
     }
 
     private boolean isEditable(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         return this.explorerServices.isEditable(self);
     }
 
     private boolean isDeletable(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         return this.explorerServices.isDeletable(self);
     }
 
     private boolean isSelectable(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         return this.explorerServices.isSelectable(self);
     }
 
     private List<String> getImageURL(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         return this.explorerServices.getImageURL(self);
     }
 
@@ -234,7 +234,7 @@ public class ExplorerDescriptionProvider implements IEditingContextRepresentatio
     }
 
     private Object getParentObject(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         var optionalTreeItemId = variableManager.get(TreeDescription.ID, String.class);
         var optionalEditingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class);
         return this.explorerServices.getParent(self, optionalTreeItemId.orElse(null), optionalEditingContext.orElse(null));
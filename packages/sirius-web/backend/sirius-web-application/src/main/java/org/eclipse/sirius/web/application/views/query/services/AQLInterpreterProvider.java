@@ -12,13 +12,17 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.views.query.services;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.emf.query.EditingContextServices;
+import org.eclipse.sirius.components.emf.query.api.IAQLInterpreterPool;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLExpressionCache;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.application.views.query.services.api.IAQLInterpreterProvider;
 import org.eclipse.sirius.web.application.views.query.services.api.IInterpreterJavaServiceProvider;
@@ -41,18 +45,28 @@ public class AQLInterpreterProvider implements IAQLInterpreterProvider {
 
     private final ApplicationContext applicationContext;
 
+    private final IAQLInterpreterPool aqlInterpreterPool;
+
     private final Logger logger = LoggerFactory.getLogger(AQLInterpreterProvider.class);
 
-    public AQLInterpreterProvider(List<IInterpreterJavaServiceProvider> interpreterJavaServiceProviders, ApplicationContext applicationContext) {
+    public AQLInterpreterProvider(List<IInterpreterJavaServiceProvider> interpreterJavaServiceProviders, ApplicationContext applicationContext, IAQLInterpreterPool aqlInterpreterPool) {
         this.interpreterJavaServiceProviders = Objects.requireNonNull(interpreterJavaServiceProviders);
         this.applicationContext = Objects.requireNonNull(applicationContext);
+        this.aqlInterpreterPool = Objects.requireNonNull(aqlInterpreterPool);
     }
 
     @Override
-    public AQLInterpreter getInterpreter(IEditingContext editingContext) {
+    public <T> T withInterpreter(IEditingContext editingContext, Function<AQLInterpreter, T> function) {
         var ePackages = this.getEPackages(editingContext);
-        var services = this.getServices(editingContext);
-        return new AQLInterpreter(List.of(EditingContextServices.class), services, ePackages);
+        var serviceClasses = this.getServiceClasses(editingContext);
+
+        List<Class<?>> poolServiceClasses = new ArrayList<>(serviceClasses);
+        poolServiceClasses.add(EditingContextServices.class);
+        return this.aqlInterpreterPool.withInterpreter(editingContext, poolServiceClasses, ePackages, () -> new AQLInterpreter(List.of(EditingContextServices.class), this.getServices(serviceClasses), ePackages, false, this.getExpressionCache()), function);
+    }
+
+    private AQLExpressionCache getExpressionCache() {
+        return this.applicationContext.getBeanProvider(AQLExpressionCache.class).getIfAvailable(() -> new AQLExpressionCache(AQLExpressionCache.DEFAULT_MAXIMUM_SIZE));
     }
 
     private List<EPackage> getEPackages(IEditingContext editingContext) {
@@ -66,10 +80,15 @@ public class AQLInterpreterProvider implements IAQLInterpreterProvider {
         return List.of();
     }
 
-    private List<Object> getServices(IEditingContext editingContext) {
-        AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
+    private List<Class<?>> getServiceClasses(IEditingContext editingContext) {
         return this.interpreterJavaServiceProviders.stream()
                 .flatMap(provider -> provider.getServiceClasses(editingContext).stream())
+                .toList();
+    }
+
+    private List<Object> getServices(List<Class<?>> serviceClasses) {
+        AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
+        return serviceClasses.stream()
                 .map(serviceClass -> {
                     try {
                         return beanFactory.createBean(serviceClass);
@@ -89,9 +89,6 @@ public class EvaluateExpressionEventHandler implements IEditingContextEventHandl
         ChangeDescription changeDescription = new ChangeDescription(ChangeKind.NOTHING, editingContext.getId(), input);
 
         if (input instanceof EvaluateExpressionInput evaluateExpressionInput) {
-            var interpreter = this.aqlInterpreterProvider.getInterpreter(editingContext);
-
-
             var selection = evaluateExpressionInput.selectedObjectIds().stream()
                     .map(objectId -> this.objectSearchService.getObject(editingContext, objectId))
                     .flatMap(Optional::stream)
@@ -104,7 +101,7 @@ public class EvaluateExpressionEventHandler implements IEditingContextEventHandl
             variableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
             variableManager.put(VariableManager.SELF, self);
             variableManager.put("selection", selection);
-            var evaluationResult = interpreter.evaluateExpression(variableManager.getVariables(), evaluateExpressionInput.expression());
+            var evaluationResult = this.aqlInterpreterProvider.withInterpreter(editingContext, interpreter -> interpreter.evaluateExpression(variableManager.asMap(), evaluateExpressionInput.expression()));
 
             payload = this.toPayload(input.id(), evaluationResult);
             changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input);
@@ -12,14 +12,16 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.views.query.services.api;
 
+import java.util.function.Function;
+
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 
 /**
- * Used to receive a properly initialized instance of the AQL interpreter.
+ * Used to evaluate some code with a properly initialized instance of the AQL interpreter.
  *
  * @author sbegaudeau
  */
 public interface IAQLInterpreterProvider {
-    AQLInterpreter getInterpreter(IEditingContext editingContext);
+    <T> T withInterpreter(IEditingContext editingContext, Function<AQLInterpreter, T> function);
 }
@@ -105,12 +105,12 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
     }
 
     private boolean canCreate(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         return self instanceof Domain;
     }
 
     private String getTreeItemId(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
 
         String id = null;
         if (self instanceof RepresentationMetadata representationMetadata) {
@@ -127,7 +127,7 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
 
     private String getKind(VariableManager variableManager) {
         String kind = "";
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         if (self instanceof RepresentationMetadata representationMetadata) {
             kind = representationMetadata.getKind();
         } else if (self instanceof Setting) {
@@ -139,7 +139,7 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
     }
 
     private StyledString getLabel(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
 
         String label = "";
         if (self instanceof RepresentationMetadata representationMetadata) {
@@ -157,7 +157,7 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
     }
 
     private List<String> getImageURL(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
 
         List<String> imageURL = List.of(CoreImageConstants.DEFAULT_SVG);
         if (self instanceof EObject) {
@@ -179,7 +179,7 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
 
     private List<Object> getElements(VariableManager variableManager) {
         List<Object> elements = new ArrayList<>();
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         if (self instanceof Domain domain) {
             elements.add(domain);
         }
@@ -187,7 +187,7 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
     }
 
     private boolean hasChildren(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
 
         boolean hasChildren = false;
         if (self instanceof EObject eObject) {
@@ -216,7 +216,7 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
 
     public List<Object> getChildren(VariableManager variableManager) {
         List<Object> children = new ArrayList<>();
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         if (self != null) {
             children = this.getDefaultChildren(variableManager);
         }
@@ -225,9 +225,9 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
 
     private List<Object> getDefaultChildren(VariableManager variableManager) {
         List<Object> result = new ArrayList<>();
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         List<String> expandedIds = new ArrayList<>();
-        Object objects = variableManager.getVariables().get(TreeRenderer.EXPANDED);
+        Object objects = variableManager.asMap().get(TreeRenderer.EXPANDED);
         if (objects instanceof List<?> list) {
             expandedIds = list.stream()
                     .filter(String.class::isInstance)
@@ -291,7 +291,7 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
     }
 
     private Object getParentObject(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         var optionalTreeItemId = variableManager.get(TreeDescription.ID, String.class);
         var optionalEditingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class);
         Object result = null;
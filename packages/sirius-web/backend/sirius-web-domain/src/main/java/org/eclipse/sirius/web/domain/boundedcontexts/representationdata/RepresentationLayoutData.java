@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.representationdata;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The layout data of an element of a representation, persisted apart from the content of the representation.
+ *
+ * <p>
+ * The layout data of an element is identified by the id of the representation, the id of the element and the kind of
+ * layout data, its content is a JSON document.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record RepresentationLayoutData(UUID representationId, String elementId, String kind, String content, Instant lastModifiedOn) {
+    public RepresentationLayoutData {
+        Objects.requireNonNull(representationId);
+        Objects.requireNonNull(elementId);
+        Objects.requireNonNull(kind);
+        Objects.requireNonNull(content);
+        Objects.requireNonNull(lastModifiedOn);
+    }
+}
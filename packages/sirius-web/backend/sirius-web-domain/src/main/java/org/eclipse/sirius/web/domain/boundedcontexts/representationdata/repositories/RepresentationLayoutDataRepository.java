@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationLayoutData;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository used to persist the layout data of the representations.
+ *
+ * <p>
+ * The layout data are written with batched upserts keyed by the id of the representation, the id of the element and
+ * the kind of layout data, an element laid out again only updates its own row.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Repository
+public class RepresentationLayoutDataRepository implements IRepresentationLayoutDataRepository {
+
+    private static final String REPRESENTATION_ID = "representationId";
+
+    private static final String ELEMENT_ID = "elementId";
+
+    private static final String KIND = "kind";
+
+    private static final String CONTENT = "content";
+
+    private static final String LAST_MODIFIED_ON = "lastModifiedOn";
+
+    private static final String FIND_ALL_BY_REPRESENTATION_ID = """
+            SELECT representation_id, element_id, kind, content, last_modified_on
+            FROM representation_layout_data
+            WHERE representation_id = :representationId
+            """;
+
+    private static final String UPSERT = """
+            INSERT INTO representation_layout_data (representation_id, element_id, kind, content, last_modified_on)
+            VALUES (:representationId, :elementId, :kind, :content, :lastModifiedOn)
+            ON CONFLICT (representation_id, element_id, kind)
+            DO UPDATE SET content = EXCLUDED.content, last_modified_on = EXCLUDED.last_modified_on
+            """;
+
+    private static final String DELETE_ALL_BY_REPRESENTATION_ID = """
+            DELETE FROM representation_layout_data
+            WHERE representation_id = :representationId
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public RepresentationLayoutDataRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = Objects.requireNonNull(namedParameterJdbcTemplate);
+    }
+
+    @Override
+    public List<RepresentationLayoutData> findAllByRepresentationId(UUID representationId) {
+        var parameterSource = new MapSqlParameterSource().addValue(REPRESENTATION_ID, representationId);
+        return this.namedParameterJdbcTemplate.query(FIND_ALL_BY_REPRESENTATION_ID, parameterSource, (resultSet, rowNumber) -> new RepresentationLayoutData(
+                resultSet.getObject("representation_id", UUID.class),
+                resultSet.getString("element_id"),
+                resultSet.getString(KIND),
+                resultSet.getString(CONTENT),
+                resultSet.getTimestamp("last_modified_on").toInstant()));
+    }
+
+    @Override
+    public void upsertAll(List<RepresentationLayoutData> representationLayoutData) {
+        if (!representationLayoutData.isEmpty()) {
+            var parameterSources = representationLayoutData.stream()
+                    .map(this::toParameterSource)
+                    .toArray(SqlParameterSource[]::new);
+            this.namedParameterJdbcTemplate.batchUpdate(UPSERT, parameterSources);
+        }
+    }
+
+    @Override
+    public void deleteAllByRepresentationId(UUID representationId) {
+        this.namedParameterJdbcTemplate.update(DELETE_ALL_BY_REPRESENTATION_ID, new MapSqlParameterSource().addValue(REPRESENTATION_ID, representationId));
+    }
+
+    private SqlParameterSource toParameterSource(RepresentationLayoutData representationLayoutData) {
+        return new MapSqlParameterSource()
+                .addValue(REPRESENTATION_ID, representationLayoutData.representationId())
+                .addValue(ELEMENT_ID, representationLayoutData.elementId())
+                .addValue(KIND, representationLayoutData.kind())
+                .addValue(CONTENT, representationLayoutData.content())
+                .addValue(LAST_MODIFIED_ON, Timestamp.from(representationLayoutData.lastModifiedOn()));
+    }
+}
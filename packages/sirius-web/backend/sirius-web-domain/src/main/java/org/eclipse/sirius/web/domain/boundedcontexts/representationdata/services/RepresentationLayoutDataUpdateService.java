@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationLayoutData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationLayoutDataRepository;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationLayoutDataUpdateService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to update the layout data of the representations.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class RepresentationLayoutDataUpdateService implements IRepresentationLayoutDataUpdateService {
+
+    private final IRepresentationLayoutDataRepository representationLayoutDataRepository;
+
+    public RepresentationLayoutDataUpdateService(IRepresentationLayoutDataRepository representationLayoutDataRepository) {
+        this.representationLayoutDataRepository = Objects.requireNonNull(representationLayoutDataRepository);
+    }
+
+    @Override
+    public void upsertAll(List<RepresentationLayoutData> representationLayoutData) {
+        this.representationLayoutDataRepository.upsertAll(representationLayoutData);
+    }
+
+    @Override
+    public void deleteAllByRepresentationId(UUID representationId) {
+        this.representationLayoutDataRepository.deleteAllByRepresentationId(representationId);
+    }
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationLayoutData;
+
+/**
+ * Used to update the layout data of the representations.
+ *
+ * @author sbegaudeau
+ */
+public interface IRepresentationLayoutDataUpdateService {
+
+    void upsertAll(List<RepresentationLayoutData> representationLayoutData);
+
+    void deleteAllByRepresentationId(UUID representationId);
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The changes performed on the documents and domains of the semantic data since it has been loaded.
+ *
+ * @author sbegaudeau
+ */
+public record DocumentChanges(
+        Set<Document> createdDocuments,
+        Set<Document> updatedDocuments,
+        Set<UUID> deletedDocumentIds,
+        Set<String> createdDomainUris,
+        Set<String> deletedDomainUris) {
+
+    public DocumentChanges {
+        Objects.requireNonNull(createdDocuments);
+        Objects.requireNonNull(updatedDocuments);
+        Objects.requireNonNull(deletedDocumentIds);
+        Objects.requireNonNull(createdDomainUris);
+        Objects.requireNonNull(deletedDomainUris);
+    }
+
+    public boolean isEmpty() {
+        boolean hasDocumentChanges = !this.createdDocuments.isEmpty() || !this.updatedDocuments.isEmpty() || !this.deletedDocumentIds.isEmpty();
+        boolean hasDomainChanges = !this.createdDomainUris.isEmpty() || !this.deletedDomainUris.isEmpty();
+        return !hasDocumentChanges && !hasDomainChanges;
+    }
+}
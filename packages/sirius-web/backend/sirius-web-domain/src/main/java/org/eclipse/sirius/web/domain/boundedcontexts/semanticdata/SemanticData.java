@@ -17,9 +17,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.events.ICause;
@@ -60,6 +62,12 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
 
     private Instant lastModifiedOn;
 
+    @Transient
+    private Map<UUID, Document> savedDocuments;
+
+    @Transient
+    private Set<SemanticDataDomain> savedDomains;
+
     @Override
     public UUID getId() {
         return this.id;
@@ -91,16 +99,48 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
     }
 
     public void updateDocuments(ICause cause, Set<Document> newDocuments, Set<String> domainUris) {
+        Set<UUID> documentIds = newDocuments.stream()
+                .map(Document::getId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        this.updateDocuments(cause, documentIds, newDocuments, domainUris);
+    }
+
+    /**
+     * Updates the documents of the semantic data when only some of them may have been modified.
+     *
+     * <p>
+     * The documents whose id is in the given ids but which are not among the modified documents are kept as is, the
+     * documents whose id is not in the given ids are removed.
+     * </p>
+     *
+     * @param cause
+     *         The cause of the update
+     * @param documentIds
+     *         The ids of all the documents of the semantic data after the update
+     * @param modifiedDocuments
+     *         The documents which may have been created or modified
+     * @param domainUris
+     *         The uris of the domains used by the documents
+     */
+    public void updateDocuments(ICause cause, Set<UUID> documentIds, Set<Document> modifiedDocuments, Set<String> domainUris) {
         boolean shouldBeUpdated = false;
 
+        Map<UUID, Document> existingDocuments = this.documents.stream()
+                .collect(Collectors.toMap(Document::getId, Function.identity(), (first, second) -> first));
+        Map<UUID, Document> newDocuments = modifiedDocuments.stream()
+                .collect(Collectors.toMap(Document::getId, Function.identity(), (first, second) -> second));
+
         Set<Document> documentsToSet = new LinkedHashSet<>();
-        for (var document : newDocuments) {
-            var optionalExistingDocument = this.documents.stream()
-                    .filter(existingDocument -> existingDocument.getId().equals(document.getId()))
-                    .findFirst();
+        for (var documentId : documentIds) {
+            var existingDocument = existingDocuments.get(documentId);
+            var document = newDocuments.get(documentId);
 
-            if (optionalExistingDocument.isPresent()) {
-                var existingDocument = optionalExistingDocument.get();
+            if (document == null) {
+                // Unmodified document, only kept if it already exists
+                if (existingDocument != null) {
+                    documentsToSet.add(existingDocument);
+                }
+            } else if (existingDocument != null) {
                 if (this.sameContent(existingDocument, document)) {
                     // Reuse the existing instance, timestamps included
                     documentsToSet.add(existingDocument);
@@ -119,9 +159,7 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
             }
         }
         // The previous code will not detect the removal of an existing document as cause for update, so also check if the set of document ids has changed
-        shouldBeUpdated = shouldBeUpdated || !this.documents.stream()
-                .map(Document::getId)
-                .collect(Collectors.toSet())
+        shouldBeUpdated = shouldBeUpdated || !existingDocuments.keySet()
                 .equals(documentsToSet.stream()
                         .map(Document::getId)
                         .collect(Collectors.toSet()));
@@ -138,6 +176,12 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
     }
 
     private void doUpdateDocuments(ICause cause, Set<Document> newDocuments, Set<String> domainUris) {
+        if (this.savedDocuments == null) {
+            // Keeps the state of the documents and domains as they have been loaded to compute the changes to save
+            this.savedDocuments = this.documents.stream().collect(Collectors.toMap(Document::getId, Function.identity(), (first, second) -> first));
+            this.savedDomains = new LinkedHashSet<>(this.domains);
+        }
+
         this.documents = newDocuments;
         this.domains = domainUris.stream()
                 .map(SemanticDataDomain::new)
@@ -147,6 +191,56 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
         this.registerEvent(new SemanticDataUpdatedEvent(UUID.randomUUID(), this.lastModifiedOn, cause, this));
     }
 
+    /**
+     * Returns the changes performed on the documents and domains since the semantic data has been loaded or since the
+     * changes have been saved.
+     *
+     * @return The changes of the documents and domains
+     */
+    public DocumentChanges getDocumentChanges() {
+        var documentChanges = new DocumentChanges(Set.of(), Set.of(), Set.of(), Set.of(), Set.of());
+        if (this.savedDocuments != null) {
+            Set<Document> createdDocuments = new LinkedHashSet<>();
+            Set<Document> updatedDocuments = new LinkedHashSet<>();
+            for (var document : this.documents) {
+                var savedDocument = this.savedDocuments.get(document.getId());
+                if (savedDocument == null) {
+                    createdDocuments.add(document);
+                } else if (savedDocument != document) {
+                    // Unchanged documents are reused as is, any other instance has been modified
+                    updatedDocuments.add(document);
+                }
+            }
+
+            var documentIds = this.documents.stream()
+                    .map(Document::getId)
+                    .collect(Collectors.toSet());
+            Set<UUID> deletedDocumentIds = this.savedDocuments.keySet().stream()
+                    .filter(documentId -> !documentIds.contains(documentId))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+
+            Set<String> createdDomainUris = this.domains.stream()
+                    .filter(domain -> !this.savedDomains.contains(domain))
+                    .map(SemanticDataDomain::uri)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Set<String> deletedDomainUris = this.savedDomains.stream()
+                    .filter(domain -> !this.domains.contains(domain))
+                    .map(SemanticDataDomain::uri)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+
+            documentChanges = new DocumentChanges(createdDocuments, updatedDocuments, deletedDocumentIds, createdDomainUris, deletedDomainUris);
+        }
+        return documentChanges;
+    }
+
+    /**
+     * Used to indicate that the changes of the documents and domains have been saved.
+     */
+    public void clearDocumentChanges() {
+        this.savedDocuments = null;
+        this.savedDomains = null;
+    }
+
     public static Builder newSemanticData() {
         return new Builder();
     }
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The version of a semantic data, used to know if it has been modified without loading its documents.
+ *
+ * @author sbegaudeau
+ */
+public record SemanticDataVersion(UUID id, Instant lastModifiedOn) {
+    public SemanticDataVersion {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(lastModifiedOn);
+    }
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
+
+import org.eclipse.sirius.components.annotations.RepositoryFragment;
+
+/**
+ * Fragment interface used to save only the changes of the documents of the semantic data.
+ *
+ * <p>
+ * Unlike the save of the whole aggregate, which deletes and inserts again all the documents and domains, only the
+ * documents and domains which have been created, updated or deleted are written. Since the name of the method starts
+ * with "save", the domain events of the aggregate are published as usual.
+ * </p>
+ *
+ * @author sbegaudeau
+ *
+ * @param <T> The type of entity
+ * @param <ID> The type of the identifier
+ */
+@RepositoryFragment
+public interface SemanticDataDocumentRepository<T, ID> {
+    T saveDocumentChanges(T semanticData);
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.api.ISemanticDataDocumentRepositoryDelegate;
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Used to execute the queries for the semantic data document repository.
+ *
+ * <p>
+ * The changes are written with batched statements, only the documents and domains which have been created, updated or
+ * deleted are written.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class SemanticDataDocumentRepositoryDelegate implements ISemanticDataDocumentRepositoryDelegate {
+
+    private static final String ID = "id";
+
+    private static final String SEMANTIC_DATA_ID = "semanticDataId";
+
+    private static final String NAME = "name";
+
+    private static final String CONTENT = "content";
+
+    private static final String URI = "uri";
+
+    private static final String CREATED_ON = "createdOn";
+
+    private static final String LAST_MODIFIED_ON = "lastModifiedOn";
+
+    private static final String INSERT_DOCUMENT = """
+            INSERT INTO document (id, semantic_data_id, name, content, created_on, last_modified_on)
+            VALUES (:id, :semanticDataId, :name, :content, :createdOn, :lastModifiedOn)
+            """;
+
+    private static final String UPDATE_DOCUMENT = """
+            UPDATE document
+            SET name = :name, content = :content, last_modified_on = :lastModifiedOn
+            WHERE id = :id AND semantic_data_id = :semanticDataId
+            """;
+
+    private static final String DELETE_DOCUMENT = """
+            DELETE FROM document
+            WHERE id = :id AND semantic_data_id = :semanticDataId
+            """;
+
+    private static final String INSERT_DOMAIN = """
+            INSERT INTO semantic_data_domain (semantic_data_id, uri)
+            VALUES (:semanticDataId, :uri)
+            """;
+
+    private static final String DELETE_DOMAIN = """
+            DELETE FROM semantic_data_domain
+            WHERE semantic_data_id = :semanticDataId AND uri = :uri
+            """;
+
+    private static final String UPDATE_SEMANTIC_DATA = """
+            UPDATE semantic_data
+            SET last_modified_on = :lastModifiedOn
+            WHERE id = :id
+            """;
+
+    private final JdbcAggregateOperations jdbcAggregateOperations;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public SemanticDataDocumentRepositoryDelegate(JdbcAggregateOperations jdbcAggregateOperations, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcAggregateOperations = Objects.requireNonNull(jdbcAggregateOperations);
+        this.namedParameterJdbcTemplate = Objects.requireNonNull(namedParameterJdbcTemplate);
+    }
+
+    @Override
+    @Transactional
+    public SemanticData saveDocumentChanges(SemanticData semanticData) {
+        SemanticData savedSemanticData = semanticData;
+        if (semanticData.isNew()) {
+            savedSemanticData = this.jdbcAggregateOperations.save(semanticData);
+        } else {
+            var documentChanges = semanticData.getDocumentChanges();
+            if (!documentChanges.isEmpty()) {
+                UUID semanticDataId = semanticData.getId();
+
+                this.batchUpdate(DELETE_DOCUMENT, documentChanges.deletedDocumentIds(), documentId -> new MapSqlParameterSource()
+                        .addValue(ID, documentId)
+                        .addValue(SEMANTIC_DATA_ID, semanticDataId));
+                this.batchUpdate(UPDATE_DOCUMENT, documentChanges.updatedDocuments(), document -> this.toParameterSource(semanticDataId, document));
+                this.batchUpdate(INSERT_DOCUMENT, documentChanges.createdDocuments(), document -> this.toParameterSource(semanticDataId, document));
+
+                this.batchUpdate(DELETE_DOMAIN, documentChanges.deletedDomainUris(), uri -> new MapSqlParameterSource()
+                        .addValue(SEMANTIC_DATA_ID, semanticDataId)
+                        .addValue(URI, uri));
+                this.batchUpdate(INSERT_DOMAIN, documentChanges.createdDomainUris(), uri -> new MapSqlParameterSource()
+                        .addValue(SEMANTIC_DATA_ID, semanticDataId)
+                        .addValue(URI, uri));
+
+                this.namedParameterJdbcTemplate.update(UPDATE_SEMANTIC_DATA, new MapSqlParameterSource()
+                        .addValue(ID, semanticDataId)
+                        .addValue(LAST_MODIFIED_ON, this.toTimestamp(semanticData.getLastModifiedOn())));
+            }
+        }
+        semanticData.clearDocumentChanges();
+        return savedSemanticData;
+    }
+
+    private <T> void batchUpdate(String sql, Collection<T> elements, Function<T, SqlParameterSource> toParameterSource) {
+        if (!elements.isEmpty()) {
+            var parameterSources = elements.stream()
+                    .map(toParameterSource)
+                    .toArray(SqlParameterSource[]::new);
+            this.namedParameterJdbcTemplate.batchUpdate(sql, parameterSources);
+        }
+    }
+
+    private SqlParameterSource toParameterSource(UUID semanticDataId, Document document) {
+        return new MapSqlParameterSource()
+                .addValue(ID, document.getId())
+                .addValue(SEMANTIC_DATA_ID, semanticDataId)
+                .addValue(NAME, document.getName())
+                .addValue(CONTENT, document.getContent())
+                .addValue(CREATED_ON, this.toTimestamp(document.getCreatedOn()))
+                .addValue(LAST_MODIFIED_ON, this.toTimestamp(document.getLastModifiedOn()));
+    }
+
+    private Timestamp toTimestamp(Instant instant) {
+        return Timestamp.from(instant);
+    }
+}
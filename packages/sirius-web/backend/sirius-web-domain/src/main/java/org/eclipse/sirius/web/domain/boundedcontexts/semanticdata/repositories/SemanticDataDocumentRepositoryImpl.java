@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.api.ISemanticDataDocumentRepositoryDelegate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Fragment repository used to save only the changes of the documents of the semantic data.
+ *
+ * @author sbegaudeau
+ */
+@Repository
+public class SemanticDataDocumentRepositoryImpl implements SemanticDataDocumentRepository<SemanticData, UUID> {
+
+    private final ISemanticDataDocumentRepositoryDelegate semanticDataDocumentRepositoryDelegate;
+
+    public SemanticDataDocumentRepositoryImpl(ISemanticDataDocumentRepositoryDelegate semanticDataDocumentRepositoryDelegate) {
+        this.semanticDataDocumentRepositoryDelegate = Objects.requireNonNull(semanticDataDocumentRepositoryDelegate);
+    }
+
+    @Override
+    public SemanticData saveDocumentChanges(SemanticData semanticData) {
+        return this.semanticDataDocumentRepositoryDelegate.saveDocumentChanges(semanticData);
+    }
+}
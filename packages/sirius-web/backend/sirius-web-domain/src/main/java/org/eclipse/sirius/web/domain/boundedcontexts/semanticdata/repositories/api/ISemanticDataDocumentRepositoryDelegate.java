@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.api;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.SemanticDataDocumentRepository;
+
+/**
+ * Used to delegate the behavior of the semantic data document repository.
+ *
+ * @author sbegaudeau
+ */
+public interface ISemanticDataDocumentRepositoryDelegate extends SemanticDataDocumentRepository<SemanticData, UUID> {
+}
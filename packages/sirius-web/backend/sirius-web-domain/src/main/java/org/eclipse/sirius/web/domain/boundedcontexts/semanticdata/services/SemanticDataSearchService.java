@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.ISemanticDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.springframework.stereotype.Service;
@@ -41,6 +42,11 @@ public class SemanticDataSearchService implements ISemanticDataSearchService {
         return this.semanticDataRepository.findAllByDomains(domainUris);
     }
 
+    @Override
+    public List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris) {
+        return this.semanticDataRepository.findAllVersionsByDomains(domainUris);
+    }
+
     @Override
     public Optional<SemanticData> findById(UUID id) {
         return this.semanticDataRepository.findById(id);
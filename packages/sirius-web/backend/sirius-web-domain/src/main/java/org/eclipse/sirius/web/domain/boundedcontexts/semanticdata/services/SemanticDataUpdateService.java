@@ -42,7 +42,15 @@ public class SemanticDataUpdateService implements ISemanticDataUpdateService {
     public void updateDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticDataId, Set<Document> documents, Set<String> domainUris) {
         this.semanticDataRepository.findById(semanticDataId.getId()).ifPresent(semanticData -> {
             semanticData.updateDocuments(cause, documents, domainUris);
-            this.semanticDataRepository.save(semanticData);
+            this.semanticDataRepository.saveDocumentChanges(semanticData);
+        });
+    }
+
+    @Override
+    public void updateDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticDataId, Set<UUID> documentIds, Set<Document> modifiedDocuments, Set<String> domainUris) {
+        this.semanticDataRepository.findById(semanticDataId.getId()).ifPresent(semanticData -> {
+            semanticData.updateDocuments(cause, documentIds, modifiedDocuments, domainUris);
+            this.semanticDataRepository.saveDocumentChanges(semanticData);
         });
     }
 }
@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
 
 /**
  * Used to retrieve the semantic data.
@@ -27,6 +28,8 @@ public interface ISemanticDataSearchService {
 
     List<SemanticData> findAllByDomains(List<String> domainUris);
 
+    List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris);
+
     Optional<SemanticData> findById(UUID id);
 
     boolean existsById(UUID id);
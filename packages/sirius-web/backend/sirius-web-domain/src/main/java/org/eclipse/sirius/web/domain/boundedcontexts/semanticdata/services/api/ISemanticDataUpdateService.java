@@ -27,4 +27,6 @@ import org.springframework.data.jdbc.core.mapping.AggregateReference;
  */
 public interface ISemanticDataUpdateService {
     void updateDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticData, Set<Document> documents, Set<String> domainUris);
+
+    void updateDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticData, Set<UUID> documentIds, Set<Document> modifiedDocuments, Set<String> domainUris);
 }
@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.starter;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
@@ -29,10 +30,14 @@ import org.eclipse.sirius.components.graphql.api.IEventProcessorSubscriptionProv
 import org.eclipse.sirius.components.graphql.api.IExceptionWrapper;
 import org.eclipse.sirius.components.graphql.ws.api.IGraphQLWebSocketHandlerListener;
 import org.eclipse.sirius.components.web.concurrent.DelegatingRequestContextExecutorService;
+import org.eclipse.sirius.components.web.concurrent.SerialExecutorService;
 import org.eclipse.sirius.web.application.viewer.services.api.IViewerProvider;
 import org.eclipse.sirius.web.domain.services.api.IMessageService;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.web.socket.CloseStatus;
@@ -75,6 +80,12 @@ import reactor.core.publisher.Flux;
 })
 public class SiriusWebStarterConfiguration {
 
+    private static final String EXECUTOR_SERVICE_PROPERTY = "sirius.components.editingContext.executorService";
+
+    private static final String EDITING_CONTEXT_THREAD_NAME = "Editing context ";
+
+    private static final String SHARED_EXECUTOR_SERVICE = "editingContextsSharedExecutorService";
+
     private final List<IRepresentationEventProcessorFluxCustomizer> representationEventProcessorFluxCustomizers;
 
     public SiriusWebStarterConfiguration(List<IRepresentationEventProcessorFluxCustomizer> representationEventProcessorFluxCustomizers) {
@@ -89,17 +100,58 @@ public class SiriusWebStarterConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(IEditingContextEventProcessorExecutorServiceProvider.class)
+    @ConditionalOnProperty(name = EXECUTOR_SERVICE_PROPERTY, havingValue = "dedicated", matchIfMissing = true)
     public IEditingContextEventProcessorExecutorServiceProvider editingContextEventProcessorExecutorServiceProvider() {
         return editingContext -> {
             var executorService = Executors.newSingleThreadExecutor((Runnable runnable) -> {
                 Thread thread = Executors.defaultThreadFactory().newThread(runnable);
-                thread.setName("Editing context " + editingContext.getId());
+                thread.setName(EDITING_CONTEXT_THREAD_NAME + editingContext.getId());
                 return thread;
             });
             return new DelegatingRequestContextExecutorService(executorService);
         };
     }
 
+    /**
+     * Runs the editing context event processors on a shared pool of threads instead of one thread per editing context.
+     *
+     * <p>
+     * Each editing context still processes its inputs one at a time, in their order of arrival, but it only uses a
+     * thread of the pool while it has something to do. The size of the pool is thus the maximum number of editing
+     * contexts which can process an input at the same time. The editing contexts never wait for each other on this
+     * pool, their disposal is performed by their own executor once their pending inputs have been processed.
+     * </p>
+     *
+     * @param sharedExecutorService
+     *         The pool of threads shared by all the editing contexts
+     * @return The executor service provider
+     */
+    @Bean
+    @ConditionalOnMissingBean(IEditingContextEventProcessorExecutorServiceProvider.class)
+    @ConditionalOnProperty(name = EXECUTOR_SERVICE_PROPERTY, havingValue = "shared")
+    public IEditingContextEventProcessorExecutorServiceProvider sharedEditingContextEventProcessorExecutorServiceProvider(@Qualifier(SHARED_EXECUTOR_SERVICE) ExecutorService sharedExecutorService) {
+        return editingContext -> new DelegatingRequestContextExecutorService(new SerialExecutorService(sharedExecutorService, EDITING_CONTEXT_THREAD_NAME + editingContext.getId()));
+    }
+
+    /**
+     * The pool of threads shared by the editing contexts, it is shut down with the application context once the
+     * editing context event processors have been disposed.
+     *
+     * @param poolSize
+     *         The number of threads shared by all the editing contexts
+     * @return The shared executor service
+     */
+    @Bean(name = SHARED_EXECUTOR_SERVICE, destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = EXECUTOR_SERVICE_PROPERTY, havingValue = "shared")
+    public ExecutorService editingContextsSharedExecutorService(@Value("${sirius.components.editingContext.executorService.poolSize:64}") int poolSize) {
+        return Executors.newFixedThreadPool(poolSize, (Runnable runnable) -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Editing contexts shared thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     @Bean
     @ConditionalOnMissingBean(ISubscriptionManagerFactory.class)
     public ISubscriptionManagerFactory subscriptionManagerFactory() {
@@ -3,6 +3,7 @@ DELETE FROM document;
 DELETE FROM semantic_data_dependency;
 DELETE FROM semantic_data_domain;
 DELETE FROM semantic_data;
+DELETE FROM representation_layout_data;
 DELETE FROM representation_content;
 DELETE FROM representation_metadata;
 DELETE FROM image;
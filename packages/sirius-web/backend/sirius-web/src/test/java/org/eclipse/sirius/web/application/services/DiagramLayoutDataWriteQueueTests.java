@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.diagram.services.DiagramLayoutDataPersistenceService;
+import org.eclipse.sirius.web.application.diagram.services.DiagramLayoutDataSearchService;
+import org.eclipse.sirius.web.application.diagram.services.DiagramLayoutDataWriteQueue;
+import org.eclipse.sirius.web.application.representation.listeners.RepresentationLayoutDataCompactor;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationLayoutData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationContentUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationLayoutDataSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationLayoutDataUpdateService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Used to test the write queue of the layout data of the diagrams.
+ *
+ * @author sbegaudeau
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public class DiagramLayoutDataWriteQueueTests {
+
+    private static final Duration INTERVAL = Duration.ofHours(1);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final UUID representationId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Given consecutive layout data of the same element, when they are flushed, then they are coalesced into one row with the latest content")
+    public void givenConsecutiveLayoutDataOfTheSameElementWhenTheyAreFlushedThenTheyAreCoalescedIntoOneRowWithTheLatestContent() {
+        var updateService = new TestRepresentationLayoutDataUpdateService();
+        var meterRegistry = new SimpleMeterRegistry();
+        var queue = new DiagramLayoutDataWriteQueue(updateService, new TestTransactionManager(), meterRegistry, INTERVAL, MAX_ATTEMPTS);
+
+        queue.enqueue(this.representationId, List.of(this.layoutData(this.representationId, "first", "1"), this.layoutData(this.representationId, "second", "1")));
+        queue.enqueue(this.representationId, List.of(this.layoutData(this.representationId, "first", "2")));
+        assertThat(updateService.getOperations()).isEmpty();
+
+        queue.flush(this.representationId);
+
+        assertThat(updateService.getOperations()).containsExactly("upsert first=2, second=1");
+        assertThat(meterRegistry.counter("siriusweb_diagram_layout_data_coalesced_entries").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("siriusweb_diagram_layout_data_written_entries").count()).isEqualTo(2);
+
+        queue.dispose();
+    }
+
+    @Test
+    @DisplayName("Given a write which keeps failing, when it is flushed, then it is abandoned after the maximum number of attempts")
+    public void givenAWriteWhichKeepsFailingWhenItIsFlushedThenItIsAbandonedAfterTheMaximumNumberOfAttempts() {
+        var updateService = new TestRepresentationLayoutDataUpdateService();
+        var meterRegistry = new SimpleMeterRegistry();
+        var queue = new DiagramLayoutDataWriteQueue(updateService, new TestTransactionManager(), meterRegistry, INTERVAL, MAX_ATTEMPTS);
+
+        updateService.failNextUpserts(Integer.MAX_VALUE);
+        queue.enqueue(this.representationId, List.of(this.layoutData(this.representationId, "first", "1")));
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            queue.flush(this.representationId);
+        }
+        assertThat(meterRegistry.counter("siriusweb_diagram_layout_data_abandoned_entries").count()).isEqualTo(1);
+
+        queue.flush(this.representationId);
+        assertThat(updateService.getFailedAttempts()).isEqualTo(MAX_ATTEMPTS);
+
+        queue.dispose();
+    }
+
+    @Test
+    @DisplayName("Given a failed write, when new layout data are queued before the retry, then the latest layout data are written")
+    public void givenAFailedWriteWhenNewLayoutDataAreQueuedBeforeTheRetryThenTheLatestLayoutDataAreWritten() {
+        var updateService = new TestRepresentationLayoutDataUpdateService();
+        var queue = new DiagramLayoutDataWriteQueue(updateService, new TestTransactionManager(), new SimpleMeterRegistry(), INTERVAL, MAX_ATTEMPTS);
+
+        updateService.failNextUpserts(1);
+        queue.enqueue(this.representationId, List.of(this.layoutData(this.representationId, "first", "1"), this.layoutData(this.representationId, "second", "1")));
+        queue.flush(this.representationId);
+        assertThat(updateService.getOperations()).isEmpty();
+
+        queue.enqueue(this.representationId, List.of(this.layoutData(this.representationId, "first", "2")));
+        queue.flush(this.representationId);
+
+        assertThat(updateService.getOperations()).containsExactly("upsert first=2, second=1");
+
+        queue.dispose();
+    }
+
+    @Test
+    @DisplayName("Given a write of a diagram in progress in the background, when another diagram is flushed, then it is written without waiting")
+    public void givenAWriteOfADiagramInProgressInTheBackgroundWhenAnotherDiagramIsFlushedThenItIsWrittenWithoutWaiting() throws InterruptedException {
+        // Both identifiers use a different write lock
+        var blockedRepresentationId = new UUID(0, 0);
+        var otherRepresentationId = new UUID(0, 1);
+
+        var updateService = new TestRepresentationLayoutDataUpdateService();
+        updateService.blockUpsertsOf(blockedRepresentationId);
+        var queue = new DiagramLayoutDataWriteQueue(updateService, new TestTransactionManager(), new SimpleMeterRegistry(), Duration.ofMillis(10), MAX_ATTEMPTS);
+
+        queue.enqueue(blockedRepresentationId, List.of(this.layoutData(blockedRepresentationId, "blocked", "1")));
+        assertThat(updateService.getBlockedUpsertStarted().await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        queue.enqueue(otherRepresentationId, List.of(this.layoutData(otherRepresentationId, "other", "1")));
+        queue.flush(otherRepresentationId);
+        assertThat(updateService.getOperations()).containsExactly("upsert other=1");
+
+        updateService.getBlockedUpsertReleased().countDown();
+        queue.flush(blockedRepresentationId);
+        assertThat(updateService.getOperations()).containsExactly("upsert other=1", "upsert blocked=1");
+
+        queue.dispose();
+    }
+
+    @Test
+    @DisplayName("Given pending layout data, when the layout data of the diagram are searched, then they are flushed first")
+    public void givenPendingLayoutDataWhenTheLayoutDataOfTheDiagramAreSearchedThenTheyAreFlushedFirst() throws JsonProcessingException {
+        var objectMapper = new ObjectMapper();
+        var updateService = new TestRepresentationLayoutDataUpdateService();
+        var queue = new DiagramLayoutDataWriteQueue(updateService, new TestTransactionManager(), new SimpleMeterRegistry(), INTERVAL, MAX_ATTEMPTS);
+        var searchService = new DiagramLayoutDataSearchService(updateService, queue, objectMapper);
+
+        var nodeLayoutData = new NodeLayoutData("node", new Position(10, 20), new Size(100, 50), true);
+        var content = objectMapper.writeValueAsString(nodeLayoutData);
+        queue.enqueue(this.representationId, List.of(new RepresentationLayoutData(this.representationId, "node", DiagramLayoutDataPersistenceService.NODE_KIND, content, Instant.now())));
+
+        var optionalDiagramLayoutData = searchService.findByRepresentationId(this.representationId);
+        assertThat(optionalDiagramLayoutData).hasValueSatisfying(diagramLayoutData -> assertThat(diagramLayoutData.nodeLayoutData()).containsEntry("node", nodeLayoutData));
+
+        queue.dispose();
+    }
+
+    @Test
+    @DisplayName("Given pending layout data, when the content of the diagram is written again, then they are written before all the layout data of the diagram are deleted")
+    public void givenPendingLayoutDataWhenTheContentOfTheDiagramIsWrittenAgainThenTheyAreWrittenBeforeAllTheLayoutDataOfTheDiagramAreDeleted() {
+        var updateService = new TestRepresentationLayoutDataUpdateService();
+        var queue = new DiagramLayoutDataWriteQueue(updateService, new TestTransactionManager(), new SimpleMeterRegistry(), INTERVAL, MAX_ATTEMPTS);
+        var compactor = new RepresentationLayoutDataCompactor(queue, updateService);
+
+        queue.enqueue(this.representationId, List.of(this.layoutData(this.representationId, "first", "1")));
+
+        var representationContent = RepresentationContent.newRepresentationContent(this.representationId)
+                .content("{}")
+                .lastMigrationPerformed("none")
+                .migrationVersion("0")
+                .build(new ICause.NoOp());
+        compactor.onRepresentationContentUpdatedEvent(new RepresentationContentUpdatedEvent(UUID.randomUUID(), Instant.now(), new ICause.NoOp(), representationContent));
+
+        assertThat(updateService.getOperations()).containsExactly("upsert first=1", "delete");
+
+        queue.dispose();
+        assertThat(updateService.getOperations()).hasSize(2);
+    }
+
+    private RepresentationLayoutData layoutData(UUID diagramId, String elementId, String content) {
+        return new RepresentationLayoutData(diagramId, elementId, DiagramLayoutDataPersistenceService.NODE_KIND, content, Instant.now());
+    }
+
+    /**
+     * Used to record the layout data written, to make their writes fail or to block the writes of a diagram.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestRepresentationLayoutDataUpdateService implements IRepresentationLayoutDataUpdateService, IRepresentationLayoutDataSearchService {
+
+        private final List<String> operations = new ArrayList<>();
+
+        private final Map<UUID, Map<String, RepresentationLayoutData>> rows = new LinkedHashMap<>();
+
+        private final CountDownLatch blockedUpsertStarted = new CountDownLatch(1);
+
+        private final CountDownLatch blockedUpsertReleased = new CountDownLatch(1);
+
+        private UUID blockedRepresentationId;
+
+        private int remainingFailures;
+
+        private int failedAttempts;
+
+        @Override
+        public void upsertAll(List<RepresentationLayoutData> representationLayoutData) {
+            if (!representationLayoutData.isEmpty() && representationLayoutData.get(0).representationId().equals(this.blockedRepresentationId)) {
+                this.blockedUpsertStarted.countDown();
+                try {
+                    this.blockedUpsertReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            this.record(representationLayoutData);
+        }
+
+        private synchronized void record(List<RepresentationLayoutData> representationLayoutData) {
+            if (this.remainingFailures > 0) {
+                this.remainingFailures--;
+                this.failedAttempts++;
+                Mono.error(new IllegalStateException("The upsert of the layout data has failed")).block();
+            }
+
+            var contents = representationLayoutData.stream()
+                    .map(layoutData -> layoutData.elementId() + "=" + layoutData.content())
+                    .toList();
+            this.operations.add("upsert " + String.join(", ", contents));
+            representationLayoutData.forEach(layoutData -> this.rows.computeIfAbsent(layoutData.representationId(), id -> new LinkedHashMap<>()).put(layoutData.elementId(), layoutData));
+        }
+
+        @Override
+        public synchronized void deleteAllByRepresentationId(UUID representationId) {
+            this.operations.add("delete");
+            this.rows.remove(representationId);
+        }
+
+        @Override
+        public synchronized List<RepresentationLayoutData> findAllByRepresentationId(UUID representationId) {
+            return List.copyOf(this.rows.getOrDefault(representationId, Map.of()).values());
+        }
+
+        public synchronized void failNextUpserts(int count) {
+            this.remainingFailures = count;
+        }
+
+        public void blockUpsertsOf(UUID representationId) {
+            this.blockedRepresentationId = representationId;
+        }
+
+        public CountDownLatch getBlockedUpsertStarted() {
+            return this.blockedUpsertStarted;
+        }
+
+        public CountDownLatch getBlockedUpsertReleased() {
+            return this.blockedUpsertReleased;
+        }
+
+        public synchronized int getFailedAttempts() {
+            return this.failedAttempts;
+        }
+
+        public synchronized List<String> getOperations() {
+            return List.copyOf(this.operations);
+        }
+    }
+
+    /**
+     * A transaction manager without any resource.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            // Nothing to commit
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            // Nothing to roll back
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.DocumentData;
+import org.eclipse.sirius.web.application.editingcontext.services.EditingContextPersistenceService;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceToDocumentService;
+import org.eclipse.sirius.web.application.editingcontext.services.api.ISemanticDataWriteBehindQueue;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Used to test when the resources of an editing context are considered as persisted.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextPersistenceServiceTests {
+
+    private static final String DOCUMENT_NAME = "Document";
+
+    @AfterEach
+    public void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Given a transaction committed, when the editing context is persisted again, then its unmodified resources are not serialized")
+    public void givenATransactionCommittedWhenTheEditingContextIsPersistedAgainThenItsUnmodifiedResourcesAreNotSerialized() {
+        var resourceToDocumentService = new TestResourceToDocumentService();
+        var editingContextPersistenceService = this.newEditingContextPersistenceService(resourceToDocumentService, new TestSemanticDataUpdateService(), new TestSemanticDataWriteBehindQueue(false));
+        var editingContext = this.newEditingContext();
+
+        TransactionSynchronizationManager.initSynchronization();
+        editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+        this.completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+
+        assertThat(resourceToDocumentService.getSerializedResources()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Given a transaction rolled back, when the editing context is persisted again, then its resources are serialized again")
+    public void givenATransactionRolledBackWhenTheEditingContextIsPersistedAgainThenItsResourcesAreSerializedAgain() {
+        var resourceToDocumentService = new TestResourceToDocumentService();
+        var editingContextPersistenceService = this.newEditingContextPersistenceService(resourceToDocumentService, new TestSemanticDataUpdateService(), new TestSemanticDataWriteBehindQueue(false));
+        var editingContext = this.newEditingContext();
+
+        TransactionSynchronizationManager.initSynchronization();
+        editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+        this.completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+
+        assertThat(resourceToDocumentService.getSerializedResources()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Given a failing update, when the editing context is persisted again, then its resources are serialized again")
+    public void givenAFailingUpdateWhenTheEditingContextIsPersistedAgainThenItsResourcesAreSerializedAgain() {
+        var resourceToDocumentService = new TestResourceToDocumentService();
+        var semanticDataUpdateService = new TestSemanticDataUpdateService();
+        var editingContextPersistenceService = this.newEditingContextPersistenceService(resourceToDocumentService, semanticDataUpdateService, new TestSemanticDataWriteBehindQueue(false));
+        var editingContext = this.newEditingContext();
+
+        semanticDataUpdateService.setFailing(true);
+        assertThatThrownBy(() -> editingContextPersistenceService.persist(new ICause.NoOp(), editingContext)).isInstanceOf(IllegalStateException.class);
+
+        semanticDataUpdateService.setFailing(false);
+        editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+
+        assertThat(resourceToDocumentService.getSerializedResources()).hasSize(2);
+        assertThat(semanticDataUpdateService.getUpdatedDocuments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Given a write-behind queue failing to write an update, when the editing context is persisted again, then its resources are serialized again")
+    public void givenAWriteBehindQueueFailingToWriteAnUpdateWhenTheEditingContextIsPersistedAgainThenItsResourcesAreSerializedAgain() {
+        var resourceToDocumentService = new TestResourceToDocumentService();
+        var semanticDataWriteBehindQueue = new TestSemanticDataWriteBehindQueue(true);
+        var editingContextPersistenceService = this.newEditingContextPersistenceService(resourceToDocumentService, new TestSemanticDataUpdateService(), semanticDataWriteBehindQueue);
+        var editingContext = this.newEditingContext();
+
+        editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+        semanticDataWriteBehindQueue.getLastWrite().complete(null);
+        editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+        assertThat(resourceToDocumentService.getSerializedResources()).hasSize(1);
+
+        editingContext.getDomain().getResourceSet().getResources().get(0).setModified(true);
+        editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+        semanticDataWriteBehindQueue.getLastWrite().completeExceptionally(new IllegalStateException());
+        editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+
+        assertThat(resourceToDocumentService.getSerializedResources()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Given an object moved from one resource to another, when the editing context is persisted, then only the modified resources and the resources referencing them are serialized")
+    public void givenAnObjectMovedFromOneResourceToAnotherWhenTheEditingContextIsPersistedThenOnlyTheModifiedResourcesAndTheResourcesReferencingThemAreSerialized() {
+        var resourceToDocumentService = new TestResourceToDocumentService();
+        var editingContextPersistenceService = this.newEditingContextPersistenceService(resourceToDocumentService, new TestSemanticDataUpdateService(), new TestSemanticDataWriteBehindQueue(false));
+        var editingContext = this.newEditingContext();
+        var resourceSet = editingContext.getDomain().getResourceSet();
+
+        EPackage sourcePackage = (EPackage) resourceSet.getResources().get(0).getContents().get(0);
+        EClass movedEClass = EcoreFactory.eINSTANCE.createEClass();
+        sourcePackage.getEClassifiers().add(movedEClass);
+
+        EPackage targetPackage = EcoreFactory.eINSTANCE.createEPackage();
+        Resource targetResource = this.newResource(targetPackage);
+        resourceSet.getResources().add(targetResource);
+
+        EPackage referencingPackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass referencingEClass = EcoreFactory.eINSTANCE.createEClass();
+        EReference reference = EcoreFactory.eINSTANCE.createEReference();
+        reference.setEType(movedEClass);
+        referencingEClass.getEStructuralFeatures().add(reference);
+        referencingPackage.getEClassifiers().add(referencingEClass);
+        Resource referencingResource = this.newResource(referencingPackage);
+        resourceSet.getResources().add(referencingResource);
+
+        Resource unrelatedResource = this.newResource(EcoreFactory.eINSTANCE.createEPackage());
+        resourceSet.getResources().add(unrelatedResource);
+
+        resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+
+        editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+        assertThat(resourceToDocumentService.getSerializedResources()).hasSize(4);
+
+        targetPackage.getEClassifiers().add(movedEClass);
+        editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+
+        var serializedResources = resourceToDocumentService.getSerializedResources();
+        assertThat(serializedResources.subList(4, serializedResources.size())).containsExactlyInAnyOrder(sourcePackage.eResource(), targetResource, referencingResource);
+    }
+
+    private void completeTransaction(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        }
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private EditingContextPersistenceService newEditingContextPersistenceService(IResourceToDocumentService resourceToDocumentService, ISemanticDataUpdateService semanticDataUpdateService,
+            ISemanticDataWriteBehindQueue semanticDataWriteBehindQueue) {
+        return new EditingContextPersistenceService(semanticDataUpdateService, resourceToDocumentService, semanticDataWriteBehindQueue, List.of(), List.of(), new SimpleMeterRegistry());
+    }
+
+    private EditingContext newEditingContext() {
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+
+        editingDomain.getResourceSet().getResources().add(this.newResource(EcoreFactory.eINSTANCE.createEPackage()));
+
+        return new EditingContext(UUID.randomUUID().toString(), editingDomain, new HashMap<>(), List.of());
+    }
+
+    private Resource newResource(EPackage ePackage) {
+        var resource = new ResourceImpl(URI.createURI(IEMFEditingContext.RESOURCE_SCHEME + ":///" + UUID.randomUUID()));
+        resource.eAdapters().add(new ResourceMetadataAdapter(DOCUMENT_NAME));
+        resource.getContents().add(ePackage);
+        return resource;
+    }
+
+    /**
+     * Used to record the resources which have been serialized.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestResourceToDocumentService implements IResourceToDocumentService {
+
+        private final List<Resource> serializedResources = new ArrayList<>();
+
+        @Override
+        public Optional<DocumentData> toDocument(Resource resource, boolean applyMigrationParticipants) {
+            this.serializedResources.add(resource);
+
+            var documentId = UUID.fromString(resource.getURI().path().substring(1));
+            var document = Document.newDocument(documentId)
+                    .name(DOCUMENT_NAME)
+                    .content("")
+                    .build();
+            return Optional.of(new DocumentData(document, List.of(), 0));
+        }
+
+        public List<Resource> getSerializedResources() {
+            return this.serializedResources;
+        }
+    }
+
+    /**
+     * Used to record the updates of the semantic data or to make them fail.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestSemanticDataUpdateService implements ISemanticDataUpdateService {
+
+        private final List<Document> updatedDocuments = new ArrayList<>();
+
+        private boolean failing;
+
+        @Override
+        public void updateDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticData, Set<Document> documents, Set<String> domainUris) {
+            this.updateDocuments(cause, semanticData, Set.of(), documents, domainUris);
+        }
+
+        @Override
+        public void updateDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticData, Set<UUID> documentIds, Set<Document> modifiedDocuments, Set<String> domainUris) {
+            if (this.failing) {
+                Mono.error(new IllegalStateException("The update of the semantic data has failed")).block();
+            }
+            this.updatedDocuments.addAll(modifiedDocuments);
+        }
+
+        public void setFailing(boolean failing) {
+            this.failing = failing;
+        }
+
+        public List<Document> getUpdatedDocuments() {
+            return this.updatedDocuments;
+        }
+    }
+
+    /**
+     * Used to control the completion of the writes of the write-behind queue.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestSemanticDataWriteBehindQueue implements ISemanticDataWriteBehindQueue {
+
+        private final boolean enabled;
+
+        private final List<CompletableFuture<Void>> writes = new ArrayList<>();
+
+        TestSemanticDataWriteBehindQueue(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        @Override
+        public CompletableFuture<Void> enqueue(ICause cause, AggregateReference<SemanticData, UUID> semanticData, Set<UUID> documentIds, Set<Document> modifiedDocuments, Set<String> domainUris) {
+            var write = new CompletableFuture<Void>();
+            this.writes.add(write);
+            return write;
+        }
+
+        @Override
+        public void flush(UUID semanticDataId) {
+            // Nothing to flush
+        }
+
+        @Override
+        public void flushByDomains(Collection<String> domainUris) {
+            // Nothing to flush
+        }
+
+        public CompletableFuture<Void> getLastWrite() {
+            return this.writes.get(this.writes.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.web.application.representation.services.RepresentationContentHashService;
+import org.eclipse.sirius.web.application.representation.services.RepresentationPersistenceService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentCreationService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentUpdateService;
+import org.eclipse.sirius.web.domain.services.Failure;
+import org.eclipse.sirius.web.domain.services.IResult;
+import org.eclipse.sirius.web.domain.services.Success;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Used to test the hashes of the content of the representations used to skip the writes of unchanged representations.
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationContentHashServiceTests {
+
+    private static final String CONTENT = "{\"label\":\"Représentation\"}";
+
+    private static final int MAXIMUM_SIZE = 2;
+
+    @Test
+    @DisplayName("Given a content, when it is hashed as bytes or as a string, then the same hash is computed")
+    public void givenAContentWhenItIsHashedAsBytesOrAsAStringThenTheSameHashIsComputed() {
+        var representationContentHashService = new RepresentationContentHashService(MAXIMUM_SIZE);
+
+        assertThat(representationContentHashService.hash(CONTENT.getBytes(StandardCharsets.UTF_8))).isEqualTo(representationContentHashService.hash(CONTENT));
+    }
+
+    @Test
+    @DisplayName("Given the hash of a representation, when it is updated or removed, then only the last hash is considered as written")
+    public void givenTheHashOfARepresentationWhenItIsUpdatedOrRemovedThenOnlyTheLastHashIsConsideredAsWritten() {
+        var representationContentHashService = new RepresentationContentHashService(MAXIMUM_SIZE);
+        var representationId = UUID.randomUUID();
+        var hash = representationContentHashService.hash(CONTENT).orElseThrow();
+        var otherHash = representationContentHashService.hash("{}").orElseThrow();
+
+        assertThat(representationContentHashService.isWritten(representationId, hash)).isFalse();
+
+        representationContentHashService.update(representationId, hash);
+        assertThat(representationContentHashService.isWritten(representationId, hash)).isTrue();
+        assertThat(representationContentHashService.isWritten(representationId, otherHash)).isFalse();
+
+        representationContentHashService.remove(representationId);
+        assertThat(representationContentHashService.isWritten(representationId, hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Given more representations than the maximum size, when their hashes are updated, then the least recently used ones are forgotten")
+    public void givenMoreRepresentationsThanTheMaximumSizeWhenTheirHashesAreUpdatedThenTheLeastRecentlyUsedOnesAreForgotten() {
+        var representationContentHashService = new RepresentationContentHashService(MAXIMUM_SIZE);
+        var hash = representationContentHashService.hash(CONTENT).orElseThrow();
+        var firstRepresentationId = UUID.randomUUID();
+        var secondRepresentationId = UUID.randomUUID();
+        var thirdRepresentationId = UUID.randomUUID();
+
+        representationContentHashService.update(firstRepresentationId, hash);
+        representationContentHashService.update(secondRepresentationId, hash);
+        assertThat(representationContentHashService.isWritten(firstRepresentationId, hash)).isTrue();
+        representationContentHashService.update(thirdRepresentationId, hash);
+
+        assertThat(representationContentHashService.size()).isEqualTo(MAXIMUM_SIZE);
+        assertThat(representationContentHashService.isWritten(firstRepresentationId, hash)).isTrue();
+        assertThat(representationContentHashService.isWritten(secondRepresentationId, hash)).isFalse();
+        assertThat(representationContentHashService.isWritten(thirdRepresentationId, hash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given a representation saved, when it is saved again without any change, then its content is not written again")
+    public void givenARepresentationSavedWhenItIsSavedAgainWithoutAnyChangeThenItsContentIsNotWrittenAgain() {
+        var representationContentService = new TestRepresentationContentService();
+        var representationPersistenceService = new RepresentationPersistenceService(representationContentService, representationContentService, representationContentService,
+                new RepresentationContentHashService(MAXIMUM_SIZE), new ObjectMapper(), List.of(), new SimpleMeterRegistry());
+        var representation = new TestRepresentation(UUID.randomUUID().toString(), "First label");
+
+        representationPersistenceService.save(new ICause.NoOp(), new IEditingContext.NoOp(), representation);
+        representationPersistenceService.save(new ICause.NoOp(), new IEditingContext.NoOp(), representation);
+        assertThat(representationContentService.getWrittenContents()).hasSize(1);
+
+        representation.setLabel("Second label");
+        representationPersistenceService.save(new ICause.NoOp(), new IEditingContext.NoOp(), representation);
+        assertThat(representationContentService.getWrittenContents()).hasSize(2);
+        assertThat(representationContentService.getWrittenContents().get(1)).contains("Second label");
+    }
+
+    /**
+     * A representation whose label can be modified.
+     *
+     * @author sbegaudeau
+     */
+    public static final class TestRepresentation implements IRepresentation {
+
+        private final String id;
+
+        private String label;
+
+        public TestRepresentation(String id, String label) {
+            this.id = id;
+            this.label = label;
+        }
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public String getDescriptionId() {
+            return "";
+        }
+
+        @Override
+        public String getKind() {
+            return "";
+        }
+
+        @Override
+        public String getTargetObjectId() {
+            return "";
+        }
+
+        public String getLabel() {
+            return this.label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Used to record the contents written.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestRepresentationContentService implements IRepresentationContentSearchService, IRepresentationContentCreationService, IRepresentationContentUpdateService {
+
+        private final List<String> writtenContents = new ArrayList<>();
+
+        @Override
+        public Optional<RepresentationContent> findContentById(UUID representationId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean existsById(UUID representationId) {
+            return !this.writtenContents.isEmpty();
+        }
+
+        @Override
+        public IResult<RepresentationContent> create(ICause cause, UUID representationId, String content, String lastMigrationPerformed, String migrationVersion) {
+            this.writtenContents.add(content);
+            return new Failure<>("The representation content is not created by the test");
+        }
+
+        @Override
+        public IResult<Void> updateContentByRepresentationId(ICause cause, UUID representationId, String content) {
+            this.writtenContents.add(content);
+            return new Success<>(null);
+        }
+
+        @Override
+        public IResult<Void> updateContentByRepresentationIdWithMigrationData(ICause cause, UUID representationId, String content, String lastMigrationPerformed, String migrationVersion) {
+            this.writtenContents.add(content);
+            return new Success<>(null);
+        }
+
+        public List<String> getWrittenContents() {
+            return this.writtenContents;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.editingcontext.services.SemanticDataWriteBehindQueue;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Used to test the write-behind of the semantic data.
+ *
+ * @author sbegaudeau
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public class SemanticDataWriteBehindQueueTests {
+
+    private static final Duration INTERVAL = Duration.ofHours(1);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final String DOMAIN_URI = "domain://test";
+
+    private final UUID semanticDataId = UUID.randomUUID();
+
+    private final UUID firstDocumentId = UUID.randomUUID();
+
+    private final UUID secondDocumentId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Given consecutive updates of the same semantic data, when they are flushed, then they are collapsed into one write with the latest content")
+    public void givenConsecutiveUpdatesOfTheSameSemanticDataWhenTheyAreFlushedThenTheyAreCollapsedIntoOneWriteWithTheLatestContent() {
+        var semanticDataUpdateService = new TestSemanticDataUpdateService();
+        var meterRegistry = new SimpleMeterRegistry();
+        var queue = new SemanticDataWriteBehindQueue(semanticDataUpdateService, new TestTransactionManager(), meterRegistry, INTERVAL, MAX_ATTEMPTS);
+
+        var firstWrite = this.enqueue(queue, this.semanticDataId, Set.of(this.document(this.firstDocumentId, "first")));
+        var secondWrite = this.enqueue(queue, this.semanticDataId, Set.of(this.document(this.firstDocumentId, "second"), this.document(this.secondDocumentId, "second")));
+        queue.flush(this.semanticDataId);
+
+        assertThat(semanticDataUpdateService.getUpdates()).singleElement()
+                .satisfies(update -> assertThat(update).containsOnlyKeys(this.firstDocumentId, this.secondDocumentId).containsEntry(this.firstDocumentId, "second"));
+        assertThat(firstWrite).isCompleted();
+        assertThat(secondWrite).isCompleted();
+        assertThat(meterRegistry.counter("siriusweb_editingcontext_write_behind_collapsed_documents").count()).isEqualTo(1);
+
+        queue.dispose();
+    }
+
+    @Test
+    @DisplayName("Given a write which keeps failing, when it is flushed, then it is abandoned after the maximum number of attempts")
+    public void givenAWriteWhichKeepsFailingWhenItIsFlushedThenItIsAbandonedAfterTheMaximumNumberOfAttempts() {
+        var semanticDataUpdateService = new TestSemanticDataUpdateService();
+        var meterRegistry = new SimpleMeterRegistry();
+        var queue = new SemanticDataWriteBehindQueue(semanticDataUpdateService, new TestTransactionManager(), meterRegistry, INTERVAL, MAX_ATTEMPTS);
+
+        semanticDataUpdateService.failNextUpdates(Integer.MAX_VALUE);
+        var write = this.enqueue(queue, this.semanticDataId, Set.of(this.document(this.firstDocumentId, "first")));
+        for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+            queue.flush(this.semanticDataId);
+            assertThat(write).isNotDone();
+        }
+
+        queue.flush(this.semanticDataId);
+        assertThat(write).isCompletedExceptionally();
+        assertThat(meterRegistry.counter("siriusweb_editingcontext_write_behind_abandoned_updates").count()).isEqualTo(1);
+
+        queue.flush(this.semanticDataId);
+        assertThat(semanticDataUpdateService.getFailedAttempts()).isEqualTo(MAX_ATTEMPTS);
+
+        queue.dispose();
+    }
+
+    @Test
+    @DisplayName("Given a failed write, when a new update is queued before the retry, then the latest content is written")
+    public void givenAFailedWriteWhenANewUpdateIsQueuedBeforeTheRetryThenTheLatestContentIsWritten() {
+        var semanticDataUpdateService = new TestSemanticDataUpdateService();
+        var queue = new SemanticDataWriteBehindQueue(semanticDataUpdateService, new TestTransactionManager(), new SimpleMeterRegistry(), INTERVAL, MAX_ATTEMPTS);
+
+        semanticDataUpdateService.failNextUpdates(1);
+        var firstWrite = this.enqueue(queue, this.semanticDataId, Set.of(this.document(this.firstDocumentId, "first"), this.document(this.secondDocumentId, "first")));
+        queue.flush(this.semanticDataId);
+        assertThat(semanticDataUpdateService.getUpdates()).isEmpty();
+
+        var secondWrite = this.enqueue(queue, this.semanticDataId, Set.of(this.document(this.firstDocumentId, "second")));
+        queue.flush(this.semanticDataId);
+
+        assertThat(semanticDataUpdateService.getUpdates()).singleElement()
+                .satisfies(update -> assertThat(update).containsEntry(this.firstDocumentId, "second").containsEntry(this.secondDocumentId, "first"));
+        assertThat(firstWrite).isCompleted();
+        assertThat(secondWrite).isCompleted();
+
+        queue.dispose();
+    }
+
+    @Test
+    @DisplayName("Given pending updates, when the queue is disposed, then they are written")
+    public void givenPendingUpdatesWhenTheQueueIsDisposedThenTheyAreWritten() {
+        var semanticDataUpdateService = new TestSemanticDataUpdateService();
+        var queue = new SemanticDataWriteBehindQueue(semanticDataUpdateService, new TestTransactionManager(), new SimpleMeterRegistry(), INTERVAL, MAX_ATTEMPTS);
+
+        var firstWrite = this.enqueue(queue, this.semanticDataId, Set.of(this.document(this.firstDocumentId, "first")));
+        var secondWrite = this.enqueue(queue, UUID.randomUUID(), Set.of(this.document(this.secondDocumentId, "first")));
+        queue.dispose();
+
+        assertThat(semanticDataUpdateService.getUpdates()).hasSize(2);
+        assertThat(firstWrite).isCompleted();
+        assertThat(secondWrite).isCompleted();
+    }
+
+    @Test
+    @DisplayName("Given pending updates of several semantic data, when the ones using a domain are flushed, then only their updates are written")
+    public void givenPendingUpdatesOfSeveralSemanticDataWhenTheOnesUsingADomainAreFlushedThenOnlyTheirUpdatesAreWritten() {
+        var semanticDataUpdateService = new TestSemanticDataUpdateService();
+        var queue = new SemanticDataWriteBehindQueue(semanticDataUpdateService, new TestTransactionManager(), new SimpleMeterRegistry(), INTERVAL, MAX_ATTEMPTS);
+
+        var write = this.enqueue(queue, this.semanticDataId, Set.of(this.document(this.firstDocumentId, "first")));
+        var otherWrite = queue.enqueue(new ICause.NoOp(), AggregateReference.to(UUID.randomUUID()), Set.of(this.secondDocumentId), Set.of(this.document(this.secondDocumentId, "first")), Set.of());
+        queue.flushByDomains(List.of(DOMAIN_URI));
+
+        assertThat(write).isCompleted();
+        assertThat(otherWrite).isNotDone();
+
+        queue.dispose();
+    }
+
+    private CompletableFuture<Void> enqueue(SemanticDataWriteBehindQueue queue, UUID semanticDataUUID, Set<Document> documents) {
+        var documentIds = Set.of(this.firstDocumentId, this.secondDocumentId);
+        AggregateReference<SemanticData, UUID> semanticData = AggregateReference.to(semanticDataUUID);
+        return queue.enqueue(new ICause.NoOp(), semanticData, documentIds, documents, Set.of(DOMAIN_URI));
+    }
+
+    private Document document(UUID documentId, String content) {
+        return Document.newDocument(documentId)
+                .name(documentId.toString())
+                .content(content)
+                .build();
+    }
+
+    /**
+     * Used to record the content of the documents written by each update or to make them fail.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestSemanticDataUpdateService implements ISemanticDataUpdateService {
+
+        private final List<Map<UUID, String>> updates = new ArrayList<>();
+
+        private int remainingFailures;
+
+        private int failedAttempts;
+
+        @Override
+        public void updateDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticData, Set<Document> documents, Set<String> domainUris) {
+            this.updateDocuments(cause, semanticData, Set.of(), documents, domainUris);
+        }
+
+        @Override
+        public void updateDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticData, Set<UUID> documentIds, Set<Document> modifiedDocuments, Set<String> domainUris) {
+            if (this.remainingFailures > 0) {
+                this.remainingFailures--;
+                this.failedAttempts++;
+                Mono.error(new IllegalStateException("The update of the semantic data has failed")).block();
+            }
+
+            Map<UUID, String> contents = new HashMap<>();
+            modifiedDocuments.forEach(document -> contents.put(document.getId(), document.getContent()));
+            this.updates.add(contents);
+        }
+
+        public void failNextUpdates(int count) {
+            this.remainingFailures = count;
+        }
+
+        public int getFailedAttempts() {
+            return this.failedAttempts;
+        }
+
+        public List<Map<UUID, String>> getUpdates() {
+            return this.updates;
+        }
+    }
+
+    /**
+     * A transaction manager without any resource.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            // Nothing to commit
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            // Nothing to roll back
+        }
+    }
+}
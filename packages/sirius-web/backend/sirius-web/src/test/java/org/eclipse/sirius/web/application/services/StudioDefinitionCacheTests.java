@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.domain.DomainFactory;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.web.application.studio.services.StudioDefinitionCache;
+import org.eclipse.sirius.web.application.studio.services.StudioDefinitions;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Used to test the cache of the studio definitions shared between the editing contexts.
+ *
+ * @author sbegaudeau
+ */
+public class StudioDefinitionCacheTests {
+
+    @Test
+    @DisplayName("Given a version of a semantic data, when its studio definitions are requested twice, then they are only loaded once")
+    public void givenAVersionOfASemanticDataWhenItsStudioDefinitionsAreRequestedTwiceThenTheyAreOnlyLoadedOnce() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var studioDefinitionCache = new StudioDefinitionCache(meterRegistry);
+        var semanticDataVersion = new SemanticDataVersion(UUID.randomUUID(), Instant.now());
+        var loads = new AtomicInteger();
+
+        var studioDefinitions = studioDefinitionCache.getStudioDefinitions(semanticDataVersion, () -> this.load(loads));
+        assertThat(studioDefinitionCache.getStudioDefinitions(semanticDataVersion, () -> this.load(loads))).isSameAs(studioDefinitions);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("siriusweb_studio_cache_hits", "cache", "definitions").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("siriusweb_studio_cache_misses", "cache", "definitions").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given a loader using the cache, when the studio definitions are loaded, then the cache can be used during the load")
+    public void givenALoaderUsingTheCacheWhenTheStudioDefinitionsAreLoadedThenTheCacheCanBeUsedDuringTheLoad() {
+        var studioDefinitionCache = new StudioDefinitionCache(new SimpleMeterRegistry());
+        var semanticDataVersion = new SemanticDataVersion(UUID.randomUUID(), Instant.now());
+        var otherSemanticDataVersion = new SemanticDataVersion(UUID.randomUUID(), Instant.now());
+        var loads = new AtomicInteger();
+
+        var studioDefinitions = studioDefinitionCache.getStudioDefinitions(semanticDataVersion, () -> {
+            studioDefinitionCache.getStudioDefinitions(otherSemanticDataVersion, () -> this.load(loads));
+            return this.load(loads);
+        });
+
+        assertThat(studioDefinitions).isNotNull();
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(studioDefinitionCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Given studio definitions cached, when their semantic data is modified or deleted, then they are forgotten")
+    public void givenStudioDefinitionsCachedWhenTheirSemanticDataIsModifiedOrDeletedThenTheyAreForgotten() {
+        var studioDefinitionCache = new StudioDefinitionCache(new SimpleMeterRegistry());
+        var modifiedSemanticDataVersion = new SemanticDataVersion(UUID.randomUUID(), Instant.now());
+        var deletedSemanticDataVersion = new SemanticDataVersion(UUID.randomUUID(), Instant.now());
+        var unchangedSemanticDataVersion = new SemanticDataVersion(UUID.randomUUID(), Instant.now());
+        var loads = new AtomicInteger();
+
+        studioDefinitionCache.getStudioDefinitions(modifiedSemanticDataVersion, () -> this.load(loads));
+        studioDefinitionCache.getStudioDefinitions(deletedSemanticDataVersion, () -> this.load(loads));
+        var unchangedStudioDefinitions = studioDefinitionCache.getStudioDefinitions(unchangedSemanticDataVersion, () -> this.load(loads));
+
+        var newSemanticDataVersion = new SemanticDataVersion(modifiedSemanticDataVersion.id(), modifiedSemanticDataVersion.lastModifiedOn().plusSeconds(1));
+        studioDefinitionCache.retainAll(List.of(newSemanticDataVersion, unchangedSemanticDataVersion));
+
+        assertThat(studioDefinitionCache.size()).isEqualTo(1);
+        assertThat(studioDefinitionCache.getStudioDefinitions(unchangedSemanticDataVersion, () -> this.load(loads))).isSameAs(unchangedStudioDefinitions);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Given more studio definitions than the maximum size, when they are cached, then the least recently used ones are forgotten")
+    public void givenMoreStudioDefinitionsThanTheMaximumSizeWhenTheyAreCachedThenTheLeastRecentlyUsedOnesAreForgotten() {
+        var studioDefinitionCache = new StudioDefinitionCache(new SimpleMeterRegistry());
+        var loads = new AtomicInteger();
+
+        var firstSemanticDataVersion = new SemanticDataVersion(UUID.randomUUID(), Instant.now());
+        studioDefinitionCache.getStudioDefinitions(firstSemanticDataVersion, () -> this.load(loads));
+        for (int i = 0; i < StudioDefinitionCache.MAX_STUDIO_DEFINITIONS; i++) {
+            studioDefinitionCache.getStudioDefinitions(new SemanticDataVersion(UUID.randomUUID(), Instant.now()), () -> this.load(loads));
+        }
+        assertThat(studioDefinitionCache.size()).isEqualTo(StudioDefinitionCache.MAX_STUDIO_DEFINITIONS);
+
+        studioDefinitionCache.getStudioDefinitions(firstSemanticDataVersion, () -> this.load(loads));
+        assertThat(loads.get()).isEqualTo(StudioDefinitionCache.MAX_STUDIO_DEFINITIONS + 2);
+    }
+
+    private StudioDefinitions load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new StudioDefinitions(List.of(ViewFactory.eINSTANCE.createView()), List.of(DomainFactory.eINSTANCE.createDomain()));
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.data.TestIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationLayoutData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationLayoutDataRepository;
+import org.eclipse.sirius.web.tests.data.GivenSiriusWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests of the upsert of the layout data of the representations.
+ *
+ * @author sbegaudeau
+ */
+@Transactional
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class RepresentationLayoutDataRepositoryTests extends AbstractIntegrationTests {
+
+    private static final UUID REPRESENTATION_ID = TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION;
+
+    private static final String NODE_KIND = "node";
+
+    private static final String LABEL_KIND = "label";
+
+    private static final String ELEMENT_ID = "element";
+
+    @Autowired
+    private IRepresentationLayoutDataRepository representationLayoutDataRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given a representation, when layout data are upserted, then one row is inserted by element and kind")
+    public void givenARepresentationWhenLayoutDataAreUpsertedThenOneRowIsInsertedByElementAndKind() {
+        var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        this.representationLayoutDataRepository.upsertAll(List.of(
+                new RepresentationLayoutData(REPRESENTATION_ID, ELEMENT_ID, NODE_KIND, "{\"x\":1}", now),
+                new RepresentationLayoutData(REPRESENTATION_ID, ELEMENT_ID, LABEL_KIND, "{\"x\":2}", now)));
+
+        assertThat(this.representationLayoutDataRepository.findAllByRepresentationId(REPRESENTATION_ID))
+                .containsExactlyInAnyOrder(
+                        new RepresentationLayoutData(REPRESENTATION_ID, ELEMENT_ID, NODE_KIND, "{\"x\":1}", now),
+                        new RepresentationLayoutData(REPRESENTATION_ID, ELEMENT_ID, LABEL_KIND, "{\"x\":2}", now));
+    }
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given existing layout data, when the layout data of the same element are upserted, then only its row is updated")
+    public void givenExistingLayoutDataWhenTheLayoutDataOfTheSameElementAreUpsertedThenOnlyItsRowIsUpdated() {
+        var createdOn = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        this.representationLayoutDataRepository.upsertAll(List.of(
+                new RepresentationLayoutData(REPRESENTATION_ID, ELEMENT_ID, NODE_KIND, "{\"x\":1}", createdOn),
+                new RepresentationLayoutData(REPRESENTATION_ID, ELEMENT_ID, LABEL_KIND, "{\"x\":2}", createdOn)));
+
+        var modifiedOn = createdOn.plusSeconds(1);
+        this.representationLayoutDataRepository.upsertAll(List.of(new RepresentationLayoutData(REPRESENTATION_ID, ELEMENT_ID, NODE_KIND, "{\"x\":3}", modifiedOn)));
+
+        assertThat(this.countRows()).isEqualTo(2);
+        assertThat(this.representationLayoutDataRepository.findAllByRepresentationId(REPRESENTATION_ID))
+                .containsExactlyInAnyOrder(
+                        new RepresentationLayoutData(REPRESENTATION_ID, ELEMENT_ID, NODE_KIND, "{\"x\":3}", modifiedOn),
+                        new RepresentationLayoutData(REPRESENTATION_ID, ELEMENT_ID, LABEL_KIND, "{\"x\":2}", createdOn));
+    }
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given existing layout data, when they are deleted, then no row remains for the representation")
+    public void givenExistingLayoutDataWhenTheyAreDeletedThenNoRowRemainsForTheRepresentation() {
+        this.representationLayoutDataRepository.upsertAll(List.of(new RepresentationLayoutData(REPRESENTATION_ID, ELEMENT_ID, NODE_KIND, "{\"x\":1}", Instant.now())));
+        assertThat(this.countRows()).isEqualTo(1);
+
+        this.representationLayoutDataRepository.deleteAllByRepresentationId(REPRESENTATION_ID);
+
+        assertThat(this.countRows()).isZero();
+        assertThat(this.representationLayoutDataRepository.findAllByRepresentationId(REPRESENTATION_ID)).isEmpty();
+    }
+
+    private Integer countRows() {
+        return this.namedParameterJdbcTemplate.queryForObject("SELECT COUNT(*) FROM representation_layout_data WHERE representation_id = :representationId",
+                Map.of("representationId", REPRESENTATION_ID), Integer.class);
+    }
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.data.TestIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataDomain;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.ISemanticDataRepository;
+import org.eclipse.sirius.web.tests.data.GivenSiriusWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests of the batched write of the changes of the documents of the semantic data.
+ *
+ * @author sbegaudeau
+ */
+@Transactional
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class SemanticDataDocumentRepositoryTests extends AbstractIntegrationTests {
+
+    private static final UUID SEMANTIC_DATA_ID = UUID.fromString(TestIdentifiers.ECORE_SAMPLE_EDITING_CONTEXT_ID);
+
+    private static final String NEW_DOMAIN_URI = "domain://test";
+
+    @Autowired
+    private ISemanticDataRepository semanticDataRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given a semantic data, when a document is created, then only this document is inserted")
+    public void givenASemanticDataWhenADocumentIsCreatedThenOnlyThisDocumentIsInserted() {
+        var semanticData = this.getSemanticData();
+        var existingContents = this.getDocumentContents();
+
+        var newDocument = Document.newDocument(UUID.randomUUID())
+                .name("New document")
+                .content("{}")
+                .build();
+        var documentIds = this.getDocumentIds(semanticData);
+        documentIds.add(newDocument.getId());
+        var domainUris = this.getDomainUris(semanticData);
+        domainUris.add(NEW_DOMAIN_URI);
+        semanticData.updateDocuments(new ICause.NoOp(), documentIds, Set.of(newDocument), domainUris);
+
+        var documentChanges = semanticData.getDocumentChanges();
+        assertThat(documentChanges.createdDocuments()).containsExactly(newDocument);
+        assertThat(documentChanges.updatedDocuments()).isEmpty();
+        assertThat(documentChanges.deletedDocumentIds()).isEmpty();
+        assertThat(documentChanges.createdDomainUris()).containsExactly(NEW_DOMAIN_URI);
+
+        this.semanticDataRepository.saveDocumentChanges(semanticData);
+
+        assertThat(this.getDocumentContents())
+                .hasSize(existingContents.size() + 1)
+                .containsAllEntriesOf(existingContents)
+                .containsEntry(newDocument.getId(), "{}");
+        assertThat(this.semanticDataRepository.findById(SEMANTIC_DATA_ID))
+                .hasValueSatisfying(reloadedSemanticData -> assertThat(reloadedSemanticData.getDomains()).contains(new SemanticDataDomain(NEW_DOMAIN_URI)));
+        assertThat(semanticData.getDocumentChanges().isEmpty()).isTrue();
+    }
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given a semantic data, when a document is modified, then only this document is updated")
+    public void givenASemanticDataWhenADocumentIsModifiedThenOnlyThisDocumentIsUpdated() {
+        var semanticData = this.getSemanticData();
+        var existingContents = this.getDocumentContents();
+
+        var modifiedDocument = Document.newDocument(TestIdentifiers.ECORE_SAMPLE_DOCUMENT)
+                .name("Modified document")
+                .content("{\"modified\": true}")
+                .build();
+        semanticData.updateDocuments(new ICause.NoOp(), this.getDocumentIds(semanticData), Set.of(modifiedDocument), this.getDomainUris(semanticData));
+
+        var documentChanges = semanticData.getDocumentChanges();
+        assertThat(documentChanges.createdDocuments()).isEmpty();
+        assertThat(documentChanges.updatedDocuments()).hasSize(1);
+        assertThat(documentChanges.deletedDocumentIds()).isEmpty();
+
+        this.semanticDataRepository.saveDocumentChanges(semanticData);
+
+        assertThat(this.getDocumentContents())
+                .hasSameSizeAs(existingContents)
+                .containsEntry(TestIdentifiers.ECORE_SAMPLE_DOCUMENT, "{\"modified\": true}");
+        assertThat(this.semanticDataRepository.findById(SEMANTIC_DATA_ID))
+                .hasValueSatisfying(reloadedSemanticData -> assertThat(reloadedSemanticData.getDocuments())
+                        .anyMatch(document -> document.getId().equals(TestIdentifiers.ECORE_SAMPLE_DOCUMENT) && document.getName().equals("Modified document")));
+    }
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given a semantic data, when a document and the domains are removed, then only them are deleted")
+    public void givenASemanticDataWhenADocumentAndTheDomainsAreRemovedThenOnlyThemAreDeleted() {
+        var semanticData = this.getSemanticData();
+        var existingContents = this.getDocumentContents();
+        var existingDomainUris = this.getDomainUris(semanticData);
+
+        var documentIds = this.getDocumentIds(semanticData);
+        documentIds.remove(TestIdentifiers.ECORE_SAMPLE_DOCUMENT);
+        semanticData.updateDocuments(new ICause.NoOp(), documentIds, Set.of(), Set.of());
+
+        var documentChanges = semanticData.getDocumentChanges();
+        assertThat(documentChanges.deletedDocumentIds()).containsExactly(TestIdentifiers.ECORE_SAMPLE_DOCUMENT);
+        assertThat(documentChanges.deletedDomainUris()).containsExactlyInAnyOrderElementsOf(existingDomainUris);
+
+        this.semanticDataRepository.saveDocumentChanges(semanticData);
+
+        assertThat(this.getDocumentContents())
+                .hasSize(existingContents.size() - 1)
+                .doesNotContainKey(TestIdentifiers.ECORE_SAMPLE_DOCUMENT);
+        assertThat(this.semanticDataRepository.findById(SEMANTIC_DATA_ID))
+                .hasValueSatisfying(reloadedSemanticData -> assertThat(reloadedSemanticData.getDomains()).isEmpty());
+    }
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given a semantic data, when its documents are updated with the same content, then nothing is written")
+    public void givenASemanticDataWhenItsDocumentsAreUpdatedWithTheSameContentThenNothingIsWritten() {
+        var semanticData = this.getSemanticData();
+        var existingContents = this.getDocumentContents();
+        var lastModifiedOn = this.getLastModifiedOn();
+
+        semanticData.updateDocuments(new ICause.NoOp(), Set.copyOf(semanticData.getDocuments()), this.getDomainUris(semanticData));
+        assertThat(semanticData.getDocumentChanges().isEmpty()).isTrue();
+
+        this.semanticDataRepository.saveDocumentChanges(semanticData);
+
+        assertThat(this.getDocumentContents()).isEqualTo(existingContents);
+        assertThat(this.getLastModifiedOn()).isEqualTo(lastModifiedOn);
+    }
+
+    private SemanticData getSemanticData() {
+        var optionalSemanticData = this.semanticDataRepository.findById(SEMANTIC_DATA_ID);
+        assertThat(optionalSemanticData).isPresent();
+        return optionalSemanticData.get();
+    }
+
+    private Set<UUID> getDocumentIds(SemanticData semanticData) {
+        return semanticData.getDocuments().stream()
+                .map(Document::getId)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private Set<String> getDomainUris(SemanticData semanticData) {
+        return semanticData.getDomains().stream()
+                .map(SemanticDataDomain::uri)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private Map<UUID, String> getDocumentContents() {
+        return this.namedParameterJdbcTemplate.queryForList("SELECT id, content FROM document WHERE semantic_data_id = :semanticDataId", Map.of("semanticDataId", SEMANTIC_DATA_ID)).stream()
+                .collect(Collectors.toMap(row -> (UUID) row.get("id"), row -> (String) row.get("content")));
+    }
+
+    private Timestamp getLastModifiedOn() {
+        return this.namedParameterJdbcTemplate.queryForObject("SELECT last_modified_on FROM semantic_data WHERE id = :id", Map.of("id", SEMANTIC_DATA_ID), Timestamp.class);
+    }
+}
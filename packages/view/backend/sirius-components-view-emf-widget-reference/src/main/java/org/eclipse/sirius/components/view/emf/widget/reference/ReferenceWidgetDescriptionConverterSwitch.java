@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -158,7 +158,7 @@ public class ReferenceWidgetDescriptionConverterSwitch extends ReferenceSwitch<O
         String safeValueExpression = Optional.ofNullable(referenceOwnerExpression).orElse("");
         EObject referenceOwner = variableManager.get(VariableManager.SELF, EObject.class).orElse(null);
         if (!safeValueExpression.isBlank()) {
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), safeValueExpression);
+            Result result = this.interpreter.evaluateExpression(variableManager.asMap(), safeValueExpression);
             referenceOwner = result.asObject().filter(EObject.class::isInstance).map(EObject.class::cast).orElse(referenceOwner);
         }
         return referenceOwner;
@@ -235,7 +235,7 @@ public class ReferenceWidgetDescriptionConverterSwitch extends ReferenceSwitch<O
     private Function<VariableManager, Boolean> getReadOnlyValueProvider(String expression) {
         return variableManager -> {
             if (expression != null && !expression.isBlank()) {
-                Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), expression);
+                Result result = this.interpreter.evaluateExpression(variableManager.asMap(), expression);
                 return result.asBoolean().map(value -> !value).orElse(Boolean.FALSE);
             }
             return Boolean.FALSE;
@@ -280,7 +280,7 @@ public class ReferenceWidgetDescriptionConverterSwitch extends ReferenceSwitch<O
     }
 
     private boolean matches(String condition, VariableManager variableManager) {
-        return this.interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return this.interpreter.evaluateExpression(variableManager.asMap(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 
     private IStatus createErrorStatus(String message) {
@@ -76,7 +76,7 @@ public class TableWidgetDescriptionConverterSwitch extends TableWidgetSwitch<Opt
         StringValueProvider labelProvider = this.getStringValueProvider(viewTableWidgetDescription.getLabelExpression());
         Predicate<VariableManager> isStripeRowPredicate = variableManager -> {
             if (viewTableWidgetDescription.getUseStripedRowsExpression() != null) {
-                return this.interpreter.evaluateExpression(variableManager.getVariables(), viewTableWidgetDescription.getUseStripedRowsExpression()).asBoolean().orElse(false);
+                return this.interpreter.evaluateExpression(variableManager.asMap(), viewTableWidgetDescription.getUseStripedRowsExpression()).asBoolean().orElse(false);
             }
             return false;
         };
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -33,6 +33,7 @@ import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.forms.CompletionProposal;
 import org.eclipse.sirius.components.forms.CompletionRequest;
 import org.eclipse.sirius.components.forms.TextareaStyle;
+import org.eclipse.sirius.components.interpreter.AQLExpressionCache;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.view.View;
@@ -153,7 +154,11 @@ public class AQLTextfieldCustomizer implements ITextfieldCustomizer {
                 .filter(Objects::nonNull)
                 .map(Object.class::cast)
                 .toList();
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
+        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages, false, this.getExpressionCache());
+    }
+
+    private AQLExpressionCache getExpressionCache() {
+        return this.applicationContext.getBeanProvider(AQLExpressionCache.class).getIfAvailable(() -> new AQLExpressionCache(AQLExpressionCache.DEFAULT_MAXIMUM_SIZE));
     }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -88,7 +88,7 @@ public class OperationInterpreterViewSwitch extends ViewSwitch<Optional<Variable
 
     @Override
     public Optional<VariableManager> caseChangeContext(ChangeContext changeContextOperation) {
-        Optional<Object> newContext = this.interpreter.evaluateExpression(this.variableManager.getVariables(), changeContextOperation.getExpression()).asObject();
+        Optional<Object> newContext = this.interpreter.evaluateExpression(this.variableManager.asMap(), changeContextOperation.getExpression()).asObject();
         if (newContext.isPresent()) {
             VariableManager childVariableManager = this.variableManager.createChild();
             childVariableManager.put(VariableManager.SELF, newContext.get());
@@ -100,7 +100,7 @@ public class OperationInterpreterViewSwitch extends ViewSwitch<Optional<Variable
 
     @Override
     public Optional<VariableManager> caseIf(If ifOperation) {
-        Optional<Boolean> testResult = this.interpreter.evaluateExpression(this.variableManager.getVariables(), ifOperation.getConditionExpression()).asBoolean();
+        Optional<Boolean> testResult = this.interpreter.evaluateExpression(this.variableManager.asMap(), ifOperation.getConditionExpression()).asBoolean();
         if (testResult.isPresent() && Boolean.TRUE.equals(testResult.get())) {
             return this.operationInterpreter.executeOperations(ifOperation.getChildren(), this.variableManager);
         }
@@ -109,7 +109,7 @@ public class OperationInterpreterViewSwitch extends ViewSwitch<Optional<Variable
 
     @Override
     public Optional<VariableManager> caseFor(For forOperation) {
-        Optional<List<Object>> optionalList = this.interpreter.evaluateExpression(this.variableManager.getVariables(), forOperation.getExpression()).asObjects();
+        Optional<List<Object>> optionalList = this.interpreter.evaluateExpression(this.variableManager.asMap(), forOperation.getExpression()).asObjects();
         if (optionalList.isPresent()) {
             for (Object object : optionalList.get()) {
                 VariableManager childVariableManager = this.variableManager.createChild();
@@ -125,7 +125,7 @@ public class OperationInterpreterViewSwitch extends ViewSwitch<Optional<Variable
     @Override
     public Optional<VariableManager> caseLet(Let object) {
         VariableManager childVariableManager = this.variableManager.createChild();
-        Optional<Object> variableValue = this.interpreter.evaluateExpression(this.variableManager.getVariables(), object.getValueExpression()).asObject();
+        Optional<Object> variableValue = this.interpreter.evaluateExpression(this.variableManager.asMap(), object.getValueExpression()).asObject();
         if (variableValue.isPresent()) {
             childVariableManager.put(object.getVariableName(), variableValue.get());
             return this.operationInterpreter.executeOperations(object.getChildren(), childVariableManager);
@@ -164,7 +164,7 @@ public class OperationInterpreterViewSwitch extends ViewSwitch<Optional<Variable
     public Optional<VariableManager> caseSetValue(SetValue setValueOperation) {
         var optionalSelf = this.variableManager.get(VariableManager.SELF, EObject.class);
         if (optionalSelf.isPresent()) {
-            Result newValue = this.interpreter.evaluateExpression(this.variableManager.getVariables(), setValueOperation.getValueExpression());
+            Result newValue = this.interpreter.evaluateExpression(this.variableManager.asMap(), setValueOperation.getValueExpression());
             Object instance = null;
             var newValueObject = newValue.asObject();
             if (newValueObject.isPresent()) {
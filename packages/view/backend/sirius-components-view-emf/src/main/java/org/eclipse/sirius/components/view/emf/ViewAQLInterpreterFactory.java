@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,7 @@ import org.eclipse.sirius.components.collaborative.diagrams.DiagramServices;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLExpressionCache;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.view.View;
 import org.eclipse.sirius.components.view.emf.api.IViewAQLInterpreterFactory;
@@ -73,7 +74,11 @@ public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
                 .filter(Objects::nonNull)
                 .map(Object.class::cast)
                 .toList();
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
+        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages, false, this.getExpressionCache());
+    }
+
+    private AQLExpressionCache getExpressionCache() {
+        return this.applicationContext.getBeanProvider(AQLExpressionCache.class).getIfAvailable(() -> new AQLExpressionCache(AQLExpressionCache.DEFAULT_MAXIMUM_SIZE));
     }
 
     private List<EPackage> getAccessibleEPackages(IEditingContext editingContext) {
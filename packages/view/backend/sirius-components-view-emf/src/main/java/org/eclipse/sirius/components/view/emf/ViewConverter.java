@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -28,6 +28,7 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.components.collaborative.diagrams.DiagramServices;
 import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.interpreter.AQLExpressionCache;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.view.RepresentationDescription;
@@ -146,6 +147,14 @@ public class ViewConverter implements IViewConverter {
                 .map(Object.class::cast)
                 .toList();
         // @formatter:on
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
+        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages, this.isEvaluationCacheEnabled(), this.getExpressionCache());
+    }
+
+    private boolean isEvaluationCacheEnabled() {
+        return this.applicationContext.getEnvironment().getProperty("sirius.components.interpreter.evaluationCache.enabled", Boolean.class, false);
+    }
+
+    private AQLExpressionCache getExpressionCache() {
+        return this.applicationContext.getBeanProvider(AQLExpressionCache.class).getIfAvailable(() -> new AQLExpressionCache(AQLExpressionCache.DEFAULT_MAXIMUM_SIZE));
     }
 }
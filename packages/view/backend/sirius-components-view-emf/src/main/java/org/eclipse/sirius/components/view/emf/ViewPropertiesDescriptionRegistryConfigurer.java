@@ -146,7 +146,7 @@ public class ViewPropertiesDescriptionRegistryConfigurer implements IPropertiesD
         return PageDescription.newPageDescription(UUID.nameUUIDFromBytes("view_properties_description".getBytes()).toString())
                 .idProvider(idProvider)
                 .labelProvider(labelProvider)
-                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariables().get(VariableManager.SELF)))
+                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.asMap().get(VariableManager.SELF)))
                 .groupDescriptions(groupDescriptions)
                 .canCreatePredicate(this::handles)
                 .build();
@@ -173,7 +173,7 @@ public class ViewPropertiesDescriptionRegistryConfigurer implements IPropertiesD
         Function<VariableManager, List<?>> iterableProvider = variableManager -> {
             List<Object> objects = new ArrayList<>();
 
-            Object self = variableManager.getVariables().get(VariableManager.SELF);
+            Object self = variableManager.asMap().get(VariableManager.SELF);
             if (self instanceof EObject eObject) {
 
                 List<IItemPropertyDescriptor> propertyDescriptors = Optional.ofNullable(this.composedAdapterFactory.adapt(eObject, IItemPropertySource.class))
@@ -235,7 +235,7 @@ public class ViewPropertiesDescriptionRegistryConfigurer implements IPropertiesD
         return GroupDescription.newGroupDescription("groupId")
                 .idProvider(variableManager -> "Core Properties")
                 .labelProvider(variableManager -> "Core Properties")
-                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariables().get(VariableManager.SELF)))
+                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.asMap().get(VariableManager.SELF)))
                 .controlDescriptions(controlDescriptions)
                 .build();
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -132,7 +132,7 @@ public class DiagramOperationInterpreterViewSwitch extends DiagramSwitch<Optiona
 
     @Override
     public Optional<VariableManager> caseDeleteView(DeleteView deleteViewOperation) {
-        var optionalElement = this.interpreter.evaluateExpression(this.variableManager.getVariables(), deleteViewOperation.getViewExpression()).asObject();
+        var optionalElement = this.interpreter.evaluateExpression(this.variableManager.asMap(), deleteViewOperation.getViewExpression()).asObject();
         if (optionalElement.isPresent()) {
             this.deleteView(optionalElement.get());
         }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,15 +14,15 @@ package org.eclipse.sirius.components.view.emf.diagram;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
-import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.VariableManager;
-import org.eclipse.sirius.components.view.diagram.DiagramElementDescription;
 import org.eclipse.sirius.components.view.diagram.EdgeDescription;
 
 /**
@@ -38,16 +38,18 @@ import org.eclipse.sirius.components.view.diagram.EdgeDescription;
  */
 public class TargetNodesProvider implements Function<VariableManager, List<Element>> {
 
-    private final IDiagramIdProvider diagramIdProvider;
-
     private final EdgeDescription edgeDescription;
 
     private final AQLInterpreter interpreter;
 
+    private final Set<String> targetNodeDescriptionIds;
+
     public TargetNodesProvider(IDiagramIdProvider diagramIdProvider, EdgeDescription edgeDescription, AQLInterpreter interpreter) {
-        this.diagramIdProvider = Objects.requireNonNull(diagramIdProvider);
         this.edgeDescription = Objects.requireNonNull(edgeDescription);
         this.interpreter = Objects.requireNonNull(interpreter);
+        this.targetNodeDescriptionIds = edgeDescription.getTargetNodeDescriptions().stream()
+                .map(Objects.requireNonNull(diagramIdProvider)::getId)
+                .collect(Collectors.toSet());
     }
 
     @Override
@@ -61,25 +63,11 @@ public class TargetNodesProvider implements Function<VariableManager, List<Eleme
 
         // @formatter:off
         String expression = this.edgeDescription.getTargetNodesExpression();
-        List<Object> semanticCandidates = this.interpreter.evaluateExpression(variableManager.getVariables(), expression).asObjects().orElse(List.of());
+        List<Object> semanticCandidates = this.interpreter.evaluateExpression(variableManager.asMap(), expression).asObjects().orElse(List.of());
         return semanticCandidates.stream()
-                .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject).stream())
-                .filter(this::isFromCompatibleTargetMapping)
+                .flatMap(semanticObject -> cache.getElementsRepresenting(semanticObject, this.targetNodeDescriptionIds).stream())
                 .filter(Objects::nonNull)
                 .toList();
         // @formatter:on
     }
-
-    private boolean isFromCompatibleTargetMapping(Element nodeElement) {
-        return this.edgeDescription.getTargetNodeDescriptions().stream()
-                .anyMatch(nodeDescription -> this.isFromDescription(nodeElement, nodeDescription));
-    }
-
-    private boolean isFromDescription(Element nodeElement, DiagramElementDescription description) {
-        if (nodeElement.getProps() instanceof NodeElementProps) {
-            NodeElementProps props = (NodeElementProps) nodeElement.getProps();
-            return Objects.equals(this.diagramIdProvider.getId(description), props.getDescriptionId());
-        }
-        return false;
-    }
 }
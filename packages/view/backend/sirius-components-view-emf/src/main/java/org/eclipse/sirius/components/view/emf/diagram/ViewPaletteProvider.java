@@ -23,6 +23,7 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramDescriptionService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IPaletteProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IPaletteStructure;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.IPaletteEntry;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ITool;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.Palette;
@@ -68,6 +69,9 @@ import org.springframework.stereotype.Service;
  * specified an explicit behavior for them. At runtime their invocation goes through distinct GraphQL mutation
  * operations than plain ITool invocation, so the body we provide here for them is never actually invoked.
  * <p>
+ * The tools found in the view description are kept in a {@link ViewPaletteStructure} which only depends on the
+ * descriptions, their preconditions are evaluated for each palette computed from this structure.
+ * <p>
  * Drop tools and edge reconnection tools are handled in a separate way, as they do not ever appear in the palette of
  * any element since they can only be triggered by direct gestures/interactions.
  *
@@ -111,55 +115,115 @@ public class ViewPaletteProvider implements IPaletteProvider {
 
     @Override
     public Palette handle(Object targetElement, Object diagramElement, Object diagramElementDescription, DiagramDescription diagramDescription, IEditingContext editingContext) {
-        Palette palette = null;
-        VariableManager variableManager = new VariableManager();
-        variableManager.put(VariableManager.SELF, targetElement);
+        return this.getPaletteStructure(diagramElementDescription, diagramDescription, editingContext)
+                .map(paletteStructure -> this.handle(paletteStructure, targetElement, diagramElement, diagramElementDescription, diagramDescription, editingContext))
+                .orElse(null);
+    }
+
+    @Override
+    public Optional<IPaletteStructure> getPaletteStructure(Object diagramElementDescription, DiagramDescription diagramDescription, IEditingContext editingContext) {
+        Optional<ViewPaletteStructure> optionalPaletteStructure = Optional.empty();
         var optionalDiagramDescription = this.viewDiagramDescriptionSearchService.findById(editingContext, diagramDescription.getId());
         if (optionalDiagramDescription.isPresent()) {
             org.eclipse.sirius.components.view.diagram.DiagramDescription viewDiagramDescription = optionalDiagramDescription.get();
-            var interpreter = this.aqlInterpreterFactory.createInterpreter(editingContext, (View) viewDiagramDescription.eContainer());
+            View view = (View) viewDiagramDescription.eContainer();
+            if (diagramElementDescription instanceof DiagramDescription) {
+                optionalPaletteStructure = this.getDiagramPaletteStructure(diagramDescription, viewDiagramDescription, view);
+            } else if (diagramElementDescription instanceof NodeDescription nodeDescription) {
+                optionalPaletteStructure = this.getNodePaletteStructure(editingContext, nodeDescription, view);
+            } else if (diagramElementDescription instanceof EdgeDescription edgeDescription) {
+                optionalPaletteStructure = this.getEdgePaletteStructure(editingContext, edgeDescription, view);
+            }
+        }
+        return optionalPaletteStructure.map(IPaletteStructure.class::cast);
+    }
+
+    @Override
+    public Palette handle(IPaletteStructure paletteStructure, Object targetElement, Object diagramElement, Object diagramElementDescription, DiagramDescription diagramDescription,
+            IEditingContext editingContext) {
+        Palette palette = null;
+        if (paletteStructure instanceof ViewPaletteStructure viewPaletteStructure) {
+            VariableManager variableManager = new VariableManager();
+            variableManager.put(VariableManager.SELF, targetElement);
+            var interpreter = this.aqlInterpreterFactory.createInterpreter(editingContext, viewPaletteStructure.view());
             if (diagramElement instanceof Diagram) {
-                palette = this.getDiagramPalette(diagramDescription, viewDiagramDescription, variableManager, interpreter);
+                palette = this.getDiagramPalette(viewPaletteStructure, variableManager, interpreter);
             } else if (diagramElement instanceof Node && diagramElementDescription instanceof NodeDescription nodeDescription) {
                 variableManager.put(Node.SELECTED_NODE, diagramElement);
-                palette = this.getNodePalette(editingContext, diagramDescription, diagramElement, nodeDescription, variableManager, interpreter);
+                palette = this.getNodePalette(viewPaletteStructure, diagramDescription, diagramElement, nodeDescription, variableManager, interpreter);
             } else if (diagramElement instanceof Edge && diagramElementDescription instanceof EdgeDescription edgeDescription) {
                 variableManager.put(Edge.SELECTED_EDGE, diagramElement);
-                palette = this.getEdgePalette(editingContext, edgeDescription, diagramElement, variableManager, interpreter);
+                palette = this.getEdgePalette(viewPaletteStructure, edgeDescription, diagramElement, variableManager, interpreter);
             }
         }
         return palette;
     }
 
-    private Palette getDiagramPalette(DiagramDescription diagramDescription, org.eclipse.sirius.components.view.diagram.DiagramDescription viewDiagramDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        Palette diagramPalette = null;
+    private Optional<ViewPaletteStructure> getDiagramPaletteStructure(DiagramDescription diagramDescription, org.eclipse.sirius.components.view.diagram.DiagramDescription viewDiagramDescription, View view) {
         var toolFinder = new ToolFinder();
-        Optional<String> sourceElementId = this.getSourceElementId(diagramDescription.getId());
-        if (sourceElementId.isPresent()) {
-            String diagramPaletteId = "siriusComponents://diagramPalette?diagramId=" + sourceElementId.get();
+        return this.getSourceElementId(diagramDescription.getId())
+                .map(sourceElementId -> new ViewPaletteStructure("siriusComponents://diagramPalette?diagramId=" + sourceElementId, view,
+                        toolFinder.findQuickAccessDiagramTools(viewDiagramDescription),
+                        toolFinder.findNodeTools(viewDiagramDescription),
+                        List.of(),
+                        List.copyOf(toolFinder.findToolSections(viewDiagramDescription))));
+    }
 
-            List<IPaletteEntry> paletteEntries = new ArrayList<>();
-            toolFinder.findNodeTools(viewDiagramDescription).stream()
-                .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
-                .map(tool -> this.createDiagramRootNodeTool(tool, variableManager, interpreter))
-                .forEach(paletteEntries::add);
+    private Optional<ViewPaletteStructure> getNodePaletteStructure(IEditingContext editingContext, NodeDescription nodeDescription, View view) {
+        Optional<ViewPaletteStructure> optionalPaletteStructure = Optional.empty();
+        var toolFinder = new ToolFinder();
+        Optional<String> sourceElementId = this.getSourceElementId(nodeDescription.getId());
+        var optionalNodeDescription = this.viewDiagramDescriptionSearchService.findViewNodeDescriptionById(editingContext, nodeDescription.getId());
+        if (sourceElementId.isPresent() && optionalNodeDescription.isPresent()) {
+            org.eclipse.sirius.components.view.diagram.NodeDescription viewNodeDescription = optionalNodeDescription.get();
+            optionalPaletteStructure = Optional.of(new ViewPaletteStructure("siriusComponents://nodePalette?nodeId=" + sourceElementId.get(), view,
+                    toolFinder.findQuickAccessNodeTools(viewNodeDescription),
+                    toolFinder.findNodeTools(viewNodeDescription),
+                    toolFinder.findEdgeTools(viewNodeDescription),
+                    List.copyOf(toolFinder.findToolSections(viewNodeDescription))));
+        }
+        return optionalPaletteStructure;
+    }
 
-            toolFinder.findToolSections(viewDiagramDescription).stream()
-                .map(toolSection -> this.createToolSection(toolSection, variableManager, interpreter))
-                .forEach(paletteEntries::add);
+    private Optional<ViewPaletteStructure> getEdgePaletteStructure(IEditingContext editingContext, EdgeDescription edgeDescription, View view) {
+        Optional<ViewPaletteStructure> optionalPaletteStructure = Optional.empty();
+        var toolFinder = new ToolFinder();
+        Optional<String> sourceElementId = this.getSourceElementId(edgeDescription.getId());
+        var optionalEdgeDescription = this.viewDiagramDescriptionSearchService.findViewEdgeDescriptionById(editingContext, edgeDescription.getId());
+        if (sourceElementId.isPresent() && optionalEdgeDescription.isPresent()) {
+            org.eclipse.sirius.components.view.diagram.EdgeDescription viewEdgeDescription = optionalEdgeDescription.get();
+            optionalPaletteStructure = Optional.of(new ViewPaletteStructure("siriusComponents://edgePalette?edgeId=" + sourceElementId.get(), view,
+                    toolFinder.findQuickAccessNodeTools(viewEdgeDescription),
+                    toolFinder.findNodeTools(viewEdgeDescription),
+                    List.of(),
+                    List.copyOf(toolFinder.findToolSections(viewEdgeDescription))));
+        }
+        return optionalPaletteStructure;
+    }
 
-            List<ITool> quickAccessTools = new ArrayList<>();
-            toolFinder.findQuickAccessDiagramTools(viewDiagramDescription).stream()
-                    .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
-                    .map(tool -> this.createNodeTool(tool, variableManager, interpreter))
-                    .forEach(quickAccessTools::add);
+    private Palette getDiagramPalette(ViewPaletteStructure paletteStructure, VariableManager variableManager, AQLInterpreter interpreter) {
+        List<IPaletteEntry> paletteEntries = new ArrayList<>();
+        paletteStructure.nodeTools().stream()
+            .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
+            .map(tool -> this.createDiagramRootNodeTool(tool, variableManager, interpreter))
+            .forEach(paletteEntries::add);
+
+        paletteStructure.toolSections().stream()
+            .filter(DiagramToolSection.class::isInstance)
+            .map(DiagramToolSection.class::cast)
+            .map(toolSection -> this.createToolSection(toolSection, variableManager, interpreter))
+            .forEach(paletteEntries::add);
+
+        List<ITool> quickAccessTools = new ArrayList<>();
+        paletteStructure.quickAccessTools().stream()
+                .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
+                .map(tool -> this.createNodeTool(tool, variableManager, interpreter))
+                .forEach(quickAccessTools::add);
 
-            diagramPalette = Palette.newPalette(diagramPaletteId)
-                    .quickAccessTools(quickAccessTools)
-                    .paletteEntries(paletteEntries)
-                    .build();
-        }
-        return diagramPalette;
+        return Palette.newPalette(paletteStructure.paletteId())
+                .quickAccessTools(quickAccessTools)
+                .paletteEntries(paletteEntries)
+                .build();
     }
 
     private ToolSection createToolSection(DiagramToolSection toolSection, VariableManager variableManager, AQLInterpreter interpreter) {
@@ -200,54 +264,44 @@ public class ViewPaletteProvider implements IPaletteProvider {
                 .build();
     }
 
-    private Palette getNodePalette(IEditingContext editingContext, DiagramDescription diagramDescription, Object diagramElement, NodeDescription nodeDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        Optional<String> sourceElementId = this.getSourceElementId(nodeDescription.getId());
-        Palette nodePalette = null;
-        var toolFinder = new ToolFinder();
-        if (sourceElementId.isPresent()) {
-            var optionalNodeDescription = this.viewDiagramDescriptionSearchService.findViewNodeDescriptionById(editingContext, nodeDescription.getId());
-
-            if (optionalNodeDescription.isPresent()) {
-                List<ToolSection> extraToolSections = new ArrayList<>();
-                paletteToolsProviders.stream().map(paletteToolsProvider -> paletteToolsProvider.createExtraToolSections(nodeDescription, diagramElement)).flatMap(List::stream)
-                        .forEach(extraToolSections::add);
+    private Palette getNodePalette(ViewPaletteStructure paletteStructure, DiagramDescription diagramDescription, Object diagramElement, NodeDescription nodeDescription, VariableManager variableManager,
+            AQLInterpreter interpreter) {
+        List<ToolSection> extraToolSections = new ArrayList<>();
+        paletteToolsProviders.stream().map(paletteToolsProvider -> paletteToolsProvider.createExtraToolSections(nodeDescription, diagramElement)).flatMap(List::stream)
+                .forEach(extraToolSections::add);
 
-                List<ITool> quickAccessTools = new ArrayList<>();
-                paletteToolsProviders.stream().map(paletteToolsProvider -> paletteToolsProvider.createQuickAccessTools(nodeDescription, diagramElement)).flatMap(List::stream)
-                        .forEach(quickAccessTools::add);
+        List<ITool> quickAccessTools = new ArrayList<>();
+        paletteToolsProviders.stream().map(paletteToolsProvider -> paletteToolsProvider.createQuickAccessTools(nodeDescription, diagramElement)).flatMap(List::stream)
+                .forEach(quickAccessTools::add);
 
-                org.eclipse.sirius.components.view.diagram.NodeDescription viewNodeDescription = optionalNodeDescription.get();
-
-                toolFinder.findQuickAccessNodeTools(viewNodeDescription).stream()
-                        .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
-                        .map(tool -> this.createNodeTool(tool, variableManager, interpreter))
-                        .forEach(quickAccessTools::add);
+        paletteStructure.quickAccessTools().stream()
+                .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
+                .map(tool -> this.createNodeTool(tool, variableManager, interpreter))
+                .forEach(quickAccessTools::add);
 
-                var paletteEntries = new ArrayList<IPaletteEntry>();
-                toolFinder.findNodeTools(viewNodeDescription).stream()
-                        .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
-                        .map(tool -> this.createNodeTool(tool, variableManager, interpreter))
-                        .forEach(paletteEntries::add);
-                toolFinder.findEdgeTools(viewNodeDescription).stream()
-                        .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
-                        .map(viewEdgeTools -> this.createEdgeTool(viewEdgeTools, diagramDescription, nodeDescription, variableManager, interpreter))
-                        .forEach(paletteEntries::add);
+        var paletteEntries = new ArrayList<IPaletteEntry>();
+        paletteStructure.nodeTools().stream()
+                .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
+                .map(tool -> this.createNodeTool(tool, variableManager, interpreter))
+                .forEach(paletteEntries::add);
+        paletteStructure.edgeTools().stream()
+                .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
+                .map(viewEdgeTools -> this.createEdgeTool(viewEdgeTools, diagramDescription, nodeDescription, variableManager, interpreter))
+                .forEach(paletteEntries::add);
 
-                toolFinder.findToolSections(viewNodeDescription).stream()
-                        .map(nodeToolSection -> this.createToolSection(nodeToolSection, diagramDescription, nodeDescription, variableManager, interpreter))
-                        .forEach(paletteEntries::add);
+        paletteStructure.toolSections().stream()
+                .filter(NodeToolSection.class::isInstance)
+                .map(NodeToolSection.class::cast)
+                .map(nodeToolSection -> this.createToolSection(nodeToolSection, diagramDescription, nodeDescription, variableManager, interpreter))
+                .forEach(paletteEntries::add);
 
-                paletteEntries.add(new PaletteDivider(UUID.randomUUID().toString()));
-                paletteEntries.addAll(extraToolSections);
+        paletteEntries.add(new PaletteDivider(UUID.randomUUID().toString()));
+        paletteEntries.addAll(extraToolSections);
 
-                String nodePaletteId = "siriusComponents://nodePalette?nodeId=" + sourceElementId.get();
-                nodePalette = Palette.newPalette(nodePaletteId)
-                        .quickAccessTools(quickAccessTools)
-                        .paletteEntries(paletteEntries)
-                        .build();
-            }
-        }
-        return nodePalette;
+        return Palette.newPalette(paletteStructure.paletteId())
+                .quickAccessTools(quickAccessTools)
+                .paletteEntries(paletteEntries)
+                .build();
     }
 
     private ToolSection createToolSection(NodeToolSection toolSection, DiagramDescription diagramDescription, NodeDescription nodeDescription, VariableManager variableManager, AQLInterpreter interpreter) {
@@ -296,45 +350,33 @@ public class ViewPaletteProvider implements IPaletteProvider {
                 .build();
     }
 
-    private Palette getEdgePalette(IEditingContext editingContext, EdgeDescription edgeDescription, Object diagramElement, VariableManager variableManager, AQLInterpreter interpreter) {
+    private Palette getEdgePalette(ViewPaletteStructure paletteStructure, EdgeDescription edgeDescription, Object diagramElement, VariableManager variableManager, AQLInterpreter interpreter) {
         List<ToolSection> extraToolSections = new PaletteDefaultToolsProvider().createExtraToolSections(edgeDescription, diagramElement);
-        Palette edgePalette = null;
-        var toolFinder = new ToolFinder();
-        Optional<String> optionalSourceElementId = this.getSourceElementId(edgeDescription.getId());
-        if (optionalSourceElementId.isPresent()) {
-            var sourceElementId = optionalSourceElementId.get();
 
-            var optionalEdgeDescription = this.viewDiagramDescriptionSearchService.findViewEdgeDescriptionById(editingContext, edgeDescription.getId());
-            if (optionalEdgeDescription.isPresent()) {
-                org.eclipse.sirius.components.view.diagram.EdgeDescription viewEdgeDescription = optionalEdgeDescription.get();
-
-                List<ITool> quickAccessTools = new ArrayList<>();
-                toolFinder.findQuickAccessNodeTools(viewEdgeDescription).stream()
-                        .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
-                        .map(tool -> this.createNodeTool(tool, variableManager, interpreter))
-                        .forEach(quickAccessTools::add);
+        List<ITool> quickAccessTools = new ArrayList<>();
+        paletteStructure.quickAccessTools().stream()
+                .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
+                .map(tool -> this.createNodeTool(tool, variableManager, interpreter))
+                .forEach(quickAccessTools::add);
 
-                List<IPaletteEntry> paletteEntries = new ArrayList<>();
-                toolFinder.findToolSections(viewEdgeDescription).stream()
-                        .map(edgeToolSection -> this.createToolSection(edgeToolSection, variableManager, interpreter))
-                        .forEach(paletteEntries::add);
+        List<IPaletteEntry> paletteEntries = new ArrayList<>();
+        paletteStructure.toolSections().stream()
+                .filter(EdgeToolSection.class::isInstance)
+                .map(EdgeToolSection.class::cast)
+                .map(edgeToolSection -> this.createToolSection(edgeToolSection, variableManager, interpreter))
+                .forEach(paletteEntries::add);
 
-                toolFinder.findNodeTools(viewEdgeDescription).stream()
+        paletteStructure.nodeTools().stream()
                 .filter(tool -> this.checkPrecondition(tool, variableManager, interpreter))
                 .map(tool -> this.createNodeTool(tool, variableManager, interpreter))
                 .forEach(paletteEntries::add);
 
-                paletteEntries.addAll(extraToolSections);
-
-                String edgePaletteId = "siriusComponents://edgePalette?edgeId=" + sourceElementId;
-                edgePalette = Palette.newPalette(edgePaletteId)
-                        .quickAccessTools(quickAccessTools)
-                        .paletteEntries(paletteEntries)
-                        .build();
+        paletteEntries.addAll(extraToolSections);
 
-            }
-        }
-        return edgePalette;
+        return Palette.newPalette(paletteStructure.paletteId())
+                .quickAccessTools(quickAccessTools)
+                .paletteEntries(paletteEntries)
+                .build();
     }
 
     private ToolSection createToolSection(EdgeToolSection toolSection, VariableManager variableManager, AQLInterpreter interpreter) {
@@ -358,7 +400,7 @@ public class ViewPaletteProvider implements IPaletteProvider {
     private boolean checkPrecondition(Tool tool, VariableManager variableManager, AQLInterpreter interpreter) {
         String precondition = tool.getPreconditionExpression();
         if (precondition != null && !precondition.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), precondition);
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), precondition);
             return result.getStatus().compareTo(Status.WARNING) <= 0 && result.asBoolean().orElse(Boolean.FALSE);
         }
         return true;
@@ -387,7 +429,7 @@ public class ViewPaletteProvider implements IPaletteProvider {
     }
 
     private List<String> evaluateListString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        List<Object> objects = interpreter.evaluateExpression(variableManager.getVariables(), expression).asObjects().orElse(List.of());
+        List<Object> objects = interpreter.evaluateExpression(variableManager.asMap(), expression).asObjects().orElse(List.of());
         return objects.stream()
                 .filter(String.class::isInstance)
                 .map(String.class::cast)
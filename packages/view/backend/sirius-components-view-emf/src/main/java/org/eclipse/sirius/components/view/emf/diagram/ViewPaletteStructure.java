@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.view.emf.diagram;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IPaletteStructure;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.diagram.EdgeTool;
+import org.eclipse.sirius.components.view.diagram.NodeTool;
+import org.eclipse.sirius.components.view.diagram.ToolSection;
+
+/**
+ * The structure of the palette of a diagram, node or edge description created from a view description.
+ *
+ * <p>
+ * It holds the tools found in the view description, the preconditions of these tools are evaluated for each palette
+ * computed from this structure.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record ViewPaletteStructure(String paletteId, View view, List<NodeTool> quickAccessTools, List<NodeTool> nodeTools, List<EdgeTool> edgeTools, List<ToolSection> toolSections)
+        implements IPaletteStructure {
+    public ViewPaletteStructure {
+        Objects.requireNonNull(paletteId);
+        Objects.requireNonNull(view);
+        quickAccessTools = List.copyOf(quickAccessTools);
+        nodeTools = List.copyOf(nodeTools);
+        edgeTools = List.copyOf(edgeTools);
+        toolSections = List.copyOf(toolSections);
+    }
+}
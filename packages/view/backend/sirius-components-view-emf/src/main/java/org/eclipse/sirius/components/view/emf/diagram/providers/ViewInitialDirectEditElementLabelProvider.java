@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -30,6 +30,7 @@ import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.diagrams.OutsideLabel;
 import org.eclipse.sirius.components.diagrams.description.EdgeLabelKind;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLExpressionCache;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.interpreter.Result;
 import org.eclipse.sirius.components.interpreter.Status;
@@ -151,7 +152,7 @@ public class ViewInitialDirectEditElementLabelProvider implements IInitialDirect
                         variableManager.put("semanticEdgeTarget", semanticEdgeTarget);
                     }
 
-                    Result result = interpreter.evaluateExpression(variableManager.getVariables(), labelEditTool.getInitialDirectEditLabelExpression());
+                    Result result = interpreter.evaluateExpression(variableManager.asMap(), labelEditTool.getInitialDirectEditLabelExpression());
                     if (result.getStatus().compareTo(Status.WARNING) <= 0 && result.asString().isPresent()) {
                         initialDirectEditElementLabel = result.asString().get();
                     }
@@ -221,7 +222,11 @@ public class ViewInitialDirectEditElementLabelProvider implements IInitialDirect
                 .filter(Objects::nonNull)
                 .map(Object.class::cast)
                 .toList();
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
+        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages, false, this.getExpressionCache());
+    }
+
+    private AQLExpressionCache getExpressionCache() {
+        return this.applicationContext.getBeanProvider(AQLExpressionCache.class).getIfAvailable(() -> new AQLExpressionCache(AQLExpressionCache.DEFAULT_MAXIMUM_SIZE));
     }
 
 }
@@ -67,7 +67,7 @@ public class FlexboxContainerDescriptionConverter {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VARIABLE_MANAGER, variableManager);
             var effectiveStyle = viewFlexboxContainerDescription.getConditionalBorderStyles().stream()
-                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.asMap(), style.getCondition())
                             .asBoolean()
                             .orElse(Boolean.FALSE))
                     .map(org.eclipse.sirius.components.view.form.ContainerBorderStyle.class::cast)
@@ -59,7 +59,7 @@ public class FormElementForDescriptionConverter {
             if (!safeIterabeExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Result result = this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeIterabeExpression);
+                Result result = this.interpreter.evaluateExpression(childVariableManager.asMap(), safeIterabeExpression);
                 return result.asObjects().orElse(List.of());
             } else {
                 return List.of();
@@ -57,7 +57,7 @@ public class LabelDescriptionConverter {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VARIABLE_MANAGER, variableManager);
             var effectiveStyle = viewLabelDescription.getConditionalStyles().stream()
-                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.asMap(), style.getCondition())
                             .asBoolean()
                             .orElse(Boolean.FALSE))
                     .map(LabelDescriptionStyle.class::cast)
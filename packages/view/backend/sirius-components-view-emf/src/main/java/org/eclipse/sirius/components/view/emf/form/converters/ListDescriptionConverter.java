@@ -75,11 +75,11 @@ public class ListDescriptionConverter {
         String descriptionId = this.widgetIdProvider.getFormElementDescriptionId(viewListDescription);
 
         Function<VariableManager, String> itemIdProvider = variableManager -> {
-            Object candidate = variableManager.getVariables().get(ListComponent.CANDIDATE_VARIABLE);
+            Object candidate = variableManager.asMap().get(ListComponent.CANDIDATE_VARIABLE);
             return this.objectService.getId(candidate);
         };
         Function<VariableManager, String> itemKindProvider = variableManager -> {
-            Object candidate = variableManager.getVariables().get(ListComponent.CANDIDATE_VARIABLE);
+            Object candidate = variableManager.asMap().get(ListComponent.CANDIDATE_VARIABLE);
             return this.objectService.getKind(candidate);
         };
 
@@ -110,7 +110,7 @@ public class ListDescriptionConverter {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VARIABLE_MANAGER, variableManager);
             var effectiveStyle = viewListDescription.getConditionalStyles().stream()
-                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.asMap(), style.getCondition())
                             .asBoolean()
                             .orElse(Boolean.FALSE))
                     .map(ListDescriptionStyle.class::cast)
@@ -46,7 +46,7 @@ public class MultiSelectValuesProvider implements Function<VariableManager, List
         if (this.expression != null && !this.expression.isBlank()) {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VARIABLE_MANAGER, variableManager);
-            return this.interpreter.evaluateExpression(childVariableManager.getVariables(), expression)
+            return this.interpreter.evaluateExpression(childVariableManager.asMap(), expression)
                     .asObjects()
                     .orElse(List.of())
                     .stream()
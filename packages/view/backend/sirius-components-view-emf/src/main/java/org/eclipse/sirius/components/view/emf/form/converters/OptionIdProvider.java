@@ -35,7 +35,7 @@ public class OptionIdProvider implements Function<VariableManager, String> {
 
     @Override
     public String apply(VariableManager variableManager) {
-        Object candidate = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+        Object candidate = variableManager.asMap().get(SelectComponent.CANDIDATE_VARIABLE);
         return Optional.ofNullable(this.objectService.getId(candidate)).orElseGet(() -> Optional.ofNullable(candidate).map(Objects::toString).orElse(""));
     }
 }
@@ -42,8 +42,8 @@ public class OptionSelectedProvider implements Function<VariableManager, Boolean
     public Boolean apply(VariableManager variableManager) {
         VariableManager childVariableManager = variableManager.createChild();
         childVariableManager.put(VARIABLE_MANAGER, variableManager);
-        Optional<Object> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariables(), this.expression).asObject();
-        Object candidate = variableManager.getVariables().get(RadioComponent.CANDIDATE_VARIABLE);
+        Optional<Object> optionalResult = this.interpreter.evaluateExpression(childVariableManager.asMap(), this.expression).asObject();
+        Object candidate = variableManager.asMap().get(RadioComponent.CANDIDATE_VARIABLE);
         return optionalResult.map(candidate::equals).orElse(Boolean.FALSE);
     }
 }
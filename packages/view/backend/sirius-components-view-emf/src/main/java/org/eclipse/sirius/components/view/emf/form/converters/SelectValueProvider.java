@@ -46,7 +46,7 @@ public class SelectValueProvider implements Function<VariableManager, String> {
         if (this.expression != null && !this.expression.isBlank()) {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VARIABLE_MANAGER, variableManager);
-            Result result = this.interpreter.evaluateExpression(childVariableManager.getVariables(), expression);
+            Result result = this.interpreter.evaluateExpression(childVariableManager.asMap(), expression);
             var rawValue = result.asObject();
             return rawValue.map(this.objectService::getId)
                     .orElseGet(() -> rawValue.map(Objects::toString)
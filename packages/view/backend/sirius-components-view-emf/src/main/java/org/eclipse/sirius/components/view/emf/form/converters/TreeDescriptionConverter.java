@@ -65,11 +65,11 @@ public class TreeDescriptionConverter {
         String descriptionId = this.widgetIdProvider.getFormElementDescriptionId(viewTreeDescription);
 
         Function<VariableManager, String> nodeIdProvider = variableManager -> {
-            Object treeItem = variableManager.getVariables().get(VariableManager.SELF);
+            Object treeItem = variableManager.asMap().get(VariableManager.SELF);
             return this.objectService.getId(treeItem);
         };
         Function<VariableManager, String> itemKindProvider = variableManager -> {
-            Object candidate = variableManager.getVariables().get(VariableManager.SELF);
+            Object candidate = variableManager.asMap().get(VariableManager.SELF);
             return this.objectService.getKind(candidate);
         };
         Function<VariableManager, List<String>> nodeIconURLProvider = this.getTreeBeginIconValue(viewTreeDescription.getTreeItemBeginIconExpression());
@@ -113,7 +113,7 @@ public class TreeDescriptionConverter {
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(variableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(variableManager.asMap(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     values = optionalResult.get().stream().filter(String.class::isInstance).map(String.class::cast).toList();
                 }
@@ -129,7 +129,7 @@ public class TreeDescriptionConverter {
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.asMap(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     var list = optionalResult.get().stream().filter(List.class::isInstance).map(List.class::cast).toList();
                     return list.stream().map(valuesList -> (List<String>) valuesList.stream().filter(String.class::isInstance).map(String.class::cast).toList())
@@ -38,7 +38,7 @@ public class DiagnosticProvider implements Function<VariableManager, List<?>> {
     @Override
     public List<?> apply(VariableManager variableManager) {
         if (this.diagnosticExpression != null && !this.diagnosticExpression.isBlank()) {
-            return this.interpreter.evaluateExpression(variableManager.getVariables(), this.diagnosticExpression)
+            return this.interpreter.evaluateExpression(variableManager.asMap(), this.diagnosticExpression)
                     .asObjects()
                     .orElse(List.of());
         }
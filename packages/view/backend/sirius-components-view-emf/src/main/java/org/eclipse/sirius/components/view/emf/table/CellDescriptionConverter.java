@@ -63,7 +63,7 @@ public class CellDescriptionConverter {
         Function<VariableManager, String> targetObjectIdProvider = variableManager -> {
             Optional<Object> optionalSelf = variableManager.get(VariableManager.SELF, Object.class);
             if (viewCellDescription.getSelectedTargetObjectExpression() != null && !viewCellDescription.getSelectedTargetObjectExpression().isBlank()) {
-                optionalSelf = interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getSelectedTargetObjectExpression()).asObject();
+                optionalSelf = interpreter.evaluateExpression(variableManager.asMap(), viewCellDescription.getSelectedTargetObjectExpression()).asObject();
             }
             return optionalSelf
                     .map(this.objectService::getId)
@@ -73,7 +73,7 @@ public class CellDescriptionConverter {
         Function<VariableManager, String> targetObjectKindProvider = variableManager -> {
             Optional<Object> optionalSelf = variableManager.get(VariableManager.SELF, Object.class);
             if (viewCellDescription.getSelectedTargetObjectExpression() != null && !viewCellDescription.getSelectedTargetObjectExpression().isBlank()) {
-                optionalSelf = interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getSelectedTargetObjectExpression()).asObject();
+                optionalSelf = interpreter.evaluateExpression(variableManager.asMap(), viewCellDescription.getSelectedTargetObjectExpression()).asObject();
             }
             return optionalSelf
                     .map(this.objectService::getKind)
@@ -81,7 +81,7 @@ public class CellDescriptionConverter {
         };
 
         Predicate<VariableManager> canCreatePredicate =
-                variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getPreconditionExpression()).asBoolean().orElse(false);
+                variableManager -> interpreter.evaluateExpression(variableManager.asMap(), viewCellDescription.getPreconditionExpression()).asBoolean().orElse(false);
 
         BiFunction<VariableManager, Object, String> cellValueProvider = (variableManager, columnTargetObject) -> {
             var child = variableManager.createChild();
@@ -121,6 +121,6 @@ public class CellDescriptionConverter {
 
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.asMap(), expression).asString().orElse("");
     }
 }
@@ -58,15 +58,15 @@ public class ColumnDescriptionConverter {
                 .headerIndexLabelProvider(variableManager -> this.evaluateString(interpreter, variableManager, columnDescription.getHeaderIndexLabelExpression()))
                 .semanticElementsProvider(this.getColumnSemanticElementsProvider(columnDescription, interpreter))
                 .shouldRenderPredicate(this.getShouldRenderPredicate(columnDescription.getPreconditionExpression(), interpreter))
-                .isResizablePredicate(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), columnDescription.getIsResizableExpression()).asBoolean().orElse(false))
-                .initialWidthProvider(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), columnDescription.getInitialWidthExpression()).asInt().orElse(-1))
+                .isResizablePredicate(variableManager -> interpreter.evaluateExpression(variableManager.asMap(), columnDescription.getIsResizableExpression()).asBoolean().orElse(false))
+                .initialWidthProvider(variableManager -> interpreter.evaluateExpression(variableManager.asMap(), columnDescription.getInitialWidthExpression()).asInt().orElse(-1))
                 .filterVariantProvider(variableManager -> this.evaluateString(interpreter, variableManager, columnDescription.getFilterWidgetExpression()))
                 .build();
     }
 
     private Function<VariableManager, List<Object>> getColumnSemanticElementsProvider(org.eclipse.sirius.components.view.table.ColumnDescription elementDescription, AQLInterpreter interpreter) {
         return variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementDescription.getSemanticCandidatesExpression());
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), elementDescription.getSemanticCandidatesExpression());
             List<Object> candidates = result.asObjects().orElse(List.of());
             if (elementDescription.getDomainType() == null || elementDescription.getDomainType().isBlank()) {
                 return candidates;
@@ -82,12 +82,12 @@ public class ColumnDescriptionConverter {
 
     private Predicate<VariableManager> getShouldRenderPredicate(String preconditionExpression, AQLInterpreter interpreter) {
         return variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression);
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), preconditionExpression);
             return result.asBoolean().orElse(true);
         };
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.asMap(), expression).asString().orElse("");
     }
 }
@@ -49,13 +49,13 @@ public class RowDescriptionConverter {
                 .headerLabelProvider(variableManager -> this.evaluateString(interpreter, variableManager, rowDescription.getHeaderLabelExpression()))
                 .headerIconURLsProvider(new ViewIconURLsProvider(interpreter, rowDescription.getHeaderIconExpression()))
                 .headerIndexLabelProvider(variableManager -> this.evaluateString(interpreter, variableManager, rowDescription.getHeaderIndexLabelExpression()))
-                .isResizablePredicate(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), rowDescription.getIsResizableExpression()).asBoolean().orElse(false))
-                .initialHeightProvider(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), rowDescription.getInitialHeightExpression()).asInt().orElse(-1))
+                .isResizablePredicate(variableManager -> interpreter.evaluateExpression(variableManager.asMap(), rowDescription.getIsResizableExpression()).asBoolean().orElse(false))
+                .initialHeightProvider(variableManager -> interpreter.evaluateExpression(variableManager.asMap(), rowDescription.getInitialHeightExpression()).asInt().orElse(-1))
                 .build();
     }
 
     private Function<VariableManager, PaginatedData> getRowSemanticElementsProvider(org.eclipse.sirius.components.view.table.RowDescription elementDescription, AQLInterpreter interpreter) {
-        return variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), elementDescription.getSemanticCandidatesExpression())
+        return variableManager -> interpreter.evaluateExpression(variableManager.asMap(), elementDescription.getSemanticCandidatesExpression())
                 .asObject()
                 .filter(PaginatedData.class::isInstance)
                 .map(PaginatedData.class::cast)
@@ -64,6 +64,6 @@ public class RowDescriptionConverter {
 
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.asMap(), expression).asString().orElse("");
     }
 }
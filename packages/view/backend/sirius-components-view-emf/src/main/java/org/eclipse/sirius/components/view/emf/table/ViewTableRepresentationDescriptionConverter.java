@@ -73,7 +73,7 @@ public class ViewTableRepresentationDescriptionConverter implements IRepresentat
 
         Predicate<VariableManager> isStripeRowPredicate = variableManager -> {
             if (viewTableDescription.getUseStripedRowsExpression() != null) {
-                return interpreter.evaluateExpression(variableManager.getVariables(), viewTableDescription.getUseStripedRowsExpression()).asBoolean().orElse(false);
+                return interpreter.evaluateExpression(variableManager.asMap(), viewTableDescription.getUseStripedRowsExpression()).asBoolean().orElse(false);
             }
             return false;
         };
@@ -106,7 +106,7 @@ public class ViewTableRepresentationDescriptionConverter implements IRepresentat
         Optional<EClass> optionalEClass = variableManager.get(VariableManager.SELF, EObject.class).map(EObject::eClass).filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.asMap(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -116,7 +116,7 @@ public class ViewTableRepresentationDescriptionConverter implements IRepresentat
 
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.asMap(), expression).asString().orElse("");
     }
 
     private Optional<Object> self(VariableManager variableManager) {
@@ -25,6 +25,8 @@ import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.sirius.components.collaborative.diagrams.DiagramCreationService;
+import org.eclipse.sirius.components.collaborative.diagrams.DiagramCreationServiceParameters;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramLayoutService;
 import org.eclipse.sirius.components.core.api.IEditService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IFeedbackMessageService;
@@ -167,7 +169,8 @@ public class DynamicDiagramsTests {
         };
 
         MeterRegistry meterRegistry = new SimpleMeterRegistry();
-        var diagramCreationService = new DiagramCreationService(representationDescriptionSearchService, new IObjectSearchService.NoOp(), new IOperationValidator.NoOp(), meterRegistry);
+        var parameters = new DiagramCreationServiceParameters(representationDescriptionSearchService, new IObjectSearchService.NoOp(), new IOperationValidator.NoOp(), new IDiagramLayoutService.NoOp());
+        var diagramCreationService = new DiagramCreationService(parameters, meterRegistry);
 
         IEditingContext editinContext = new IEditingContext.NoOp();
 
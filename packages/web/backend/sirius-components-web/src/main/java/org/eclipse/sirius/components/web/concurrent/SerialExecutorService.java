@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.web.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} which executes its tasks one at a time, in their order of submission,
+ * on the threads of a shared delegate {@link Executor}.
+ *
+ * <p>
+ * It provides the same guarantees as a single thread executor without holding a thread when there is nothing to do. A
+ * thread of the delegate executor is only used while a task is running, which lets a large number of serial executors
+ * share a small number of threads.
+ * </p>
+ *
+ * <p>
+ * A task accepted by this executor is always executed. If the delegate executor rejects the next task once a task is
+ * over, for example because it is saturated or has been shut down, the next task is executed on the thread which has
+ * executed the previous one. If the delegate executor rejects a task when nothing is running, the task is not accepted
+ * and the rejection is given to the caller of {@link #execute(Runnable)}, which lets the futures created by the caller
+ * fail instead of waiting forever for a task which will never run.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SerialExecutorService extends AbstractExecutorService {
+
+    private final Logger logger = LoggerFactory.getLogger(SerialExecutorService.class);
+
+    private final Executor delegate;
+
+    private final String name;
+
+    private final Object lock = new Object();
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private final CountDownLatch terminationLatch = new CountDownLatch(1);
+
+    private boolean running;
+
+    private boolean shutdown;
+
+    public SerialExecutorService(Executor delegate, String name) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.name = Objects.requireNonNull(name);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command);
+        synchronized (this.lock) {
+            if (this.shutdown) {
+                // The contract of the executors requires the rejection to be thrown to the caller
+                RejectedExecutionException exception = new RejectedExecutionException("The executor " + this.name + " has been shut down");
+                throw exception;
+            }
+            if (this.running) {
+                this.tasks.add(command);
+            } else {
+                try {
+                    this.running = true;
+                    this.delegate.execute(() -> this.run(command));
+                } catch (RejectedExecutionException exception) {
+                    this.running = false;
+                    throw exception;
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the given task and then the next ones for as long as the delegate executor rejects them.
+     *
+     * <p>
+     * The failure of a task is logged and does not prevent the next ones from being executed.
+     * </p>
+     *
+     * @param firstTask
+     *         The task to execute
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void run(Runnable firstTask) {
+        Runnable task = firstTask;
+        while (task != null) {
+            Thread thread = Thread.currentThread();
+            String threadName = thread.getName();
+            thread.setName(this.name);
+            try {
+                task.run();
+            } catch (RuntimeException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            } finally {
+                thread.setName(threadName);
+            }
+            synchronized (this.lock) {
+                task = this.scheduleNext();
+            }
+        }
+    }
+
+    /**
+     * Hands the next task over to the delegate executor.
+     *
+     * <p>
+     * Must be called while holding the lock.
+     * </p>
+     *
+     * @return The next task if it has been rejected by the delegate executor and should thus be executed by the current
+     *         thread, <code>null</code> otherwise
+     */
+    private Runnable scheduleNext() {
+        Runnable rejectedTask = null;
+        Runnable task = this.tasks.poll();
+        if (task != null) {
+            try {
+                this.delegate.execute(() -> this.run(task));
+            } catch (RejectedExecutionException exception) {
+                rejectedTask = task;
+            }
+        } else {
+            this.running = false;
+            if (this.shutdown) {
+                this.terminationLatch.countDown();
+            }
+        }
+        return rejectedTask;
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (this.lock) {
+            this.shutdown = true;
+            if (!this.running) {
+                this.terminationLatch.countDown();
+            }
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        synchronized (this.lock) {
+            List<Runnable> pendingTasks = new ArrayList<>(this.tasks);
+            this.tasks.clear();
+            this.shutdown();
+            return pendingTasks;
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        synchronized (this.lock) {
+            return this.shutdown;
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.terminationLatch.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.terminationLatch.await(timeout, unit);
+    }
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.web.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the serial executor service.
+ *
+ * @author sbegaudeau
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public class SerialExecutorServiceTests {
+
+    private static final int SERIAL_EXECUTOR_COUNT = 1000;
+
+    private static final int TASK_COUNT = 100;
+
+    private static final int POOL_SIZE = 4;
+
+    private static final long TIMEOUT = 10;
+
+    @Test
+    public void givenSerialExecutorsSharingAPoolWhenTasksAreSubmittedThenTheyAreExecutedInOrderOneAtATime() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(POOL_SIZE);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        List<SerialExecutorService> serialExecutorServices = new ArrayList<>();
+        List<List<Integer>> executions = new ArrayList<>();
+        List<AtomicInteger> concurrentExecutions = new ArrayList<>();
+        AtomicInteger maxConcurrentExecutions = new AtomicInteger();
+        for (int i = 0; i < SERIAL_EXECUTOR_COUNT; i++) {
+            serialExecutorServices.add(new SerialExecutorService(pool, "Editing context " + i));
+            executions.add(new CopyOnWriteArrayList<>());
+            concurrentExecutions.add(new AtomicInteger());
+        }
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int task = 0; task < TASK_COUNT; task++) {
+            for (int i = 0; i < SERIAL_EXECUTOR_COUNT; i++) {
+                int taskIndex = task;
+                var execution = executions.get(i);
+                var concurrentExecution = concurrentExecutions.get(i);
+                futures.add(serialExecutorServices.get(i).submit(() -> {
+                    maxConcurrentExecutions.accumulateAndGet(concurrentExecution.incrementAndGet(), Math::max);
+                    threadNames.add(Thread.currentThread().getName());
+                    threads.add(Thread.currentThread());
+                    execution.add(taskIndex);
+                    concurrentExecution.decrementAndGet();
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get(TIMEOUT, TimeUnit.SECONDS);
+        }
+
+        assertThat(maxConcurrentExecutions.get()).isEqualTo(1);
+        assertThat(threadNames).hasSize(SERIAL_EXECUTOR_COUNT);
+        assertThat(threads).hasSizeLessThanOrEqualTo(POOL_SIZE);
+        for (List<Integer> execution : executions) {
+            assertThat(execution).hasSize(TASK_COUNT).isSorted();
+        }
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void givenASerialExecutorWhenItIsShutdownThenItRejectsNewTasksAndTerminatesOnceIdle() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(POOL_SIZE);
+        var serialExecutorService = new SerialExecutorService(pool, "Editing context");
+
+        Future<?> future = serialExecutorService.submit(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        serialExecutorService.shutdown();
+
+        assertThat(serialExecutorService.isShutdown()).isTrue();
+        assertThatThrownBy(() -> serialExecutorService.submit(() -> { })).isInstanceOf(RejectedExecutionException.class);
+        assertThat(serialExecutorService.awaitTermination(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+        assertThat(future).isDone();
+        assertThat(serialExecutorService.isTerminated()).isTrue();
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void givenASaturatedPoolWhenATaskIsOverThenThePendingTasksAreExecutedOnTheSameThread() throws Exception {
+        ExecutorService pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<>());
+        var serialExecutorService = new SerialExecutorService(pool, "Editing context");
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Future<?> runningFuture = serialExecutorService.submit(() -> {
+            try {
+                latch.await(TIMEOUT, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        CompletableFuture<Void> firstPendingFuture = CompletableFuture.runAsync(() -> threads.add(Thread.currentThread()), serialExecutorService);
+        CompletableFuture<Void> secondPendingFuture = CompletableFuture.runAsync(() -> threads.add(Thread.currentThread()), serialExecutorService);
+
+        latch.countDown();
+
+        runningFuture.get(TIMEOUT, TimeUnit.SECONDS);
+        firstPendingFuture.get(TIMEOUT, TimeUnit.SECONDS);
+        secondPendingFuture.get(TIMEOUT, TimeUnit.SECONDS);
+        assertThat(threads).hasSize(1);
+        assertThat(serialExecutorService.isShutdown()).isFalse();
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void givenASaturatedPoolWhenATaskIsSubmittedToAnIdleSerialExecutorThenItIsRejectedWithoutShuttingDownTheSerialExecutor() throws Exception {
+        ExecutorService pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<>());
+        var busySerialExecutorService = new SerialExecutorService(pool, "Busy editing context");
+        var idleSerialExecutorService = new SerialExecutorService(pool, "Idle editing context");
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Future<?> runningFuture = busySerialExecutorService.submit(() -> {
+            try {
+                latch.await(TIMEOUT, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThatThrownBy(() -> CompletableFuture.runAsync(() -> { }, idleSerialExecutorService)).isInstanceOf(RejectedExecutionException.class);
+        assertThat(idleSerialExecutorService.isShutdown()).isFalse();
+
+        latch.countDown();
+        runningFuture.get(TIMEOUT, TimeUnit.SECONDS);
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void givenAShutDownPoolWhenATaskIsSubmittedThenItIsRejectedInsteadOfWaitingForever() {
+        ExecutorService pool = Executors.newFixedThreadPool(POOL_SIZE);
+        var serialExecutorService = new SerialExecutorService(pool, "Editing context");
+        pool.shutdown();
+
+        assertThatThrownBy(() -> CompletableFuture.runAsync(() -> { }, serialExecutorService)).isInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> serialExecutorService.submit(() -> { })).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void givenAFailingTaskWhenItIsExecutedThenTheNextTasksAreStillExecuted() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(POOL_SIZE);
+        var serialExecutorService = new SerialExecutorService(pool, "Editing context");
+        List<String> values = List.of();
+
+        serialExecutorService.execute(() -> values.get(0));
+        serialExecutorService.submit(() -> { }).get(TIMEOUT, TimeUnit.SECONDS);
+
+        pool.shutdown();
+    }
+}